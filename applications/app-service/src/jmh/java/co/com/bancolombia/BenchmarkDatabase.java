@@ -0,0 +1,35 @@
+package co.com.bancolombia;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+
+/**
+ * Benchmarks that seed or truncate tables run against their own database, never the one the service is
+ * configured with. It defaults to technology_benchmark on the local server and has to exist beforehand
+ * (createdb technology_benchmark); the schema is applied on every run since schema.sql is idempotent.
+ */
+final class BenchmarkDatabase {
+  private BenchmarkDatabase() {
+  }
+
+  static ConnectionFactory connect() {
+    ConnectionFactory connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions.builder()
+      .option(ConnectionFactoryOptions.DRIVER, "postgresql")
+      .option(ConnectionFactoryOptions.HOST, env("BENCHMARK_DATABASE_HOST", "localhost"))
+      .option(ConnectionFactoryOptions.PORT, Integer.parseInt(env("BENCHMARK_DATABASE_PORT", "5432")))
+      .option(ConnectionFactoryOptions.DATABASE, env("BENCHMARK_DATABASE_NAME", "technology_benchmark"))
+      .option(ConnectionFactoryOptions.USER, env("BENCHMARK_DATABASE_USER", "postgres"))
+      .option(ConnectionFactoryOptions.PASSWORD, env("BENCHMARK_DATABASE_PASSWORD", "postgres"))
+      .build());
+    new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).populate(connectionFactory).block();
+    return connectionFactory;
+  }
+
+  private static String env(String name, String defaultValue) {
+    String value = System.getenv(name);
+    return value == null || value.isBlank() ? defaultValue : value;
+  }
+}
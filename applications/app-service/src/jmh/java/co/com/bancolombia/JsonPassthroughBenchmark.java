@@ -0,0 +1,155 @@
+package co.com.bancolombia;
+
+import co.com.bancolombia.model.technology.CachedRead;
+import co.com.bancolombia.model.technology.gateway.TechnologyReadCacheGateway;
+import co.com.bancolombia.r2dbc.AssociationGroupCommitter;
+import co.com.bancolombia.r2dbc.TechnologyCapacityRepository;
+import co.com.bancolombia.r2dbc.TechnologyRepository;
+import co.com.bancolombia.r2dbc.TechnologyRepositoryAdapter;
+import co.com.bancolombia.usecase.FindAllTechnologiesUseCase;
+import co.com.bancolombia.usecase.FindTechnologiesByCapacityUseCase;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.management.OperatingSystemMXBean;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.ConnectionFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Compares the two bodies the list endpoints can produce: rows mapped through entity, domain and response
+ * objects and written by Jackson, against the JSON text Postgres renders with json_agg. Both run through the
+ * real use cases with a pass-through read cache. Throughput alone hides where the work moved, so the process
+ * CPU time spent per request is reported next to it as the cpuNanosPerRequest counter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JsonPassthroughBenchmark {
+  private static final long CAPACITY_ID = 1L;
+  private static final String SEED_TECHNOLOGIES =
+    "INSERT INTO tech_schema.technology (name, description) " +
+    "SELECT 'passthrough-' || i, 'Benchmark technology number ' || i FROM generate_series(1, :rows) AS i";
+  private static final String SEED_ASSOCIATIONS =
+    "INSERT INTO tech_schema.technology_capacity (technology_id, capacity_id) " +
+    "SELECT technology_id, :capacityId FROM tech_schema.technology";
+
+  @Param({"20", "200", "2000"})
+  public int rows;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private FindAllTechnologiesUseCase findAllTechnologiesUseCase;
+  private FindTechnologiesByCapacityUseCase findTechnologiesByCapacityUseCase;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    ConnectionFactory connectionFactory = BenchmarkDatabase.connect();
+    DatabaseClient databaseClient = DatabaseClient.create(connectionFactory);
+    databaseClient.sql("TRUNCATE tech_schema.technology CASCADE").then().block();
+    databaseClient.sql(SEED_TECHNOLOGIES).bind("rows", rows).then().block();
+    databaseClient.sql(SEED_ASSOCIATIONS).bind("capacityId", CAPACITY_ID).then().block();
+    databaseClient.sql("ANALYZE").then().block();
+
+    R2dbcRepositoryFactory repositories = new R2dbcRepositoryFactory(new R2dbcEntityTemplate(connectionFactory));
+    TechnologyRepositoryAdapter gateway = new TechnologyRepositoryAdapter(
+      repositories.getRepository(TechnologyRepository.class),
+      repositories.getRepository(TechnologyCapacityRepository.class),
+      new AssociationGroupCommitter(databaseClient, new SimpleMeterRegistry(), false, 1, Duration.ZERO, 1,
+        Duration.ZERO),
+      new R2dbcTransactionManager(connectionFactory));
+    TechnologyReadCacheGateway noCache = new TechnologyReadCacheGateway() {
+      @Override
+      public <T> Mono<CachedRead<T>> get(String key, Supplier<Mono<T>> loader) {
+        return loader.get().map(CachedRead::fresh);
+      }
+
+      @Override
+      public Mono<Void> invalidate(Collection<String> keys) {
+        return Mono.empty();
+      }
+    };
+    findAllTechnologiesUseCase = new FindAllTechnologiesUseCase(gateway, noCache);
+    findTechnologiesByCapacityUseCase = new FindTechnologiesByCapacityUseCase(gateway, noCache);
+  }
+
+  @Benchmark
+  public byte[] findAllMapped(CpuCounters counters) {
+    return counters.measure(() -> writeJson(findAllTechnologiesUseCase.executeCached().block().getValue()));
+  }
+
+  @Benchmark
+  public byte[] findAllPassthrough(CpuCounters counters) {
+    return counters.measure(() -> findAllTechnologiesUseCase.executeAsJson().block().getValue()
+      .getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Benchmark
+  public byte[] findByCapacityMapped(CpuCounters counters) {
+    return counters.measure(() -> writeJson(findTechnologiesByCapacityUseCase.executeCached(CAPACITY_ID).block().getValue()));
+  }
+
+  @Benchmark
+  public byte[] findByCapacityPassthrough(CpuCounters counters) {
+    return counters.measure(() -> findTechnologiesByCapacityUseCase.executeAsJson(CAPACITY_ID).block().getValue()
+      .getBytes(StandardCharsets.UTF_8));
+  }
+
+  private byte[] writeJson(Object value) {
+    try {
+      return objectMapper.writeValueAsBytes(value);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Process CPU time rather than thread CPU time, since decoding and mapping run on the driver's event
+   * loop and not on the benchmark thread. Meant for single-threaded runs, where nothing else is busy.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class CpuCounters {
+    private static final OperatingSystemMXBean OS =
+      (OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+
+    public long cpuNanosPerRequest;
+    private long cpuNanos;
+    private long requests;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      cpuNanosPerRequest = 0;
+      cpuNanos = 0;
+      requests = 0;
+    }
+
+    <T> T measure(Supplier<T> request) {
+      long start = OS.getProcessCpuTime();
+      T body = request.get();
+      cpuNanos += OS.getProcessCpuTime() - start;
+      requests++;
+      cpuNanosPerRequest = cpuNanos / requests;
+      return body;
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package co.com.bancolombia;
+
+import co.com.bancolombia.model.technology.Technology;
+import co.com.bancolombia.model.technology.gateway.TechnologyGateway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TechnologyGatewayBenchmark {
+  private static final int SEED_ROWS = 200;
+  private static final int CONCURRENT_LOOKUPS = 64;
+  private static final String NAME_PREFIX = "bench-";
+
+  @Param({"r2dbc", "jdbc"})
+  public String adapter;
+
+  private ConfigurableApplicationContext context;
+  private TechnologyGateway gateway;
+  private List<String> names;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = new SpringApplicationBuilder(MainApplication.class)
+      .web(WebApplicationType.NONE)
+      .profiles(adapter)
+      .properties(
+        "spring.devtools.restart.enabled=false",
+        "spring.r2dbc.url=r2dbc:postgresql://${DATABASE_HOST:localhost}:5432/${DATABASE_NAME:postgres}?currentSchema=${DATABASE_SCHEMA:tech_schema}",
+        "spring.r2dbc.username=${DATABASE_USER:postgres}",
+        "spring.r2dbc.password=${DATABASE_PASSWORD:postgres}",
+        "spring.datasource.url=jdbc:postgresql://${DATABASE_HOST:localhost}:5432/${DATABASE_NAME:postgres}?currentSchema=${DATABASE_SCHEMA:tech_schema}",
+        "spring.datasource.username=${DATABASE_USER:postgres}",
+        "spring.datasource.password=${DATABASE_PASSWORD:postgres}",
+        "cors.allowed-origins=*")
+      .run();
+    gateway = context.getBean(TechnologyGateway.class);
+
+    names = IntStream.range(0, SEED_ROWS)
+      .mapToObj(i -> NAME_PREFIX + i)
+      .toList();
+    Flux.fromIterable(names)
+      .filterWhen(name -> gateway.existsByName(name).map(exists -> !exists))
+      .concatMap(name -> gateway.save(new Technology(name, "Benchmark technology")))
+      .blockLast();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public Object findAll() {
+    return gateway.findAll().collectList().block();
+  }
+
+  @Benchmark
+  public Object findByName() {
+    return gateway.findByName(names.get(ThreadLocalRandom.current().nextInt(names.size()))).block();
+  }
+
+  @Benchmark
+  public Object concurrentFindByName() {
+    return Flux.range(0, CONCURRENT_LOOKUPS)
+      .flatMap(i -> gateway.findByName(names.get(i % names.size())), CONCURRENT_LOOKUPS)
+      .count()
+      .block();
+  }
+}
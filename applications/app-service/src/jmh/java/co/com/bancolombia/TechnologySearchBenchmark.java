@@ -0,0 +1,77 @@
+package co.com.bancolombia;
+
+import co.com.bancolombia.model.technology.TechnologySearchHit;
+import co.com.bancolombia.model.technology.gateway.TechnologySearchGateway;
+import co.com.bancolombia.r2dbc.TechnologyRepository;
+import co.com.bancolombia.r2dbc.TechnologySearchAdapter;
+import io.r2dbc.spi.ConnectionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sample-time mode reports the latency distribution, so the p0.99 line is the figure to watch. The
+ * dataset lives in the benchmark database and is seeded once and reused, since generating a million
+ * rows dominates a run. Only the repository and the search adapter are built, not the application.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TechnologySearchBenchmark {
+  private static final int DATASET_ROWS = 1_000_000;
+  private static final int MAX_CANDIDATES = 1_000;
+  private static final String NAME_PREFIX = "search-";
+  private static final String SEED_DATASET =
+    "INSERT INTO tech_schema.technology (name, description) " +
+    "SELECT '" + NAME_PREFIX + "' || (ARRAY['spring','reactor','kafka','quarkus','vertx','micronaut','redis','postgres'])[1 + i % 8] || '-' || i, " +
+    "(ARRAY['Framework for','Library for','Toolkit for','Platform for'])[1 + i % 4] || ' ' || " +
+    "(ARRAY['reactive','event driven','cloud native','distributed','embedded'])[1 + i % 5] || ' ' || " +
+    "(ARRAY['apps','services','streaming','storage','messaging','caching'])[1 + i % 6] " +
+    "FROM generate_series(1, :rows) AS i";
+  private static final String COUNT_DATASET =
+    "SELECT COUNT(*) FROM tech_schema.technology WHERE name LIKE '" + NAME_PREFIX + "%'";
+
+  @Param({"framework for reactive apps", "event driven messaging", "sprng-12", "kafak streaming"})
+  public String query;
+
+  @Param({"0", "10"})
+  public int page;
+
+  @Param({"20"})
+  public int size;
+
+  private TechnologySearchGateway gateway;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    ConnectionFactory connectionFactory = BenchmarkDatabase.connect();
+    DatabaseClient databaseClient = DatabaseClient.create(connectionFactory);
+    Long seeded = databaseClient.sql(COUNT_DATASET).map(row -> row.get(0, Long.class)).one().block();
+    if (seeded == null || seeded < DATASET_ROWS) {
+      databaseClient.sql("TRUNCATE tech_schema.technology CASCADE").then().block();
+      databaseClient.sql(SEED_DATASET).bind("rows", DATASET_ROWS).then().block();
+      databaseClient.sql("ANALYZE tech_schema.technology").then().block();
+    }
+
+    TechnologyRepository repository = new R2dbcRepositoryFactory(new R2dbcEntityTemplate(connectionFactory))
+      .getRepository(TechnologyRepository.class);
+    gateway = new TechnologySearchAdapter(repository, MAX_CANDIDATES);
+  }
+
+  @Benchmark
+  public List<TechnologySearchHit> search() {
+    return gateway.search(query, size + 1, (long) page * size).collectList().block();
+  }
+}
@@ -2,12 +2,19 @@ package co.com.bancolombia.config;
 
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import org.springdoc.core.customizers.OpenApiCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Map;
+
 @Configuration
 public class OpenApiConfig {
-    
+
     @Bean
     public OpenAPI customOpenAPI() {
         return new OpenAPI()
@@ -17,4 +24,16 @@ public class OpenApiConfig {
                 .description("API para gestión de tecnologías")
             );
     }
-}
\ No newline at end of file
+
+    @Bean
+    public OpenApiCustomizer internalErrorResponse() {
+        ApiResponse internalError = new ApiResponse()
+            .description("Error interno del servidor")
+            .content(new Content().addMediaType(org.springframework.http.MediaType.APPLICATION_JSON_VALUE,
+                new MediaType()
+                    .schema(new Schema<>().$ref("#/components/schemas/ErrorResponse"))
+                    .example(Map.of("error", "INTERNAL_ERROR", "message", "An unexpected error occurred"))));
+        return openApi -> openApi.getPaths().values().forEach(path -> path.readOperations()
+            .forEach(operation -> operation.getResponses().putIfAbsent("500", internalError)));
+    }
+}
@@ -1,11 +1,17 @@
 CREATE SCHEMA IF NOT EXISTS tech_schema;
 
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
 CREATE TABLE IF NOT EXISTS tech_schema.technology (
     technology_id BIGSERIAL PRIMARY KEY,
     name VARCHAR(50) NOT NULL,
     description VARCHAR(90) NOT NULL
 );
 
+ALTER TABLE tech_schema.technology ADD COLUMN IF NOT EXISTS search_vector TSVECTOR GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', name), 'A') || setweight(to_tsvector('english', description), 'B')
+) STORED;
+
 CREATE TABLE IF NOT EXISTS tech_schema.technology_capacity (
     id BIGSERIAL PRIMARY KEY,
     technology_id BIGINT NOT NULL,
@@ -14,5 +20,23 @@ CREATE TABLE IF NOT EXISTS tech_schema.technology_capacity (
     FOREIGN KEY (technology_id) REFERENCES tech_schema.technology(technology_id) ON DELETE CASCADE
 );
 
-CREATE INDEX idx_technology_name ON tech_schema.technology(name);
-CREATE INDEX idx_technology_capacity_capacity_id ON tech_schema.technology_capacity(capacity_id);
\ No newline at end of file
+DROP INDEX IF EXISTS tech_schema.idx_technology_name;
+CREATE UNIQUE INDEX IF NOT EXISTS uq_technology_name ON tech_schema.technology(name);
+CREATE INDEX IF NOT EXISTS idx_technology_search_vector ON tech_schema.technology USING GIN (search_vector);
+CREATE INDEX IF NOT EXISTS idx_technology_name_trgm ON tech_schema.technology USING GIN (name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_technology_capacity_capacity_id ON tech_schema.technology_capacity(capacity_id);
+
+CREATE TABLE IF NOT EXISTS tech_schema.deletion_job (
+    job_id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    capacity_id BIGINT NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    total BIGINT NOT NULL,
+    technology_ids BIGINT[] NOT NULL DEFAULT '{}',
+    error VARCHAR(255),
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_deletion_job_status_created_at ON tech_schema.deletion_job(status, created_at);
+CREATE UNIQUE INDEX IF NOT EXISTS uq_deletion_job_active_capacity ON tech_schema.deletion_job(capacity_id)
+    WHERE status IN ('PENDING', 'RUNNING');
@@ -0,0 +1,64 @@
+package co.com.bancolombia.model.job;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public class DeletionJob {
+  private final UUID id;
+  private final Long capacityId;
+  private final DeletionJobStatus status;
+  private final long total;
+  private final List<Long> technologyIds;
+  private final String error;
+  private final Instant createdAt;
+  private final Instant updatedAt;
+
+  public DeletionJob(UUID id, Long capacityId, DeletionJobStatus status, long total, List<Long> technologyIds,
+                     String error, Instant createdAt, Instant updatedAt) {
+    this.id = id;
+    this.capacityId = capacityId;
+    this.status = status;
+    this.total = total;
+    this.technologyIds = technologyIds;
+    this.error = error;
+    this.createdAt = createdAt;
+    this.updatedAt = updatedAt;
+  }
+
+  public UUID getId() {
+    return id;
+  }
+
+  public Long getCapacityId() {
+    return capacityId;
+  }
+
+  public DeletionJobStatus getStatus() {
+    return status;
+  }
+
+  public long getTotal() {
+    return total;
+  }
+
+  public long getProcessed() {
+    return technologyIds.size();
+  }
+
+  public List<Long> getTechnologyIds() {
+    return technologyIds;
+  }
+
+  public String getError() {
+    return error;
+  }
+
+  public Instant getCreatedAt() {
+    return createdAt;
+  }
+
+  public Instant getUpdatedAt() {
+    return updatedAt;
+  }
+}
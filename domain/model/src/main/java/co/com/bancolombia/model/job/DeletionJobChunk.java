@@ -0,0 +1,29 @@
+package co.com.bancolombia.model.job;
+
+import java.util.List;
+
+/**
+ * One committed step of a deletion job: technologies removed because the capacity was their last one, and
+ * technologies that were only detached from it.
+ */
+public class DeletionJobChunk {
+  private final List<Long> deletedTechnologyIds;
+  private final List<Long> detachedTechnologyIds;
+
+  public DeletionJobChunk(List<Long> deletedTechnologyIds, List<Long> detachedTechnologyIds) {
+    this.deletedTechnologyIds = deletedTechnologyIds;
+    this.detachedTechnologyIds = detachedTechnologyIds;
+  }
+
+  public List<Long> getDeletedTechnologyIds() {
+    return deletedTechnologyIds;
+  }
+
+  public List<Long> getDetachedTechnologyIds() {
+    return detachedTechnologyIds;
+  }
+
+  public boolean isEmpty() {
+    return deletedTechnologyIds.isEmpty() && detachedTechnologyIds.isEmpty();
+  }
+}
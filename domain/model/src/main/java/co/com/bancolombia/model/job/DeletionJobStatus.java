@@ -0,0 +1,8 @@
+package co.com.bancolombia.model.job;
+
+public enum DeletionJobStatus {
+  PENDING,
+  RUNNING,
+  COMPLETED,
+  FAILED
+}
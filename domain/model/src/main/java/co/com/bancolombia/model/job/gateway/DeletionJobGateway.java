@@ -0,0 +1,28 @@
+package co.com.bancolombia.model.job.gateway;
+
+import co.com.bancolombia.model.job.DeletionJob;
+import co.com.bancolombia.model.job.DeletionJobChunk;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+public interface DeletionJobGateway {
+  /**
+   * Creates a pending job, or completes empty when the capacity already has a pending or running one.
+   */
+  Mono<DeletionJob> create(Long capacityId);
+  Mono<DeletionJob> findById(UUID id);
+  Flux<DeletionJob> claim(int limit, Duration lease);
+  /**
+   * Detaches up to {@code limit} technologies from the capacity and appends them to the job's progress in
+   * the same transaction.
+   */
+  Mono<DeletionJobChunk> deleteChunk(UUID id, Long capacityId, int limit);
+  Mono<Void> renewLease(UUID id);
+  Mono<Void> release(List<UUID> ids);
+  Mono<Void> complete(UUID id);
+  Mono<Void> fail(UUID id, String error);
+}
@@ -0,0 +1,31 @@
+package co.com.bancolombia.model.technology;
+
+import java.time.Duration;
+
+public class CachedRead<T> {
+  private final T value;
+  private final Duration age;
+  private final boolean stale;
+
+  public CachedRead(T value, Duration age, boolean stale) {
+    this.value = value;
+    this.age = age;
+    this.stale = stale;
+  }
+
+  public static <T> CachedRead<T> fresh(T value) {
+    return new CachedRead<>(value, Duration.ZERO, false);
+  }
+
+  public T getValue() {
+    return value;
+  }
+
+  public Duration getAge() {
+    return age;
+  }
+
+  public boolean isStale() {
+    return stale;
+  }
+}
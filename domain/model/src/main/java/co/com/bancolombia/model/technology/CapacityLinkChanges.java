@@ -0,0 +1,35 @@
+package co.com.bancolombia.model.technology;
+
+import java.util.List;
+
+public class CapacityLinkChanges {
+  private final List<Long> addedTechnologyIds;
+  private final List<Long> removedTechnologyIds;
+  private final List<String> missingTechnologies;
+
+  public CapacityLinkChanges(List<Long> addedTechnologyIds, List<Long> removedTechnologyIds,
+                             List<String> missingTechnologies) {
+    this.addedTechnologyIds = addedTechnologyIds;
+    this.removedTechnologyIds = removedTechnologyIds;
+    this.missingTechnologies = missingTechnologies;
+  }
+
+  public List<Long> getAddedTechnologyIds() {
+    return addedTechnologyIds;
+  }
+
+  public List<Long> getRemovedTechnologyIds() {
+    return removedTechnologyIds;
+  }
+
+  public List<String> getMissingTechnologies() {
+    return missingTechnologies;
+  }
+
+  /**
+   * Only a diff whose technologies all exist and that changes something is written.
+   */
+  public boolean hasWrites() {
+    return missingTechnologies.isEmpty() && !(addedTechnologyIds.isEmpty() && removedTechnologyIds.isEmpty());
+  }
+}
@@ -0,0 +1,7 @@
+package co.com.bancolombia.model.technology;
+
+public enum CapacitySetOperation {
+  INTERSECTION,
+  UNION,
+  DIFFERENCE
+}
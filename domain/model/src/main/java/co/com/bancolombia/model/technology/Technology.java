@@ -16,8 +16,12 @@ public class Technology {
   }
 
   public Technology(String name, String description) {
-    this.name = new Name(name);
-    this.description = new Description(description);
+    this(new Name(name), new Description(description));
+  }
+
+  public Technology(Name name, Description description) {
+    this.name = name;
+    this.description = description;
   }
 
   public Id getId() {
@@ -0,0 +1,25 @@
+package co.com.bancolombia.model.technology;
+
+public class TechnologyCapacityLink {
+  private final Long technologyId;
+  private final String name;
+  private final boolean linked;
+
+  public TechnologyCapacityLink(Long technologyId, String name, boolean linked) {
+    this.technologyId = technologyId;
+    this.name = name;
+    this.linked = linked;
+  }
+
+  public Long getTechnologyId() {
+    return technologyId;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public boolean isLinked() {
+    return linked;
+  }
+}
@@ -0,0 +1,55 @@
+package co.com.bancolombia.model.technology;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+public class TechnologyCatalogStats {
+  private final long associations;
+  private final int capacities;
+  private final int technologies;
+  private final int maxTechnologiesPerCapacity;
+  private final Map<String, Long> capacitySizeDistribution;
+  private final List<TechnologyUsage> mostUsedTechnologies;
+  private final Instant reconciledAt;
+
+  public TechnologyCatalogStats(long associations, int capacities, int technologies, int maxTechnologiesPerCapacity,
+                                Map<String, Long> capacitySizeDistribution, List<TechnologyUsage> mostUsedTechnologies,
+                                Instant reconciledAt) {
+    this.associations = associations;
+    this.capacities = capacities;
+    this.technologies = technologies;
+    this.maxTechnologiesPerCapacity = maxTechnologiesPerCapacity;
+    this.capacitySizeDistribution = capacitySizeDistribution;
+    this.mostUsedTechnologies = mostUsedTechnologies;
+    this.reconciledAt = reconciledAt;
+  }
+
+  public long getAssociations() {
+    return associations;
+  }
+
+  public int getCapacities() {
+    return capacities;
+  }
+
+  public int getTechnologies() {
+    return technologies;
+  }
+
+  public int getMaxTechnologiesPerCapacity() {
+    return maxTechnologiesPerCapacity;
+  }
+
+  public Map<String, Long> getCapacitySizeDistribution() {
+    return capacitySizeDistribution;
+  }
+
+  public List<TechnologyUsage> getMostUsedTechnologies() {
+    return mostUsedTechnologies;
+  }
+
+  public Instant getReconciledAt() {
+    return reconciledAt;
+  }
+}
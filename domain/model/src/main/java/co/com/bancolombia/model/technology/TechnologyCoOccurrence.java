@@ -0,0 +1,19 @@
+package co.com.bancolombia.model.technology;
+
+public class TechnologyCoOccurrence {
+  private final Long technologyId;
+  private final int sharedCapacities;
+
+  public TechnologyCoOccurrence(Long technologyId, int sharedCapacities) {
+    this.technologyId = technologyId;
+    this.sharedCapacities = sharedCapacities;
+  }
+
+  public Long getTechnologyId() {
+    return technologyId;
+  }
+
+  public int getSharedCapacities() {
+    return sharedCapacities;
+  }
+}
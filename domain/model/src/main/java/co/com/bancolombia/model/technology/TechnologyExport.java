@@ -0,0 +1,33 @@
+package co.com.bancolombia.model.technology;
+
+import java.util.List;
+
+public class TechnologyExport {
+  private final Long technologyId;
+  private final String name;
+  private final String description;
+  private final List<Long> capacityIds;
+
+  public TechnologyExport(Long technologyId, String name, String description, List<Long> capacityIds) {
+    this.technologyId = technologyId;
+    this.name = name;
+    this.description = description;
+    this.capacityIds = capacityIds;
+  }
+
+  public Long getTechnologyId() {
+    return technologyId;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  public List<Long> getCapacityIds() {
+    return capacityIds;
+  }
+}
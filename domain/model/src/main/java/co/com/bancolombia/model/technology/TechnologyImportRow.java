@@ -0,0 +1,49 @@
+package co.com.bancolombia.model.technology;
+
+import co.com.bancolombia.model.technology.values.Description;
+import co.com.bancolombia.model.technology.values.Id;
+import co.com.bancolombia.model.technology.values.Name;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TechnologyImportRow {
+  private final long line;
+  private final Name name;
+  private final Description description;
+  private final List<Id> capacityIds;
+
+  public TechnologyImportRow(long line, String name, String description, List<Long> capacityIds) {
+    this.line = line;
+    this.name = new Name(name);
+    this.description = new Description(description);
+    this.capacityIds = toIds(capacityIds);
+  }
+
+  private static List<Id> toIds(List<Long> capacityIds) {
+    if (capacityIds == null || capacityIds.isEmpty()) {
+      return List.of();
+    }
+    List<Id> ids = new ArrayList<>(capacityIds.size());
+    for (Long capacityId : capacityIds) {
+      ids.add(new Id(capacityId));
+    }
+    return ids;
+  }
+
+  public long getLine() {
+    return line;
+  }
+
+  public Name getName() {
+    return name;
+  }
+
+  public Description getDescription() {
+    return description;
+  }
+
+  public List<Id> getCapacityIds() {
+    return capacityIds;
+  }
+}
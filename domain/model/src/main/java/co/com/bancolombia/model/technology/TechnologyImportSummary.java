@@ -0,0 +1,25 @@
+package co.com.bancolombia.model.technology;
+
+public class TechnologyImportSummary {
+  private final long stagedRows;
+  private final long technologiesCreated;
+  private final long associationsCreated;
+
+  public TechnologyImportSummary(long stagedRows, long technologiesCreated, long associationsCreated) {
+    this.stagedRows = stagedRows;
+    this.technologiesCreated = technologiesCreated;
+    this.associationsCreated = associationsCreated;
+  }
+
+  public long getStagedRows() {
+    return stagedRows;
+  }
+
+  public long getTechnologiesCreated() {
+    return technologiesCreated;
+  }
+
+  public long getAssociationsCreated() {
+    return associationsCreated;
+  }
+}
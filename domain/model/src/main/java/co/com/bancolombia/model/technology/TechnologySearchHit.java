@@ -0,0 +1,31 @@
+package co.com.bancolombia.model.technology;
+
+public class TechnologySearchHit {
+  private final Long technologyId;
+  private final String name;
+  private final String description;
+  private final double rank;
+
+  public TechnologySearchHit(Long technologyId, String name, String description, double rank) {
+    this.technologyId = technologyId;
+    this.name = name;
+    this.description = description;
+    this.rank = rank;
+  }
+
+  public Long getTechnologyId() {
+    return technologyId;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  public double getRank() {
+    return rank;
+  }
+}
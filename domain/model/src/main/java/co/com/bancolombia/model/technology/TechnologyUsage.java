@@ -0,0 +1,19 @@
+package co.com.bancolombia.model.technology;
+
+public class TechnologyUsage {
+  private final Long technologyId;
+  private final int capacities;
+
+  public TechnologyUsage(Long technologyId, int capacities) {
+    this.technologyId = technologyId;
+    this.capacities = capacities;
+  }
+
+  public Long getTechnologyId() {
+    return technologyId;
+  }
+
+  public int getCapacities() {
+    return capacities;
+  }
+}
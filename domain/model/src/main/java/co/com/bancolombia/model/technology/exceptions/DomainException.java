@@ -3,14 +3,14 @@ package co.com.bancolombia.model.technology.exceptions;
 public class DomainException extends RuntimeException {
 
   public DomainException(String message) {
-    super(message);
+    super(message, null, false, false);
   }
 
   public DomainException(String message, Throwable cause) {
-    super(message, cause);
+    super(message, cause, false, false);
   }
 
   public DomainException(Throwable cause) {
-    super(cause);
+    super(cause == null ? null : cause.toString(), cause, false, false);
   }
-}
\ No newline at end of file
+}
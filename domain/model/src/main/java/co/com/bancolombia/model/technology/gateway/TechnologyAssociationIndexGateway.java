@@ -0,0 +1,20 @@
+package co.com.bancolombia.model.technology.gateway;
+
+import co.com.bancolombia.model.technology.CapacitySetOperation;
+import co.com.bancolombia.model.technology.TechnologyCapacity;
+import co.com.bancolombia.model.technology.TechnologyCatalogStats;
+import co.com.bancolombia.model.technology.TechnologyCoOccurrence;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface TechnologyAssociationIndexGateway {
+  Mono<Void> rebuild(Flux<TechnologyCapacity> associations);
+  Mono<Void> link(Long technologyId, Long capacityId);
+  Mono<Void> unlink(Long technologyId, Long capacityId);
+  Mono<Void> removeTechnology(Long technologyId);
+  Mono<List<Long>> findTechnologyIds(CapacitySetOperation operation, List<Long> capacityIds);
+  Mono<List<TechnologyCoOccurrence>> findCoOccurring(Long technologyId, int limit);
+  Mono<TechnologyCatalogStats> findStats(int mostUsedLimit);
+}
@@ -0,0 +1,15 @@
+package co.com.bancolombia.model.technology.gateway;
+
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+public interface TechnologyCapacityCacheGateway {
+  Mono<List<Long>> get(Long technologyId, Function<Long, Mono<List<Long>>> loader);
+  Mono<Map<Long, List<Long>>> getAll(Set<Long> technologyIds, Function<Set<Long>, Mono<Map<Long, List<Long>>>> loader);
+  Mono<Void> invalidate(Long technologyId);
+  Mono<Void> invalidateAll();
+}
@@ -0,0 +1,8 @@
+package co.com.bancolombia.model.technology.gateway;
+
+import co.com.bancolombia.model.technology.TechnologyExport;
+import reactor.core.publisher.Flux;
+
+public interface TechnologyExportGateway {
+  Flux<TechnologyExport> exportCatalog();
+}
@@ -1,11 +1,15 @@
 package co.com.bancolombia.model.technology.gateway;
 
+import co.com.bancolombia.model.technology.CapacityLinkChanges;
 import co.com.bancolombia.model.technology.Technology;
 import co.com.bancolombia.model.technology.TechnologyCapacity;
+import co.com.bancolombia.model.technology.TechnologyCapacityLink;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 public interface TechnologyGateway {
   Mono<Boolean> existsByName(String name);
@@ -13,9 +17,22 @@ public interface TechnologyGateway {
   Mono<Technology> save(Technology technology);
   Flux<Technology> findAll();
   Flux<Technology> findByCapacity(Long capacityId);
+  Mono<String> findAllAsJson();
+  Mono<String> findByCapacityAsJson(Long capacityId);
   Mono<TechnologyCapacity> associateTechnologyWithCapacity(TechnologyCapacity technologyCapacity);
   Mono<TechnologyCapacity> findByTechnologyIdAndCapacityId(Long technologyId, Long capacityId);
   Mono<Boolean> delete(Long technologyId);
   Mono<Long> countCapacitiesByTechnologyId(Long technologyId);
   Mono<Boolean> deleteTechnologyCapacityRelation(Long technologyId, Long capacityId);
+  Mono<Boolean> existsById(Long technologyId);
+  Flux<Technology> findAllById(List<Long> technologyIds);
+  Flux<Long> findCapacityIdsByTechnologyId(Long technologyId);
+  Mono<Map<Long, List<Long>>> findCapacityIdsByTechnologyIds(List<Long> technologyIds);
+  Flux<TechnologyCapacity> findAllAssociations();
+  /**
+   * Locks the capacity, reads its links together with the requested technologies, and writes the changes the plan
+   * computes from them, all in one transaction.
+   */
+  Mono<CapacityLinkChanges> replaceCapacityTechnologies(Long capacityId, List<Long> technologyIds, List<String> names,
+                                                        Function<List<TechnologyCapacityLink>, CapacityLinkChanges> plan);
 }
@@ -0,0 +1,10 @@
+package co.com.bancolombia.model.technology.gateway;
+
+import co.com.bancolombia.model.technology.TechnologyImportRow;
+import co.com.bancolombia.model.technology.TechnologyImportSummary;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface TechnologyImportGateway {
+  Mono<TechnologyImportSummary> importCatalog(Flux<TechnologyImportRow> rows);
+}
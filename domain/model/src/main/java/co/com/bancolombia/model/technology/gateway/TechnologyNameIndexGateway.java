@@ -0,0 +1,12 @@
+package co.com.bancolombia.model.technology.gateway;
+
+import co.com.bancolombia.model.technology.Technology;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface TechnologyNameIndexGateway {
+  Mono<Void> rebuild(Flux<Technology> technologies);
+  Mono<Void> index(Technology technology);
+  Mono<Void> remove(Long technologyId);
+  Flux<Technology> findByPrefix(String prefix, int limit);
+}
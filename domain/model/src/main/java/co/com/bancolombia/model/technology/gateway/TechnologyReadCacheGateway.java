@@ -0,0 +1,12 @@
+package co.com.bancolombia.model.technology.gateway;
+
+import co.com.bancolombia.model.technology.CachedRead;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+public interface TechnologyReadCacheGateway {
+  <T> Mono<CachedRead<T>> get(String key, Supplier<Mono<T>> loader);
+  Mono<Void> invalidate(Collection<String> keys);
+}
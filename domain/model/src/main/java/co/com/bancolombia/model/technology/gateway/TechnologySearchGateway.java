@@ -0,0 +1,8 @@
+package co.com.bancolombia.model.technology.gateway;
+
+import co.com.bancolombia.model.technology.TechnologySearchHit;
+import reactor.core.publisher.Flux;
+
+public interface TechnologySearchGateway {
+  Flux<TechnologySearchHit> search(String query, int limit, long offset);
+}
@@ -4,26 +4,32 @@ import co.com.bancolombia.model.technology.exceptions.DomainException;
 
 public class Description {
 
-  private static final String NULL_DESCRIPTION_ERROR_MESSAGE = "Technology description cannot be null.";
-  private static final String MAX_LENGTH_ERROR_MESSAGE = "Technology description cannot be greater than 90.";
-  private static final int MAX_DESCRIPTION_LENGTH = 90;
+  private static final String REQUIRED_ERROR_MESSAGE = "Technology description is required";
+  private static final String BLANK_ERROR_MESSAGE = "Technology description cannot be empty";
+  private static final String MAX_LENGTH_ERROR_MESSAGE = "Technology description cannot be greater than 90 characters";
 
   private final String value;
 
   public Description(final String value) {
 
-    if (value == null || value.trim().isEmpty()) {
-      throw new DomainException(NULL_DESCRIPTION_ERROR_MESSAGE);
+    if (value == null) {
+      throw new DomainException(REQUIRED_ERROR_MESSAGE);
     }
 
-    if (value.trim().length() > MAX_DESCRIPTION_LENGTH) {
+    final int length = TextConstraint.trimmedLength(value);
+
+    if (length == 0) {
+      throw new DomainException(BLANK_ERROR_MESSAGE);
+    }
+
+    if (length > TextConstraint.DESCRIPTION_MAX_LENGTH) {
       throw new DomainException(MAX_LENGTH_ERROR_MESSAGE);
     }
 
-    this.value = value.trim();
+    this.value = length == value.length() ? value : value.trim();
   }
 
   public String getValue() {
     return value;
   }
-}
\ No newline at end of file
+}
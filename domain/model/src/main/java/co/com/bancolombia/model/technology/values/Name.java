@@ -4,26 +4,32 @@ import co.com.bancolombia.model.technology.exceptions.DomainException;
 
 public class Name {
 
-  private static final String NULL_NAME_ERROR_MESSAGE = "Technology name cannot be null.";
-  private static final String MAX_LENGTH_ERROR_MESSAGE = "Technology name cannot be greater than 50.";
-  private static final int MAX_NAME_LENGTH = 50;
+  private static final String REQUIRED_ERROR_MESSAGE = "Technology name is required";
+  private static final String BLANK_ERROR_MESSAGE = "Technology name cannot be empty";
+  private static final String MAX_LENGTH_ERROR_MESSAGE = "Technology name cannot be greater than 50 characters";
 
   private final String value;
 
   public Name(final String value) {
 
-    if (value == null || value.trim().isEmpty()) {
-      throw new DomainException(NULL_NAME_ERROR_MESSAGE);
+    if (value == null) {
+      throw new DomainException(REQUIRED_ERROR_MESSAGE);
     }
 
-    if (value.trim().length() > MAX_NAME_LENGTH) {
+    final int length = TextConstraint.trimmedLength(value);
+
+    if (length == 0) {
+      throw new DomainException(BLANK_ERROR_MESSAGE);
+    }
+
+    if (length > TextConstraint.NAME_MAX_LENGTH) {
       throw new DomainException(MAX_LENGTH_ERROR_MESSAGE);
     }
 
-    this.value = value.trim();
+    this.value = length == value.length() ? value : value.trim();
   }
 
   public String getValue() {
     return value;
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,30 @@
+package co.com.bancolombia.model.technology.values;
+
+public final class TextConstraint {
+
+  public static final int NAME_MAX_LENGTH = 50;
+  public static final int DESCRIPTION_MAX_LENGTH = 90;
+
+  private TextConstraint() {
+  }
+
+  public static int trimmedLength(final String value) {
+    if (value == null) {
+      return 0;
+    }
+
+    int start = 0;
+    int end = value.length();
+    while (start < end && value.charAt(start) <= ' ') {
+      start++;
+    }
+    while (end > start && value.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    return end - start;
+  }
+
+  public static boolean isBlank(final String value) {
+    return trimmedLength(value) == 0;
+  }
+}
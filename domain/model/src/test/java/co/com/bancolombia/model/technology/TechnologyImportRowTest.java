@@ -0,0 +1,49 @@
+package co.com.bancolombia.model.technology;
+
+import co.com.bancolombia.model.technology.exceptions.DomainException;
+import co.com.bancolombia.model.technology.values.Id;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TechnologyImportRowTest {
+
+    @Test
+    void shouldValidateRowWithDomainValueObjects() {
+      // Given & When
+      TechnologyImportRow row = new TechnologyImportRow(3L, "  Java ", "Programming language", List.of(10L, 20L));
+
+      // Then
+      assertEquals(3L, row.getLine());
+      assertEquals("Java", row.getName().getValue());
+      assertEquals(List.of(10L, 20L), row.getCapacityIds().stream().map(Id::getValue).toList());
+    }
+
+    @Test
+    void shouldAcceptRowWithoutCapacities() {
+      // Given & When
+      TechnologyImportRow row = new TechnologyImportRow(1L, "Java", "Programming language", null);
+
+      // Then
+      assertTrue(row.getCapacityIds().isEmpty());
+    }
+
+    @Test
+    void shouldRejectInvalidName() {
+      // When & Then
+      DomainException exception = assertThrows(DomainException.class,
+        () -> new TechnologyImportRow(1L, "", "Programming language", List.of()));
+      assertEquals("Technology name cannot be empty", exception.getMessage());
+    }
+
+    @Test
+    void shouldRejectNullCapacityId() {
+      // When & Then
+      DomainException exception = assertThrows(DomainException.class,
+        () -> new TechnologyImportRow(1L, "Java", "Programming language", Arrays.asList(10L, null)));
+      assertEquals("The id cannot be null.", exception.getMessage());
+    }
+}
@@ -0,0 +1,30 @@
+package co.com.bancolombia.model.technology.exceptions;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class DomainExceptionTest {
+
+    @Test
+    void shouldNotCaptureStackTrace() {
+        // When
+        DomainException exception = new DomainException("Technology name cannot be null.");
+
+        // Then
+        assertEquals("Technology name cannot be null.", exception.getMessage());
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Test
+    void shouldKeepCauseAndMessage() {
+        // Given
+        IllegalStateException cause = new IllegalStateException("boom");
+
+        // When
+        DomainException exception = new DomainException(cause);
+
+        // Then
+        assertSame(cause, exception.getCause());
+        assertEquals(cause.toString(), exception.getMessage());
+    }
+}
@@ -67,7 +67,7 @@ class DescriptionTest {
       new Description(nullDescription);
     });
 
-    assertEquals("Technology description cannot be null.", exception.getMessage());
+    assertEquals("Technology description is required", exception.getMessage());
   }
 
   @Test
@@ -80,7 +80,7 @@ class DescriptionTest {
       new Description(emptyDescription);
     });
 
-    assertEquals("Technology description cannot be null.", exception.getMessage());
+    assertEquals("Technology description cannot be empty", exception.getMessage());
   }
 
   @Test
@@ -93,7 +93,7 @@ class DescriptionTest {
       new Description(whitespaceOnlyDescription);
     });
 
-    assertEquals("Technology description cannot be null.", exception.getMessage());
+    assertEquals("Technology description cannot be empty", exception.getMessage());
   }
 
   @Test
@@ -106,7 +106,7 @@ class DescriptionTest {
       new Description(tooLongDescription);
     });
 
-    assertEquals("Technology description cannot be greater than 90.", exception.getMessage());
+    assertEquals("Technology description cannot be greater than 90 characters", exception.getMessage());
   }
 
   @Test
@@ -119,6 +119,6 @@ class DescriptionTest {
       new Description(tooLongDescriptionWithWhitespace);
     });
 
-    assertEquals("Technology description cannot be greater than 90.", exception.getMessage());
+    assertEquals("Technology description cannot be greater than 90 characters", exception.getMessage());
   }
 }
\ No newline at end of file
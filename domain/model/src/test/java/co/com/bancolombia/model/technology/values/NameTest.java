@@ -67,7 +67,7 @@ class NameTest {
       new Name(nullName);
     });
 
-    assertEquals("Technology name cannot be null.", exception.getMessage());
+    assertEquals("Technology name is required", exception.getMessage());
   }
 
   @Test
@@ -80,7 +80,7 @@ class NameTest {
       new Name(emptyName);
     });
 
-    assertEquals("Technology name cannot be null.", exception.getMessage());
+    assertEquals("Technology name cannot be empty", exception.getMessage());
   }
 
   @Test
@@ -93,7 +93,7 @@ class NameTest {
       new Name(whitespaceOnlyName);
     });
 
-    assertEquals("Technology name cannot be null.", exception.getMessage());
+    assertEquals("Technology name cannot be empty", exception.getMessage());
   }
 
   @Test
@@ -106,7 +106,7 @@ class NameTest {
       new Name(tooLongName);
     });
 
-    assertEquals("Technology name cannot be greater than 50.", exception.getMessage());
+    assertEquals("Technology name cannot be greater than 50 characters", exception.getMessage());
   }
 
   @Test
@@ -119,6 +119,6 @@ class NameTest {
       new Name(tooLongNameWithWhitespace);
     });
 
-    assertEquals("Technology name cannot be greater than 50.", exception.getMessage());
+    assertEquals("Technology name cannot be greater than 50 characters", exception.getMessage());
   }
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package co.com.bancolombia.model.technology.values;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextConstraintTest {
+
+  @Test
+  void shouldReturnZeroTrimmedLengthForNull() {
+    assertEquals(0, TextConstraint.trimmedLength(null));
+    assertTrue(TextConstraint.isBlank(null));
+  }
+
+  @Test
+  void shouldReturnZeroTrimmedLengthForWhitespaceOnly() {
+    assertEquals(0, TextConstraint.trimmedLength(" \t\n "));
+    assertTrue(TextConstraint.isBlank(""));
+  }
+
+  @Test
+  void shouldMatchStringTrimLength() {
+    // Given
+    String[] values = {"Java", "  Java", "Java  ", " \tSpring Boot\n", "a b", "\u0000x\u0000"};
+
+    // When & Then
+    for (String value : values) {
+      assertEquals(value.trim().length(), TextConstraint.trimmedLength(value), value);
+      assertFalse(TextConstraint.isBlank(value));
+    }
+  }
+}
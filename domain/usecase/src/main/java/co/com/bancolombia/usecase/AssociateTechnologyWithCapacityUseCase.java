@@ -1,40 +1,53 @@
 package co.com.bancolombia.usecase;
 
 import co.com.bancolombia.model.technology.TechnologyCapacity;
+import co.com.bancolombia.model.technology.gateway.TechnologyAssociationIndexGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyCapacityCacheGateway;
 import co.com.bancolombia.model.technology.gateway.TechnologyGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyReadCacheGateway;
 import co.com.bancolombia.usecase.command.AssociateTechnologyWithCapacityCommand;
-import co.com.bancolombia.usecase.exception.BussinessException;
 import co.com.bancolombia.usecase.response.AssociateTechnologyWithCapacityResponse;
+import co.com.bancolombia.usecase.result.Result;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public class AssociateTechnologyWithCapacityUseCase {
   private final String TECHNOLOGY_NOT_FOUND_MESSAGE = "The technology name has not been found.";
   private final String ASSOCIATION_ALREADY_EXISTS_MESSAGE = "The technology is already associated with this capacity.";
   private final TechnologyGateway gateway;
+  private final TechnologyCapacityCacheGateway capacityCache;
+  private final TechnologyAssociationIndexGateway associationIndex;
+  private final TechnologyReadCacheGateway readCache;
 
-  public AssociateTechnologyWithCapacityUseCase(TechnologyGateway gateway) {
+  public AssociateTechnologyWithCapacityUseCase(TechnologyGateway gateway, TechnologyCapacityCacheGateway capacityCache,
+                                                TechnologyAssociationIndexGateway associationIndex,
+                                                TechnologyReadCacheGateway readCache) {
     this.gateway = gateway;
+    this.capacityCache = capacityCache;
+    this.associationIndex = associationIndex;
+    this.readCache = readCache;
   }
 
-  public Mono<AssociateTechnologyWithCapacityResponse> execute(AssociateTechnologyWithCapacityCommand command) {
-    return gateway.findByName(command.getTechnology())
+  public Mono<Result<AssociateTechnologyWithCapacityResponse>> execute(AssociateTechnologyWithCapacityCommand command) {
+    return gateway.findByName(command.getTechnology().getValue())
       .flatMap(technology -> {
-        if (technology == null) {
-          return Mono.error(new BussinessException(TECHNOLOGY_NOT_FOUND_MESSAGE));
-        }
-
         Long technologyId = technology.getId().getValue();
         Long capacityId = command.getCapacityId();
 
         return gateway.findByTechnologyIdAndCapacityId(technologyId, capacityId)
-          .flatMap(existingAssociation -> 
-            Mono.error(new BussinessException(ASSOCIATION_ALREADY_EXISTS_MESSAGE))
-          )
-          .cast(AssociateTechnologyWithCapacityResponse.class)
-          .switchIfEmpty(
+          .map(existingAssociation -> Result.<AssociateTechnologyWithCapacityResponse>alreadyAssociated(ASSOCIATION_ALREADY_EXISTS_MESSAGE))
+          .switchIfEmpty(Mono.defer(() ->
             gateway.associateTechnologyWithCapacity(new TechnologyCapacity(technologyId, capacityId))
-              .map(capacity -> new AssociateTechnologyWithCapacityResponse(technology.getId().getValue(), technology.getName().getValue(), technology.getDescription().getValue(), capacity.getCapacityId().getValue()))
-          );
-      });
+              .flatMap(capacity -> capacityCache.invalidate(technologyId)
+                .then(associationIndex.link(technologyId, capacityId))
+                .then(readCache.invalidate(ReadCacheKeys.touching(List.of(capacityId))))
+                .thenReturn(capacity))
+              .map(capacity -> Result.success(new AssociateTechnologyWithCapacityResponse(technology.getId().getValue(), technology.getName().getValue(), technology.getDescription().getValue(), capacity.getCapacityId().getValue())))
+              // With group commit enabled a link created concurrently by another request comes back empty.
+              .defaultIfEmpty(Result.alreadyAssociated(ASSOCIATION_ALREADY_EXISTS_MESSAGE))
+          ));
+      })
+      .defaultIfEmpty(Result.notFound(TECHNOLOGY_NOT_FOUND_MESSAGE));
   }
 }
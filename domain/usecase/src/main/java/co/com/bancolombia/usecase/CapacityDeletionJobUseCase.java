@@ -0,0 +1,163 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.job.DeletionJob;
+import co.com.bancolombia.model.job.DeletionJobChunk;
+import co.com.bancolombia.model.job.gateway.DeletionJobGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyAssociationIndexGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyCapacityCacheGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyNameIndexGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyReadCacheGateway;
+import co.com.bancolombia.usecase.response.DeletionJobResponse;
+import co.com.bancolombia.usecase.result.Result;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CapacityDeletionJobUseCase {
+  static final int CHUNK_SIZE = 200;
+  static final int LEASE_RENEWALS_PER_PERIOD = 3;
+
+  private static final String CAPACITY_ID_CANNOT_BE_NULL_MESSAGE = "Capacity ID cannot be null";
+  private static final String CAPACITY_NOT_FOUND_MESSAGE = "Capacity has not been found. Capacity id: ";
+  private static final String INVALID_JOB_ID_MESSAGE = "Invalid job id: ";
+  private static final String JOB_NOT_FOUND_MESSAGE = "Job has not been found. Job id: ";
+  private static final String JOB_ALREADY_ACTIVE_MESSAGE = "A deletion job is already pending or running. Capacity id: ";
+
+  private final TechnologyGateway gateway;
+  private final DeletionJobGateway jobGateway;
+  private final TechnologyNameIndexGateway nameIndex;
+  private final TechnologyCapacityCacheGateway capacityCache;
+  private final TechnologyAssociationIndexGateway associationIndex;
+  private final TechnologyReadCacheGateway readCache;
+  private final AtomicInteger runningJobs = new AtomicInteger();
+  private final Set<UUID> runningJobIds = ConcurrentHashMap.newKeySet();
+
+  public CapacityDeletionJobUseCase(TechnologyGateway gateway, DeletionJobGateway jobGateway,
+                                    TechnologyNameIndexGateway nameIndex, TechnologyCapacityCacheGateway capacityCache,
+                                    TechnologyAssociationIndexGateway associationIndex,
+                                    TechnologyReadCacheGateway readCache) {
+    this.gateway = gateway;
+    this.jobGateway = jobGateway;
+    this.nameIndex = nameIndex;
+    this.capacityCache = capacityCache;
+    this.associationIndex = associationIndex;
+    this.readCache = readCache;
+  }
+
+  public Mono<Result<DeletionJobResponse>> submit(Long capacityId) {
+    if (capacityId == null) {
+      return Mono.just(Result.invalid(CAPACITY_ID_CANNOT_BE_NULL_MESSAGE));
+    }
+
+    return gateway.findByCapacity(capacityId)
+      .hasElements()
+      .flatMap(exists -> exists
+        ? jobGateway.create(capacityId)
+          .map(job -> Result.success(toResponse(job)))
+          .defaultIfEmpty(Result.duplicate(JOB_ALREADY_ACTIVE_MESSAGE + capacityId))
+        : Mono.just(Result.<DeletionJobResponse>notFound(CAPACITY_NOT_FOUND_MESSAGE + capacityId)));
+  }
+
+  public Mono<Result<DeletionJobResponse>> find(String jobId) {
+    UUID id;
+    try {
+      id = UUID.fromString(jobId);
+    } catch (IllegalArgumentException e) {
+      return Mono.just(Result.invalid(INVALID_JOB_ID_MESSAGE + jobId));
+    }
+
+    return jobGateway.findById(id)
+      .map(job -> Result.success(toResponse(job)))
+      .defaultIfEmpty(Result.notFound(JOB_NOT_FOUND_MESSAGE + jobId));
+  }
+
+  /**
+   * Claims as many pending or abandoned jobs as the budget allows and runs them to completion. Slots are
+   * reserved before claiming so overlapping polls never run more than {@code maxConcurrentJobs} at once.
+   */
+  public Mono<Void> processAvailableJobs(int maxConcurrentJobs, Duration lease) {
+    return Mono.defer(() -> {
+      int reserved = reserveSlots(maxConcurrentJobs);
+      if (reserved == 0) {
+        return Mono.empty();
+      }
+
+      AtomicInteger unused = new AtomicInteger(reserved);
+      return jobGateway.claim(reserved, lease)
+        .doOnNext(job -> unused.decrementAndGet())
+        .doFinally(signal -> runningJobs.addAndGet(-unused.get()))
+        .flatMap(job -> process(job, lease).doFinally(signal -> runningJobs.decrementAndGet()))
+        .then();
+    });
+  }
+
+  /**
+   * Hands the jobs whose processing was cancelled back to the queue, so another instance resumes them right
+   * away instead of waiting for their lease to expire.
+   */
+  public Mono<Void> releaseRunningJobs() {
+    return Mono.defer(() -> {
+      List<UUID> jobIds = List.copyOf(runningJobIds);
+      runningJobIds.removeAll(jobIds);
+      return jobIds.isEmpty() ? Mono.empty() : jobGateway.release(jobIds);
+    });
+  }
+
+  private int reserveSlots(int maxConcurrentJobs) {
+    int previous = runningJobs.getAndUpdate(running -> Math.max(running, maxConcurrentJobs));
+    return Math.max(0, maxConcurrentJobs - previous);
+  }
+
+  private Mono<Void> process(DeletionJob job, Duration lease) {
+    // Each chunk re-queries the capacity, so a job resumed after a restart picks up whatever is left.
+    Mono<Void> chunks = Mono.defer(() -> deleteNextChunk(job))
+      .repeat()
+      .takeUntil(DeletionJobChunk::isEmpty)
+      .then(jobGateway.complete(job.getId()))
+      .onErrorResume(error -> jobGateway.fail(job.getId(), error.getMessage()));
+    return Mono.firstWithSignal(chunks, renewLease(job.getId(), lease))
+      .doOnSubscribe(subscription -> runningJobIds.add(job.getId()))
+      .doFinally(signal -> {
+        if (signal != SignalType.CANCEL) {
+          runningJobIds.remove(job.getId());
+        }
+      });
+  }
+
+  private Mono<Void> renewLease(UUID jobId, Duration lease) {
+    // Keeps a slow chunk from looking like an abandoned job; a failed renewal is retried on the next tick.
+    return Flux.interval(lease.dividedBy(LEASE_RENEWALS_PER_PERIOD))
+      .concatMap(tick -> jobGateway.renewLease(jobId).onErrorResume(error -> Mono.empty()))
+      .then();
+  }
+
+  private Mono<DeletionJobChunk> deleteNextChunk(DeletionJob job) {
+    Long capacityId = job.getCapacityId();
+    return jobGateway.deleteChunk(job.getId(), capacityId, CHUNK_SIZE)
+      .flatMap(chunk -> chunk.isEmpty()
+        ? Mono.just(chunk)
+        : Flux.concat(
+            Flux.fromIterable(chunk.getDeletedTechnologyIds())
+              .concatMap(technologyId -> nameIndex.remove(technologyId)
+                .then(associationIndex.removeTechnology(technologyId))
+                .then(capacityCache.invalidate(technologyId))),
+            Flux.fromIterable(chunk.getDetachedTechnologyIds())
+              .concatMap(technologyId -> associationIndex.unlink(technologyId, capacityId)
+                .then(capacityCache.invalidate(technologyId))))
+          .then(readCache.invalidate(ReadCacheKeys.touching(List.of(capacityId))))
+          .thenReturn(chunk));
+  }
+
+  private DeletionJobResponse toResponse(DeletionJob job) {
+    return new DeletionJobResponse(job.getId().toString(), job.getCapacityId(), job.getStatus().name(), job.getTotal(),
+      job.getProcessed(), job.getTechnologyIds(), job.getError(), job.getCreatedAt(), job.getUpdatedAt());
+  }
+}
@@ -2,28 +2,40 @@ package co.com.bancolombia.usecase;
 
 import co.com.bancolombia.model.technology.Technology;
 import co.com.bancolombia.model.technology.gateway.TechnologyGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyNameIndexGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyReadCacheGateway;
 import co.com.bancolombia.usecase.command.CreateTechnologyCommand;
-import co.com.bancolombia.usecase.exception.BussinessException;
 import co.com.bancolombia.usecase.response.TechnologyResponse;
+import co.com.bancolombia.usecase.result.Result;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public class CreateTechnologyUseCase {
   private final String TECHNOLOGY_DUPLICATED_MESSAGE = "The technology name cannot be duplicated.";
   private final TechnologyGateway gateway;
+  private final TechnologyNameIndexGateway nameIndex;
+  private final TechnologyReadCacheGateway readCache;
 
-  public CreateTechnologyUseCase(TechnologyGateway gateway) {
+  public CreateTechnologyUseCase(TechnologyGateway gateway, TechnologyNameIndexGateway nameIndex,
+                                 TechnologyReadCacheGateway readCache) {
     this.gateway = gateway;
+    this.nameIndex = nameIndex;
+    this.readCache = readCache;
   }
 
-  public Mono<TechnologyResponse> execute(CreateTechnologyCommand command) {
-    return gateway.existsByName(command.getName())
+  public Mono<Result<TechnologyResponse>> execute(CreateTechnologyCommand command) {
+    return gateway.existsByName(command.getName().getValue())
       .flatMap(exists -> {
         if (Boolean.TRUE.equals(exists)) {
-          return Mono.error(new BussinessException(TECHNOLOGY_DUPLICATED_MESSAGE));
+          return Mono.just(Result.<TechnologyResponse>duplicate(TECHNOLOGY_DUPLICATED_MESSAGE));
         }
 
         return gateway.save(new Technology(command.getName(), command.getDescription()))
-          .map(technology -> new TechnologyResponse(technology.getId().getValue(), technology.getName().getValue(), technology.getDescription().getValue()));
+          .flatMap(technology -> nameIndex.index(technology)
+            .then(readCache.invalidate(ReadCacheKeys.touching(List.of())))
+            .thenReturn(technology))
+          .map(technology -> Result.success(new TechnologyResponse(technology.getId().getValue(), technology.getName().getValue(), technology.getDescription().getValue())));
       });
   }
 }
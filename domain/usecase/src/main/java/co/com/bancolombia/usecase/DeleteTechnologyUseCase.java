@@ -1,7 +1,11 @@
 package co.com.bancolombia.usecase;
 
+import co.com.bancolombia.model.technology.gateway.TechnologyAssociationIndexGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyCapacityCacheGateway;
 import co.com.bancolombia.model.technology.gateway.TechnologyGateway;
-import co.com.bancolombia.usecase.exception.BussinessException;
+import co.com.bancolombia.model.technology.gateway.TechnologyNameIndexGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyReadCacheGateway;
+import co.com.bancolombia.usecase.result.Result;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -11,39 +15,58 @@ public class DeleteTechnologyUseCase {
   private final String CAPACITY_ID_CANNOT_BE_NULL_MESSAGE = "Capacity ID cannot be null";
   private final String CAPACITY_NOT_FOUND_MESSAGE = "Capacity has not been found. Capacity id: ";
   private final TechnologyGateway gateway;
+  private final TechnologyNameIndexGateway nameIndex;
+  private final TechnologyCapacityCacheGateway capacityCache;
+  private final TechnologyAssociationIndexGateway associationIndex;
+  private final TechnologyReadCacheGateway readCache;
 
-  public DeleteTechnologyUseCase(TechnologyGateway gateway) {
+  public DeleteTechnologyUseCase(TechnologyGateway gateway, TechnologyNameIndexGateway nameIndex,
+                                 TechnologyCapacityCacheGateway capacityCache,
+                                 TechnologyAssociationIndexGateway associationIndex,
+                                 TechnologyReadCacheGateway readCache) {
     this.gateway = gateway;
+    this.nameIndex = nameIndex;
+    this.capacityCache = capacityCache;
+    this.associationIndex = associationIndex;
+    this.readCache = readCache;
   }
 
-  public Mono<List<Long>> execute(Long capacityId) {
+  public Mono<Result<List<Long>>> execute(Long capacityId) {
     if (capacityId == null) {
-      return Mono.error(new BussinessException(CAPACITY_ID_CANNOT_BE_NULL_MESSAGE));
+      return Mono.just(Result.invalid(CAPACITY_ID_CANNOT_BE_NULL_MESSAGE));
     }
 
     return gateway.findByCapacity(capacityId)
       .collectList()
       .flatMap(technologies -> {
         if (technologies.isEmpty()) {
-          return Mono.error(new BussinessException(CAPACITY_NOT_FOUND_MESSAGE + capacityId));
+          return Mono.just(Result.<List<Long>>notFound(CAPACITY_NOT_FOUND_MESSAGE + capacityId));
         }
 
         return Flux.fromIterable(technologies)
-          .flatMap(technology -> {
-            Long technologyId = technology.getId().getValue();
-            
-            return gateway.countCapacitiesByTechnologyId(technologyId)
-              .flatMap(capacityCount -> {
-                if (capacityCount == 1) {
-                  return gateway.delete(technologyId)
-                    .then(Mono.just(technologyId));
-                } else {
-                  return gateway.deleteTechnologyCapacityRelation(technologyId, capacityId)
-                    .then(Mono.just(technologyId));
-                }
-              });
-          })
-          .collectList();
+          .flatMap(technology -> detachFromCapacity(gateway, nameIndex, capacityCache, associationIndex, technology.getId().getValue(), capacityId))
+          .collectList()
+          .flatMap(technologyIds -> readCache.invalidate(ReadCacheKeys.touching(List.of(capacityId))).thenReturn(Result.success(technologyIds)));
+      });
+  }
+
+  static Mono<Long> detachFromCapacity(TechnologyGateway gateway, TechnologyNameIndexGateway nameIndex,
+                                       TechnologyCapacityCacheGateway capacityCache,
+                                       TechnologyAssociationIndexGateway associationIndex, Long technologyId, Long capacityId) {
+    return gateway.countCapacitiesByTechnologyId(technologyId)
+      .flatMap(capacityCount -> {
+        if (capacityCount == 1) {
+          return gateway.delete(technologyId)
+            .then(nameIndex.remove(technologyId))
+            .then(associationIndex.removeTechnology(technologyId))
+            .then(capacityCache.invalidate(technologyId))
+            .then(Mono.just(technologyId));
+        } else {
+          return gateway.deleteTechnologyCapacityRelation(technologyId, capacityId)
+            .then(associationIndex.unlink(technologyId, capacityId))
+            .then(capacityCache.invalidate(technologyId))
+            .then(Mono.just(technologyId));
+        }
       });
   }
 }
@@ -0,0 +1,19 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.technology.gateway.TechnologyExportGateway;
+import co.com.bancolombia.usecase.response.TechnologyExportResponse;
+import reactor.core.publisher.Flux;
+
+public class ExportTechnologyCatalogUseCase {
+  private final TechnologyExportGateway gateway;
+
+  public ExportTechnologyCatalogUseCase(TechnologyExportGateway gateway) {
+    this.gateway = gateway;
+  }
+
+  public Flux<TechnologyExportResponse> execute() {
+    return gateway.exportCatalog()
+      .map(technology -> new TechnologyExportResponse(technology.getTechnologyId(), technology.getName(),
+        technology.getDescription(), technology.getCapacityIds()));
+  }
+}
@@ -1,17 +1,37 @@
 package co.com.bancolombia.usecase;
 
+import co.com.bancolombia.model.technology.CachedRead;
 import co.com.bancolombia.model.technology.gateway.TechnologyGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyReadCacheGateway;
 import co.com.bancolombia.usecase.response.TechnologyResponse;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 
 public class FindAllTechnologiesUseCase {
+  static final String TECHNOLOGIES_KEY = "technologies";
+  static final String TECHNOLOGIES_JSON_KEY = "technologies.json";
+
   private final TechnologyGateway gateway;
+  private final TechnologyReadCacheGateway readCache;
 
-  public FindAllTechnologiesUseCase(TechnologyGateway gateway) {
+  public FindAllTechnologiesUseCase(TechnologyGateway gateway, TechnologyReadCacheGateway readCache) {
     this.gateway = gateway;
+    this.readCache = readCache;
   }
 
   public Flux<TechnologyResponse> execute() {
-    return gateway.findAll().map(technology -> new TechnologyResponse(technology.getId().getValue(), technology.getName().getValue(), technology.getDescription().getValue()));
+    return executeCached().flatMapIterable(CachedRead::getValue);
+  }
+
+  public Mono<CachedRead<List<TechnologyResponse>>> executeCached() {
+    return readCache.get(TECHNOLOGIES_KEY, () -> gateway.findAll()
+      .map(technology -> new TechnologyResponse(technology.getId().getValue(), technology.getName().getValue(), technology.getDescription().getValue()))
+      .collectList());
+  }
+
+  public Mono<CachedRead<String>> executeAsJson() {
+    return readCache.get(TECHNOLOGIES_JSON_KEY, gateway::findAllAsJson);
   }
 }
@@ -0,0 +1,78 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.technology.gateway.TechnologyCapacityCacheGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyGateway;
+import co.com.bancolombia.usecase.response.TechnologyCapacitiesResponse;
+import co.com.bancolombia.usecase.result.Result;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class FindCapacitiesByTechnologyUseCase {
+  static final int MAX_BATCH_SIZE = 100;
+
+  private static final String TECHNOLOGY_ID_CANNOT_BE_NULL_MESSAGE = "Technology ID cannot be null";
+  private static final String TECHNOLOGY_IDS_CANNOT_BE_EMPTY_MESSAGE = "Technology IDs cannot be empty";
+  private static final String TOO_MANY_TECHNOLOGY_IDS_MESSAGE = "At most " + MAX_BATCH_SIZE + " technology IDs can be requested at once";
+  private static final String TECHNOLOGY_NOT_FOUND_MESSAGE = "Technology has not been found. Technology id: ";
+
+  private final TechnologyGateway gateway;
+  private final TechnologyCapacityCacheGateway capacityCache;
+
+  public FindCapacitiesByTechnologyUseCase(TechnologyGateway gateway, TechnologyCapacityCacheGateway capacityCache) {
+    this.gateway = gateway;
+    this.capacityCache = capacityCache;
+  }
+
+  public Mono<Result<TechnologyCapacitiesResponse>> execute(Long technologyId) {
+    if (technologyId == null) {
+      return Mono.just(Result.invalid(TECHNOLOGY_ID_CANNOT_BE_NULL_MESSAGE));
+    }
+
+    return capacityCache.get(technologyId, this::loadCapacityIds)
+      .map(capacityIds -> Result.success(new TechnologyCapacitiesResponse(technologyId, capacityIds)))
+      .defaultIfEmpty(Result.notFound(TECHNOLOGY_NOT_FOUND_MESSAGE + technologyId));
+  }
+
+  public Mono<Result<List<TechnologyCapacitiesResponse>>> executeBatch(List<Long> technologyIds) {
+    if (technologyIds == null || technologyIds.isEmpty()) {
+      return Mono.just(Result.invalid(TECHNOLOGY_IDS_CANNOT_BE_EMPTY_MESSAGE));
+    }
+    Set<Long> distinctIds = new LinkedHashSet<>(technologyIds);
+    if (distinctIds.contains(null)) {
+      return Mono.just(Result.invalid(TECHNOLOGY_ID_CANNOT_BE_NULL_MESSAGE));
+    }
+    if (distinctIds.size() > MAX_BATCH_SIZE) {
+      return Mono.just(Result.invalid(TOO_MANY_TECHNOLOGY_IDS_MESSAGE));
+    }
+
+    return capacityCache.getAll(distinctIds, this::loadCapacityIds)
+      .map(capacitiesById -> {
+        List<TechnologyCapacitiesResponse> responses = new ArrayList<>(distinctIds.size());
+        for (Long technologyId : distinctIds) {
+          responses.add(new TechnologyCapacitiesResponse(technologyId, capacitiesById.getOrDefault(technologyId, List.of())));
+        }
+        return Result.success(responses);
+      });
+  }
+
+  private Mono<List<Long>> loadCapacityIds(Long technologyId) {
+    // Unknown technologies complete empty so they are reported as not found and never cached.
+    return gateway.findCapacityIdsByTechnologyId(technologyId)
+      .collectList()
+      .filter(capacityIds -> !capacityIds.isEmpty())
+      .switchIfEmpty(Mono.defer(() -> gateway.existsById(technologyId)
+        .filter(Boolean::booleanValue)
+        .map(exists -> List.of())));
+  }
+
+  private Mono<Map<Long, List<Long>>> loadCapacityIds(Set<Long> technologyIds) {
+    // A single ANY(...) query answers every cache miss of the batch. Unknown technologies are left out of the
+    // map, so they are never cached and a later single lookup still reports them as not found.
+    return gateway.findCapacityIdsByTechnologyIds(List.copyOf(technologyIds));
+  }
+}
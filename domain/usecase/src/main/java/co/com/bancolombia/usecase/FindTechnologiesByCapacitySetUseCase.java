@@ -0,0 +1,56 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.technology.CapacitySetOperation;
+import co.com.bancolombia.model.technology.gateway.TechnologyAssociationIndexGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyGateway;
+import co.com.bancolombia.usecase.response.CapacitySetResponse;
+import co.com.bancolombia.usecase.result.Result;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+public class FindTechnologiesByCapacitySetUseCase {
+  static final int MAX_CAPACITIES = 100;
+
+  private static final String OPERATION_CANNOT_BE_NULL_MESSAGE = "Operation cannot be null";
+  private static final String CAPACITY_IDS_CANNOT_BE_EMPTY_MESSAGE = "Capacity IDs cannot be empty";
+  private static final String CAPACITY_ID_CANNOT_BE_NULL_MESSAGE = "Capacity ID cannot be null";
+  private static final String TOO_MANY_CAPACITY_IDS_MESSAGE = "At most " + MAX_CAPACITIES + " capacity IDs can be combined at once";
+
+  private final TechnologyGateway gateway;
+  private final TechnologyAssociationIndexGateway associationIndex;
+
+  public FindTechnologiesByCapacitySetUseCase(TechnologyGateway gateway, TechnologyAssociationIndexGateway associationIndex) {
+    this.gateway = gateway;
+    this.associationIndex = associationIndex;
+  }
+
+  public Mono<Result<CapacitySetResponse>> execute(CapacitySetOperation operation, List<Long> capacityIds) {
+    if (operation == null) {
+      return Mono.just(Result.invalid(OPERATION_CANNOT_BE_NULL_MESSAGE));
+    }
+    if (capacityIds == null || capacityIds.isEmpty()) {
+      return Mono.just(Result.invalid(CAPACITY_IDS_CANNOT_BE_EMPTY_MESSAGE));
+    }
+    // Order is kept because a difference subtracts every other capacity from the first one.
+    Set<Long> distinctIds = new LinkedHashSet<>(capacityIds);
+    if (distinctIds.contains(null)) {
+      return Mono.just(Result.invalid(CAPACITY_ID_CANNOT_BE_NULL_MESSAGE));
+    }
+    if (distinctIds.size() > MAX_CAPACITIES) {
+      return Mono.just(Result.invalid(TOO_MANY_CAPACITY_IDS_MESSAGE));
+    }
+
+    List<Long> requestedIds = List.copyOf(distinctIds);
+    return associationIndex.findTechnologyIds(operation, requestedIds)
+      .map(technologyIds -> Result.success(
+        new CapacitySetResponse(operation.name().toLowerCase(Locale.ROOT), requestedIds, technologyIds)));
+  }
+
+  public Mono<Void> rebuildIndex() {
+    return associationIndex.rebuild(gateway.findAllAssociations());
+  }
+}
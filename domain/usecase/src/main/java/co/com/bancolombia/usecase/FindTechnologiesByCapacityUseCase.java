@@ -1,19 +1,38 @@
 package co.com.bancolombia.usecase;
 
+import co.com.bancolombia.model.technology.CachedRead;
 import co.com.bancolombia.model.technology.gateway.TechnologyGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyReadCacheGateway;
 import co.com.bancolombia.usecase.response.TechnologyResponse;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 
 public class FindTechnologiesByCapacityUseCase {
+  static final String TECHNOLOGIES_BY_CAPACITY_KEY = "technologies.by-capacity:";
+  static final String TECHNOLOGIES_BY_CAPACITY_JSON_KEY = "technologies.by-capacity.json:";
+
   private final TechnologyGateway gateway;
+  private final TechnologyReadCacheGateway readCache;
 
-  public FindTechnologiesByCapacityUseCase(TechnologyGateway gateway) {
+  public FindTechnologiesByCapacityUseCase(TechnologyGateway gateway, TechnologyReadCacheGateway readCache) {
     this.gateway = gateway;
+    this.readCache = readCache;
   }
 
   public Flux<TechnologyResponse> execute(Long capacityId) {
-    return gateway
+    return executeCached(capacityId).flatMapIterable(CachedRead::getValue);
+  }
+
+  public Mono<CachedRead<List<TechnologyResponse>>> executeCached(Long capacityId) {
+    return readCache.get(TECHNOLOGIES_BY_CAPACITY_KEY + capacityId, () -> gateway
       .findByCapacity(capacityId)
-      .map(technology -> new TechnologyResponse(technology.getId().getValue(), technology.getName().getValue(), technology.getDescription().getValue()));
+      .map(technology -> new TechnologyResponse(technology.getId().getValue(), technology.getName().getValue(), technology.getDescription().getValue()))
+      .collectList());
+  }
+
+  public Mono<CachedRead<String>> executeAsJson(Long capacityId) {
+    return readCache.get(TECHNOLOGIES_BY_CAPACITY_JSON_KEY + capacityId, () -> gateway.findByCapacityAsJson(capacityId));
   }
 }
@@ -0,0 +1,42 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.technology.TechnologyCatalogStats;
+import co.com.bancolombia.model.technology.gateway.TechnologyAssociationIndexGateway;
+import co.com.bancolombia.usecase.response.TechnologyCatalogStatsResponse;
+import co.com.bancolombia.usecase.response.TechnologyUsageResponse;
+import co.com.bancolombia.usecase.result.Result;
+import reactor.core.publisher.Mono;
+
+public class FindTechnologyCatalogStatsUseCase {
+  static final int DEFAULT_TOP = 10;
+  static final int MAX_TOP = 50;
+
+  private static final String INVALID_TOP_MESSAGE = "Top must be between 1 and " + MAX_TOP;
+
+  private final TechnologyAssociationIndexGateway associationIndex;
+
+  public FindTechnologyCatalogStatsUseCase(TechnologyAssociationIndexGateway associationIndex) {
+    this.associationIndex = associationIndex;
+  }
+
+  public Mono<Result<TechnologyCatalogStatsResponse>> execute(Integer top) {
+    int mostUsedLimit = top == null ? DEFAULT_TOP : top;
+    if (mostUsedLimit < 1 || mostUsedLimit > MAX_TOP) {
+      return Mono.just(Result.invalid(INVALID_TOP_MESSAGE));
+    }
+
+    // The aggregates are kept up to date by the association writes, so no query runs against the tables here.
+    return associationIndex.findStats(mostUsedLimit)
+      .map(stats -> Result.success(toResponse(stats)));
+  }
+
+  private static TechnologyCatalogStatsResponse toResponse(TechnologyCatalogStats stats) {
+    double average = stats.getCapacities() == 0 ? 0 : (double) stats.getAssociations() / stats.getCapacities();
+    return new TechnologyCatalogStatsResponse(stats.getAssociations(), stats.getCapacities(), stats.getTechnologies(),
+      average, stats.getMaxTechnologiesPerCapacity(), stats.getCapacitySizeDistribution(),
+      stats.getMostUsedTechnologies().stream()
+        .map(usage -> new TechnologyUsageResponse(usage.getTechnologyId(), usage.getCapacities()))
+        .toList(),
+      stats.getReconciledAt());
+  }
+}
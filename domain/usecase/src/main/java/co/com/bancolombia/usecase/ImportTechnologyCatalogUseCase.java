@@ -0,0 +1,98 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.technology.TechnologyImportRow;
+import co.com.bancolombia.model.technology.exceptions.DomainException;
+import co.com.bancolombia.model.technology.gateway.TechnologyAssociationIndexGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyCapacityCacheGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyImportGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyNameIndexGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyReadCacheGateway;
+import co.com.bancolombia.usecase.command.ImportTechnologyCommand;
+import co.com.bancolombia.usecase.response.TechnologyImportEvent;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ImportTechnologyCatalogUseCase {
+  static final long PROGRESS_INTERVAL = 10_000;
+
+  private final TechnologyImportGateway gateway;
+  private final TechnologyGateway technologyGateway;
+  private final TechnologyNameIndexGateway nameIndex;
+  private final TechnologyCapacityCacheGateway capacityCache;
+  private final TechnologyAssociationIndexGateway associationIndex;
+  private final TechnologyReadCacheGateway readCache;
+
+  public ImportTechnologyCatalogUseCase(TechnologyImportGateway gateway, TechnologyGateway technologyGateway,
+                                        TechnologyNameIndexGateway nameIndex,
+                                        TechnologyCapacityCacheGateway capacityCache,
+                                        TechnologyAssociationIndexGateway associationIndex,
+                                        TechnologyReadCacheGateway readCache) {
+    this.gateway = gateway;
+    this.technologyGateway = technologyGateway;
+    this.nameIndex = nameIndex;
+    this.capacityCache = capacityCache;
+    this.associationIndex = associationIndex;
+    this.readCache = readCache;
+  }
+
+  public Flux<TechnologyImportEvent> execute(Flux<ImportTechnologyCommand> commands) {
+    return Flux.defer(() -> {
+      Sinks.Many<TechnologyImportEvent> events = Sinks.many().unicast().onBackpressureBuffer();
+      AtomicLong processed = new AtomicLong();
+      AtomicLong rejected = new AtomicLong();
+      Set<Long> touchedCapacityIds = new ConcurrentSkipListSet<>();
+
+      Flux<TechnologyImportRow> rows = commands.handle((command, sink) -> {
+        TechnologyImportRow row = validate(command, events, rejected);
+        if (row != null) {
+          row.getCapacityIds().forEach(capacityId -> touchedCapacityIds.add(capacityId.getValue()));
+          sink.next(row);
+        }
+        if (processed.incrementAndGet() % PROGRESS_INTERVAL == 0) {
+          events.tryEmitNext(new TechnologyImportEvent.Progress(processed.get(), rejected.get()));
+        }
+      });
+
+      Mono<TechnologyImportEvent> completion = gateway.importCatalog(rows)
+        .flatMap(summary -> capacityCache.invalidateAll()
+          .then(Mono.defer(() -> readCache.invalidate(ReadCacheKeys.touching(touchedCapacityIds))))
+          .then(summary.getTechnologiesCreated() > 0 ? nameIndex.rebuild(technologyGateway.findAll()) : Mono.empty())
+          .then(summary.getAssociationsCreated() > 0
+            ? associationIndex.rebuild(technologyGateway.findAllAssociations())
+            : Mono.empty())
+          .thenReturn(summary))
+        .doOnSuccess(summary -> {
+          if (summary != null) {
+            events.tryEmitNext(new TechnologyImportEvent.Completed(processed.get(), rejected.get(),
+              summary.getTechnologiesCreated(), summary.getAssociationsCreated()));
+          }
+          events.tryEmitComplete();
+        })
+        .then(Mono.empty());
+
+      return Flux.merge(events.asFlux(), completion);
+    });
+  }
+
+  private TechnologyImportRow validate(ImportTechnologyCommand command, Sinks.Many<TechnologyImportEvent> events,
+                                       AtomicLong rejected) {
+    String rejection = command.getMalformedReason();
+    if (rejection == null) {
+      try {
+        return new TechnologyImportRow(command.getLine(), command.getName(), command.getDescription(),
+          command.getCapacityIds());
+      } catch (DomainException e) {
+        rejection = e.getMessage();
+      }
+    }
+    rejected.incrementAndGet();
+    events.tryEmitNext(new TechnologyImportEvent.Rejected(command.getLine(), rejection));
+    return null;
+  }
+}
@@ -0,0 +1,25 @@
+package co.com.bancolombia.usecase;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+final class ReadCacheKeys {
+  private ReadCacheKeys() {
+  }
+
+  /**
+   * The catalog listings plus the per-capacity listings of the given capacities, which is every cached read a
+   * write touching only those capacities can change.
+   */
+  static List<String> touching(Collection<Long> capacityIds) {
+    List<String> keys = new ArrayList<>(2 + 2 * capacityIds.size());
+    keys.add(FindAllTechnologiesUseCase.TECHNOLOGIES_KEY);
+    keys.add(FindAllTechnologiesUseCase.TECHNOLOGIES_JSON_KEY);
+    for (Long capacityId : capacityIds) {
+      keys.add(FindTechnologiesByCapacityUseCase.TECHNOLOGIES_BY_CAPACITY_KEY + capacityId);
+      keys.add(FindTechnologiesByCapacityUseCase.TECHNOLOGIES_BY_CAPACITY_JSON_KEY + capacityId);
+    }
+    return keys;
+  }
+}
@@ -0,0 +1,72 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.technology.Technology;
+import co.com.bancolombia.model.technology.TechnologyCoOccurrence;
+import co.com.bancolombia.model.technology.gateway.TechnologyAssociationIndexGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyGateway;
+import co.com.bancolombia.usecase.response.TechnologyRecommendationResponse;
+import co.com.bancolombia.usecase.response.TechnologyRecommendationsResponse;
+import co.com.bancolombia.usecase.result.Result;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+public class RecommendTechnologiesUseCase {
+  static final int DEFAULT_LIMIT = 10;
+  static final int MAX_LIMIT = 50;
+
+  private static final String TECHNOLOGY_ID_CANNOT_BE_NULL_MESSAGE = "Technology ID cannot be null";
+  private static final String INVALID_LIMIT_MESSAGE = "Limit must be between 1 and " + MAX_LIMIT;
+  private static final String TECHNOLOGY_NOT_FOUND_MESSAGE = "Technology has not been found. Technology id: ";
+
+  private final TechnologyGateway gateway;
+  private final TechnologyAssociationIndexGateway associationIndex;
+
+  public RecommendTechnologiesUseCase(TechnologyGateway gateway, TechnologyAssociationIndexGateway associationIndex) {
+    this.gateway = gateway;
+    this.associationIndex = associationIndex;
+  }
+
+  public Mono<Result<TechnologyRecommendationsResponse>> execute(Long technologyId, Integer limit) {
+    if (technologyId == null) {
+      return Mono.just(Result.invalid(TECHNOLOGY_ID_CANNOT_BE_NULL_MESSAGE));
+    }
+    int topK = limit == null ? DEFAULT_LIMIT : limit;
+    if (topK < 1 || topK > MAX_LIMIT) {
+      return Mono.just(Result.invalid(INVALID_LIMIT_MESSAGE));
+    }
+
+    // Rankings come from the in-memory co-occurrence counts; the database only resolves the names of the top K.
+    return associationIndex.findCoOccurring(technologyId, topK)
+      .flatMap(coOccurring -> coOccurring.isEmpty()
+        ? gateway.existsById(technologyId)
+          .map(exists -> exists
+            ? Result.success(new TechnologyRecommendationsResponse(technologyId, List.of()))
+            : Result.<TechnologyRecommendationsResponse>notFound(TECHNOLOGY_NOT_FOUND_MESSAGE + technologyId))
+        : withNames(coOccurring)
+          .map(recommendations -> Result.success(new TechnologyRecommendationsResponse(technologyId, recommendations))));
+  }
+
+  private Mono<List<TechnologyRecommendationResponse>> withNames(List<TechnologyCoOccurrence> coOccurring) {
+    return gateway.findAllById(coOccurring.stream().map(TechnologyCoOccurrence::getTechnologyId).toList())
+      .collectMap(technology -> technology.getId().getValue(), Function.identity())
+      .map(technologiesById -> toResponses(coOccurring, technologiesById));
+  }
+
+  private static List<TechnologyRecommendationResponse> toResponses(List<TechnologyCoOccurrence> coOccurring,
+                                                                    Map<Long, Technology> technologiesById) {
+    List<TechnologyRecommendationResponse> recommendations = new ArrayList<>(coOccurring.size());
+    for (TechnologyCoOccurrence candidate : coOccurring) {
+      Technology technology = technologiesById.get(candidate.getTechnologyId());
+      // A technology deleted by another instance stays in the counts until the next rebuild; skip it.
+      if (technology != null) {
+        recommendations.add(new TechnologyRecommendationResponse(candidate.getTechnologyId(),
+          technology.getName().getValue(), candidate.getSharedCapacities()));
+      }
+    }
+    return recommendations;
+  }
+}
@@ -0,0 +1,111 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.technology.CapacityLinkChanges;
+import co.com.bancolombia.model.technology.TechnologyCapacityLink;
+import co.com.bancolombia.model.technology.gateway.TechnologyAssociationIndexGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyCapacityCacheGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyReadCacheGateway;
+import co.com.bancolombia.usecase.command.ReplaceCapacityTechnologiesCommand;
+import co.com.bancolombia.usecase.response.ReplaceCapacityTechnologiesResponse;
+import co.com.bancolombia.usecase.result.Result;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+public class ReplaceCapacityTechnologiesUseCase {
+  static final int MAX_TECHNOLOGIES = 500;
+
+  private static final String CAPACITY_ID_CANNOT_BE_NULL_MESSAGE = "Capacity ID cannot be null";
+  private static final String TECHNOLOGIES_REQUIRED_MESSAGE = "Technology IDs or names are required";
+  private static final String TECHNOLOGIES_CANNOT_CONTAIN_NULL_MESSAGE = "Technology IDs and names cannot contain null values";
+  private static final String TOO_MANY_TECHNOLOGIES_MESSAGE = "At most " + MAX_TECHNOLOGIES + " technologies can be linked to a capacity at once";
+  private static final String TECHNOLOGIES_NOT_FOUND_MESSAGE = "Technologies have not been found: ";
+
+  private final TechnologyGateway gateway;
+  private final TechnologyCapacityCacheGateway capacityCache;
+  private final TechnologyAssociationIndexGateway associationIndex;
+  private final TechnologyReadCacheGateway readCache;
+
+  public ReplaceCapacityTechnologiesUseCase(TechnologyGateway gateway, TechnologyCapacityCacheGateway capacityCache,
+                                            TechnologyAssociationIndexGateway associationIndex,
+                                            TechnologyReadCacheGateway readCache) {
+    this.gateway = gateway;
+    this.capacityCache = capacityCache;
+    this.associationIndex = associationIndex;
+    this.readCache = readCache;
+  }
+
+  public Mono<Result<ReplaceCapacityTechnologiesResponse>> execute(ReplaceCapacityTechnologiesCommand command) {
+    Long capacityId = command.getCapacityId();
+    if (capacityId == null) {
+      return Mono.just(Result.invalid(CAPACITY_ID_CANNOT_BE_NULL_MESSAGE));
+    }
+    if (command.getTechnologyIds() == null && command.getTechnologies() == null) {
+      return Mono.just(Result.invalid(TECHNOLOGIES_REQUIRED_MESSAGE));
+    }
+    Set<Long> requestedIds = new LinkedHashSet<>(command.getTechnologyIds() == null ? List.of() : command.getTechnologyIds());
+    Set<String> requestedNames = new LinkedHashSet<>(command.getTechnologies() == null ? List.of() : command.getTechnologies());
+    if (requestedIds.contains(null) || requestedNames.contains(null)) {
+      return Mono.just(Result.invalid(TECHNOLOGIES_CANNOT_CONTAIN_NULL_MESSAGE));
+    }
+    if (requestedIds.size() + requestedNames.size() > MAX_TECHNOLOGIES) {
+      return Mono.just(Result.invalid(TOO_MANY_TECHNOLOGIES_MESSAGE));
+    }
+
+    // The gateway locks the capacity for the whole transaction, so the links this plan diffs against cannot
+    // change before its writes commit; an unchanged set still costs a single read and no writes.
+    return gateway.replaceCapacityTechnologies(capacityId, List.copyOf(requestedIds), List.copyOf(requestedNames),
+        links -> plan(links, requestedIds, requestedNames))
+      .flatMap(changes -> {
+        if (!changes.getMissingTechnologies().isEmpty()) {
+          return Mono.just(Result.<ReplaceCapacityTechnologiesResponse>notFound(
+            TECHNOLOGIES_NOT_FOUND_MESSAGE + String.join(", ", changes.getMissingTechnologies())));
+        }
+        List<Long> added = changes.getAddedTechnologyIds();
+        List<Long> removed = changes.getRemovedTechnologyIds();
+        ReplaceCapacityTechnologiesResponse response = new ReplaceCapacityTechnologiesResponse(capacityId, added, removed);
+        if (!changes.hasWrites()) {
+          return Mono.just(Result.success(response));
+        }
+        return Flux.concat(
+              Flux.fromIterable(added).concatMap(technologyId -> associationIndex.link(technologyId, capacityId)),
+              Flux.fromIterable(removed).concatMap(technologyId -> associationIndex.unlink(technologyId, capacityId)))
+          .then(Flux.concat(Flux.fromIterable(added), Flux.fromIterable(removed))
+            .concatMap(capacityCache::invalidate)
+            .then())
+          .then(readCache.invalidate(ReadCacheKeys.touching(List.of(capacityId))))
+          .thenReturn(Result.success(response));
+      });
+  }
+
+  private static CapacityLinkChanges plan(List<TechnologyCapacityLink> links, Set<Long> requestedIds,
+                                          Set<String> requestedNames) {
+    Set<Long> current = new TreeSet<>();
+    Set<Long> desired = new TreeSet<>();
+    Set<Long> missingIds = new LinkedHashSet<>(requestedIds);
+    Set<String> missingNames = new LinkedHashSet<>(requestedNames);
+    for (TechnologyCapacityLink link : links) {
+      if (link.isLinked()) {
+        current.add(link.getTechnologyId());
+      }
+      if (requestedIds.contains(link.getTechnologyId()) || requestedNames.contains(link.getName())) {
+        desired.add(link.getTechnologyId());
+        missingIds.remove(link.getTechnologyId());
+        missingNames.remove(link.getName());
+      }
+    }
+    List<String> missing = new ArrayList<>();
+    missingIds.forEach(id -> missing.add(String.valueOf(id)));
+    missing.addAll(missingNames);
+    return new CapacityLinkChanges(
+      desired.stream().filter(id -> !current.contains(id)).toList(),
+      current.stream().filter(id -> !desired.contains(id)).toList(),
+      missing);
+  }
+}
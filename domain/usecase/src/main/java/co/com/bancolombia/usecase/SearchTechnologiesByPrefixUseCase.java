@@ -0,0 +1,44 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.technology.gateway.TechnologyGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyNameIndexGateway;
+import co.com.bancolombia.usecase.response.TechnologyResponse;
+import co.com.bancolombia.usecase.result.Result;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public class SearchTechnologiesByPrefixUseCase {
+  static final int DEFAULT_LIMIT = 10;
+  static final int MAX_LIMIT = 50;
+
+  private static final String PREFIX_CANNOT_BE_EMPTY_MESSAGE = "Prefix cannot be empty";
+  private static final String INVALID_LIMIT_MESSAGE = "Limit must be between 1 and " + MAX_LIMIT;
+
+  private final TechnologyGateway gateway;
+  private final TechnologyNameIndexGateway nameIndex;
+
+  public SearchTechnologiesByPrefixUseCase(TechnologyGateway gateway, TechnologyNameIndexGateway nameIndex) {
+    this.gateway = gateway;
+    this.nameIndex = nameIndex;
+  }
+
+  public Mono<Result<List<TechnologyResponse>>> execute(String prefix, Integer limit) {
+    if (prefix == null || prefix.isBlank()) {
+      return Mono.just(Result.invalid(PREFIX_CANNOT_BE_EMPTY_MESSAGE));
+    }
+    int topK = limit == null ? DEFAULT_LIMIT : limit;
+    if (topK < 1 || topK > MAX_LIMIT) {
+      return Mono.just(Result.invalid(INVALID_LIMIT_MESSAGE));
+    }
+
+    return nameIndex.findByPrefix(prefix, topK)
+      .map(technology -> new TechnologyResponse(technology.getId().getValue(), technology.getName().getValue(), technology.getDescription().getValue()))
+      .collectList()
+      .map(Result::success);
+  }
+
+  public Mono<Void> rebuildIndex() {
+    return nameIndex.rebuild(gateway.findAll());
+  }
+}
@@ -0,0 +1,58 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.technology.gateway.TechnologySearchGateway;
+import co.com.bancolombia.usecase.response.TechnologySearchHitResponse;
+import co.com.bancolombia.usecase.response.TechnologySearchPageResponse;
+import co.com.bancolombia.usecase.result.Result;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public class SearchTechnologiesByTextUseCase {
+  static final int DEFAULT_PAGE_SIZE = 20;
+  static final int MAX_PAGE_SIZE = 50;
+  static final int MAX_QUERY_LENGTH = 100;
+  static final long MAX_OFFSET = 1_000;
+
+  private static final String QUERY_CANNOT_BE_EMPTY_MESSAGE = "Query cannot be empty";
+  private static final String QUERY_TOO_LONG_MESSAGE = "Query cannot be longer than " + MAX_QUERY_LENGTH + " characters";
+  private static final String INVALID_PAGE_SIZE_MESSAGE = "Size must be between 1 and " + MAX_PAGE_SIZE;
+  private static final String INVALID_PAGE_MESSAGE = "Page is out of range, only the first " + MAX_OFFSET + " results can be paged";
+
+  private final TechnologySearchGateway gateway;
+
+  public SearchTechnologiesByTextUseCase(TechnologySearchGateway gateway) {
+    this.gateway = gateway;
+  }
+
+  public Mono<Result<TechnologySearchPageResponse>> execute(String query, Integer page, Integer size) {
+    if (query == null || query.isBlank()) {
+      return Mono.just(Result.invalid(QUERY_CANNOT_BE_EMPTY_MESSAGE));
+    }
+    String text = query.strip();
+    if (text.length() > MAX_QUERY_LENGTH) {
+      return Mono.just(Result.invalid(QUERY_TOO_LONG_MESSAGE));
+    }
+    int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+    if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+      return Mono.just(Result.invalid(INVALID_PAGE_SIZE_MESSAGE));
+    }
+    int pageNumber = page == null ? 0 : page;
+    long offset = (long) pageNumber * pageSize;
+    // The adapters only rank a bounded set of candidates per index, so pages past the first results
+    // would be cut from an arbitrary tail of that set; they are refused instead of served incomplete.
+    if (pageNumber < 0 || offset >= MAX_OFFSET) {
+      return Mono.just(Result.invalid(INVALID_PAGE_MESSAGE));
+    }
+
+    // One extra row tells whether another page exists without running a COUNT over every match.
+    return gateway.search(text, pageSize + 1, offset)
+      .map(hit -> new TechnologySearchHitResponse(hit.getTechnologyId(), hit.getName(), hit.getDescription(), hit.getRank()))
+      .collectList()
+      .map(hits -> {
+        boolean hasNext = hits.size() > pageSize;
+        List<TechnologySearchHitResponse> items = hasNext ? hits.subList(0, pageSize) : hits;
+        return Result.success(new TechnologySearchPageResponse(items, pageNumber, pageSize, hasNext));
+      });
+  }
+}
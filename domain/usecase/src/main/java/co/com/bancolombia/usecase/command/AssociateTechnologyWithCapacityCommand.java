@@ -1,10 +1,16 @@
 package co.com.bancolombia.usecase.command;
 
+import co.com.bancolombia.model.technology.values.Name;
+
 public class AssociateTechnologyWithCapacityCommand {
   private final Long capacityId;
-  private final String technology;
+  private final Name technology;
 
   public AssociateTechnologyWithCapacityCommand(Long capacityId, String technology) {
+    this(capacityId, new Name(technology));
+  }
+
+  public AssociateTechnologyWithCapacityCommand(Long capacityId, Name technology) {
     this.capacityId = capacityId;
     this.technology = technology;
   }
@@ -13,7 +19,7 @@ public class AssociateTechnologyWithCapacityCommand {
     return capacityId;
   }
 
-  public String getTechnology() {
+  public Name getTechnology() {
     return technology;
   }
 }
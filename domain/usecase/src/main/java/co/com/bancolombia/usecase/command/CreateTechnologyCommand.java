@@ -1,19 +1,26 @@
 package co.com.bancolombia.usecase.command;
 
+import co.com.bancolombia.model.technology.values.Description;
+import co.com.bancolombia.model.technology.values.Name;
+
 public class CreateTechnologyCommand {
-  private final String name;
-  private final String description;
+  private final Name name;
+  private final Description description;
 
   public CreateTechnologyCommand(String name, String description) {
+    this(new Name(name), new Description(description));
+  }
+
+  public CreateTechnologyCommand(Name name, Description description) {
     this.name = name;
     this.description = description;
   }
 
-  public String getName() {
+  public Name getName() {
     return name;
   }
 
-  public String getDescription() {
+  public Description getDescription() {
     return description;
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,47 @@
+package co.com.bancolombia.usecase.command;
+
+import java.util.List;
+
+public class ImportTechnologyCommand {
+  private final long line;
+  private final String name;
+  private final String description;
+  private final List<Long> capacityIds;
+  private final String malformedReason;
+
+  public ImportTechnologyCommand(long line, String name, String description, List<Long> capacityIds) {
+    this(line, name, description, capacityIds, null);
+  }
+
+  private ImportTechnologyCommand(long line, String name, String description, List<Long> capacityIds, String malformedReason) {
+    this.line = line;
+    this.name = name;
+    this.description = description;
+    this.capacityIds = capacityIds;
+    this.malformedReason = malformedReason;
+  }
+
+  public static ImportTechnologyCommand malformed(long line, String reason) {
+    return new ImportTechnologyCommand(line, null, null, null, reason);
+  }
+
+  public long getLine() {
+    return line;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  public List<Long> getCapacityIds() {
+    return capacityIds;
+  }
+
+  public String getMalformedReason() {
+    return malformedReason;
+  }
+}
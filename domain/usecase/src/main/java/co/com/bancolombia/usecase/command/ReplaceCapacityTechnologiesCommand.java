@@ -0,0 +1,27 @@
+package co.com.bancolombia.usecase.command;
+
+import java.util.List;
+
+public class ReplaceCapacityTechnologiesCommand {
+  private final Long capacityId;
+  private final List<Long> technologyIds;
+  private final List<String> technologies;
+
+  public ReplaceCapacityTechnologiesCommand(Long capacityId, List<Long> technologyIds, List<String> technologies) {
+    this.capacityId = capacityId;
+    this.technologyIds = technologyIds;
+    this.technologies = technologies;
+  }
+
+  public Long getCapacityId() {
+    return capacityId;
+  }
+
+  public List<Long> getTechnologyIds() {
+    return technologyIds;
+  }
+
+  public List<String> getTechnologies() {
+    return technologies;
+  }
+}
@@ -2,14 +2,14 @@ package co.com.bancolombia.usecase.exception;
 
 public class BussinessException extends RuntimeException {
   public BussinessException(String message) {
-    super(message);
+    super(message, null, false, false);
   }
 
   public BussinessException(String message, Throwable cause) {
-    super(message, cause);
+    super(message, cause, false, false);
   }
 
   public BussinessException(Throwable cause) {
-    super(cause);
+    super(cause == null ? null : cause.toString(), cause, false, false);
   }
 }
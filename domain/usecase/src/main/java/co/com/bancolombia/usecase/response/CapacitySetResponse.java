@@ -0,0 +1,33 @@
+package co.com.bancolombia.usecase.response;
+
+import java.util.List;
+
+public class CapacitySetResponse {
+  private final String operation;
+  private final List<Long> capacityIds;
+  private final int count;
+  private final List<Long> technologyIds;
+
+  public CapacitySetResponse(String operation, List<Long> capacityIds, List<Long> technologyIds) {
+    this.operation = operation;
+    this.capacityIds = capacityIds;
+    this.count = technologyIds.size();
+    this.technologyIds = technologyIds;
+  }
+
+  public String getOperation() {
+    return operation;
+  }
+
+  public List<Long> getCapacityIds() {
+    return capacityIds;
+  }
+
+  public int getCount() {
+    return count;
+  }
+
+  public List<Long> getTechnologyIds() {
+    return technologyIds;
+  }
+}
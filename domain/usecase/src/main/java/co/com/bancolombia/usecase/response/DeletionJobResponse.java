@@ -0,0 +1,65 @@
+package co.com.bancolombia.usecase.response;
+
+import java.time.Instant;
+import java.util.List;
+
+public class DeletionJobResponse {
+  private final String jobId;
+  private final Long capacityId;
+  private final String status;
+  private final long total;
+  private final long processed;
+  private final List<Long> technologyIds;
+  private final String error;
+  private final Instant createdAt;
+  private final Instant updatedAt;
+
+  public DeletionJobResponse(String jobId, Long capacityId, String status, long total, long processed,
+                             List<Long> technologyIds, String error, Instant createdAt, Instant updatedAt) {
+    this.jobId = jobId;
+    this.capacityId = capacityId;
+    this.status = status;
+    this.total = total;
+    this.processed = processed;
+    this.technologyIds = technologyIds;
+    this.error = error;
+    this.createdAt = createdAt;
+    this.updatedAt = updatedAt;
+  }
+
+  public String getJobId() {
+    return jobId;
+  }
+
+  public Long getCapacityId() {
+    return capacityId;
+  }
+
+  public String getStatus() {
+    return status;
+  }
+
+  public long getTotal() {
+    return total;
+  }
+
+  public long getProcessed() {
+    return processed;
+  }
+
+  public List<Long> getTechnologyIds() {
+    return technologyIds;
+  }
+
+  public String getError() {
+    return error;
+  }
+
+  public Instant getCreatedAt() {
+    return createdAt;
+  }
+
+  public Instant getUpdatedAt() {
+    return updatedAt;
+  }
+}
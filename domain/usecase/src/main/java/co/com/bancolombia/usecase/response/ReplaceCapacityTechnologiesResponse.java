@@ -0,0 +1,27 @@
+package co.com.bancolombia.usecase.response;
+
+import java.util.List;
+
+public class ReplaceCapacityTechnologiesResponse {
+  private final Long capacityId;
+  private final List<Long> added;
+  private final List<Long> removed;
+
+  public ReplaceCapacityTechnologiesResponse(Long capacityId, List<Long> added, List<Long> removed) {
+    this.capacityId = capacityId;
+    this.added = added;
+    this.removed = removed;
+  }
+
+  public Long getCapacityId() {
+    return capacityId;
+  }
+
+  public List<Long> getAdded() {
+    return added;
+  }
+
+  public List<Long> getRemoved() {
+    return removed;
+  }
+}
@@ -0,0 +1,21 @@
+package co.com.bancolombia.usecase.response;
+
+import java.util.List;
+
+public class TechnologyCapacitiesResponse {
+  private final Long technologyId;
+  private final List<Long> capacityIds;
+
+  public TechnologyCapacitiesResponse(Long technologyId, List<Long> capacityIds) {
+    this.technologyId = technologyId;
+    this.capacityIds = capacityIds;
+  }
+
+  public Long getTechnologyId() {
+    return technologyId;
+  }
+
+  public List<Long> getCapacityIds() {
+    return capacityIds;
+  }
+}
@@ -0,0 +1,62 @@
+package co.com.bancolombia.usecase.response;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+public class TechnologyCatalogStatsResponse {
+  private final long associations;
+  private final int capacities;
+  private final int technologies;
+  private final double averageTechnologiesPerCapacity;
+  private final int maxTechnologiesPerCapacity;
+  private final Map<String, Long> capacitySizeDistribution;
+  private final List<TechnologyUsageResponse> mostUsedTechnologies;
+  private final Instant reconciledAt;
+
+  public TechnologyCatalogStatsResponse(long associations, int capacities, int technologies,
+                                        double averageTechnologiesPerCapacity, int maxTechnologiesPerCapacity,
+                                        Map<String, Long> capacitySizeDistribution,
+                                        List<TechnologyUsageResponse> mostUsedTechnologies, Instant reconciledAt) {
+    this.associations = associations;
+    this.capacities = capacities;
+    this.technologies = technologies;
+    this.averageTechnologiesPerCapacity = averageTechnologiesPerCapacity;
+    this.maxTechnologiesPerCapacity = maxTechnologiesPerCapacity;
+    this.capacitySizeDistribution = capacitySizeDistribution;
+    this.mostUsedTechnologies = mostUsedTechnologies;
+    this.reconciledAt = reconciledAt;
+  }
+
+  public long getAssociations() {
+    return associations;
+  }
+
+  public int getCapacities() {
+    return capacities;
+  }
+
+  public int getTechnologies() {
+    return technologies;
+  }
+
+  public double getAverageTechnologiesPerCapacity() {
+    return averageTechnologiesPerCapacity;
+  }
+
+  public int getMaxTechnologiesPerCapacity() {
+    return maxTechnologiesPerCapacity;
+  }
+
+  public Map<String, Long> getCapacitySizeDistribution() {
+    return capacitySizeDistribution;
+  }
+
+  public List<TechnologyUsageResponse> getMostUsedTechnologies() {
+    return mostUsedTechnologies;
+  }
+
+  public Instant getReconciledAt() {
+    return reconciledAt;
+  }
+}
@@ -0,0 +1,16 @@
+package co.com.bancolombia.usecase.response;
+
+import java.util.List;
+
+public class TechnologyExportResponse extends TechnologyResponse {
+  private final List<Long> capacityIds;
+
+  public TechnologyExportResponse(Long technologyId, String name, String description, List<Long> capacityIds) {
+    super(technologyId, name, description);
+    this.capacityIds = capacityIds;
+  }
+
+  public List<Long> getCapacityIds() {
+    return capacityIds;
+  }
+}
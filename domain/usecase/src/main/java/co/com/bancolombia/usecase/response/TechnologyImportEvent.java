@@ -0,0 +1,14 @@
+package co.com.bancolombia.usecase.response;
+
+public sealed interface TechnologyImportEvent {
+
+  record Progress(long processed, long rejected) implements TechnologyImportEvent {
+  }
+
+  record Rejected(long line, String message) implements TechnologyImportEvent {
+  }
+
+  record Completed(long processed, long rejected, long technologiesCreated, long associationsCreated)
+    implements TechnologyImportEvent {
+  }
+}
@@ -0,0 +1,25 @@
+package co.com.bancolombia.usecase.response;
+
+public class TechnologyRecommendationResponse {
+  private final Long technologyId;
+  private final String name;
+  private final int sharedCapacities;
+
+  public TechnologyRecommendationResponse(Long technologyId, String name, int sharedCapacities) {
+    this.technologyId = technologyId;
+    this.name = name;
+    this.sharedCapacities = sharedCapacities;
+  }
+
+  public Long getTechnologyId() {
+    return technologyId;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getSharedCapacities() {
+    return sharedCapacities;
+  }
+}
@@ -0,0 +1,21 @@
+package co.com.bancolombia.usecase.response;
+
+import java.util.List;
+
+public class TechnologyRecommendationsResponse {
+  private final Long technologyId;
+  private final List<TechnologyRecommendationResponse> recommendations;
+
+  public TechnologyRecommendationsResponse(Long technologyId, List<TechnologyRecommendationResponse> recommendations) {
+    this.technologyId = technologyId;
+    this.recommendations = recommendations;
+  }
+
+  public Long getTechnologyId() {
+    return technologyId;
+  }
+
+  public List<TechnologyRecommendationResponse> getRecommendations() {
+    return recommendations;
+  }
+}
@@ -0,0 +1,14 @@
+package co.com.bancolombia.usecase.response;
+
+public class TechnologySearchHitResponse extends TechnologyResponse {
+  private final double rank;
+
+  public TechnologySearchHitResponse(Long technologyId, String name, String description, double rank) {
+    super(technologyId, name, description);
+    this.rank = rank;
+  }
+
+  public double getRank() {
+    return rank;
+  }
+}
@@ -0,0 +1,33 @@
+package co.com.bancolombia.usecase.response;
+
+import java.util.List;
+
+public class TechnologySearchPageResponse {
+  private final List<TechnologySearchHitResponse> items;
+  private final int page;
+  private final int size;
+  private final boolean hasNext;
+
+  public TechnologySearchPageResponse(List<TechnologySearchHitResponse> items, int page, int size, boolean hasNext) {
+    this.items = items;
+    this.page = page;
+    this.size = size;
+    this.hasNext = hasNext;
+  }
+
+  public List<TechnologySearchHitResponse> getItems() {
+    return items;
+  }
+
+  public int getPage() {
+    return page;
+  }
+
+  public int getSize() {
+    return size;
+  }
+
+  public boolean isHasNext() {
+    return hasNext;
+  }
+}
@@ -0,0 +1,19 @@
+package co.com.bancolombia.usecase.response;
+
+public class TechnologyUsageResponse {
+  private final Long technologyId;
+  private final int capacities;
+
+  public TechnologyUsageResponse(Long technologyId, int capacities) {
+    this.technologyId = technologyId;
+    this.capacities = capacities;
+  }
+
+  public Long getTechnologyId() {
+    return technologyId;
+  }
+
+  public int getCapacities() {
+    return capacities;
+  }
+}
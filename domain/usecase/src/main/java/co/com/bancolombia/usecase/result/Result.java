@@ -0,0 +1,39 @@
+package co.com.bancolombia.usecase.result;
+
+public sealed interface Result<T> {
+
+  record Success<T>(T value) implements Result<T> {
+  }
+
+  record Invalid<T>(String message) implements Result<T> {
+  }
+
+  record Duplicate<T>(String message) implements Result<T> {
+  }
+
+  record NotFound<T>(String message) implements Result<T> {
+  }
+
+  record AlreadyAssociated<T>(String message) implements Result<T> {
+  }
+
+  static <T> Result<T> success(T value) {
+    return new Success<>(value);
+  }
+
+  static <T> Result<T> invalid(String message) {
+    return new Invalid<>(message);
+  }
+
+  static <T> Result<T> duplicate(String message) {
+    return new Duplicate<>(message);
+  }
+
+  static <T> Result<T> notFound(String message) {
+    return new NotFound<>(message);
+  }
+
+  static <T> Result<T> alreadyAssociated(String message) {
+    return new AlreadyAssociated<>(message);
+  }
+}
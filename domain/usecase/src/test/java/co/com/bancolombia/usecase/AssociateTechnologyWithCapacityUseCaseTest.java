@@ -2,10 +2,13 @@ package co.com.bancolombia.usecase;
 
 import co.com.bancolombia.model.technology.Technology;
 import co.com.bancolombia.model.technology.TechnologyCapacity;
+import co.com.bancolombia.model.technology.gateway.TechnologyAssociationIndexGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyCapacityCacheGateway;
 import co.com.bancolombia.model.technology.gateway.TechnologyGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyReadCacheGateway;
 import co.com.bancolombia.usecase.command.AssociateTechnologyWithCapacityCommand;
-import co.com.bancolombia.usecase.exception.BussinessException;
 import co.com.bancolombia.usecase.response.AssociateTechnologyWithCapacityResponse;
+import co.com.bancolombia.usecase.result.Result;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,8 +17,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -33,12 +40,24 @@ class AssociateTechnologyWithCapacityUseCaseTest {
     @Mock
     private TechnologyGateway gateway;
 
+    @Mock
+    private TechnologyCapacityCacheGateway capacityCache;
+
+    @Mock
+    private TechnologyAssociationIndexGateway associationIndex;
+
+    @Mock
+    private TechnologyReadCacheGateway readCache;
+
     private AssociateTechnologyWithCapacityUseCase useCase;
     private AssociateTechnologyWithCapacityCommand command;
 
     @BeforeEach
     void setUp() {
-        useCase = new AssociateTechnologyWithCapacityUseCase(gateway);
+        useCase = new AssociateTechnologyWithCapacityUseCase(gateway, capacityCache, associationIndex, readCache);
+        lenient().when(capacityCache.invalidate(anyLong())).thenReturn(Mono.empty());
+        lenient().when(associationIndex.link(anyLong(), anyLong())).thenReturn(Mono.empty());
+        lenient().when(readCache.invalidate(any())).thenReturn(Mono.empty());
         command = new AssociateTechnologyWithCapacityCommand(CAPACITY_ID, TECHNOLOGY_NAME);
     }
 
@@ -54,7 +73,9 @@ class AssociateTechnologyWithCapacityUseCaseTest {
 
         // When & Then
         StepVerifier.create(useCase.execute(command))
-            .assertNext(response -> {
+            .assertNext(result -> {
+                assertThat(result).isInstanceOf(Result.Success.class);
+                AssociateTechnologyWithCapacityResponse response = ((Result.Success<AssociateTechnologyWithCapacityResponse>) result).value();
                 assertThat(response.getTechnologyId()).isEqualTo(TECHNOLOGY_ID);
                 assertThat(response.getName()).isEqualTo(TECHNOLOGY_NAME);
                 assertThat(response.getDescription()).isEqualTo(TECHNOLOGY_DESCRIPTION);
@@ -65,15 +86,20 @@ class AssociateTechnologyWithCapacityUseCaseTest {
         verify(gateway).findByName(TECHNOLOGY_NAME);
         verify(gateway).findByTechnologyIdAndCapacityId(TECHNOLOGY_ID, CAPACITY_ID);
         verify(gateway).associateTechnologyWithCapacity(any(TechnologyCapacity.class));
+        verify(capacityCache).invalidate(TECHNOLOGY_ID);
+        verify(associationIndex).link(TECHNOLOGY_ID, CAPACITY_ID);
+        verify(readCache).invalidate(List.of("technologies", "technologies.json",
+            "technologies.by-capacity:" + CAPACITY_ID, "technologies.by-capacity.json:" + CAPACITY_ID));
     }
 
     @Test
-    void shouldComplete_whenTechnologyNotFound() {
+    void shouldReturnNotFound_whenTechnologyNotFound() {
         // Given
         when(gateway.findByName(TECHNOLOGY_NAME)).thenReturn(Mono.empty());
 
         // When & Then
         StepVerifier.create(useCase.execute(command))
+            .expectNext(Result.notFound(TECHNOLOGY_NOT_FOUND_MESSAGE))
             .verifyComplete();
 
         verify(gateway).findByName(TECHNOLOGY_NAME);
@@ -82,25 +108,40 @@ class AssociateTechnologyWithCapacityUseCaseTest {
     }
 
     @Test
-    void shouldThrowBusinessException_whenTechnologyAlreadyAssociated() {
+    void shouldReturnAlreadyAssociated_whenTechnologyAlreadyAssociated() {
         // Given
         Technology technology = createTechnology(TECHNOLOGY_ID, TECHNOLOGY_NAME, TECHNOLOGY_DESCRIPTION);
         TechnologyCapacity existingCapacity = createTechnologyCapacity(TECHNOLOGY_ID, CAPACITY_ID);
 
         when(gateway.findByName(TECHNOLOGY_NAME)).thenReturn(Mono.just(technology));
         when(gateway.findByTechnologyIdAndCapacityId(TECHNOLOGY_ID, CAPACITY_ID)).thenReturn(Mono.just(existingCapacity));
-        when(gateway.associateTechnologyWithCapacity(any(TechnologyCapacity.class))).thenReturn(Mono.just(existingCapacity));
 
         // When & Then
         StepVerifier.create(useCase.execute(command))
-            .expectErrorMatches(throwable -> 
-                throwable instanceof BussinessException &&
-                throwable.getMessage().equals(ASSOCIATION_ALREADY_EXISTS_MESSAGE))
-            .verify();
+            .expectNext(Result.alreadyAssociated(ASSOCIATION_ALREADY_EXISTS_MESSAGE))
+            .verifyComplete();
 
         verify(gateway).findByName(TECHNOLOGY_NAME);
         verify(gateway).findByTechnologyIdAndCapacityId(TECHNOLOGY_ID, CAPACITY_ID);
-        // Note: Due to the use case logic, associateTechnologyWithCapacity might still be called
+        verify(gateway, never()).associateTechnologyWithCapacity(any());
+    }
+
+    @Test
+    void shouldReturnAlreadyAssociated_whenLinkWasCreatedConcurrently() {
+        // Given
+        Technology technology = createTechnology(TECHNOLOGY_ID, TECHNOLOGY_NAME, TECHNOLOGY_DESCRIPTION);
+
+        when(gateway.findByName(TECHNOLOGY_NAME)).thenReturn(Mono.just(technology));
+        when(gateway.findByTechnologyIdAndCapacityId(TECHNOLOGY_ID, CAPACITY_ID)).thenReturn(Mono.empty());
+        when(gateway.associateTechnologyWithCapacity(any(TechnologyCapacity.class))).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(useCase.execute(command))
+            .expectNext(Result.alreadyAssociated(ASSOCIATION_ALREADY_EXISTS_MESSAGE))
+            .verifyComplete();
+
+        verify(capacityCache, never()).invalidate(TECHNOLOGY_ID);
+        verify(readCache, never()).invalidate(any());
     }
 
     @Test
@@ -135,7 +176,7 @@ class AssociateTechnologyWithCapacityUseCaseTest {
 
         verify(gateway).findByName(TECHNOLOGY_NAME);
         verify(gateway).findByTechnologyIdAndCapacityId(TECHNOLOGY_ID, CAPACITY_ID);
-        // Note: associateTechnologyWithCapacity might still be called due to the switchIfEmpty logic
+        verify(gateway, never()).associateTechnologyWithCapacity(any());
     }
 
     @Test
@@ -191,7 +232,9 @@ class AssociateTechnologyWithCapacityUseCaseTest {
 
         // When & Then
         StepVerifier.create(useCase.execute(differentCommand))
-            .assertNext(response -> {
+            .assertNext(result -> {
+                assertThat(result).isInstanceOf(Result.Success.class);
+                AssociateTechnologyWithCapacityResponse response = ((Result.Success<AssociateTechnologyWithCapacityResponse>) result).value();
                 assertThat(response.getTechnologyId()).isEqualTo(3L);
                 assertThat(response.getName()).isEqualTo(differentTechnologyName);
                 assertThat(response.getCapacityId()).isEqualTo(CAPACITY_ID);
@@ -213,7 +256,9 @@ class AssociateTechnologyWithCapacityUseCaseTest {
 
         // When & Then
         StepVerifier.create(useCase.execute(differentCommand))
-            .assertNext(response -> {
+            .assertNext(result -> {
+                assertThat(result).isInstanceOf(Result.Success.class);
+                AssociateTechnologyWithCapacityResponse response = ((Result.Success<AssociateTechnologyWithCapacityResponse>) result).value();
                 assertThat(response.getTechnologyId()).isEqualTo(TECHNOLOGY_ID);
                 assertThat(response.getName()).isEqualTo(TECHNOLOGY_NAME);
                 assertThat(response.getCapacityId()).isEqualTo(differentCapacityId);
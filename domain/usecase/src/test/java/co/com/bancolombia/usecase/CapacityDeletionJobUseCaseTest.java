@@ -0,0 +1,239 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.job.DeletionJob;
+import co.com.bancolombia.model.job.DeletionJobChunk;
+import co.com.bancolombia.model.job.DeletionJobStatus;
+import co.com.bancolombia.model.job.gateway.DeletionJobGateway;
+import co.com.bancolombia.model.technology.Technology;
+import co.com.bancolombia.model.technology.gateway.TechnologyAssociationIndexGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyCapacityCacheGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyNameIndexGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyReadCacheGateway;
+import co.com.bancolombia.usecase.response.DeletionJobResponse;
+import co.com.bancolombia.usecase.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CapacityDeletionJobUseCaseTest {
+
+    private static final Long CAPACITY_ID = 1L;
+    private static final UUID JOB_ID = UUID.fromString("8f0b7c3e-3f4a-4d6b-9a57-1f6f5b2c9d10");
+    private static final Duration LEASE = Duration.ofMinutes(2);
+
+    @Mock
+    private TechnologyGateway gateway;
+
+    @Mock
+    private TechnologyNameIndexGateway nameIndex;
+
+    @Mock
+    private TechnologyCapacityCacheGateway capacityCache;
+
+    @Mock
+    private TechnologyAssociationIndexGateway associationIndex;
+
+    @Mock
+    private TechnologyReadCacheGateway readCache;
+
+    @Mock
+    private DeletionJobGateway jobGateway;
+
+    private CapacityDeletionJobUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new CapacityDeletionJobUseCase(gateway, jobGateway, nameIndex, capacityCache, associationIndex, readCache);
+        lenient().when(capacityCache.invalidate(anyLong())).thenReturn(Mono.empty());
+        lenient().when(associationIndex.unlink(anyLong(), anyLong())).thenReturn(Mono.empty());
+        lenient().when(associationIndex.removeTechnology(anyLong())).thenReturn(Mono.empty());
+        lenient().when(nameIndex.remove(anyLong())).thenReturn(Mono.empty());
+        lenient().when(readCache.invalidate(any())).thenReturn(Mono.empty());
+    }
+
+    @Test
+    void shouldCreatePendingJob_whenCapacityHasTechnologies() {
+        // Given
+        when(gateway.findByCapacity(CAPACITY_ID)).thenReturn(Flux.just(new Technology(1L, "Java", "Language")));
+        when(jobGateway.create(CAPACITY_ID)).thenReturn(Mono.just(job(DeletionJobStatus.PENDING, List.of())));
+
+        // When & Then
+        StepVerifier.create(useCase.submit(CAPACITY_ID))
+            .assertNext(result -> {
+                assertThat(result).isInstanceOf(Result.Success.class);
+                DeletionJobResponse response = ((Result.Success<DeletionJobResponse>) result).value();
+                assertThat(response.getJobId()).isEqualTo(JOB_ID.toString());
+                assertThat(response.getStatus()).isEqualTo("PENDING");
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldReturnDuplicate_whenCapacityAlreadyHasAnActiveJob() {
+        // Given
+        when(gateway.findByCapacity(CAPACITY_ID)).thenReturn(Flux.just(new Technology(1L, "Java", "Language")));
+        when(jobGateway.create(CAPACITY_ID)).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(useCase.submit(CAPACITY_ID))
+            .expectNext(Result.duplicate("A deletion job is already pending or running. Capacity id: 1"))
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldReturnNotFound_whenCapacityHasNoTechnologies() {
+        // Given
+        when(gateway.findByCapacity(CAPACITY_ID)).thenReturn(Flux.empty());
+
+        // When & Then
+        StepVerifier.create(useCase.submit(CAPACITY_ID))
+            .expectNext(Result.notFound("Capacity has not been found. Capacity id: 1"))
+            .verifyComplete();
+        verify(jobGateway, never()).create(any());
+    }
+
+    @Test
+    void shouldReturnInvalid_whenJobIdIsNotUuid() {
+        // When & Then
+        StepVerifier.create(useCase.find("42"))
+            .expectNext(Result.invalid("Invalid job id: 42"))
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldReturnNotFound_whenJobDoesNotExist() {
+        // Given
+        when(jobGateway.findById(JOB_ID)).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(useCase.find(JOB_ID.toString()))
+            .expectNext(Result.notFound("Job has not been found. Job id: " + JOB_ID))
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldDeleteInChunksUntilCapacityIsEmpty() {
+        // Given
+        when(jobGateway.claim(2, LEASE))
+            .thenReturn(Flux.just(job(DeletionJobStatus.RUNNING, List.of())));
+        when(jobGateway.deleteChunk(JOB_ID, CAPACITY_ID, CapacityDeletionJobUseCase.CHUNK_SIZE)).thenReturn(
+            Mono.just(new DeletionJobChunk(List.of(1L), List.of(2L))),
+            Mono.just(new DeletionJobChunk(List.of(3L), List.of())),
+            Mono.just(new DeletionJobChunk(List.of(), List.of())));
+        when(jobGateway.complete(JOB_ID)).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(useCase.processAvailableJobs(2, LEASE)).verifyComplete();
+
+        verify(jobGateway, times(3)).deleteChunk(JOB_ID, CAPACITY_ID, CapacityDeletionJobUseCase.CHUNK_SIZE);
+        verify(nameIndex).remove(1L);
+        verify(nameIndex).remove(3L);
+        verify(associationIndex).unlink(2L, CAPACITY_ID);
+        verify(capacityCache, times(3)).invalidate(anyLong());
+        verify(readCache, times(2)).invalidate(ReadCacheKeys.touching(List.of(CAPACITY_ID)));
+        verify(jobGateway).complete(JOB_ID);
+        verify(jobGateway, never()).fail(any(), anyString());
+    }
+
+    @Test
+    void shouldMarkJobAsFailed_whenChunkFails() {
+        // Given
+        when(jobGateway.claim(1, LEASE))
+            .thenReturn(Flux.just(job(DeletionJobStatus.RUNNING, List.of())));
+        when(jobGateway.deleteChunk(JOB_ID, CAPACITY_ID, CapacityDeletionJobUseCase.CHUNK_SIZE))
+            .thenReturn(Mono.error(new IllegalStateException("Connection refused")));
+        when(jobGateway.complete(JOB_ID)).thenReturn(Mono.empty());
+        when(jobGateway.fail(JOB_ID, "Connection refused")).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(useCase.processAvailableJobs(1, LEASE)).verifyComplete();
+
+        verify(jobGateway).fail(JOB_ID, "Connection refused");
+    }
+
+    @Test
+    void shouldRenewLeaseWhileAChunkIsRunning() {
+        // Given
+        Duration lease = Duration.ofMillis(30);
+        Sinks.One<DeletionJobChunk> pendingChunk = Sinks.one();
+        when(jobGateway.claim(1, lease)).thenReturn(Flux.just(job(DeletionJobStatus.RUNNING, List.of())));
+        when(jobGateway.deleteChunk(JOB_ID, CAPACITY_ID, CapacityDeletionJobUseCase.CHUNK_SIZE))
+            .thenReturn(pendingChunk.asMono());
+        when(jobGateway.renewLease(JOB_ID)).thenReturn(Mono.empty());
+        when(jobGateway.complete(JOB_ID)).thenReturn(Mono.empty());
+
+        // When
+        useCase.processAvailableJobs(1, lease).subscribe();
+
+        // Then
+        verify(jobGateway, timeout(1000).atLeast(2)).renewLease(JOB_ID);
+        pendingChunk.tryEmitValue(new DeletionJobChunk(List.of(), List.of()));
+        verify(jobGateway).complete(JOB_ID);
+    }
+
+    @Test
+    void shouldReleaseJobsWhoseProcessingWasCancelled() {
+        // Given
+        when(jobGateway.claim(1, LEASE)).thenReturn(Flux.just(job(DeletionJobStatus.RUNNING, List.of())));
+        when(jobGateway.deleteChunk(JOB_ID, CAPACITY_ID, CapacityDeletionJobUseCase.CHUNK_SIZE)).thenReturn(Mono.never());
+        when(jobGateway.complete(JOB_ID)).thenReturn(Mono.empty());
+        when(jobGateway.release(List.of(JOB_ID))).thenReturn(Mono.empty());
+        useCase.processAvailableJobs(1, LEASE).subscribe().dispose();
+
+        // When & Then
+        StepVerifier.create(useCase.releaseRunningJobs()).verifyComplete();
+        StepVerifier.create(useCase.releaseRunningJobs()).verifyComplete();
+
+        verify(jobGateway, times(1)).release(List.of(JOB_ID));
+        verify(jobGateway, never()).fail(any(), anyString());
+    }
+
+    @Test
+    void shouldNotClaimJobs_whenBudgetIsExhausted() {
+        // Given
+        Sinks.One<DeletionJobChunk> pendingChunk = Sinks.one();
+        when(jobGateway.claim(1, LEASE))
+            .thenReturn(Flux.just(job(DeletionJobStatus.RUNNING, List.of())));
+        when(jobGateway.deleteChunk(JOB_ID, CAPACITY_ID, CapacityDeletionJobUseCase.CHUNK_SIZE))
+            .thenReturn(pendingChunk.asMono());
+        when(jobGateway.complete(JOB_ID)).thenReturn(Mono.empty());
+        useCase.processAvailableJobs(1, LEASE).subscribe();
+
+        // When & Then
+        StepVerifier.create(useCase.processAvailableJobs(1, LEASE)).verifyComplete();
+
+        verify(jobGateway, times(1)).claim(anyInt(), any());
+        pendingChunk.tryEmitValue(new DeletionJobChunk(List.of(), List.of()));
+        verify(jobGateway).complete(JOB_ID);
+    }
+
+    private DeletionJob job(DeletionJobStatus status, List<Long> technologyIds) {
+        Instant now = Instant.parse("2026-01-01T00:00:00Z");
+        return new DeletionJob(JOB_ID, CAPACITY_ID, status, 3, technologyIds, null, now, now);
+    }
+}
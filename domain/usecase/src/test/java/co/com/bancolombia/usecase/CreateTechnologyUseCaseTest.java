@@ -2,8 +2,11 @@ package co.com.bancolombia.usecase;
 
 import co.com.bancolombia.model.technology.Technology;
 import co.com.bancolombia.model.technology.gateway.TechnologyGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyNameIndexGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyReadCacheGateway;
 import co.com.bancolombia.usecase.command.CreateTechnologyCommand;
-import co.com.bancolombia.usecase.exception.BussinessException;
+import co.com.bancolombia.usecase.response.TechnologyResponse;
+import co.com.bancolombia.usecase.result.Result;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,8 +15,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -29,12 +36,19 @@ class CreateTechnologyUseCaseTest {
     @Mock
     private TechnologyGateway gateway;
 
+    @Mock
+    private TechnologyNameIndexGateway nameIndex;
+
+    @Mock
+    private TechnologyReadCacheGateway readCache;
+
     private CreateTechnologyUseCase useCase;
     private CreateTechnologyCommand command;
 
     @BeforeEach
     void setUp() {
-        useCase = new CreateTechnologyUseCase(gateway);
+        useCase = new CreateTechnologyUseCase(gateway, nameIndex, readCache);
+        lenient().when(readCache.invalidate(any())).thenReturn(Mono.empty());
         command = new CreateTechnologyCommand(TECHNOLOGY_NAME, TECHNOLOGY_DESCRIPTION);
     }
 
@@ -45,10 +59,13 @@ class CreateTechnologyUseCaseTest {
         
         when(gateway.existsByName(TECHNOLOGY_NAME)).thenReturn(Mono.just(false));
         when(gateway.save(any(Technology.class))).thenReturn(Mono.just(savedTechnology));
+        when(nameIndex.index(savedTechnology)).thenReturn(Mono.empty());
 
         // When & Then
         StepVerifier.create(useCase.execute(command))
-            .assertNext(response -> {
+            .assertNext(result -> {
+                assertThat(result).isInstanceOf(Result.Success.class);
+                TechnologyResponse response = ((Result.Success<TechnologyResponse>) result).value();
                 assertThat(response.getTechnologyId()).isEqualTo(TECHNOLOGY_ID);
                 assertThat(response.getName()).isEqualTo(TECHNOLOGY_NAME);
                 assertThat(response.getDescription()).isEqualTo(TECHNOLOGY_DESCRIPTION);
@@ -57,19 +74,33 @@ class CreateTechnologyUseCaseTest {
 
         verify(gateway).existsByName(TECHNOLOGY_NAME);
         verify(gateway).save(any(Technology.class));
+        verify(nameIndex).index(savedTechnology);
+        verify(readCache).invalidate(List.of("technologies", "technologies.json"));
     }
 
     @Test
-    void shouldThrowBussinessException_whenTechnologyAlreadyExists() {
+    void shouldReturnDuplicate_whenTechnologyAlreadyExists() {
         // Given
         when(gateway.existsByName(TECHNOLOGY_NAME)).thenReturn(Mono.just(true));
 
         // When & Then
         StepVerifier.create(useCase.execute(command))
-            .expectErrorMatches(throwable -> 
-                throwable instanceof BussinessException &&
-                throwable.getMessage().equals(TECHNOLOGY_DUPLICATED_MESSAGE))
-            .verify();
+            .expectNext(Result.duplicate(TECHNOLOGY_DUPLICATED_MESSAGE))
+            .verifyComplete();
+
+        verify(gateway).existsByName(TECHNOLOGY_NAME);
+        verify(gateway, never()).save(any(Technology.class));
+    }
+
+    @Test
+    void shouldCheckDuplicatesAgainstTheTrimmedName_whenNameHasSurroundingWhitespace() {
+        // Given
+        when(gateway.existsByName(TECHNOLOGY_NAME)).thenReturn(Mono.just(true));
+
+        // When & Then
+        StepVerifier.create(useCase.execute(new CreateTechnologyCommand("  " + TECHNOLOGY_NAME + " ", TECHNOLOGY_DESCRIPTION)))
+            .expectNext(Result.duplicate(TECHNOLOGY_DUPLICATED_MESSAGE))
+            .verifyComplete();
 
         verify(gateway).existsByName(TECHNOLOGY_NAME);
     }
@@ -111,6 +142,7 @@ class CreateTechnologyUseCaseTest {
         
         when(gateway.existsByName(TECHNOLOGY_NAME)).thenReturn(Mono.just(false));
         when(gateway.save(any(Technology.class))).thenReturn(Mono.just(savedTechnology));
+        when(nameIndex.index(savedTechnology)).thenReturn(Mono.empty());
 
         // When
         StepVerifier.create(useCase.execute(command))
@@ -1,8 +1,12 @@
 package co.com.bancolombia.usecase;
 
 import co.com.bancolombia.model.technology.Technology;
+import co.com.bancolombia.model.technology.gateway.TechnologyAssociationIndexGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyCapacityCacheGateway;
 import co.com.bancolombia.model.technology.gateway.TechnologyGateway;
-import co.com.bancolombia.usecase.exception.BussinessException;
+import co.com.bancolombia.model.technology.gateway.TechnologyNameIndexGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyReadCacheGateway;
+import co.com.bancolombia.usecase.result.Result;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,6 +21,7 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -34,11 +39,28 @@ class DeleteTechnologyUseCaseTest {
     @Mock
     private TechnologyGateway gateway;
 
+    @Mock
+    private TechnologyNameIndexGateway nameIndex;
+
+    @Mock
+    private TechnologyCapacityCacheGateway capacityCache;
+
+    @Mock
+    private TechnologyAssociationIndexGateway associationIndex;
+
+    @Mock
+    private TechnologyReadCacheGateway readCache;
+
     private DeleteTechnologyUseCase useCase;
 
     @BeforeEach
     void setUp() {
-        useCase = new DeleteTechnologyUseCase(gateway);
+        useCase = new DeleteTechnologyUseCase(gateway, nameIndex, capacityCache, associationIndex, readCache);
+        lenient().when(capacityCache.invalidate(anyLong())).thenReturn(Mono.empty());
+        lenient().when(associationIndex.unlink(anyLong(), anyLong())).thenReturn(Mono.empty());
+        lenient().when(associationIndex.removeTechnology(anyLong())).thenReturn(Mono.empty());
+        lenient().when(nameIndex.remove(anyLong())).thenReturn(Mono.empty());
+        lenient().when(readCache.invalidate(any())).thenReturn(Mono.empty());
     }
 
     @Test
@@ -60,7 +82,7 @@ class DeleteTechnologyUseCaseTest {
 
         // When & Then
         StepVerifier.create(useCase.execute(CAPACITY_ID))
-            .expectNext(List.of(TECHNOLOGY_ID_1, TECHNOLOGY_ID_2))
+            .expectNext(Result.success(List.of(TECHNOLOGY_ID_1, TECHNOLOGY_ID_2)))
             .verifyComplete();
 
         verify(gateway).findByCapacity(CAPACITY_ID);
@@ -69,6 +91,9 @@ class DeleteTechnologyUseCaseTest {
         verify(gateway).delete(TECHNOLOGY_ID_1);
         verify(gateway).delete(TECHNOLOGY_ID_2);
         verify(gateway, never()).deleteTechnologyCapacityRelation(anyLong(), anyLong());
+        verify(associationIndex).removeTechnology(TECHNOLOGY_ID_1);
+        verify(associationIndex).removeTechnology(TECHNOLOGY_ID_2);
+        verify(readCache).invalidate(ReadCacheKeys.touching(List.of(CAPACITY_ID)));
     }
 
     @Test
@@ -90,7 +115,7 @@ class DeleteTechnologyUseCaseTest {
 
         // When & Then
         StepVerifier.create(useCase.execute(CAPACITY_ID))
-            .expectNext(List.of(TECHNOLOGY_ID_1, TECHNOLOGY_ID_2))
+            .expectNext(Result.success(List.of(TECHNOLOGY_ID_1, TECHNOLOGY_ID_2)))
             .verifyComplete();
 
         verify(gateway).findByCapacity(CAPACITY_ID);
@@ -99,6 +124,8 @@ class DeleteTechnologyUseCaseTest {
         verify(gateway).deleteTechnologyCapacityRelation(TECHNOLOGY_ID_1, CAPACITY_ID);
         verify(gateway).deleteTechnologyCapacityRelation(TECHNOLOGY_ID_2, CAPACITY_ID);
         verify(gateway, never()).delete(anyLong());
+        verify(associationIndex).unlink(TECHNOLOGY_ID_1, CAPACITY_ID);
+        verify(associationIndex).unlink(TECHNOLOGY_ID_2, CAPACITY_ID);
     }
 
     @Test
@@ -125,7 +152,7 @@ class DeleteTechnologyUseCaseTest {
 
         // When & Then
         StepVerifier.create(useCase.execute(CAPACITY_ID))
-            .expectNext(List.of(TECHNOLOGY_ID_1, TECHNOLOGY_ID_2, TECHNOLOGY_ID_3))
+            .expectNext(Result.success(List.of(TECHNOLOGY_ID_1, TECHNOLOGY_ID_2, TECHNOLOGY_ID_3)))
             .verifyComplete();
 
         verify(gateway).findByCapacity(CAPACITY_ID);
@@ -141,51 +168,47 @@ class DeleteTechnologyUseCaseTest {
     }
 
     @Test
-    void shouldThrowException_whenCapacityIdIsNull() {
+    void shouldReturnInvalid_whenCapacityIdIsNull() {
         // When & Then
         StepVerifier.create(useCase.execute(null))
-            .expectError(BussinessException.class)
-            .verify();
+            .assertNext(result -> assertThat(result).isInstanceOf(Result.Invalid.class))
+            .verifyComplete();
 
         verify(gateway, never()).findByCapacity(anyLong());
     }
 
     @Test
-    void shouldThrowException_whenCapacityNotFound() {
+    void shouldReturnNotFound_whenCapacityNotFound() {
         // Given
         when(gateway.findByCapacity(CAPACITY_ID))
             .thenReturn(Flux.empty());
 
         // When & Then
         StepVerifier.create(useCase.execute(CAPACITY_ID))
-            .expectError(BussinessException.class)
-            .verify();
+            .assertNext(result -> assertThat(result).isInstanceOf(Result.NotFound.class))
+            .verifyComplete();
 
         verify(gateway).findByCapacity(CAPACITY_ID);
     }
 
     @Test
-    void shouldThrowException_whenCapacityIdIsNull_withCorrectMessage() {
+    void shouldReturnInvalid_whenCapacityIdIsNull_withCorrectMessage() {
         // When & Then
         StepVerifier.create(useCase.execute(null))
-            .expectErrorMatches(throwable -> 
-                throwable instanceof BussinessException &&
-                throwable.getMessage().equals(CAPACITY_ID_CANNOT_BE_NULL_MESSAGE))
-            .verify();
+            .expectNext(Result.invalid(CAPACITY_ID_CANNOT_BE_NULL_MESSAGE))
+            .verifyComplete();
     }
 
     @Test
-    void shouldThrowException_whenCapacityNotFound_withCorrectMessage() {
+    void shouldReturnNotFound_whenCapacityNotFound_withCorrectMessage() {
         // Given
         when(gateway.findByCapacity(CAPACITY_ID))
             .thenReturn(Flux.empty());
 
         // When & Then
         StepVerifier.create(useCase.execute(CAPACITY_ID))
-            .expectErrorMatches(throwable -> 
-                throwable instanceof BussinessException &&
-                throwable.getMessage().equals(CAPACITY_NOT_FOUND_MESSAGE + CAPACITY_ID))
-            .verify();
+            .expectNext(Result.notFound(CAPACITY_NOT_FOUND_MESSAGE + CAPACITY_ID))
+            .verifyComplete();
     }
 
     @Test
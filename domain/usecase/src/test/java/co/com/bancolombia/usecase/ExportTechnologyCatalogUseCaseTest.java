@@ -0,0 +1,67 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.technology.TechnologyExport;
+import co.com.bancolombia.model.technology.gateway.TechnologyExportGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExportTechnologyCatalogUseCaseTest {
+
+    @Mock
+    private TechnologyExportGateway gateway;
+
+    private ExportTechnologyCatalogUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ExportTechnologyCatalogUseCase(gateway);
+    }
+
+    @Test
+    void shouldMapEveryExportedTechnologyWithItsCapacities() {
+        // Given
+        when(gateway.exportCatalog()).thenReturn(Flux.just(
+            new TechnologyExport(1L, "Java", "Programming language", List.of(10L, 20L)),
+            new TechnologyExport(2L, "Kotlin", "Programming language", List.of())));
+
+        // When & Then
+        StepVerifier.create(useCase.execute())
+            .assertNext(response -> {
+                assertThat(response.getTechnologyId()).isEqualTo(1L);
+                assertThat(response.getName()).isEqualTo("Java");
+                assertThat(response.getCapacityIds()).containsExactly(10L, 20L);
+            })
+            .assertNext(response -> assertThat(response.getCapacityIds()).isEmpty())
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldRequestRowsFromGatewayOnlyAsDemanded() {
+        // Given
+        AtomicLong requested = new AtomicLong();
+        when(gateway.exportCatalog()).thenReturn(Flux.range(1, 1000)
+            .map(id -> new TechnologyExport(id.longValue(), "Technology " + id, "Description", List.of()))
+            .doOnRequest(requested::addAndGet));
+
+        // When
+        StepVerifier.create(useCase.execute(), 2)
+            .expectNextCount(2)
+            .thenCancel()
+            .verify();
+
+        // Then
+        assertThat(requested.get()).isEqualTo(2L);
+    }
+}
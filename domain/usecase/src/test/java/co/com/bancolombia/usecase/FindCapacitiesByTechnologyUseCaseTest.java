@@ -0,0 +1,174 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.technology.gateway.TechnologyCapacityCacheGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyGateway;
+import co.com.bancolombia.usecase.response.TechnologyCapacitiesResponse;
+import co.com.bancolombia.usecase.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FindCapacitiesByTechnologyUseCaseTest {
+
+    private static final Long TECHNOLOGY_ID = 1L;
+
+    @Mock
+    private TechnologyGateway gateway;
+
+    @Mock
+    private TechnologyCapacityCacheGateway capacityCache;
+
+    private FindCapacitiesByTechnologyUseCase useCase;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        useCase = new FindCapacitiesByTechnologyUseCase(gateway, capacityCache);
+        lenient().when(capacityCache.get(anyLong(), any())).thenAnswer(invocation ->
+            ((Function<Long, Mono<List<Long>>>) invocation.getArgument(1)).apply(invocation.getArgument(0)));
+        lenient().when(capacityCache.getAll(anySet(), any())).thenAnswer(invocation ->
+            ((Function<Set<Long>, Mono<Map<Long, List<Long>>>>) invocation.getArgument(1)).apply(invocation.getArgument(0)));
+    }
+
+    @Test
+    void shouldReturnCapacityIdsOfTechnology() {
+        // Given
+        when(gateway.findCapacityIdsByTechnologyId(TECHNOLOGY_ID)).thenReturn(Flux.just(10L, 20L));
+
+        // When & Then
+        StepVerifier.create(useCase.execute(TECHNOLOGY_ID))
+            .assertNext(result -> {
+                assertThat(result).isInstanceOf(Result.Success.class);
+                TechnologyCapacitiesResponse response = ((Result.Success<TechnologyCapacitiesResponse>) result).value();
+                assertThat(response.getTechnologyId()).isEqualTo(TECHNOLOGY_ID);
+                assertThat(response.getCapacityIds()).containsExactly(10L, 20L);
+            })
+            .verifyComplete();
+
+        verify(gateway, never()).existsById(anyLong());
+    }
+
+    @Test
+    void shouldReturnEmptyList_whenTechnologyExistsWithoutCapacities() {
+        // Given
+        when(gateway.findCapacityIdsByTechnologyId(TECHNOLOGY_ID)).thenReturn(Flux.empty());
+        when(gateway.existsById(TECHNOLOGY_ID)).thenReturn(Mono.just(true));
+
+        // When & Then
+        StepVerifier.create(useCase.execute(TECHNOLOGY_ID))
+            .assertNext(result -> {
+                assertThat(result).isInstanceOf(Result.Success.class);
+                assertThat(((Result.Success<TechnologyCapacitiesResponse>) result).value().getCapacityIds()).isEmpty();
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldReturnNotFound_whenTechnologyDoesNotExist() {
+        // Given
+        when(gateway.findCapacityIdsByTechnologyId(TECHNOLOGY_ID)).thenReturn(Flux.empty());
+        when(gateway.existsById(TECHNOLOGY_ID)).thenReturn(Mono.just(false));
+
+        // When & Then
+        StepVerifier.create(useCase.execute(TECHNOLOGY_ID))
+            .assertNext(result -> {
+                assertThat(result).isInstanceOf(Result.NotFound.class);
+                assertThat(((Result.NotFound<TechnologyCapacitiesResponse>) result).message())
+                    .isEqualTo("Technology has not been found. Technology id: 1");
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldReturnInvalid_whenTechnologyIdIsNull() {
+        // When & Then
+        StepVerifier.create(useCase.execute(null))
+            .assertNext(result -> assertThat(result).isInstanceOf(Result.Invalid.class))
+            .verifyComplete();
+
+        verify(capacityCache, never()).get(any(), any());
+    }
+
+    @Test
+    void shouldAnswerBatchInRequestOrderWithOneQuery() {
+        // Given
+        when(gateway.findCapacityIdsByTechnologyIds(any())).thenReturn(Mono.just(Map.of(
+            2L, List.of(20L, 21L),
+            1L, List.of(10L))));
+
+        // When & Then
+        StepVerifier.create(useCase.executeBatch(List.of(2L, 3L, 1L, 2L)))
+            .assertNext(result -> {
+                assertThat(result).isInstanceOf(Result.Success.class);
+                List<TechnologyCapacitiesResponse> responses = ((Result.Success<List<TechnologyCapacitiesResponse>>) result).value();
+                assertThat(responses).extracting(TechnologyCapacitiesResponse::getTechnologyId).containsExactly(2L, 3L, 1L);
+                assertThat(responses.get(0).getCapacityIds()).containsExactly(20L, 21L);
+                assertThat(responses.get(1).getCapacityIds()).isEmpty();
+                assertThat(responses.get(2).getCapacityIds()).containsExactly(10L);
+            })
+            .verifyComplete();
+
+        verify(gateway).findCapacityIdsByTechnologyIds(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldLeaveUnknownTechnologiesOutOfTheBatchLoad() {
+        // Given
+        ArgumentCaptor<Function<Set<Long>, Mono<Map<Long, List<Long>>>>> loader = ArgumentCaptor.forClass(Function.class);
+        when(capacityCache.getAll(anySet(), loader.capture())).thenReturn(Mono.just(Map.of()));
+        when(gateway.findCapacityIdsByTechnologyIds(any())).thenReturn(Mono.just(Map.of(1L, List.of())));
+        useCase.executeBatch(List.of(1L, 3L)).block();
+
+        // When & Then
+        StepVerifier.create(loader.getValue().apply(Set.of(1L, 3L)))
+            .assertNext(loaded -> assertThat(loaded).containsOnlyKeys(1L))
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldReturnInvalid_whenBatchIsEmpty() {
+        // When & Then
+        StepVerifier.create(useCase.executeBatch(List.of()))
+            .assertNext(result -> assertThat(result).isInstanceOf(Result.Invalid.class))
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldReturnInvalid_whenBatchIsTooLarge() {
+        // Given
+        List<Long> technologyIds = new ArrayList<>();
+        for (long id = 1; id <= FindCapacitiesByTechnologyUseCase.MAX_BATCH_SIZE + 1; id++) {
+            technologyIds.add(id);
+        }
+
+        // When & Then
+        StepVerifier.create(useCase.executeBatch(technologyIds))
+            .assertNext(result -> assertThat(result).isInstanceOf(Result.Invalid.class))
+            .verifyComplete();
+
+        verify(capacityCache, never()).getAll(anySet(), any());
+    }
+}
@@ -0,0 +1,109 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.technology.CapacitySetOperation;
+import co.com.bancolombia.model.technology.TechnologyCapacity;
+import co.com.bancolombia.model.technology.gateway.TechnologyAssociationIndexGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyGateway;
+import co.com.bancolombia.usecase.response.CapacitySetResponse;
+import co.com.bancolombia.usecase.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FindTechnologiesByCapacitySetUseCaseTest {
+
+    @Mock
+    private TechnologyGateway gateway;
+
+    @Mock
+    private TechnologyAssociationIndexGateway associationIndex;
+
+    private FindTechnologiesByCapacitySetUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new FindTechnologiesByCapacitySetUseCase(gateway, associationIndex);
+    }
+
+    @Test
+    void shouldCombineDistinctCapacitiesInRequestOrder() {
+        // Given
+        when(associationIndex.findTechnologyIds(CapacitySetOperation.DIFFERENCE, List.of(3L, 1L)))
+            .thenReturn(Mono.just(List.of(7L, 9L)));
+
+        // When & Then
+        StepVerifier.create(useCase.execute(CapacitySetOperation.DIFFERENCE, List.of(3L, 1L, 3L)))
+            .assertNext(result -> {
+                assertThat(result).isInstanceOf(Result.Success.class);
+                CapacitySetResponse response = ((Result.Success<CapacitySetResponse>) result).value();
+                assertThat(response.getOperation()).isEqualTo("difference");
+                assertThat(response.getCapacityIds()).containsExactly(3L, 1L);
+                assertThat(response.getCount()).isEqualTo(2);
+                assertThat(response.getTechnologyIds()).containsExactly(7L, 9L);
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldReturnInvalid_whenCapacityIdsAreEmpty() {
+        // When & Then
+        StepVerifier.create(useCase.execute(CapacitySetOperation.UNION, List.of()))
+            .expectNext(Result.invalid("Capacity IDs cannot be empty"))
+            .verifyComplete();
+
+        verify(associationIndex, never()).findTechnologyIds(any(), anyList());
+    }
+
+    @Test
+    void shouldReturnInvalid_whenCapacityIdsContainNull() {
+        // When & Then
+        StepVerifier.create(useCase.execute(CapacitySetOperation.INTERSECTION, Arrays.asList(1L, null)))
+            .expectNext(Result.invalid("Capacity ID cannot be null"))
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldReturnInvalid_whenTooManyCapacitiesAreRequested() {
+        // Given
+        List<Long> capacityIds = new ArrayList<>();
+        for (long id = 0; id <= FindTechnologiesByCapacitySetUseCase.MAX_CAPACITIES; id++) {
+            capacityIds.add(id);
+        }
+
+        // When & Then
+        StepVerifier.create(useCase.execute(CapacitySetOperation.UNION, capacityIds))
+            .expectNext(Result.invalid("At most 100 capacity IDs can be combined at once"))
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldRebuildIndexFromAllAssociations() {
+        // Given
+        Flux<TechnologyCapacity> associations = Flux.just(new TechnologyCapacity(1L, 2L));
+        when(gateway.findAllAssociations()).thenReturn(associations);
+        when(associationIndex.rebuild(associations)).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(useCase.rebuildIndex())
+            .verifyComplete();
+
+        verify(associationIndex).rebuild(associations);
+    }
+}
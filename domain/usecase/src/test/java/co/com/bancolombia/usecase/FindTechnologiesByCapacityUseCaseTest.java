@@ -1,7 +1,9 @@
 package co.com.bancolombia.usecase;
 
+import co.com.bancolombia.model.technology.CachedRead;
 import co.com.bancolombia.model.technology.Technology;
 import co.com.bancolombia.model.technology.gateway.TechnologyGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyReadCacheGateway;
 import co.com.bancolombia.usecase.response.TechnologyResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -9,11 +11,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -32,11 +43,17 @@ class FindTechnologiesByCapacityUseCaseTest {
     @Mock
     private TechnologyGateway gateway;
 
+    @Mock
+    private TechnologyReadCacheGateway readCache;
+
     private FindTechnologiesByCapacityUseCase useCase;
 
     @BeforeEach
+    @SuppressWarnings("unchecked")
     void setUp() {
-        useCase = new FindTechnologiesByCapacityUseCase(gateway);
+        useCase = new FindTechnologiesByCapacityUseCase(gateway, readCache);
+        lenient().when(readCache.get(anyString(), any())).thenAnswer(invocation ->
+            ((Supplier<Mono<Object>>) invocation.getArgument(1)).get().map(CachedRead::fresh));
     }
 
     @Test
@@ -187,4 +204,37 @@ class FindTechnologiesByCapacityUseCaseTest {
     private Technology createTechnology(Long id, String name, String description) {
         return new Technology(id, name, description);
     }
+
+    @Test
+    void shouldReturnDatabaseRenderedJson_whenExecutingAsJson() {
+        // Given
+        String json = "[{\"technologyId\":1,\"name\":\"Java\",\"description\":\"Programming language\"}]";
+        when(gateway.findByCapacityAsJson(CAPACITY_ID)).thenReturn(Mono.just(json));
+
+        // When & Then
+        StepVerifier.create(useCase.executeAsJson(CAPACITY_ID))
+            .assertNext(read -> assertThat(read.getValue()).isEqualTo(json))
+            .verifyComplete();
+
+        verify(gateway).findByCapacityAsJson(CAPACITY_ID);
+    }
+
+    @Test
+    void shouldServeStaleReadFromCache_withoutQueryingGateway() {
+        // Given
+        TechnologyResponse cached = new TechnologyResponse(TECHNOLOGY_ID_1, TECHNOLOGY_NAME_1, TECHNOLOGY_DESCRIPTION_1);
+        doReturn(Mono.just(new CachedRead<>(List.of(cached), Duration.ofSeconds(45), true)))
+            .when(readCache).get(eq(FindTechnologiesByCapacityUseCase.TECHNOLOGIES_BY_CAPACITY_KEY + CAPACITY_ID), any());
+
+        // When & Then
+        StepVerifier.create(useCase.executeCached(CAPACITY_ID))
+            .assertNext(read -> {
+                assertThat(read.isStale()).isTrue();
+                assertThat(read.getAge()).isEqualTo(Duration.ofSeconds(45));
+                assertThat(read.getValue()).containsExactly(cached);
+            })
+            .verifyComplete();
+
+        verify(gateway, never()).findByCapacity(any());
+    }
 }
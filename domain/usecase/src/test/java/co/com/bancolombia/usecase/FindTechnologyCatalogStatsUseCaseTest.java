@@ -0,0 +1,90 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.technology.TechnologyCatalogStats;
+import co.com.bancolombia.model.technology.TechnologyUsage;
+import co.com.bancolombia.model.technology.gateway.TechnologyAssociationIndexGateway;
+import co.com.bancolombia.usecase.response.TechnologyCatalogStatsResponse;
+import co.com.bancolombia.usecase.response.TechnologyUsageResponse;
+import co.com.bancolombia.usecase.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FindTechnologyCatalogStatsUseCaseTest {
+
+    @Mock
+    private TechnologyAssociationIndexGateway associationIndex;
+
+    private FindTechnologyCatalogStatsUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new FindTechnologyCatalogStatsUseCase(associationIndex);
+    }
+
+    @Test
+    void shouldReturnStatsWithAverageTechnologiesPerCapacity() {
+        // Given
+        Instant reconciledAt = Instant.parse("2024-01-01T00:00:00Z");
+        when(associationIndex.findStats(FindTechnologyCatalogStatsUseCase.DEFAULT_TOP))
+            .thenReturn(Mono.just(new TechnologyCatalogStats(5, 2, 3, 3, Map.of("1", 0L, "2-5", 2L),
+                List.of(new TechnologyUsage(1L, 2), new TechnologyUsage(2L, 2)), reconciledAt)));
+
+        // When & Then
+        StepVerifier.create(useCase.execute(null))
+            .assertNext(result -> {
+                assertThat(result).isInstanceOf(Result.Success.class);
+                TechnologyCatalogStatsResponse response = ((Result.Success<TechnologyCatalogStatsResponse>) result).value();
+                assertThat(response.getAssociations()).isEqualTo(5);
+                assertThat(response.getCapacities()).isEqualTo(2);
+                assertThat(response.getTechnologies()).isEqualTo(3);
+                assertThat(response.getAverageTechnologiesPerCapacity()).isEqualTo(2.5);
+                assertThat(response.getMaxTechnologiesPerCapacity()).isEqualTo(3);
+                assertThat(response.getCapacitySizeDistribution()).containsEntry("2-5", 2L);
+                assertThat(response.getMostUsedTechnologies())
+                    .extracting(TechnologyUsageResponse::getTechnologyId, TechnologyUsageResponse::getCapacities)
+                    .containsExactly(tuple(1L, 2), tuple(2L, 2));
+                assertThat(response.getReconciledAt()).isEqualTo(reconciledAt);
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldReturnZeroAverage_whenCatalogIsEmpty() {
+        // Given
+        when(associationIndex.findStats(3))
+            .thenReturn(Mono.just(new TechnologyCatalogStats(0, 0, 0, 0, Map.of(), List.of(), null)));
+
+        // When & Then
+        StepVerifier.create(useCase.execute(3))
+            .assertNext(result -> assertThat(((Result.Success<TechnologyCatalogStatsResponse>) result).value()
+                .getAverageTechnologiesPerCapacity()).isZero())
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldReturnInvalid_whenTopIsOutOfRange() {
+        // When & Then
+        StepVerifier.create(useCase.execute(0))
+            .expectNext(Result.invalid("Top must be between 1 and 50"))
+            .verifyComplete();
+
+        verify(associationIndex, never()).findStats(anyInt());
+    }
+}
@@ -0,0 +1,129 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.technology.TechnologyImportRow;
+import co.com.bancolombia.model.technology.TechnologyImportSummary;
+import co.com.bancolombia.model.technology.Technology;
+import co.com.bancolombia.model.technology.TechnologyCapacity;
+import co.com.bancolombia.model.technology.gateway.TechnologyAssociationIndexGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyCapacityCacheGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyImportGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyNameIndexGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyReadCacheGateway;
+import co.com.bancolombia.usecase.command.ImportTechnologyCommand;
+import co.com.bancolombia.usecase.response.TechnologyImportEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ImportTechnologyCatalogUseCaseTest {
+
+    @Mock
+    private TechnologyImportGateway gateway;
+
+    @Mock
+    private TechnologyGateway technologyGateway;
+
+    @Mock
+    private TechnologyNameIndexGateway nameIndex;
+
+    @Mock
+    private TechnologyCapacityCacheGateway capacityCache;
+
+    @Mock
+    private TechnologyAssociationIndexGateway associationIndex;
+
+    @Mock
+    private TechnologyReadCacheGateway readCache;
+
+    private ImportTechnologyCatalogUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ImportTechnologyCatalogUseCase(gateway, technologyGateway, nameIndex, capacityCache,
+            associationIndex, readCache);
+        lenient().when(technologyGateway.findAll()).thenReturn(Flux.<Technology>empty());
+        lenient().when(technologyGateway.findAllAssociations()).thenReturn(Flux.<TechnologyCapacity>empty());
+        lenient().when(associationIndex.rebuild(any())).thenReturn(Mono.empty());
+        lenient().when(nameIndex.rebuild(any())).thenReturn(Mono.empty());
+        lenient().when(capacityCache.invalidateAll()).thenReturn(Mono.empty());
+        lenient().when(readCache.invalidate(any())).thenReturn(Mono.empty());
+    }
+
+    @Test
+    void shouldStageValidRowsAndReportRejectsWithTheirLine() {
+        // Given
+        List<TechnologyImportRow> staged = new ArrayList<>();
+        when(gateway.importCatalog(any())).thenAnswer(invocation -> {
+            Flux<TechnologyImportRow> rows = invocation.getArgument(0);
+            return rows.doOnNext(staged::add).then(Mono.just(new TechnologyImportSummary(2, 2, 3)));
+        });
+        Flux<ImportTechnologyCommand> commands = Flux.just(
+            new ImportTechnologyCommand(2, "Java", "Programming language", List.of(1L, 2L)),
+            new ImportTechnologyCommand(3, "", "Programming language", List.of()),
+            ImportTechnologyCommand.malformed(4, "Malformed row"),
+            new ImportTechnologyCommand(5, "Kotlin", "Programming language", List.of(1L)));
+
+        // When & Then
+        StepVerifier.create(useCase.execute(commands))
+            .expectNext(new TechnologyImportEvent.Rejected(3, "Technology name cannot be empty"))
+            .expectNext(new TechnologyImportEvent.Rejected(4, "Malformed row"))
+            .expectNext(new TechnologyImportEvent.Completed(4, 2, 2, 3))
+            .verifyComplete();
+
+        assertThat(staged).extracting(row -> row.getName().getValue()).containsExactly("Java", "Kotlin");
+        verify(capacityCache).invalidateAll();
+        verify(readCache).invalidate(List.of("technologies", "technologies.json",
+            "technologies.by-capacity:1", "technologies.by-capacity.json:1",
+            "technologies.by-capacity:2", "technologies.by-capacity.json:2"));
+        verify(nameIndex).rebuild(any());
+        verify(associationIndex).rebuild(any());
+    }
+
+    @Test
+    void shouldReportProgressEveryInterval() {
+        // Given
+        long total = ImportTechnologyCatalogUseCase.PROGRESS_INTERVAL * 2 + 5;
+        when(gateway.importCatalog(any())).thenAnswer(invocation -> {
+            Flux<TechnologyImportRow> rows = invocation.getArgument(0);
+            return rows.count().map(count -> new TechnologyImportSummary(count, count, 0));
+        });
+        Flux<ImportTechnologyCommand> commands = Flux.range(1, (int) total)
+            .map(line -> new ImportTechnologyCommand(line, "Technology " + line, "Description", List.of()));
+
+        // When & Then
+        StepVerifier.create(useCase.execute(commands))
+            .expectNext(new TechnologyImportEvent.Progress(ImportTechnologyCatalogUseCase.PROGRESS_INTERVAL, 0))
+            .expectNext(new TechnologyImportEvent.Progress(ImportTechnologyCatalogUseCase.PROGRESS_INTERVAL * 2, 0))
+            .expectNext(new TechnologyImportEvent.Completed(total, 0, total, 0))
+            .verifyComplete();
+        verify(associationIndex, never()).rebuild(any());
+    }
+
+    @Test
+    void shouldPropagateGatewayErrors() {
+        // Given
+        when(gateway.importCatalog(any())).thenReturn(Mono.error(new IllegalStateException("COPY failed")));
+
+        // When & Then
+        StepVerifier.create(useCase.execute(Flux.empty()))
+            .expectErrorMessage("COPY failed")
+            .verify();
+    }
+}
@@ -0,0 +1,106 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.technology.Technology;
+import co.com.bancolombia.model.technology.TechnologyCoOccurrence;
+import co.com.bancolombia.model.technology.gateway.TechnologyAssociationIndexGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyGateway;
+import co.com.bancolombia.usecase.response.TechnologyRecommendationResponse;
+import co.com.bancolombia.usecase.response.TechnologyRecommendationsResponse;
+import co.com.bancolombia.usecase.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecommendTechnologiesUseCaseTest {
+
+    private static final Long TECHNOLOGY_ID = 1L;
+
+    @Mock
+    private TechnologyGateway gateway;
+
+    @Mock
+    private TechnologyAssociationIndexGateway associationIndex;
+
+    private RecommendTechnologiesUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new RecommendTechnologiesUseCase(gateway, associationIndex);
+    }
+
+    @Test
+    void shouldReturnRankedRecommendationsWithNames() {
+        // Given
+        when(associationIndex.findCoOccurring(TECHNOLOGY_ID, RecommendTechnologiesUseCase.DEFAULT_LIMIT))
+            .thenReturn(Mono.just(List.of(new TechnologyCoOccurrence(3L, 5), new TechnologyCoOccurrence(2L, 2))));
+        when(gateway.findAllById(List.of(3L, 2L)))
+            .thenReturn(Flux.just(new Technology(2L, "Kotlin", "Language"), new Technology(3L, "Spring", "Framework")));
+
+        // When & Then
+        StepVerifier.create(useCase.execute(TECHNOLOGY_ID, null))
+            .assertNext(result -> {
+                assertThat(result).isInstanceOf(Result.Success.class);
+                TechnologyRecommendationsResponse response = ((Result.Success<TechnologyRecommendationsResponse>) result).value();
+                assertThat(response.getTechnologyId()).isEqualTo(TECHNOLOGY_ID);
+                assertThat(response.getRecommendations())
+                    .extracting(TechnologyRecommendationResponse::getName, TechnologyRecommendationResponse::getSharedCapacities)
+                    .containsExactly(tuple("Spring", 5), tuple("Kotlin", 2));
+            })
+            .verifyComplete();
+
+        verify(gateway, never()).existsById(anyLong());
+    }
+
+    @Test
+    void shouldReturnEmptyRecommendations_whenTechnologyExistsWithoutPartners() {
+        // Given
+        when(associationIndex.findCoOccurring(TECHNOLOGY_ID, 5)).thenReturn(Mono.just(List.of()));
+        when(gateway.existsById(TECHNOLOGY_ID)).thenReturn(Mono.just(true));
+
+        // When & Then
+        StepVerifier.create(useCase.execute(TECHNOLOGY_ID, 5))
+            .assertNext(result -> {
+                assertThat(result).isInstanceOf(Result.Success.class);
+                assertThat(((Result.Success<TechnologyRecommendationsResponse>) result).value().getRecommendations()).isEmpty();
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldReturnNotFound_whenTechnologyDoesNotExist() {
+        // Given
+        when(associationIndex.findCoOccurring(9L, RecommendTechnologiesUseCase.DEFAULT_LIMIT)).thenReturn(Mono.just(List.of()));
+        when(gateway.existsById(9L)).thenReturn(Mono.just(false));
+
+        // When & Then
+        StepVerifier.create(useCase.execute(9L, null))
+            .expectNext(Result.notFound("Technology has not been found. Technology id: 9"))
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldReturnInvalid_whenLimitIsOutOfRange() {
+        // When & Then
+        StepVerifier.create(useCase.execute(TECHNOLOGY_ID, RecommendTechnologiesUseCase.MAX_LIMIT + 1))
+            .expectNext(Result.invalid("Limit must be between 1 and 50"))
+            .verifyComplete();
+
+        verify(associationIndex, never()).findCoOccurring(anyLong(), anyInt());
+    }
+}
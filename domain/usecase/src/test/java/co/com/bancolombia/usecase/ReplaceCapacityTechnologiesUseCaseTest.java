@@ -0,0 +1,178 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.technology.CapacityLinkChanges;
+import co.com.bancolombia.model.technology.TechnologyCapacityLink;
+import co.com.bancolombia.model.technology.gateway.TechnologyAssociationIndexGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyCapacityCacheGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyReadCacheGateway;
+import co.com.bancolombia.usecase.command.ReplaceCapacityTechnologiesCommand;
+import co.com.bancolombia.usecase.response.ReplaceCapacityTechnologiesResponse;
+import co.com.bancolombia.usecase.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReplaceCapacityTechnologiesUseCaseTest {
+
+    private static final Long CAPACITY_ID = 1L;
+
+    @Mock
+    private TechnologyGateway gateway;
+
+    @Mock
+    private TechnologyCapacityCacheGateway capacityCache;
+
+    @Mock
+    private TechnologyAssociationIndexGateway associationIndex;
+
+    @Mock
+    private TechnologyReadCacheGateway readCache;
+
+    private ReplaceCapacityTechnologiesUseCase useCase;
+
+    private final List<CapacityLinkChanges> written = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ReplaceCapacityTechnologiesUseCase(gateway, capacityCache, associationIndex, readCache);
+        lenient().when(capacityCache.invalidate(anyLong())).thenReturn(Mono.empty());
+        lenient().when(associationIndex.link(anyLong(), anyLong())).thenReturn(Mono.empty());
+        lenient().when(associationIndex.unlink(anyLong(), anyLong())).thenReturn(Mono.empty());
+        lenient().when(readCache.invalidate(any())).thenReturn(Mono.empty());
+    }
+
+    @Test
+    void shouldApplyOnlyTheDifference() {
+        // Given
+        givenLinks(List.of(2L, 3L), List.of("Kotlin"),
+            new TechnologyCapacityLink(1L, "Java", true),
+            new TechnologyCapacityLink(2L, "Scala", true),
+            new TechnologyCapacityLink(3L, "Groovy", false),
+            new TechnologyCapacityLink(4L, "Kotlin", false));
+
+        // When & Then
+        StepVerifier.create(useCase.execute(new ReplaceCapacityTechnologiesCommand(CAPACITY_ID, List.of(2L, 3L), List.of("Kotlin"))))
+            .assertNext(result -> {
+                assertThat(result).isInstanceOf(Result.Success.class);
+                ReplaceCapacityTechnologiesResponse response = ((Result.Success<ReplaceCapacityTechnologiesResponse>) result).value();
+                assertThat(response.getCapacityId()).isEqualTo(CAPACITY_ID);
+                assertThat(response.getAdded()).containsExactly(3L, 4L);
+                assertThat(response.getRemoved()).containsExactly(1L);
+            })
+            .verifyComplete();
+
+        assertThat(written).hasSize(1);
+        verify(capacityCache).invalidate(1L);
+        verify(capacityCache).invalidate(3L);
+        verify(capacityCache).invalidate(4L);
+        verify(associationIndex).link(3L, CAPACITY_ID);
+        verify(associationIndex).link(4L, CAPACITY_ID);
+        verify(associationIndex).unlink(1L, CAPACITY_ID);
+        verify(readCache).invalidate(ReadCacheKeys.touching(List.of(CAPACITY_ID)));
+    }
+
+    @Test
+    void shouldNotWrite_whenSetIsUnchanged() {
+        // Given
+        givenLinks(List.of(1L), List.of("Scala"),
+            new TechnologyCapacityLink(1L, "Java", true),
+            new TechnologyCapacityLink(2L, "Scala", true));
+
+        // When & Then
+        StepVerifier.create(useCase.execute(new ReplaceCapacityTechnologiesCommand(CAPACITY_ID, List.of(1L), List.of("Scala"))))
+            .assertNext(result -> {
+                ReplaceCapacityTechnologiesResponse response = ((Result.Success<ReplaceCapacityTechnologiesResponse>) result).value();
+                assertThat(response.getAdded()).isEmpty();
+                assertThat(response.getRemoved()).isEmpty();
+            })
+            .verifyComplete();
+
+        assertThat(written).isEmpty();
+        verify(capacityCache, never()).invalidate(anyLong());
+        verify(readCache, never()).invalidate(any());
+    }
+
+    @Test
+    void shouldRemoveEveryLink_whenDesiredSetIsEmpty() {
+        // Given
+        givenLinks(List.of(), List.of(), new TechnologyCapacityLink(1L, "Java", true));
+
+        // When & Then
+        StepVerifier.create(useCase.execute(new ReplaceCapacityTechnologiesCommand(CAPACITY_ID, List.of(), null)))
+            .assertNext(result -> assertThat(((Result.Success<ReplaceCapacityTechnologiesResponse>) result).value().getRemoved())
+                .containsExactly(1L))
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldReturnNotFoundWithoutWriting_whenSomeTechnologiesDoNotExist() {
+        // Given
+        givenLinks(List.of(1L, 9L), List.of("Elixir"), new TechnologyCapacityLink(1L, "Java", false));
+
+        // When & Then
+        StepVerifier.create(useCase.execute(new ReplaceCapacityTechnologiesCommand(CAPACITY_ID, List.of(1L, 9L), List.of("Elixir"))))
+            .assertNext(result -> {
+                assertThat(result).isInstanceOf(Result.NotFound.class);
+                assertThat(((Result.NotFound<ReplaceCapacityTechnologiesResponse>) result).message())
+                    .isEqualTo("Technologies have not been found: 9, Elixir");
+            })
+            .verifyComplete();
+
+        assertThat(written).isEmpty();
+    }
+
+    @Test
+    void shouldReturnInvalid_whenNoTechnologiesAreGiven() {
+        // When & Then
+        StepVerifier.create(useCase.execute(new ReplaceCapacityTechnologiesCommand(CAPACITY_ID, null, null)))
+            .assertNext(result -> {
+                assertThat(result).isInstanceOf(Result.Invalid.class);
+                assertThat(((Result.Invalid<ReplaceCapacityTechnologiesResponse>) result).message())
+                    .isEqualTo("Technology IDs or names are required");
+            })
+            .verifyComplete();
+
+        verify(gateway, never()).replaceCapacityTechnologies(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldReturnInvalid_whenCapacityIdIsNull() {
+        // When & Then
+        StepVerifier.create(useCase.execute(new ReplaceCapacityTechnologiesCommand(null, List.of(1L), null)))
+            .assertNext(result -> assertThat(result).isInstanceOf(Result.Invalid.class))
+            .verifyComplete();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenLinks(List<Long> technologyIds, List<String> names, TechnologyCapacityLink... links) {
+        // Mirrors the adapters: the plan runs on the locked read and only a complete, non-empty diff is written.
+        when(gateway.replaceCapacityTechnologies(eq(CAPACITY_ID), eq(technologyIds), eq(names), any()))
+            .thenAnswer(invocation -> {
+                CapacityLinkChanges changes = ((Function<List<TechnologyCapacityLink>, CapacityLinkChanges>)
+                    invocation.getArgument(3)).apply(List.of(links));
+                if (changes.hasWrites()) {
+                    written.add(changes);
+                }
+                return Mono.just(changes);
+            });
+    }
+}
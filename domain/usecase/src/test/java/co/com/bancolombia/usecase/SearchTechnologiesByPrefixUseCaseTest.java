@@ -0,0 +1,88 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.technology.Technology;
+import co.com.bancolombia.model.technology.gateway.TechnologyGateway;
+import co.com.bancolombia.model.technology.gateway.TechnologyNameIndexGateway;
+import co.com.bancolombia.usecase.response.TechnologyResponse;
+import co.com.bancolombia.usecase.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SearchTechnologiesByPrefixUseCaseTest {
+
+    @Mock
+    private TechnologyGateway gateway;
+
+    @Mock
+    private TechnologyNameIndexGateway nameIndex;
+
+    private SearchTechnologiesByPrefixUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new SearchTechnologiesByPrefixUseCase(gateway, nameIndex);
+    }
+
+    @Test
+    void shouldReturnMatchesFromIndex_withDefaultLimit() {
+        // Given
+        when(nameIndex.findByPrefix("ja", SearchTechnologiesByPrefixUseCase.DEFAULT_LIMIT))
+            .thenReturn(Flux.just(new Technology(1L, "Java", "Language"), new Technology(2L, "JavaScript", "Language")));
+
+        // When & Then
+        StepVerifier.create(useCase.execute("ja", null))
+            .assertNext(result -> {
+                assertThat(result).isInstanceOf(Result.Success.class);
+                List<TechnologyResponse> response = ((Result.Success<List<TechnologyResponse>>) result).value();
+                assertThat(response).extracting(TechnologyResponse::getName).containsExactly("Java", "JavaScript");
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldReturnInvalid_whenPrefixIsBlank() {
+        // When & Then
+        StepVerifier.create(useCase.execute("  ", 5))
+            .expectNext(Result.invalid("Prefix cannot be empty"))
+            .verifyComplete();
+
+        verify(nameIndex, never()).findByPrefix(anyString(), anyInt());
+    }
+
+    @Test
+    void shouldReturnInvalid_whenLimitIsOutOfRange() {
+        // When & Then
+        StepVerifier.create(useCase.execute("ja", SearchTechnologiesByPrefixUseCase.MAX_LIMIT + 1))
+            .expectNext(Result.invalid("Limit must be between 1 and 50"))
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldRebuildIndexFromAllTechnologies() {
+        // Given
+        Flux<Technology> technologies = Flux.just(new Technology(1L, "Java", "Language"));
+        when(gateway.findAll()).thenReturn(technologies);
+        when(nameIndex.rebuild(technologies)).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(useCase.rebuildIndex()).verifyComplete();
+
+        verify(nameIndex).rebuild(technologies);
+    }
+}
@@ -0,0 +1,97 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.technology.TechnologySearchHit;
+import co.com.bancolombia.model.technology.gateway.TechnologySearchGateway;
+import co.com.bancolombia.usecase.response.TechnologySearchPageResponse;
+import co.com.bancolombia.usecase.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SearchTechnologiesByTextUseCaseTest {
+
+    @Mock
+    private TechnologySearchGateway gateway;
+
+    private SearchTechnologiesByTextUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new SearchTechnologiesByTextUseCase(gateway);
+    }
+
+    @Test
+    void shouldReturnPageAndDetectNextPage_whenGatewayReturnsExtraRow() {
+        // Given
+        when(gateway.search("reactive framework", 3, 2L)).thenReturn(Flux.just(
+            new TechnologySearchHit(1L, "Spring WebFlux", "Reactive framework", 0.9),
+            new TechnologySearchHit(2L, "Vert.x", "Reactive toolkit", 0.5),
+            new TechnologySearchHit(3L, "Quarkus", "Framework", 0.2)));
+
+        // When & Then
+        StepVerifier.create(useCase.execute("  reactive framework ", 1, 2))
+            .assertNext(result -> {
+                assertThat(result).isInstanceOf(Result.Success.class);
+                TechnologySearchPageResponse page = ((Result.Success<TechnologySearchPageResponse>) result).value();
+                assertThat(page.getItems()).extracting("name").containsExactly("Spring WebFlux", "Vert.x");
+                assertThat(page.getPage()).isEqualTo(1);
+                assertThat(page.isHasNext()).isTrue();
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldUseDefaultPaging_whenNotProvided() {
+        // Given
+        when(gateway.search("kafka", SearchTechnologiesByTextUseCase.DEFAULT_PAGE_SIZE + 1, 0L))
+            .thenReturn(Flux.just(new TechnologySearchHit(1L, "Kafka", "Event streaming", 0.7)));
+
+        // When & Then
+        StepVerifier.create(useCase.execute("kafka", null, null))
+            .assertNext(result -> {
+                TechnologySearchPageResponse page = ((Result.Success<TechnologySearchPageResponse>) result).value();
+                assertThat(page.getItems()).hasSize(1);
+                assertThat(page.isHasNext()).isFalse();
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldReturnInvalid_whenQueryIsBlank() {
+        // When & Then
+        StepVerifier.create(useCase.execute(" ", 0, 10))
+            .expectNext(Result.invalid("Query cannot be empty"))
+            .verifyComplete();
+
+        verify(gateway, never()).search(anyString(), anyInt(), anyLong());
+    }
+
+    @Test
+    void shouldReturnInvalid_whenPageIsTooDeep() {
+        // When & Then
+        StepVerifier.create(useCase.execute("kafka", 20, 50))
+            .expectNext(Result.invalid("Page is out of range, only the first 1000 results can be paged"))
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldReturnInvalid_whenSizeIsOutOfRange() {
+        // When & Then
+        StepVerifier.create(useCase.execute("kafka", 0, 0))
+            .expectNext(Result.invalid("Size must be between 1 and 50"))
+            .verifyComplete();
+    }
+}
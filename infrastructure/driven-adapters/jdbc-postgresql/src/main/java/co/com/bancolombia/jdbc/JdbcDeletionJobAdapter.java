@@ -0,0 +1,71 @@
+package co.com.bancolombia.jdbc;
+
+import co.com.bancolombia.model.job.DeletionJob;
+import co.com.bancolombia.model.job.DeletionJobChunk;
+import co.com.bancolombia.model.job.DeletionJobStatus;
+import co.com.bancolombia.model.job.gateway.DeletionJobGateway;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@Profile("jdbc")
+public class JdbcDeletionJobAdapter implements DeletionJobGateway {
+  private final JdbcDeletionJobRepository repository;
+  private final Scheduler scheduler;
+
+  public JdbcDeletionJobAdapter(JdbcDeletionJobRepository repository,
+                                @Qualifier("jdbcScheduler") Scheduler scheduler) {
+    this.repository = repository;
+    this.scheduler = scheduler;
+  }
+
+  @Override
+  public Mono<DeletionJob> create(Long capacityId) {
+    return Mono.fromCallable(() -> repository.create(capacityId)).subscribeOn(scheduler);
+  }
+
+  @Override
+  public Mono<DeletionJob> findById(UUID id) {
+    return Mono.fromCallable(() -> repository.findById(id)).subscribeOn(scheduler);
+  }
+
+  @Override
+  public Flux<DeletionJob> claim(int limit, Duration lease) {
+    return Mono.fromCallable(() -> repository.claim(limit, lease))
+      .subscribeOn(scheduler)
+      .flatMapIterable(jobs -> jobs);
+  }
+
+  @Override
+  public Mono<DeletionJobChunk> deleteChunk(UUID id, Long capacityId, int limit) {
+    return Mono.fromCallable(() -> repository.deleteChunk(id, capacityId, limit)).subscribeOn(scheduler);
+  }
+
+  @Override
+  public Mono<Void> renewLease(UUID id) {
+    return Mono.fromRunnable(() -> repository.renewLease(id)).subscribeOn(scheduler).then();
+  }
+
+  @Override
+  public Mono<Void> release(List<UUID> ids) {
+    return Mono.fromRunnable(() -> repository.release(ids)).subscribeOn(scheduler).then();
+  }
+
+  @Override
+  public Mono<Void> complete(UUID id) {
+    return Mono.fromRunnable(() -> repository.finish(id, DeletionJobStatus.COMPLETED, null)).subscribeOn(scheduler).then();
+  }
+
+  @Override
+  public Mono<Void> fail(UUID id, String error) {
+    return Mono.fromRunnable(() -> repository.finish(id, DeletionJobStatus.FAILED, error)).subscribeOn(scheduler).then();
+  }
+}
@@ -0,0 +1,130 @@
+package co.com.bancolombia.jdbc;
+
+import co.com.bancolombia.model.job.DeletionJob;
+import co.com.bancolombia.model.job.DeletionJobChunk;
+import co.com.bancolombia.model.job.DeletionJobStatus;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@Profile("jdbc")
+public class JdbcDeletionJobRepository {
+  private static final String CREATE_JOB =
+    "INSERT INTO tech_schema.deletion_job (capacity_id, status, total) " +
+    "SELECT ?, 'PENDING', COUNT(*) FROM tech_schema.technology_capacity WHERE capacity_id = ? " +
+    "ON CONFLICT (capacity_id) WHERE status IN ('PENDING', 'RUNNING') DO NOTHING " +
+    "RETURNING *";
+  private static final String FIND_JOB = "SELECT * FROM tech_schema.deletion_job WHERE job_id = ?";
+  private static final String CLAIM_JOBS =
+    "UPDATE tech_schema.deletion_job SET status = 'RUNNING', updated_at = now() " +
+    "WHERE job_id IN (SELECT job_id FROM tech_schema.deletion_job " +
+    "WHERE status = 'PENDING' OR (status = 'RUNNING' AND updated_at < now() - make_interval(secs => ?)) " +
+    "ORDER BY created_at LIMIT ? FOR UPDATE SKIP LOCKED) " +
+    "RETURNING *";
+  // A single statement, so the detached rows, the orphaned technologies and the job's progress commit together.
+  private static final String DELETE_CHUNK =
+    "WITH chunk AS (" +
+    "SELECT technology_id FROM tech_schema.technology_capacity WHERE capacity_id = ? " +
+    "ORDER BY technology_id LIMIT ? FOR UPDATE" +
+    "), detached AS (" +
+    "DELETE FROM tech_schema.technology_capacity tc USING chunk c " +
+    "WHERE tc.capacity_id = ? AND tc.technology_id = c.technology_id " +
+    "RETURNING tc.technology_id" +
+    "), deleted AS (" +
+    "DELETE FROM tech_schema.technology t USING detached d WHERE t.technology_id = d.technology_id " +
+    "AND NOT EXISTS (SELECT 1 FROM tech_schema.technology_capacity o " +
+    "WHERE o.technology_id = t.technology_id AND o.capacity_id <> ?) " +
+    "RETURNING t.technology_id" +
+    "), progress AS (" +
+    "UPDATE tech_schema.deletion_job " +
+    "SET technology_ids = technology_ids || ARRAY(SELECT technology_id FROM detached ORDER BY technology_id), " +
+    "updated_at = now() WHERE job_id = ?" +
+    ") " +
+    "SELECT d.technology_id, x.technology_id IS NOT NULL AS deleted FROM detached d " +
+    "LEFT JOIN deleted x ON x.technology_id = d.technology_id ORDER BY d.technology_id";
+  private static final String RENEW_LEASE =
+    "UPDATE tech_schema.deletion_job SET updated_at = now() WHERE job_id = ? AND status = 'RUNNING'";
+  private static final String RELEASE_JOBS =
+    "UPDATE tech_schema.deletion_job SET status = 'PENDING', updated_at = now() " +
+    "WHERE job_id = ANY(?) AND status = 'RUNNING'";
+  private static final String FINISH_JOB =
+    "UPDATE tech_schema.deletion_job SET status = ?, error = ?, updated_at = now() WHERE job_id = ?";
+
+  private static final int MAX_ERROR_LENGTH = 255;
+
+  private static final RowMapper<DeletionJob> DELETION_JOB_ROW_MAPPER = (rs, rowNum) -> {
+    Array technologyIds = rs.getArray("technology_ids");
+    return new DeletionJob(
+      rs.getObject("job_id", UUID.class),
+      rs.getLong("capacity_id"),
+      DeletionJobStatus.valueOf(rs.getString("status")),
+      rs.getLong("total"),
+      technologyIds == null ? List.of() : List.of((Long[]) technologyIds.getArray()),
+      rs.getString("error"),
+      rs.getTimestamp("created_at").toInstant(),
+      rs.getTimestamp("updated_at").toInstant());
+  };
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public JdbcDeletionJobRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  public DeletionJob create(Long capacityId) {
+    List<DeletionJob> jobs = jdbcTemplate.query(CREATE_JOB, DELETION_JOB_ROW_MAPPER, capacityId, capacityId);
+    return jobs.isEmpty() ? null : jobs.get(0);
+  }
+
+  public DeletionJob findById(UUID id) {
+    List<DeletionJob> jobs = jdbcTemplate.query(FIND_JOB, DELETION_JOB_ROW_MAPPER, id);
+    return jobs.isEmpty() ? null : jobs.get(0);
+  }
+
+  public List<DeletionJob> claim(int limit, Duration lease) {
+    return jdbcTemplate.query(CLAIM_JOBS, DELETION_JOB_ROW_MAPPER, (double) lease.toSeconds(), limit);
+  }
+
+  public DeletionJobChunk deleteChunk(UUID id, Long capacityId, int limit) {
+    List<Long> deleted = new ArrayList<>();
+    List<Long> detached = new ArrayList<>();
+    jdbcTemplate.query(DELETE_CHUNK, rs -> {
+      if (rs.getBoolean("deleted")) {
+        deleted.add(rs.getLong("technology_id"));
+      } else {
+        detached.add(rs.getLong("technology_id"));
+      }
+    }, capacityId, limit, capacityId, capacityId, id);
+    return new DeletionJobChunk(deleted, detached);
+  }
+
+  public void renewLease(UUID id) {
+    jdbcTemplate.update(RENEW_LEASE, id);
+  }
+
+  public void release(List<UUID> ids) {
+    jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+      Array jobIds = connection.createArrayOf("uuid", ids.toArray());
+      try {
+        return jdbcTemplate.update(RELEASE_JOBS, jobIds);
+      } finally {
+        jobIds.free();
+      }
+    });
+  }
+
+  public void finish(UUID id, DeletionJobStatus status, String error) {
+    String truncated = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    jdbcTemplate.update(FINISH_JOB, status.name(), truncated, id);
+  }
+}
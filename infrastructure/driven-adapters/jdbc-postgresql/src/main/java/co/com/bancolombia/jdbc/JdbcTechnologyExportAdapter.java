@@ -0,0 +1,30 @@
+package co.com.bancolombia.jdbc;
+
+import co.com.bancolombia.model.technology.TechnologyExport;
+import co.com.bancolombia.model.technology.gateway.TechnologyExportGateway;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+
+@Repository
+@Profile("jdbc")
+public class JdbcTechnologyExportAdapter implements TechnologyExportGateway {
+  private final JdbcTechnologyRepository repository;
+  private final Scheduler scheduler;
+
+  public JdbcTechnologyExportAdapter(JdbcTechnologyRepository repository,
+                                     @Qualifier("jdbcScheduler") Scheduler scheduler) {
+    this.repository = repository;
+    this.scheduler = scheduler;
+  }
+
+  @Override
+  public Flux<TechnologyExport> exportCatalog() {
+    // Requests are also moved to the scheduler so each fetch from the cursor blocks a virtual thread,
+    // never the event loop that signals demand.
+    return Flux.fromStream(repository::streamCatalog)
+      .subscribeOn(scheduler, true);
+  }
+}
@@ -0,0 +1,32 @@
+package co.com.bancolombia.jdbc;
+
+import co.com.bancolombia.model.technology.TechnologyImportRow;
+import co.com.bancolombia.model.technology.TechnologyImportSummary;
+import co.com.bancolombia.model.technology.gateway.TechnologyImportGateway;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+@Repository
+@Profile("jdbc")
+public class JdbcTechnologyImportAdapter implements TechnologyImportGateway {
+  static final int ROWS_PER_COPY_CHUNK = 512;
+
+  private final JdbcTechnologyRepository repository;
+  private final Scheduler scheduler;
+
+  public JdbcTechnologyImportAdapter(JdbcTechnologyRepository repository,
+                                     @Qualifier("jdbcScheduler") Scheduler scheduler) {
+    this.repository = repository;
+    this.scheduler = scheduler;
+  }
+
+  @Override
+  public Mono<TechnologyImportSummary> importCatalog(Flux<TechnologyImportRow> rows) {
+    return Mono.fromCallable(() -> repository.importCatalog(rows.buffer(ROWS_PER_COPY_CHUNK).toIterable()))
+      .subscribeOn(scheduler);
+  }
+}
@@ -0,0 +1,426 @@
+package co.com.bancolombia.jdbc;
+
+import co.com.bancolombia.model.technology.CapacityLinkChanges;
+import co.com.bancolombia.model.technology.Technology;
+import co.com.bancolombia.model.technology.TechnologyCapacity;
+import co.com.bancolombia.model.technology.TechnologyCapacityLink;
+import co.com.bancolombia.model.technology.TechnologyExport;
+import co.com.bancolombia.model.technology.TechnologyImportRow;
+import co.com.bancolombia.model.technology.TechnologyImportSummary;
+import co.com.bancolombia.model.technology.TechnologySearchHit;
+import co.com.bancolombia.model.technology.values.Id;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+@Slf4j
+@Repository
+@Profile("jdbc")
+public class JdbcTechnologyRepository {
+  private static final String INSERT_TECHNOLOGY =
+    "INSERT INTO tech_schema.technology (name, description) VALUES (?, ?) " +
+    "RETURNING technology_id, name, description";
+  private static final String EXISTS_BY_NAME =
+    "SELECT EXISTS (SELECT 1 FROM tech_schema.technology WHERE name = ?)";
+  private static final String EXISTS_BY_ID =
+    "SELECT EXISTS (SELECT 1 FROM tech_schema.technology WHERE technology_id = ?)";
+  private static final String FIND_BY_NAME =
+    "SELECT technology_id, name, description FROM tech_schema.technology WHERE name = ? LIMIT 1";
+  private static final String FIND_ALL =
+    "SELECT technology_id, name, description FROM tech_schema.technology";
+  private static final String FIND_ALL_BY_ID =
+    "SELECT technology_id, name, description FROM tech_schema.technology WHERE technology_id = ANY(?)";
+  private static final String FIND_BY_CAPACITY =
+    "SELECT t.technology_id, t.name, t.description FROM tech_schema.technology t " +
+    "JOIN tech_schema.technology_capacity tc ON t.technology_id = tc.technology_id " +
+    "WHERE tc.capacity_id = ?";
+  private static final String FIND_ALL_AS_JSON =
+    "SELECT COALESCE(json_agg(json_build_object(" +
+    "'technologyId', t.technology_id, 'name', t.name, 'description', t.description)), '[]')::text " +
+    "FROM tech_schema.technology t";
+  private static final String FIND_BY_CAPACITY_AS_JSON =
+    "SELECT COALESCE(json_agg(json_build_object(" +
+    "'technologyId', t.technology_id, 'name', t.name, 'description', t.description)), '[]')::text " +
+    "FROM tech_schema.technology t " +
+    "JOIN tech_schema.technology_capacity tc ON t.technology_id = tc.technology_id " +
+    "WHERE tc.capacity_id = ?";
+  private static final String INSERT_TECHNOLOGY_CAPACITY =
+    "INSERT INTO tech_schema.technology_capacity (technology_id, capacity_id) VALUES (?, ?) " +
+    "RETURNING technology_id, capacity_id";
+  private static final String FIND_TECHNOLOGY_CAPACITY =
+    "SELECT technology_id, capacity_id FROM tech_schema.technology_capacity " +
+    "WHERE technology_id = ? AND capacity_id = ?";
+  private static final String FIND_CAPACITY_IDS_BY_TECHNOLOGY =
+    "SELECT capacity_id FROM tech_schema.technology_capacity WHERE technology_id = ?";
+  private static final String FIND_CAPACITY_IDS_BY_TECHNOLOGIES =
+    "SELECT t.technology_id, ARRAY(SELECT tc.capacity_id FROM tech_schema.technology_capacity tc " +
+    "WHERE tc.technology_id = t.technology_id) AS capacity_ids " +
+    "FROM tech_schema.technology t WHERE t.technology_id = ANY(?)";
+  private static final String FIND_ALL_ASSOCIATIONS =
+    "SELECT technology_id, capacity_id FROM tech_schema.technology_capacity";
+  // First key of the two-key advisory locks on capacity links ('TCAP'), kept apart from other lock users.
+  private static final int CAPACITY_LOCK_SPACE = 0x54434150;
+  private static final String LOCK_CAPACITY =
+    "SELECT 1 FROM pg_advisory_xact_lock(" + CAPACITY_LOCK_SPACE + ", CAST(? % 2147483648 AS integer))";
+  private static final String FIND_CAPACITY_LINKS =
+    "SELECT t.technology_id, t.name, EXISTS (SELECT 1 FROM tech_schema.technology_capacity tc " +
+    "WHERE tc.technology_id = t.technology_id AND tc.capacity_id = ?) AS linked " +
+    "FROM tech_schema.technology t " +
+    "WHERE t.technology_id IN (" +
+    "SELECT tc.technology_id FROM tech_schema.technology_capacity tc WHERE tc.capacity_id = ? " +
+    "UNION SELECT unnest(?::bigint[]) " +
+    "UNION SELECT n.technology_id FROM tech_schema.technology n WHERE n.name = ANY(?))";
+  private static final String DELETE_CAPACITY_LINKS =
+    "DELETE FROM tech_schema.technology_capacity WHERE capacity_id = ? AND technology_id = ANY(?)";
+  private static final String INSERT_CAPACITY_LINKS =
+    "INSERT INTO tech_schema.technology_capacity (technology_id, capacity_id) " +
+    "SELECT unnest(?::bigint[]), ? " +
+    "ON CONFLICT (technology_id, capacity_id) DO NOTHING";
+  private static final String COUNT_CAPACITIES_BY_TECHNOLOGY =
+    "SELECT COUNT(*) FROM tech_schema.technology_capacity WHERE technology_id = ?";
+  private static final String DELETE_CAPACITIES_BY_TECHNOLOGY =
+    "DELETE FROM tech_schema.technology_capacity WHERE technology_id = ?";
+  private static final String DELETE_TECHNOLOGY =
+    "DELETE FROM tech_schema.technology WHERE technology_id = ?";
+  private static final String DELETE_TECHNOLOGY_CAPACITY =
+    "DELETE FROM tech_schema.technology_capacity WHERE technology_id = ? AND capacity_id = ?";
+  private static final String SEARCH =
+    "WITH candidates AS (" +
+    "(SELECT t.technology_id FROM tech_schema.technology t " +
+    "WHERE t.search_vector @@ websearch_to_tsquery('english', ?) LIMIT ?) " +
+    "UNION " +
+    "(SELECT t.technology_id FROM tech_schema.technology t WHERE t.name % ? LIMIT ?)) " +
+    "SELECT t.technology_id, t.name, t.description, " +
+    "ts_rank_cd(t.search_vector, websearch_to_tsquery('english', ?)) + similarity(t.name, ?) AS rank " +
+    "FROM candidates c JOIN tech_schema.technology t ON t.technology_id = c.technology_id " +
+    "ORDER BY rank DESC, t.technology_id " +
+    "LIMIT ? OFFSET ?";
+
+  private static final String EXPORT_CATALOG =
+    "SELECT t.technology_id, t.name, t.description, " +
+    "ARRAY(SELECT tc.capacity_id FROM tech_schema.technology_capacity tc " +
+    "WHERE tc.technology_id = t.technology_id ORDER BY tc.capacity_id) AS capacity_ids " +
+    "FROM tech_schema.technology t ORDER BY t.technology_id";
+  private static final String CREATE_IMPORT_STAGING_TABLE =
+    "CREATE TEMP TABLE technology_import_staging (" +
+    "line BIGINT NOT NULL, name VARCHAR(50) NOT NULL, description VARCHAR(90) NOT NULL, capacity_ids BIGINT[] NOT NULL" +
+    ") ON COMMIT DROP";
+  private static final String COPY_IMPORT_STAGING =
+    "COPY technology_import_staging (line, name, description, capacity_ids) FROM STDIN";
+  private static final String ANALYZE_IMPORT_STAGING = "ANALYZE technology_import_staging";
+  private static final String MERGE_IMPORTED_TECHNOLOGIES =
+    "INSERT INTO tech_schema.technology (name, description) " +
+    "SELECT DISTINCT ON (s.name) s.name, s.description FROM technology_import_staging s " +
+    "ORDER BY s.name, s.line " +
+    "ON CONFLICT (name) DO NOTHING";
+  private static final String MERGE_IMPORTED_ASSOCIATIONS =
+    "INSERT INTO tech_schema.technology_capacity (technology_id, capacity_id) " +
+    "SELECT DISTINCT t.technology_id, c.capacity_id FROM technology_import_staging s " +
+    "CROSS JOIN LATERAL unnest(s.capacity_ids) AS c(capacity_id) " +
+    "JOIN tech_schema.technology t ON t.name = s.name " +
+    "ON CONFLICT (technology_id, capacity_id) DO NOTHING";
+
+  private static final RowMapper<Technology> TECHNOLOGY_ROW_MAPPER = (rs, rowNum) ->
+    new Technology(rs.getLong("technology_id"), rs.getString("name"), rs.getString("description"));
+  private static final RowMapper<TechnologyCapacity> TECHNOLOGY_CAPACITY_ROW_MAPPER = (rs, rowNum) ->
+    new TechnologyCapacity(rs.getLong("technology_id"), rs.getLong("capacity_id"));
+  private static final RowMapper<TechnologyCapacityLink> TECHNOLOGY_CAPACITY_LINK_ROW_MAPPER = (rs, rowNum) ->
+    new TechnologyCapacityLink(rs.getLong("technology_id"), rs.getString("name"), rs.getBoolean("linked"));
+  private static final RowMapper<TechnologySearchHit> TECHNOLOGY_SEARCH_HIT_ROW_MAPPER = (rs, rowNum) ->
+    new TechnologySearchHit(rs.getLong("technology_id"), rs.getString("name"), rs.getString("description"), rs.getDouble("rank"));
+
+  private static final RowMapper<TechnologyExport> TECHNOLOGY_EXPORT_ROW_MAPPER = (rs, rowNum) -> {
+    Array capacityIds = rs.getArray("capacity_ids");
+    return new TechnologyExport(rs.getLong("technology_id"), rs.getString("name"), rs.getString("description"),
+      capacityIds == null ? List.of() : List.of((Long[]) capacityIds.getArray()));
+  };
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final int exportFetchSize;
+
+  public JdbcTechnologyRepository(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                  @Value("${technology.export.fetch-size:500}") int exportFetchSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.exportFetchSize = exportFetchSize;
+  }
+
+  public Technology save(String name, String description) {
+    return jdbcTemplate.queryForObject(INSERT_TECHNOLOGY, TECHNOLOGY_ROW_MAPPER, name, description);
+  }
+
+  public boolean existsByName(String name) {
+    return Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_BY_NAME, Boolean.class, name));
+  }
+
+  public boolean existsById(Long technologyId) {
+    return Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_BY_ID, Boolean.class, technologyId));
+  }
+
+  public Technology findByName(String name) {
+    List<Technology> technologies = jdbcTemplate.query(FIND_BY_NAME, TECHNOLOGY_ROW_MAPPER, name);
+    return technologies.isEmpty() ? null : technologies.get(0);
+  }
+
+  public List<Technology> findAll() {
+    return jdbcTemplate.query(FIND_ALL, TECHNOLOGY_ROW_MAPPER);
+  }
+
+  public List<Technology> findAllById(List<Long> technologyIds) {
+    return jdbcTemplate.query(FIND_ALL_BY_ID,
+      statement -> statement.setArray(1, statement.getConnection().createArrayOf("bigint", technologyIds.toArray())),
+      TECHNOLOGY_ROW_MAPPER);
+  }
+
+  public List<Technology> findByCapacity(Long capacityId) {
+    return jdbcTemplate.query(FIND_BY_CAPACITY, TECHNOLOGY_ROW_MAPPER, capacityId);
+  }
+
+  public String findAllAsJson() {
+    return jdbcTemplate.queryForObject(FIND_ALL_AS_JSON, String.class);
+  }
+
+  public String findByCapacityAsJson(Long capacityId) {
+    return jdbcTemplate.queryForObject(FIND_BY_CAPACITY_AS_JSON, String.class, capacityId);
+  }
+
+  public TechnologyCapacity associate(Long technologyId, Long capacityId) {
+    return jdbcTemplate.queryForObject(INSERT_TECHNOLOGY_CAPACITY, TECHNOLOGY_CAPACITY_ROW_MAPPER, technologyId, capacityId);
+  }
+
+  public TechnologyCapacity findByTechnologyIdAndCapacityId(Long technologyId, Long capacityId) {
+    List<TechnologyCapacity> relations =
+      jdbcTemplate.query(FIND_TECHNOLOGY_CAPACITY, TECHNOLOGY_CAPACITY_ROW_MAPPER, technologyId, capacityId);
+    return relations.isEmpty() ? null : relations.get(0);
+  }
+
+  public List<Long> findCapacityIdsByTechnologyId(Long technologyId) {
+    return jdbcTemplate.queryForList(FIND_CAPACITY_IDS_BY_TECHNOLOGY, Long.class, technologyId);
+  }
+
+  public Map<Long, List<Long>> findCapacityIdsByTechnologyIds(List<Long> technologyIds) {
+    Map<Long, List<Long>> capacitiesById = new HashMap<>(technologyIds.size());
+    jdbcTemplate.query(FIND_CAPACITY_IDS_BY_TECHNOLOGIES,
+      statement -> statement.setArray(1, statement.getConnection().createArrayOf("bigint", technologyIds.toArray())),
+      (RowCallbackHandler) rs -> capacitiesById.put(rs.getLong("technology_id"),
+        List.of((Long[]) rs.getArray("capacity_ids").getArray())));
+    return capacitiesById;
+  }
+
+  public List<TechnologyCapacity> findAllAssociations() {
+    return jdbcTemplate.query(FIND_ALL_ASSOCIATIONS, TECHNOLOGY_CAPACITY_ROW_MAPPER);
+  }
+
+  private List<TechnologyCapacityLink> findCapacityLinks(Long capacityId, List<Long> technologyIds, List<String> names) {
+    return jdbcTemplate.query(FIND_CAPACITY_LINKS, statement -> {
+      statement.setLong(1, capacityId);
+      statement.setLong(2, capacityId);
+      statement.setArray(3, statement.getConnection().createArrayOf("bigint", technologyIds.toArray()));
+      statement.setArray(4, statement.getConnection().createArrayOf("varchar", names.toArray()));
+    }, TECHNOLOGY_CAPACITY_LINK_ROW_MAPPER);
+  }
+
+  public CapacityLinkChanges replaceCapacityTechnologies(Long capacityId, List<Long> technologyIds, List<String> names,
+                                                         Function<List<TechnologyCapacityLink>, CapacityLinkChanges> plan) {
+    // Only a plan that writes locks the capacity, then diffs again so concurrent replacements write in turn.
+    CapacityLinkChanges planned = plan.apply(findCapacityLinks(capacityId, technologyIds, names));
+    if (!planned.hasWrites()) {
+      return planned;
+    }
+    return transactionTemplate.execute(status -> {
+      jdbcTemplate.queryForObject(LOCK_CAPACITY, Integer.class, capacityId);
+      CapacityLinkChanges changes = plan.apply(findCapacityLinks(capacityId, technologyIds, names));
+      if (changes.hasWrites()) {
+        writeCapacityLinks(capacityId, changes.getAddedTechnologyIds(), changes.getRemovedTechnologyIds());
+      }
+      return changes;
+    });
+  }
+
+  private void writeCapacityLinks(Long capacityId, List<Long> addedTechnologyIds, List<Long> removedTechnologyIds) {
+    if (!removedTechnologyIds.isEmpty()) {
+      jdbcTemplate.update(DELETE_CAPACITY_LINKS, statement -> {
+        statement.setLong(1, capacityId);
+        statement.setArray(2, statement.getConnection().createArrayOf("bigint", removedTechnologyIds.toArray()));
+      });
+    }
+    if (!addedTechnologyIds.isEmpty()) {
+      jdbcTemplate.update(INSERT_CAPACITY_LINKS, statement -> {
+        statement.setArray(1, statement.getConnection().createArrayOf("bigint", addedTechnologyIds.toArray()));
+        statement.setLong(2, capacityId);
+      });
+    }
+  }
+
+  public long countCapacitiesByTechnologyId(Long technologyId) {
+    Long count = jdbcTemplate.queryForObject(COUNT_CAPACITIES_BY_TECHNOLOGY, Long.class, technologyId);
+    return count == null ? 0L : count;
+  }
+
+  public void delete(Long technologyId) {
+    transactionTemplate.executeWithoutResult(status -> {
+      jdbcTemplate.update(DELETE_CAPACITIES_BY_TECHNOLOGY, technologyId);
+      jdbcTemplate.update(DELETE_TECHNOLOGY, technologyId);
+    });
+  }
+
+  public void deleteTechnologyCapacityRelation(Long technologyId, Long capacityId) {
+    jdbcTemplate.update(DELETE_TECHNOLOGY_CAPACITY, technologyId, capacityId);
+  }
+
+  public List<TechnologySearchHit> search(String query, int candidates, int limit, long offset) {
+    return jdbcTemplate.query(SEARCH, TECHNOLOGY_SEARCH_HIT_ROW_MAPPER,
+      query, candidates, query, candidates, query, query, limit, offset);
+  }
+
+  public TechnologyImportSummary importCatalog(Iterable<List<TechnologyImportRow>> chunks) {
+    return transactionTemplate.execute(status -> jdbcTemplate.execute((ConnectionCallback<TechnologyImportSummary>) connection -> {
+      jdbcTemplate.execute(CREATE_IMPORT_STAGING_TABLE);
+      long staged = copyIntoStaging(connection, chunks);
+      jdbcTemplate.execute(ANALYZE_IMPORT_STAGING);
+      int technologiesCreated = jdbcTemplate.update(MERGE_IMPORTED_TECHNOLOGIES);
+      int associationsCreated = jdbcTemplate.update(MERGE_IMPORTED_ASSOCIATIONS);
+      return new TechnologyImportSummary(staged, technologiesCreated, associationsCreated);
+    }));
+  }
+
+  private long copyIntoStaging(Connection connection, Iterable<List<TechnologyImportRow>> chunks) throws SQLException {
+    CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_IMPORT_STAGING);
+    try {
+      StringBuilder text = new StringBuilder();
+      for (List<TechnologyImportRow> chunk : chunks) {
+        text.setLength(0);
+        for (TechnologyImportRow row : chunk) {
+          appendCopyRow(text, row);
+        }
+        byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+      }
+      return copyIn.endCopy();
+    } finally {
+      if (copyIn.isActive()) {
+        copyIn.cancelCopy();
+      }
+    }
+  }
+
+  private static void appendCopyRow(StringBuilder text, TechnologyImportRow row) {
+    text.append(row.getLine()).append('\t');
+    appendCopyText(text, row.getName().getValue());
+    text.append('\t');
+    appendCopyText(text, row.getDescription().getValue());
+    text.append("\t{");
+    List<Id> capacityIds = row.getCapacityIds();
+    for (int i = 0; i < capacityIds.size(); i++) {
+      if (i > 0) {
+        text.append(',');
+      }
+      text.append(capacityIds.get(i).getValue());
+    }
+    text.append("}\n");
+  }
+
+  private static void appendCopyText(StringBuilder text, String value) {
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '\\' -> text.append("\\\\");
+        case '\t' -> text.append("\\t");
+        case '\n' -> text.append("\\n");
+        case '\r' -> text.append("\\r");
+        default -> text.append(c);
+      }
+    }
+  }
+
+  /**
+   * Opens a server-side cursor over the catalog. The PostgreSQL driver only honours the fetch size
+   * outside auto-commit, so the connection is held in a read-only transaction until the stream is closed.
+   */
+  public Stream<TechnologyExport> streamCatalog() {
+    DataSource dataSource = Objects.requireNonNull(jdbcTemplate.getDataSource());
+    Connection connection = DataSourceUtils.getConnection(dataSource);
+    PreparedStatement statement = null;
+    ResultSet resultSet = null;
+    try {
+      connection.setAutoCommit(false);
+      connection.setReadOnly(true);
+      statement = connection.prepareStatement(EXPORT_CATALOG, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+      statement.setFetchSize(exportFetchSize);
+      resultSet = statement.executeQuery();
+    } catch (SQLException e) {
+      closeCursor(dataSource, connection, statement, resultSet);
+      throw translate(e);
+    }
+
+    PreparedStatement openStatement = statement;
+    ResultSet openResultSet = resultSet;
+    return StreamSupport.stream(new Spliterators.AbstractSpliterator<TechnologyExport>(Long.MAX_VALUE, Spliterator.ORDERED) {
+      private int rowNum;
+
+      @Override
+      public boolean tryAdvance(Consumer<? super TechnologyExport> action) {
+        try {
+          if (!openResultSet.next()) {
+            return false;
+          }
+          action.accept(TECHNOLOGY_EXPORT_ROW_MAPPER.mapRow(openResultSet, rowNum++));
+          return true;
+        } catch (SQLException e) {
+          throw translate(e);
+        }
+      }
+    }, false).onClose(() -> closeCursor(dataSource, connection, openStatement, openResultSet));
+  }
+
+  private void closeCursor(DataSource dataSource, Connection connection, Statement statement, ResultSet resultSet) {
+    JdbcUtils.closeResultSet(resultSet);
+    JdbcUtils.closeStatement(statement);
+    try {
+      connection.rollback();
+      connection.setReadOnly(false);
+      connection.setAutoCommit(true);
+    } catch (SQLException e) {
+      log.warn("Could not reset export connection: {}", e.getMessage());
+    } finally {
+      DataSourceUtils.releaseConnection(connection, dataSource);
+    }
+  }
+
+  private RuntimeException translate(SQLException e) {
+    DataAccessException translated = jdbcTemplate.getExceptionTranslator().translate("streamCatalog", EXPORT_CATALOG, e);
+    return translated != null ? translated : new UncategorizedSQLException("streamCatalog", EXPORT_CATALOG, e);
+  }
+}
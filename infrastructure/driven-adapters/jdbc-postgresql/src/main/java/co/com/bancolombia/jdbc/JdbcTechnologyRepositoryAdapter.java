@@ -0,0 +1,134 @@
+package co.com.bancolombia.jdbc;
+
+import co.com.bancolombia.model.technology.CapacityLinkChanges;
+import co.com.bancolombia.model.technology.Technology;
+import co.com.bancolombia.model.technology.TechnologyCapacity;
+import co.com.bancolombia.model.technology.TechnologyCapacityLink;
+import co.com.bancolombia.model.technology.gateway.TechnologyGateway;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+
+@Repository
+@Profile("jdbc")
+public class JdbcTechnologyRepositoryAdapter implements TechnologyGateway {
+  private final JdbcTechnologyRepository repository;
+  private final Scheduler scheduler;
+
+  public JdbcTechnologyRepositoryAdapter(JdbcTechnologyRepository repository,
+                                         @Qualifier("jdbcScheduler") Scheduler scheduler) {
+    this.repository = repository;
+    this.scheduler = scheduler;
+  }
+
+  @Override
+  public Mono<Boolean> existsByName(String name) {
+    return blocking(() -> repository.existsByName(name));
+  }
+
+  @Override
+  public Mono<Boolean> existsById(Long technologyId) {
+    return blocking(() -> repository.existsById(technologyId));
+  }
+
+  @Override
+  public Flux<Technology> findAllById(List<Long> technologyIds) {
+    return blocking(() -> repository.findAllById(technologyIds)).flatMapIterable(technologies -> technologies);
+  }
+
+  @Override
+  public Mono<Technology> findByName(String name) {
+    return blocking(() -> repository.findByName(name));
+  }
+
+  @Override
+  public Mono<Technology> save(Technology technology) {
+    return blocking(() -> repository.save(technology.getName().getValue(), technology.getDescription().getValue()));
+  }
+
+  @Override
+  public Flux<Technology> findAll() {
+    return blocking(repository::findAll).flatMapIterable(technologies -> technologies);
+  }
+
+  @Override
+  public Flux<Technology> findByCapacity(Long capacityId) {
+    return blocking(() -> repository.findByCapacity(capacityId)).flatMapIterable(technologies -> technologies);
+  }
+
+  @Override
+  public Mono<String> findAllAsJson() {
+    return blocking(repository::findAllAsJson);
+  }
+
+  @Override
+  public Mono<String> findByCapacityAsJson(Long capacityId) {
+    return blocking(() -> repository.findByCapacityAsJson(capacityId));
+  }
+
+  @Override
+  public Mono<TechnologyCapacity> associateTechnologyWithCapacity(TechnologyCapacity technologyCapacity) {
+    return blocking(() -> repository.associate(
+      technologyCapacity.getTechnologyId().getValue(), technologyCapacity.getCapacityId().getValue()));
+  }
+
+  @Override
+  public Mono<TechnologyCapacity> findByTechnologyIdAndCapacityId(Long technologyId, Long capacityId) {
+    return blocking(() -> repository.findByTechnologyIdAndCapacityId(technologyId, capacityId));
+  }
+
+  @Override
+  public Flux<Long> findCapacityIdsByTechnologyId(Long technologyId) {
+    return blocking(() -> repository.findCapacityIdsByTechnologyId(technologyId)).flatMapIterable(capacityIds -> capacityIds);
+  }
+
+  @Override
+  public Mono<Map<Long, List<Long>>> findCapacityIdsByTechnologyIds(List<Long> technologyIds) {
+    return blocking(() -> repository.findCapacityIdsByTechnologyIds(technologyIds));
+  }
+
+  @Override
+  public Flux<TechnologyCapacity> findAllAssociations() {
+    return blocking(repository::findAllAssociations).flatMapIterable(relations -> relations);
+  }
+
+  @Override
+  public Mono<CapacityLinkChanges> replaceCapacityTechnologies(Long capacityId, List<Long> technologyIds,
+                                                               List<String> names,
+                                                               Function<List<TechnologyCapacityLink>, CapacityLinkChanges> plan) {
+    return blocking(() -> repository.replaceCapacityTechnologies(capacityId, technologyIds, names, plan));
+  }
+
+  @Override
+  public Mono<Boolean> delete(Long technologyId) {
+    return blocking(() -> {
+      repository.delete(technologyId);
+      return Boolean.TRUE;
+    });
+  }
+
+  @Override
+  public Mono<Long> countCapacitiesByTechnologyId(Long technologyId) {
+    return blocking(() -> repository.countCapacitiesByTechnologyId(technologyId));
+  }
+
+  @Override
+  public Mono<Boolean> deleteTechnologyCapacityRelation(Long technologyId, Long capacityId) {
+    return blocking(() -> {
+      repository.deleteTechnologyCapacityRelation(technologyId, capacityId);
+      return Boolean.TRUE;
+    });
+  }
+
+  private <T> Mono<T> blocking(Callable<T> query) {
+    return Mono.fromCallable(query).subscribeOn(scheduler);
+  }
+}
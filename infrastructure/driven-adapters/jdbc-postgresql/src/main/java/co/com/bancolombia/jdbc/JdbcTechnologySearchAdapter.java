@@ -0,0 +1,34 @@
+package co.com.bancolombia.jdbc;
+
+import co.com.bancolombia.model.technology.TechnologySearchHit;
+import co.com.bancolombia.model.technology.gateway.TechnologySearchGateway;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+@Repository
+@Profile("jdbc")
+public class JdbcTechnologySearchAdapter implements TechnologySearchGateway {
+  private final JdbcTechnologyRepository repository;
+  private final Scheduler scheduler;
+  private final int maxCandidates;
+
+  public JdbcTechnologySearchAdapter(JdbcTechnologyRepository repository,
+                                     @Qualifier("jdbcScheduler") Scheduler scheduler,
+                                     @Value("${technology.search.max-candidates:1000}") int maxCandidates) {
+    this.repository = repository;
+    this.scheduler = scheduler;
+    this.maxCandidates = maxCandidates;
+  }
+
+  @Override
+  public Flux<TechnologySearchHit> search(String query, int limit, long offset) {
+    return Mono.fromCallable(() -> repository.search(query, maxCandidates, limit, offset))
+      .subscribeOn(scheduler)
+      .flatMapIterable(hits -> hits);
+  }
+}
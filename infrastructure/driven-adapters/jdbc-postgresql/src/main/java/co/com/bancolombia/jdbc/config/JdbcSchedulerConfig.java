@@ -0,0 +1,25 @@
+package co.com.bancolombia.jdbc.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+@Profile("jdbc")
+public class JdbcSchedulerConfig {
+
+  @Bean(destroyMethod = "close")
+  ExecutorService jdbcVirtualThreadExecutor() {
+    return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("jdbc-vt-", 0).factory());
+  }
+
+  @Bean(destroyMethod = "dispose")
+  Scheduler jdbcScheduler(ExecutorService jdbcVirtualThreadExecutor) {
+    return Schedulers.fromExecutorService(jdbcVirtualThreadExecutor, "jdbc-vt");
+  }
+}
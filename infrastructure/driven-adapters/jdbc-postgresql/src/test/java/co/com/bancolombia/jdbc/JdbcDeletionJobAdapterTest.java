@@ -0,0 +1,79 @@
+package co.com.bancolombia.jdbc;
+
+import co.com.bancolombia.model.job.DeletionJob;
+import co.com.bancolombia.model.job.DeletionJobStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JdbcDeletionJobAdapterTest {
+
+  private static final UUID JOB_ID = UUID.fromString("8f0b7c3e-3f4a-4d6b-9a57-1f6f5b2c9d10");
+
+  @Mock
+  private JdbcDeletionJobRepository repository;
+
+  private Scheduler scheduler;
+  private JdbcDeletionJobAdapter adapter;
+
+  @BeforeEach
+  void setUp() {
+    scheduler = Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor(), "jdbc-vt-test");
+    adapter = new JdbcDeletionJobAdapter(repository, scheduler);
+  }
+
+  @AfterEach
+  void tearDown() {
+    scheduler.dispose();
+  }
+
+  @Test
+  void shouldClaimJobsOnVirtualThread() {
+    // Given
+    AtomicBoolean virtual = new AtomicBoolean();
+    Instant now = Instant.parse("2026-01-01T00:00:00Z");
+    when(repository.claim(2, Duration.ofMinutes(2))).thenAnswer(invocation -> {
+      virtual.set(Thread.currentThread().isVirtual());
+      return List.of(new DeletionJob(JOB_ID, 5L, DeletionJobStatus.RUNNING, 3, List.of(), null, now, now));
+    });
+
+    // When & Then
+    StepVerifier.create(adapter.claim(2, Duration.ofMinutes(2)))
+      .assertNext(job -> assertEquals(JOB_ID, job.getId()))
+      .verifyComplete();
+    assertTrue(virtual.get());
+  }
+
+  @Test
+  void shouldCompleteEmptyWhenCapacityAlreadyHasAnActiveJob() {
+    // Given
+    when(repository.create(5L)).thenReturn(null);
+
+    // When & Then
+    StepVerifier.create(adapter.create(5L)).verifyComplete();
+  }
+
+  @Test
+  void shouldMarkJobAsFailedWithMessage() {
+    // When & Then
+    StepVerifier.create(adapter.fail(JOB_ID, "Connection refused")).verifyComplete();
+    verify(repository).finish(JOB_ID, DeletionJobStatus.FAILED, "Connection refused");
+  }
+}
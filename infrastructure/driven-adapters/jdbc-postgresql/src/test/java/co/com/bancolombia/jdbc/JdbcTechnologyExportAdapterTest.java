@@ -0,0 +1,81 @@
+package co.com.bancolombia.jdbc;
+
+import co.com.bancolombia.model.technology.TechnologyExport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JdbcTechnologyExportAdapterTest {
+
+  @Mock
+  private JdbcTechnologyRepository repository;
+
+  private Scheduler scheduler;
+  private JdbcTechnologyExportAdapter adapter;
+
+  @BeforeEach
+  void setUp() {
+    scheduler = Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor(), "jdbc-vt-test");
+    adapter = new JdbcTechnologyExportAdapter(repository, scheduler);
+  }
+
+  @AfterEach
+  void tearDown() {
+    scheduler.dispose();
+  }
+
+  @Test
+  void shouldReadCursorOnlyAsDemandedAndCloseItOnCancel() throws InterruptedException {
+    // Given
+    AtomicInteger fetched = new AtomicInteger();
+    CountDownLatch closed = new CountDownLatch(1);
+    AtomicBoolean virtual = new AtomicBoolean(true);
+    when(repository.streamCatalog()).thenAnswer(invocation -> IntStream.rangeClosed(1, 10_000)
+      .mapToObj(id -> {
+        fetched.incrementAndGet();
+        virtual.compareAndSet(true, Thread.currentThread().isVirtual());
+        return new TechnologyExport((long) id, "Technology " + id, "Description", List.of());
+      })
+      .onClose(closed::countDown));
+
+    // When
+    StepVerifier.create(adapter.exportCatalog(), 3)
+      .expectNextCount(3)
+      .thenCancel()
+      .verify();
+
+    // Then
+    assertTrue(closed.await(1, TimeUnit.SECONDS));
+    assertTrue(fetched.get() <= 4, "the cursor is read at most one row ahead of demand");
+    assertTrue(virtual.get());
+  }
+
+  @Test
+  void shouldPropagateCursorErrors() {
+    // Given
+    when(repository.streamCatalog()).thenThrow(new IllegalStateException("Connection refused"));
+
+    // When & Then
+    StepVerifier.create(adapter.exportCatalog())
+      .expectErrorMatches(error -> error instanceof IllegalStateException && "Connection refused".equals(error.getMessage()))
+      .verify();
+  }
+}
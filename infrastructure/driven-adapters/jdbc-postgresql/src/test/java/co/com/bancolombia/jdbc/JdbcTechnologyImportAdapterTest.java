@@ -0,0 +1,67 @@
+package co.com.bancolombia.jdbc;
+
+import co.com.bancolombia.model.technology.TechnologyImportRow;
+import co.com.bancolombia.model.technology.TechnologyImportSummary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JdbcTechnologyImportAdapterTest {
+
+  @Mock
+  private JdbcTechnologyRepository repository;
+
+  private Scheduler scheduler;
+  private JdbcTechnologyImportAdapter adapter;
+
+  @BeforeEach
+  void setUp() {
+    scheduler = Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor(), "jdbc-vt-test");
+    adapter = new JdbcTechnologyImportAdapter(repository, scheduler);
+  }
+
+  @AfterEach
+  void tearDown() {
+    scheduler.dispose();
+  }
+
+  @Test
+  void shouldCopyRowsInChunksOnVirtualThread() {
+    // Given
+    int total = JdbcTechnologyImportAdapter.ROWS_PER_COPY_CHUNK + 3;
+    List<Integer> chunkSizes = new ArrayList<>();
+    AtomicBoolean virtual = new AtomicBoolean();
+    when(repository.importCatalog(any())).thenAnswer(invocation -> {
+      virtual.set(Thread.currentThread().isVirtual());
+      Iterable<List<TechnologyImportRow>> chunks = invocation.getArgument(0);
+      chunks.forEach(chunk -> chunkSizes.add(chunk.size()));
+      return new TechnologyImportSummary(total, total, 0);
+    });
+    Flux<TechnologyImportRow> rows = Flux.range(1, total)
+      .map(line -> new TechnologyImportRow(line, "Technology " + line, "Description", List.of()));
+
+    // When & Then
+    StepVerifier.create(adapter.importCatalog(rows))
+      .assertNext(summary -> assertEquals(total, summary.getStagedRows()))
+      .verifyComplete();
+    assertEquals(List.of(JdbcTechnologyImportAdapter.ROWS_PER_COPY_CHUNK, 3), chunkSizes);
+    assertTrue(virtual.get());
+  }
+}
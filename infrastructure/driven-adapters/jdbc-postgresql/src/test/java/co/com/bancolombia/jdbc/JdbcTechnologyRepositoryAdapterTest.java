@@ -0,0 +1,162 @@
+package co.com.bancolombia.jdbc;
+
+import co.com.bancolombia.model.technology.CapacityLinkChanges;
+import co.com.bancolombia.model.technology.Technology;
+import co.com.bancolombia.model.technology.TechnologyCapacity;
+import co.com.bancolombia.model.technology.TechnologyCapacityLink;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JdbcTechnologyRepositoryAdapterTest {
+
+  @Mock
+  private JdbcTechnologyRepository repository;
+
+  private Scheduler scheduler;
+  private JdbcTechnologyRepositoryAdapter adapter;
+
+  private final Long TECHNOLOGY_ID = 1L;
+  private final Long CAPACITY_ID = 10L;
+  private final String TECHNOLOGY_NAME = "Java";
+  private final String TECHNOLOGY_DESCRIPTION = "Programming language";
+
+  @BeforeEach
+  void setUp() {
+    scheduler = Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor(), "jdbc-vt-test");
+    adapter = new JdbcTechnologyRepositoryAdapter(repository, scheduler);
+  }
+
+  @AfterEach
+  void tearDown() {
+    scheduler.dispose();
+  }
+
+  @Test
+  void shouldRunQueriesOnVirtualThreads() {
+    // Given
+    AtomicBoolean virtual = new AtomicBoolean();
+    when(repository.existsByName(TECHNOLOGY_NAME)).thenAnswer(invocation -> {
+      virtual.set(Thread.currentThread().isVirtual());
+      return true;
+    });
+
+    // When & Then
+    StepVerifier.create(adapter.existsByName(TECHNOLOGY_NAME))
+      .expectNext(true)
+      .verifyComplete();
+    assertTrue(virtual.get());
+  }
+
+  @Test
+  void shouldSaveTechnology() {
+    // Given
+    when(repository.save(TECHNOLOGY_NAME, TECHNOLOGY_DESCRIPTION))
+      .thenReturn(new Technology(TECHNOLOGY_ID, TECHNOLOGY_NAME, TECHNOLOGY_DESCRIPTION));
+
+    // When & Then
+    StepVerifier.create(adapter.save(new Technology(TECHNOLOGY_NAME, TECHNOLOGY_DESCRIPTION)))
+      .assertNext(saved -> {
+        assertEquals(TECHNOLOGY_ID, saved.getId().getValue());
+        assertEquals(TECHNOLOGY_NAME, saved.getName().getValue());
+      })
+      .verifyComplete();
+  }
+
+  @Test
+  void shouldCompleteEmptyWhenTechnologyNameNotFound() {
+    // Given
+    when(repository.findByName(TECHNOLOGY_NAME)).thenReturn(null);
+
+    // When & Then
+    StepVerifier.create(adapter.findByName(TECHNOLOGY_NAME))
+      .verifyComplete();
+  }
+
+  @Test
+  void shouldEmitEachTechnologyOfCapacity() {
+    // Given
+    when(repository.findByCapacity(CAPACITY_ID)).thenReturn(List.of(
+      new Technology(1L, "Java", "Language"),
+      new Technology(2L, "Kotlin", "Language")));
+
+    // When & Then
+    StepVerifier.create(adapter.findByCapacity(CAPACITY_ID))
+      .assertNext(technology -> assertEquals("Java", technology.getName().getValue()))
+      .assertNext(technology -> assertEquals("Kotlin", technology.getName().getValue()))
+      .verifyComplete();
+  }
+
+  @Test
+  void shouldAssociateTechnologyWithCapacity() {
+    // Given
+    when(repository.associate(TECHNOLOGY_ID, CAPACITY_ID)).thenReturn(new TechnologyCapacity(TECHNOLOGY_ID, CAPACITY_ID));
+
+    // When & Then
+    StepVerifier.create(adapter.associateTechnologyWithCapacity(new TechnologyCapacity(TECHNOLOGY_ID, CAPACITY_ID)))
+      .assertNext(relation -> assertEquals(CAPACITY_ID, relation.getCapacityId().getValue()))
+      .verifyComplete();
+  }
+
+  @Test
+  void shouldMapCapacitiesOfEveryExistingTechnology() {
+    // Given
+    when(repository.findCapacityIdsByTechnologyIds(List.of(1L, 2L))).thenReturn(Map.of(1L, List.of(CAPACITY_ID)));
+
+    // When & Then
+    StepVerifier.create(adapter.findCapacityIdsByTechnologyIds(List.of(1L, 2L)))
+      .assertNext(capacitiesById -> assertEquals(Map.of(1L, List.of(CAPACITY_ID)), capacitiesById))
+      .verifyComplete();
+  }
+
+  @Test
+  void shouldReplaceCapacityTechnologiesInRepository() {
+    // Given
+    Function<List<TechnologyCapacityLink>, CapacityLinkChanges> plan =
+      links -> new CapacityLinkChanges(List.of(1L), List.of(2L), List.of());
+    CapacityLinkChanges changes = new CapacityLinkChanges(List.of(1L), List.of(2L), List.of());
+    when(repository.replaceCapacityTechnologies(CAPACITY_ID, List.of(1L), List.of("Java"), plan)).thenReturn(changes);
+
+    // When & Then
+    StepVerifier.create(adapter.replaceCapacityTechnologies(CAPACITY_ID, List.of(1L), List.of("Java"), plan))
+      .expectNext(changes)
+      .verifyComplete();
+  }
+
+  @Test
+  void shouldDeleteTechnology() {
+    // When & Then
+    StepVerifier.create(adapter.delete(TECHNOLOGY_ID))
+      .expectNext(Boolean.TRUE)
+      .verifyComplete();
+
+    verify(repository).delete(TECHNOLOGY_ID);
+  }
+
+  @Test
+  void shouldPropagateRepositoryErrors() {
+    // Given
+    when(repository.countCapacitiesByTechnologyId(TECHNOLOGY_ID)).thenThrow(new IllegalStateException("Connection refused"));
+
+    // When & Then
+    StepVerifier.create(adapter.countCapacitiesByTechnologyId(TECHNOLOGY_ID))
+      .expectErrorMatches(error -> error instanceof IllegalStateException && "Connection refused".equals(error.getMessage()))
+      .verify();
+  }
+}
@@ -0,0 +1,59 @@
+package co.com.bancolombia.jdbc;
+
+import co.com.bancolombia.model.technology.TechnologySearchHit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JdbcTechnologySearchAdapterTest {
+
+  @Mock
+  private JdbcTechnologyRepository repository;
+
+  private Scheduler scheduler;
+  private JdbcTechnologySearchAdapter adapter;
+
+  @BeforeEach
+  void setUp() {
+    scheduler = Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor(), "jdbc-vt-test");
+    adapter = new JdbcTechnologySearchAdapter(repository, scheduler, 1000);
+  }
+
+  @AfterEach
+  void tearDown() {
+    scheduler.dispose();
+  }
+
+  @Test
+  void shouldSearchOnVirtualThreadKeepingRankOrder() {
+    // Given
+    AtomicBoolean virtual = new AtomicBoolean();
+    when(repository.search("reactive", 1000, 11, 0L)).thenAnswer(invocation -> {
+      virtual.set(Thread.currentThread().isVirtual());
+      return List.of(
+        new TechnologySearchHit(1L, "Spring WebFlux", "Reactive web framework", 0.8),
+        new TechnologySearchHit(2L, "Reactor", "Reactive library", 0.4));
+    });
+
+    // When & Then
+    StepVerifier.create(adapter.search("reactive", 11, 0L))
+      .assertNext(hit -> assertEquals(1L, hit.getTechnologyId()))
+      .assertNext(hit -> assertEquals(2L, hit.getTechnologyId()))
+      .verifyComplete();
+    assertTrue(virtual.get());
+  }
+}
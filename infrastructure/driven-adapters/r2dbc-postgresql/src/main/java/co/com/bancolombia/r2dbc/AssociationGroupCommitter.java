@@ -0,0 +1,187 @@
+package co.com.bancolombia.r2dbc;
+
+import co.com.bancolombia.model.technology.TechnologyCapacity;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Writes buffered associations with one INSERT ... ON CONFLICT DO NOTHING per batch; each caller gets its own row,
+ * or empty when the link already existed, and fails on its own if a row-by-row retry rejects it.
+ */
+@Slf4j
+@Component
+@Profile("!jdbc")
+public class AssociationGroupCommitter implements DisposableBean {
+  static final String INSERT_ASSOCIATIONS =
+    "INSERT INTO tech_schema.technology_capacity (technology_id, capacity_id) " +
+    "SELECT * FROM unnest(:technologyIds, :capacityIds) " +
+    "ON CONFLICT (technology_id, capacity_id) DO NOTHING " +
+    "RETURNING technology_id, capacity_id";
+
+  private static final String BATCH_SIZE_NAME = "technology.associate.group-commit.batch.size";
+  private static final String WAIT_TIMER_NAME = "technology.associate.group-commit.wait";
+  private static final String FLUSH_TIMER_NAME = "technology.associate.group-commit.flush";
+
+  private final boolean enabled;
+  private final Function<List<Association>, Flux<TechnologyCapacity>> writer;
+  private final DistributionSummary batchSizes;
+  private final Timer waitTimer;
+  private final Timer flushTimer;
+  private final Duration requestTimeout;
+  private final Disposable subscription;
+  private volatile FluxSink<PendingAssociation> queue;
+  private volatile boolean terminated;
+
+  @Autowired
+  public AssociationGroupCommitter(DatabaseClient databaseClient, MeterRegistry meterRegistry,
+                                   @Value("${technology.associate.group-commit.enabled:false}") boolean enabled,
+                                   @Value("${technology.associate.group-commit.max-batch-size:64}") int maxBatchSize,
+                                   @Value("${technology.associate.group-commit.max-delay:5ms}") Duration maxDelay,
+                                   @Value("${technology.associate.group-commit.max-in-flight:4}") int maxInFlight,
+                                   @Value("${technology.associate.group-commit.request-timeout:5s}") Duration requestTimeout) {
+    this(associations -> insert(databaseClient, associations), meterRegistry, enabled, maxBatchSize, maxDelay, maxInFlight,
+      requestTimeout);
+  }
+
+  AssociationGroupCommitter(Function<List<Association>, Flux<TechnologyCapacity>> writer, MeterRegistry meterRegistry,
+                            boolean enabled, int maxBatchSize, Duration maxDelay, int maxInFlight,
+                            Duration requestTimeout) {
+    this.enabled = enabled;
+    this.writer = writer;
+    this.requestTimeout = requestTimeout;
+    this.batchSizes = DistributionSummary.builder(BATCH_SIZE_NAME)
+      .publishPercentileHistogram()
+      .register(meterRegistry);
+    this.waitTimer = Timer.builder(WAIT_TIMER_NAME)
+      .publishPercentileHistogram()
+      .register(meterRegistry);
+    this.flushTimer = Timer.builder(FLUSH_TIMER_NAME)
+      .publishPercentileHistogram()
+      .register(meterRegistry);
+    this.subscription = enabled
+      ? Flux.<PendingAssociation>create(sink -> {
+          queue = sink;
+          sink.onDispose(() -> terminated = true);
+        })
+        .bufferTimeout(maxBatchSize, maxDelay, true)
+        .flatMap(this::flush, maxInFlight)
+        .doOnDiscard(PendingAssociation.class, pending -> pending.outcome().tryEmitError(stopped()))
+        .subscribe(null, error -> log.error("Association group commit stopped", error))
+      : null;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public Mono<TechnologyCapacity> associate(Long technologyId, Long capacityId) {
+    return Mono.defer(() -> {
+      if (terminated) {
+        return Mono.error(stopped());
+      }
+      Sinks.One<TechnologyCapacity> outcome = Sinks.one();
+      queue.next(new PendingAssociation(new Association(technologyId, capacityId), System.nanoTime(), outcome));
+      return outcome.asMono().timeout(requestTimeout);
+    });
+  }
+
+  @Override
+  public void destroy() {
+    if (subscription != null) {
+      queue.complete();
+      subscription.dispose();
+    }
+  }
+
+  private Mono<Void> flush(List<PendingAssociation> batch) {
+    long flushStart = System.nanoTime();
+    batchSizes.record(batch.size());
+    batch.forEach(pending -> waitTimer.record(flushStart - pending.enqueuedAt(), TimeUnit.NANOSECONDS));
+
+    Map<Association, List<PendingAssociation>> waiters = new LinkedHashMap<>();
+    batch.forEach(pending -> waiters.computeIfAbsent(pending.association(), key -> new ArrayList<>()).add(pending));
+
+    return write(waiters)
+      .onErrorResume(error -> {
+        if (waiters.size() == 1) {
+          fail(waiters.values(), error);
+          return Mono.empty();
+        }
+        log.warn("Group commit of {} associations failed, retrying them one by one", waiters.size(), error);
+        return Flux.fromIterable(waiters.entrySet())
+          .concatMap(entry -> write(Map.of(entry.getKey(), entry.getValue()))
+            .onErrorResume(rowError -> {
+              fail(List.of(entry.getValue()), rowError);
+              return Mono.empty();
+            }))
+          .then();
+      })
+      .doFinally(signal -> flushTimer.record(System.nanoTime() - flushStart, TimeUnit.NANOSECONDS));
+  }
+
+  private Mono<Void> write(Map<Association, List<PendingAssociation>> waiters) {
+    return Flux.defer(() -> writer.apply(List.copyOf(waiters.keySet())))
+      .collectList()
+      .doOnNext(inserted -> {
+        for (TechnologyCapacity row : inserted) {
+          List<PendingAssociation> pending = waiters.get(
+            new Association(row.getTechnologyId().getValue(), row.getCapacityId().getValue()));
+          if (pending != null && !pending.isEmpty()) {
+            // The first caller for a pair gets the inserted row, duplicates in the same batch see an existing link.
+            pending.remove(0).outcome().tryEmitValue(row);
+          }
+        }
+        waiters.values().forEach(remaining -> remaining.forEach(pending -> pending.outcome().tryEmitEmpty()));
+      })
+      .then();
+  }
+
+  private static IllegalStateException stopped() {
+    return new IllegalStateException("Association group commit is not running");
+  }
+
+  private static void fail(Iterable<List<PendingAssociation>> waiters, Throwable error) {
+    waiters.forEach(pending -> pending.forEach(association -> association.outcome().tryEmitError(error)));
+  }
+
+  private static Flux<TechnologyCapacity> insert(DatabaseClient databaseClient, List<Association> associations) {
+    Long[] technologyIds = new Long[associations.size()];
+    Long[] capacityIds = new Long[associations.size()];
+    for (int i = 0; i < associations.size(); i++) {
+      technologyIds[i] = associations.get(i).technologyId();
+      capacityIds[i] = associations.get(i).capacityId();
+    }
+    return databaseClient.sql(INSERT_ASSOCIATIONS)
+      .bind("technologyIds", technologyIds)
+      .bind("capacityIds", capacityIds)
+      .map((row, metadata) -> new TechnologyCapacity(row.get("technology_id", Long.class), row.get("capacity_id", Long.class)))
+      .all();
+  }
+
+  record Association(Long technologyId, Long capacityId) {
+  }
+
+  private record PendingAssociation(Association association, long enqueuedAt, Sinks.One<TechnologyCapacity> outcome) {
+  }
+}
@@ -0,0 +1,173 @@
+package co.com.bancolombia.r2dbc;
+
+import co.com.bancolombia.model.job.DeletionJob;
+import co.com.bancolombia.model.job.DeletionJobChunk;
+import co.com.bancolombia.model.job.DeletionJobStatus;
+import co.com.bancolombia.model.job.gateway.DeletionJobGateway;
+import io.r2dbc.spi.Row;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@Profile("!jdbc")
+public class DeletionJobAdapter implements DeletionJobGateway {
+  static final String CREATE_JOB =
+    "INSERT INTO tech_schema.deletion_job (capacity_id, status, total) " +
+    "SELECT :capacityId, 'PENDING', COUNT(*) FROM tech_schema.technology_capacity WHERE capacity_id = :capacityId " +
+    "ON CONFLICT (capacity_id) WHERE status IN ('PENDING', 'RUNNING') DO NOTHING " +
+    "RETURNING *";
+  static final String FIND_JOB = "SELECT * FROM tech_schema.deletion_job WHERE job_id = :jobId";
+  static final String CLAIM_JOBS =
+    "UPDATE tech_schema.deletion_job SET status = 'RUNNING', updated_at = now() " +
+    "WHERE job_id IN (SELECT job_id FROM tech_schema.deletion_job " +
+    "WHERE status = 'PENDING' OR (status = 'RUNNING' AND updated_at < now() - make_interval(secs => :leaseSeconds)) " +
+    "ORDER BY created_at LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+    "RETURNING *";
+  // A single statement, so the detached rows, the orphaned technologies and the job's progress commit together.
+  static final String DELETE_CHUNK =
+    "WITH chunk AS (" +
+    "SELECT technology_id FROM tech_schema.technology_capacity WHERE capacity_id = :capacityId " +
+    "ORDER BY technology_id LIMIT :limit FOR UPDATE" +
+    "), detached AS (" +
+    "DELETE FROM tech_schema.technology_capacity tc USING chunk c " +
+    "WHERE tc.capacity_id = :capacityId AND tc.technology_id = c.technology_id " +
+    "RETURNING tc.technology_id" +
+    "), deleted AS (" +
+    "DELETE FROM tech_schema.technology t USING detached d WHERE t.technology_id = d.technology_id " +
+    "AND NOT EXISTS (SELECT 1 FROM tech_schema.technology_capacity o " +
+    "WHERE o.technology_id = t.technology_id AND o.capacity_id <> :capacityId) " +
+    "RETURNING t.technology_id" +
+    "), progress AS (" +
+    "UPDATE tech_schema.deletion_job " +
+    "SET technology_ids = technology_ids || ARRAY(SELECT technology_id FROM detached ORDER BY technology_id), " +
+    "updated_at = now() WHERE job_id = :jobId" +
+    ") " +
+    "SELECT d.technology_id, x.technology_id IS NOT NULL AS deleted FROM detached d " +
+    "LEFT JOIN deleted x ON x.technology_id = d.technology_id ORDER BY d.technology_id";
+  static final String RENEW_LEASE =
+    "UPDATE tech_schema.deletion_job SET updated_at = now() WHERE job_id = :jobId AND status = 'RUNNING'";
+  static final String RELEASE_JOBS =
+    "UPDATE tech_schema.deletion_job SET status = 'PENDING', updated_at = now() " +
+    "WHERE job_id = ANY(:jobIds) AND status = 'RUNNING'";
+  static final String FINISH_JOB =
+    "UPDATE tech_schema.deletion_job SET status = :status, error = :error, updated_at = now() WHERE job_id = :jobId";
+
+  private static final int MAX_ERROR_LENGTH = 255;
+
+  private final DatabaseClient databaseClient;
+
+  public DeletionJobAdapter(DatabaseClient databaseClient) {
+    this.databaseClient = databaseClient;
+  }
+
+  @Override
+  public Mono<DeletionJob> create(Long capacityId) {
+    return databaseClient.sql(CREATE_JOB)
+      .bind("capacityId", capacityId)
+      .map((row, metadata) -> toJob(row))
+      .one();
+  }
+
+  @Override
+  public Mono<DeletionJob> findById(UUID id) {
+    return databaseClient.sql(FIND_JOB)
+      .bind("jobId", id)
+      .map((row, metadata) -> toJob(row))
+      .one();
+  }
+
+  @Override
+  public Flux<DeletionJob> claim(int limit, Duration lease) {
+    // SKIP LOCKED lets several instances poll the same table without handing out a job twice; a
+    // RUNNING job whose lease expired belonged to an instance that died and is picked up again.
+    return databaseClient.sql(CLAIM_JOBS)
+      .bind("leaseSeconds", (double) lease.toSeconds())
+      .bind("limit", limit)
+      .map((row, metadata) -> toJob(row))
+      .all();
+  }
+
+  @Override
+  public Mono<DeletionJobChunk> deleteChunk(UUID id, Long capacityId, int limit) {
+    return databaseClient.sql(DELETE_CHUNK)
+      .bind("capacityId", capacityId)
+      .bind("limit", limit)
+      .bind("jobId", id)
+      .map((row, metadata) -> new ChunkRow(row.get("technology_id", Long.class), row.get("deleted", Boolean.class)))
+      .all()
+      .collectList()
+      .map(DeletionJobAdapter::toChunk);
+  }
+
+  @Override
+  public Mono<Void> renewLease(UUID id) {
+    return databaseClient.sql(RENEW_LEASE)
+      .bind("jobId", id)
+      .then();
+  }
+
+  @Override
+  public Mono<Void> release(List<UUID> ids) {
+    return databaseClient.sql(RELEASE_JOBS)
+      .bind("jobIds", ids.toArray(UUID[]::new))
+      .then();
+  }
+
+  @Override
+  public Mono<Void> complete(UUID id) {
+    return finish(id, DeletionJobStatus.COMPLETED, null);
+  }
+
+  @Override
+  public Mono<Void> fail(UUID id, String error) {
+    return finish(id, DeletionJobStatus.FAILED, error);
+  }
+
+  private Mono<Void> finish(UUID id, DeletionJobStatus status, String error) {
+    DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(FINISH_JOB)
+      .bind("status", status.name())
+      .bind("jobId", id);
+    spec = error == null
+      ? spec.bindNull("error", String.class)
+      : spec.bind("error", error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+    return spec.then();
+  }
+
+  static DeletionJob toJob(Row row) {
+    Long[] technologyIds = row.get("technology_ids", Long[].class);
+    return new DeletionJob(
+      row.get("job_id", UUID.class),
+      row.get("capacity_id", Long.class),
+      DeletionJobStatus.valueOf(row.get("status", String.class)),
+      row.get("total", Long.class),
+      technologyIds == null ? List.of() : List.of(technologyIds),
+      row.get("error", String.class),
+      row.get("created_at", OffsetDateTime.class).toInstant(),
+      row.get("updated_at", OffsetDateTime.class).toInstant());
+  }
+
+  static DeletionJobChunk toChunk(List<ChunkRow> rows) {
+    List<Long> deleted = new ArrayList<>();
+    List<Long> detached = new ArrayList<>();
+    for (ChunkRow row : rows) {
+      if (Boolean.TRUE.equals(row.deleted())) {
+        deleted.add(row.technologyId());
+      } else {
+        detached.add(row.technologyId());
+      }
+    }
+    return new DeletionJobChunk(deleted, detached);
+  }
+
+  record ChunkRow(Long technologyId, Boolean deleted) {
+  }
+}
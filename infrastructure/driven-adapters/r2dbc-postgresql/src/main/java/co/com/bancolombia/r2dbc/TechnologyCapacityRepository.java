@@ -1,15 +1,34 @@
 package co.com.bancolombia.r2dbc;
 
 import co.com.bancolombia.r2dbc.entity.TechnologyCapacityEntity;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface TechnologyCapacityRepository extends ReactiveCrudRepository<TechnologyCapacityEntity, Long> {
+  // First key of the two-key advisory locks on capacity links ('TCAP'), kept apart from other lock users.
+  int CAPACITY_LOCK_SPACE = 0x54434150;
+
   Mono<TechnologyCapacityEntity> findByTechnologyIdAndCapacityId(Long technologyId, Long capacityId);
   Flux<TechnologyCapacityEntity> findAllByTechnologyId(Long technologyId);
   Mono<Boolean> existsByTechnologyId(Long technologyId);
   Mono<Long> countByTechnologyId(Long technologyId);
   Mono<Long> countByCapacityId(Long capacityId);
   Mono<Void> deleteByTechnologyIdAndCapacityId(Long technologyId, Long capacityId);
+
+  @Query("SELECT 1 FROM pg_advisory_xact_lock(" + CAPACITY_LOCK_SPACE + ", CAST(:capacityId % 2147483648 AS integer))")
+  Mono<Integer> lockCapacity(Long capacityId);
+
+  @Modifying
+  @Query("DELETE FROM tech_schema.technology_capacity " +
+         "WHERE capacity_id = :capacityId AND technology_id = ANY(:technologyIds)")
+  Mono<Integer> deleteLinks(Long capacityId, Long[] technologyIds);
+
+  @Modifying
+  @Query("INSERT INTO tech_schema.technology_capacity (technology_id, capacity_id) " +
+         "SELECT unnest(:technologyIds), :capacityId " +
+         "ON CONFLICT (technology_id, capacity_id) DO NOTHING")
+  Mono<Integer> insertLinks(Long capacityId, Long[] technologyIds);
 }
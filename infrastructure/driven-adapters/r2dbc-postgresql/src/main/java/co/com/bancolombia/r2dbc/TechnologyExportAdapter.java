@@ -0,0 +1,50 @@
+package co.com.bancolombia.r2dbc;
+
+import co.com.bancolombia.model.technology.TechnologyExport;
+import co.com.bancolombia.model.technology.gateway.TechnologyExportGateway;
+import io.r2dbc.spi.Row;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+@Repository
+@Profile("!jdbc")
+public class TechnologyExportAdapter implements TechnologyExportGateway {
+  private static final String EXPORT_CATALOG =
+    "SELECT t.technology_id, t.name, t.description, " +
+    "ARRAY(SELECT tc.capacity_id FROM tech_schema.technology_capacity tc " +
+    "WHERE tc.technology_id = t.technology_id ORDER BY tc.capacity_id) AS capacity_ids " +
+    "FROM tech_schema.technology t ORDER BY t.technology_id";
+
+  private final DatabaseClient databaseClient;
+  private final int fetchSize;
+
+  public TechnologyExportAdapter(DatabaseClient databaseClient,
+                                 @Value("${technology.export.fetch-size:500}") int fetchSize) {
+    this.databaseClient = databaseClient;
+    this.fetchSize = fetchSize;
+  }
+
+  @Override
+  public Flux<TechnologyExport> exportCatalog() {
+    // A fetch size switches the driver to a portal that is read in chunks, so rows flow as the
+    // subscriber requests them instead of the whole result set being buffered.
+    return databaseClient.sql(EXPORT_CATALOG)
+      .filter(statement -> statement.fetchSize(fetchSize))
+      .map((row, metadata) -> toExport(row))
+      .all();
+  }
+
+  private static TechnologyExport toExport(Row row) {
+    Long[] capacityIds = row.get("capacity_ids", Long[].class);
+    return new TechnologyExport(
+      row.get("technology_id", Long.class),
+      row.get("name", String.class),
+      row.get("description", String.class),
+      capacityIds == null ? List.of() : List.of(capacityIds));
+  }
+}
@@ -0,0 +1,117 @@
+package co.com.bancolombia.r2dbc;
+
+import co.com.bancolombia.model.technology.TechnologyImportRow;
+import co.com.bancolombia.model.technology.TechnologyImportSummary;
+import co.com.bancolombia.model.technology.gateway.TechnologyImportGateway;
+import co.com.bancolombia.model.technology.values.Id;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Wrapped;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@Repository
+@Profile("!jdbc")
+public class TechnologyImportAdapter implements TechnologyImportGateway {
+  static final int ROWS_PER_COPY_CHUNK = 512;
+
+  private static final String CREATE_STAGING_TABLE =
+    "CREATE TEMP TABLE technology_import_staging (" +
+    "line BIGINT NOT NULL, name VARCHAR(50) NOT NULL, description VARCHAR(90) NOT NULL, capacity_ids BIGINT[] NOT NULL" +
+    ") ON COMMIT DROP";
+  private static final String COPY_STAGING =
+    "COPY technology_import_staging (line, name, description, capacity_ids) FROM STDIN";
+  private static final String ANALYZE_STAGING = "ANALYZE technology_import_staging";
+  private static final String MERGE_TECHNOLOGIES =
+    "INSERT INTO tech_schema.technology (name, description) " +
+    "SELECT DISTINCT ON (s.name) s.name, s.description FROM technology_import_staging s " +
+    "ORDER BY s.name, s.line " +
+    "ON CONFLICT (name) DO NOTHING";
+  private static final String MERGE_ASSOCIATIONS =
+    "INSERT INTO tech_schema.technology_capacity (technology_id, capacity_id) " +
+    "SELECT DISTINCT t.technology_id, c.capacity_id FROM technology_import_staging s " +
+    "CROSS JOIN LATERAL unnest(s.capacity_ids) AS c(capacity_id) " +
+    "JOIN tech_schema.technology t ON t.name = s.name " +
+    "ON CONFLICT (technology_id, capacity_id) DO NOTHING";
+
+  private final DatabaseClient databaseClient;
+  private final TransactionalOperator transactionalOperator;
+
+  public TechnologyImportAdapter(DatabaseClient databaseClient, ReactiveTransactionManager transactionManager) {
+    this.databaseClient = databaseClient;
+    this.transactionalOperator = TransactionalOperator.create(transactionManager);
+  }
+
+  @Override
+  public Mono<TechnologyImportSummary> importCatalog(Flux<TechnologyImportRow> rows) {
+    return databaseClient.sql(CREATE_STAGING_TABLE).then()
+      .then(databaseClient.inConnection(connection -> postgresql(connection)
+        .copyIn(COPY_STAGING, rows.buffer(ROWS_PER_COPY_CHUNK).map(TechnologyImportAdapter::encode))))
+      .flatMap(staged -> databaseClient.sql(ANALYZE_STAGING).then()
+        .then(update(MERGE_TECHNOLOGIES))
+        .flatMap(technologiesCreated -> update(MERGE_ASSOCIATIONS)
+          .map(associationsCreated -> new TechnologyImportSummary(staged, technologiesCreated, associationsCreated))))
+      .as(transactionalOperator::transactional);
+  }
+
+  private Mono<Long> update(String sql) {
+    return databaseClient.sql(sql).fetch().rowsUpdated();
+  }
+
+  private static PostgresqlConnection postgresql(Connection connection) {
+    Object current = connection;
+    while (!(current instanceof PostgresqlConnection) && current instanceof Wrapped<?> wrapped) {
+      current = wrapped.unwrap();
+    }
+    if (current instanceof PostgresqlConnection postgresqlConnection) {
+      return postgresqlConnection;
+    }
+    throw new IllegalStateException("COPY requires a PostgreSQL connection");
+  }
+
+  static ByteBuf encode(List<TechnologyImportRow> rows) {
+    ByteBuf buffer = ByteBufAllocator.DEFAULT.buffer(rows.size() * 96);
+    StringBuilder line = new StringBuilder(160);
+    for (TechnologyImportRow row : rows) {
+      line.setLength(0);
+      line.append(row.getLine()).append('\t');
+      appendText(line, row.getName().getValue());
+      line.append('\t');
+      appendText(line, row.getDescription().getValue());
+      line.append("\t{");
+      List<Id> capacityIds = row.getCapacityIds();
+      for (int i = 0; i < capacityIds.size(); i++) {
+        if (i > 0) {
+          line.append(',');
+        }
+        line.append(capacityIds.get(i).getValue());
+      }
+      line.append("}\n");
+      buffer.writeCharSequence(line, StandardCharsets.UTF_8);
+    }
+    return buffer;
+  }
+
+  private static void appendText(StringBuilder line, String value) {
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '\\' -> line.append("\\\\");
+        case '\t' -> line.append("\\t");
+        case '\n' -> line.append("\\n");
+        case '\r' -> line.append("\\r");
+        default -> line.append(c);
+      }
+    }
+  }
+}
@@ -1,6 +1,9 @@
 package co.com.bancolombia.r2dbc;
 
+import co.com.bancolombia.r2dbc.entity.TechnologyCapacityIdsEntity;
+import co.com.bancolombia.r2dbc.entity.TechnologyCapacityLinkEntity;
 import co.com.bancolombia.r2dbc.entity.TechnologyEntity;
+import co.com.bancolombia.r2dbc.entity.TechnologySearchEntity;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.data.r2dbc.repository.Query;
 import reactor.core.publisher.Flux;
@@ -16,4 +19,42 @@ public interface TechnologyRepository extends ReactiveCrudRepository<TechnologyE
          "JOIN tech_schema.technology_capacity tc ON t.technology_id = tc.technology_id " +
          "WHERE tc.capacity_id = :capacityId")
   Flux<TechnologyEntity> findByCapacity(Long capacityId);
+
+  @Query("SELECT COALESCE(json_agg(json_build_object(" +
+         "'technologyId', t.technology_id, 'name', t.name, 'description', t.description)), '[]')::text " +
+         "FROM tech_schema.technology t")
+  Mono<String> findAllAsJson();
+
+  @Query("SELECT COALESCE(json_agg(json_build_object(" +
+         "'technologyId', t.technology_id, 'name', t.name, 'description', t.description)), '[]')::text " +
+         "FROM tech_schema.technology t " +
+         "JOIN tech_schema.technology_capacity tc ON t.technology_id = tc.technology_id " +
+         "WHERE tc.capacity_id = :capacityId")
+  Mono<String> findByCapacityAsJson(Long capacityId);
+
+  @Query("WITH candidates AS (" +
+         "(SELECT t.technology_id FROM tech_schema.technology t " +
+         "WHERE t.search_vector @@ websearch_to_tsquery('english', :query) LIMIT :candidates) " +
+         "UNION " +
+         "(SELECT t.technology_id FROM tech_schema.technology t WHERE t.name % :query LIMIT :candidates)) " +
+         "SELECT t.technology_id, t.name, t.description, " +
+         "ts_rank_cd(t.search_vector, websearch_to_tsquery('english', :query)) + similarity(t.name, :query) AS rank " +
+         "FROM candidates c JOIN tech_schema.technology t ON t.technology_id = c.technology_id " +
+         "ORDER BY rank DESC, t.technology_id " +
+         "LIMIT :limit OFFSET :offset")
+  Flux<TechnologySearchEntity> search(String query, int candidates, int limit, long offset);
+
+  @Query("SELECT t.technology_id, t.name, EXISTS (SELECT 1 FROM tech_schema.technology_capacity tc " +
+         "WHERE tc.technology_id = t.technology_id AND tc.capacity_id = :capacityId) AS linked " +
+         "FROM tech_schema.technology t " +
+         "WHERE t.technology_id IN (" +
+         "SELECT tc.technology_id FROM tech_schema.technology_capacity tc WHERE tc.capacity_id = :capacityId " +
+         "UNION SELECT unnest(:technologyIds) " +
+         "UNION SELECT n.technology_id FROM tech_schema.technology n WHERE n.name = ANY(:names))")
+  Flux<TechnologyCapacityLinkEntity> findCapacityLinks(Long capacityId, Long[] technologyIds, String[] names);
+
+  @Query("SELECT t.technology_id, ARRAY(SELECT tc.capacity_id FROM tech_schema.technology_capacity tc " +
+         "WHERE tc.technology_id = t.technology_id) AS capacity_ids " +
+         "FROM tech_schema.technology t WHERE t.technology_id = ANY(:technologyIds)")
+  Flux<TechnologyCapacityIdsEntity> findCapacityIds(Long[] technologyIds);
 }
@@ -1,25 +1,40 @@
 package co.com.bancolombia.r2dbc;
 
+import co.com.bancolombia.model.technology.CapacityLinkChanges;
 import co.com.bancolombia.model.technology.Technology;
 import co.com.bancolombia.model.technology.TechnologyCapacity;
+import co.com.bancolombia.model.technology.TechnologyCapacityLink;
 import co.com.bancolombia.model.technology.gateway.TechnologyGateway;
 import co.com.bancolombia.r2dbc.entity.TechnologyCapacityEntity;
+import co.com.bancolombia.r2dbc.entity.TechnologyCapacityIdsEntity;
 import co.com.bancolombia.r2dbc.entity.TechnologyEntity;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.ReactiveTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 @Repository
+@Profile("!jdbc")
 public class TechnologyRepositoryAdapter implements TechnologyGateway {
   private final TechnologyRepository repository;
   private final TechnologyCapacityRepository capacityRepository;
+  private final AssociationGroupCommitter groupCommitter;
+  private final TransactionalOperator transactionalOperator;
 
-  public TechnologyRepositoryAdapter(TechnologyRepository repository, TechnologyCapacityRepository capacityRepository) {
+  public TechnologyRepositoryAdapter(TechnologyRepository repository, TechnologyCapacityRepository capacityRepository,
+                                     AssociationGroupCommitter groupCommitter,
+                                     ReactiveTransactionManager transactionManager) {
     this.repository = repository;
     this.capacityRepository = capacityRepository;
+    this.groupCommitter = groupCommitter;
+    this.transactionalOperator = TransactionalOperator.create(transactionManager);
   }
 
   @Override
@@ -39,6 +54,17 @@ public class TechnologyRepositoryAdapter implements TechnologyGateway {
   }
 
 
+  @Override
+  public Mono<Boolean> existsById(Long technologyId) {
+    return repository.existsById(technologyId);
+  }
+
+  @Override
+  public Flux<Technology> findAllById(List<Long> technologyIds) {
+    return repository.findAllById(technologyIds)
+      .map(entity -> new Technology(entity.getTechnologyId(), entity.getName(), entity.getDescription()));
+  }
+
   @Override
   public Mono<Technology> findByName(String name) {
     return repository.findByName(name)
@@ -57,11 +83,24 @@ public class TechnologyRepositoryAdapter implements TechnologyGateway {
       .map(entity -> new Technology(entity.getTechnologyId(), entity.getName(), entity.getDescription()));
   }
 
+  @Override
+  public Mono<String> findAllAsJson() {
+    return repository.findAllAsJson();
+  }
+
+  @Override
+  public Mono<String> findByCapacityAsJson(Long capacityId) {
+    return repository.findByCapacityAsJson(capacityId);
+  }
+
   @Override
   public Mono<TechnologyCapacity> associateTechnologyWithCapacity(TechnologyCapacity technologyCapacity) {
     Long techId = technologyCapacity.getTechnologyId().getValue();
     Long capId = technologyCapacity.getCapacityId().getValue();
-    
+    if (groupCommitter.isEnabled()) {
+      return groupCommitter.associate(techId, capId);
+    }
+
     TechnologyCapacityEntity entity = TechnologyCapacityEntity.builder()
       .technologyId(techId)
       .capacityId(capId)
@@ -83,6 +122,59 @@ public class TechnologyRepositoryAdapter implements TechnologyGateway {
       ));
   }
 
+  @Override
+  public Flux<Long> findCapacityIdsByTechnologyId(Long technologyId) {
+    return capacityRepository.findAllByTechnologyId(technologyId)
+      .map(TechnologyCapacityEntity::getCapacityId);
+  }
+
+  @Override
+  public Mono<Map<Long, List<Long>>> findCapacityIdsByTechnologyIds(List<Long> technologyIds) {
+    return repository.findCapacityIds(technologyIds.toArray(Long[]::new))
+      .collectMap(TechnologyCapacityIdsEntity::getTechnologyId, entity -> List.of(entity.getCapacityIds()));
+  }
+
+  @Override
+  public Flux<TechnologyCapacity> findAllAssociations() {
+    return capacityRepository.findAll()
+      .map(entity -> new TechnologyCapacity(
+        entity.getTechnologyId(),
+        entity.getCapacityId()
+      ));
+  }
+
+  @Override
+  public Mono<CapacityLinkChanges> replaceCapacityTechnologies(Long capacityId, List<Long> technologyIds,
+                                                               List<String> names,
+                                                               Function<List<TechnologyCapacityLink>, CapacityLinkChanges> plan) {
+    // Only a plan that writes locks the capacity, then diffs again so concurrent replacements write in turn.
+    return findCapacityLinks(capacityId, technologyIds, names).map(plan).flatMap(changes -> !changes.hasWrites()
+      ? Mono.just(changes)
+      : transactionalOperator.transactional(capacityRepository.lockCapacity(capacityId)
+        .then(findCapacityLinks(capacityId, technologyIds, names).map(plan))
+        .flatMap(locked -> locked.hasWrites() ? write(capacityId, locked).thenReturn(locked) : Mono.just(locked))));
+  }
+
+  private Mono<List<TechnologyCapacityLink>> findCapacityLinks(Long capacityId, List<Long> technologyIds,
+                                                               List<String> names) {
+    return repository.findCapacityLinks(capacityId, technologyIds.toArray(Long[]::new), names.toArray(String[]::new))
+      .map(entity -> new TechnologyCapacityLink(entity.getTechnologyId(), entity.getName(),
+        Boolean.TRUE.equals(entity.getLinked())))
+      .collectList();
+  }
+
+  private Mono<Void> write(Long capacityId, CapacityLinkChanges changes) {
+    List<Long> removedTechnologyIds = changes.getRemovedTechnologyIds();
+    List<Long> addedTechnologyIds = changes.getAddedTechnologyIds();
+    Mono<Integer> deletes = removedTechnologyIds.isEmpty()
+      ? Mono.empty()
+      : capacityRepository.deleteLinks(capacityId, removedTechnologyIds.toArray(Long[]::new));
+    Mono<Integer> inserts = addedTechnologyIds.isEmpty()
+      ? Mono.empty()
+      : capacityRepository.insertLinks(capacityId, addedTechnologyIds.toArray(Long[]::new));
+    return deletes.then(inserts).then();
+  }
+
   @Override
   @Transactional
   public Mono<Boolean> delete(Long technologyId) {
@@ -0,0 +1,30 @@
+package co.com.bancolombia.r2dbc;
+
+import co.com.bancolombia.model.technology.TechnologySearchHit;
+import co.com.bancolombia.model.technology.gateway.TechnologySearchGateway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+@Repository
+@Profile("!jdbc")
+public class TechnologySearchAdapter implements TechnologySearchGateway {
+  private final TechnologyRepository repository;
+  private final int maxCandidates;
+
+  public TechnologySearchAdapter(TechnologyRepository repository,
+                                 @Value("${technology.search.max-candidates:1000}") int maxCandidates) {
+    this.repository = repository;
+    this.maxCandidates = maxCandidates;
+  }
+
+  @Override
+  public Flux<TechnologySearchHit> search(String query, int limit, long offset) {
+    // Each index hands back at most maxCandidates matches and only their union is ranked, so a broad
+    // query scores a bounded number of rows; descriptions rank by ts_rank_cd and typos in names by similarity.
+    return repository.search(query, maxCandidates, limit, offset)
+      .map(entity -> new TechnologySearchHit(entity.getTechnologyId(), entity.getName(), entity.getDescription(),
+        entity.getRank() == null ? 0 : entity.getRank()));
+  }
+}
@@ -0,0 +1,118 @@
+package co.com.bancolombia.r2dbc.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.proxy.core.MethodExecutionInfo;
+import io.r2dbc.proxy.core.QueryExecutionInfo;
+import io.r2dbc.proxy.core.QueryInfo;
+import io.r2dbc.proxy.listener.ProxyExecutionListener;
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+@Slf4j
+public class QueryMetricsListener implements ProxyExecutionListener {
+  private static final String QUERY_TIMER_NAME = "technology.r2dbc.query";
+  private static final String QUERY_ROWS_NAME = "technology.r2dbc.query.rows";
+  private static final String SLOW_QUERY_COUNTER_NAME = "technology.r2dbc.query.slow";
+  private static final String CONNECTION_ACQUIRE_TIMER_NAME = "technology.r2dbc.connection.acquire";
+  private static final String QUERY_TAG = "query";
+  private static final String SUCCESS_TAG = "success";
+  private static final String CREATE_METHOD_NAME = "create";
+  private static final String QUERY_NAME_KEY = "technology.query.name";
+
+  private final MeterRegistry meterRegistry;
+  private final QueryNameNormalizer normalizer;
+  private final Duration slowQueryThreshold;
+  private final double slowQuerySampleRate;
+  private final Timer connectionAcquireTimer;
+  // Meters are looked up once per query name; building and registering them on every statement
+  // costs a registry lookup and several allocations on the hot path.
+  private final Map<String, Timer> succeededQueryTimers = new ConcurrentHashMap<>();
+  private final Map<String, Timer> failedQueryTimers = new ConcurrentHashMap<>();
+  private final Map<String, DistributionSummary> queryRows = new ConcurrentHashMap<>();
+  private final Map<String, Counter> slowQueryCounters = new ConcurrentHashMap<>();
+
+  public QueryMetricsListener(MeterRegistry meterRegistry, Duration slowQueryThreshold, double slowQuerySampleRate) {
+    this.meterRegistry = meterRegistry;
+    this.normalizer = new QueryNameNormalizer();
+    this.slowQueryThreshold = slowQueryThreshold;
+    this.slowQuerySampleRate = slowQuerySampleRate;
+    this.connectionAcquireTimer = Timer.builder(CONNECTION_ACQUIRE_TIMER_NAME)
+      .publishPercentileHistogram()
+      .register(meterRegistry);
+  }
+
+  @Override
+  public void afterMethod(MethodExecutionInfo executionInfo) {
+    if (executionInfo.getTarget() instanceof ConnectionFactory
+      && CREATE_METHOD_NAME.equals(executionInfo.getMethod().getName())) {
+      connectionAcquireTimer.record(executionInfo.getExecuteDuration());
+    }
+  }
+
+  @Override
+  public void beforeQuery(QueryExecutionInfo executionInfo) {
+    executionInfo.getValueStore().put(QUERY_NAME_KEY, resolveQueryName(executionInfo.getQueries()));
+  }
+
+  @Override
+  public void afterQuery(QueryExecutionInfo executionInfo) {
+    String queryName = executionInfo.getValueStore().get(QUERY_NAME_KEY, String.class);
+    if (queryName == null) {
+      queryName = resolveQueryName(executionInfo.getQueries());
+    }
+
+    Duration duration = executionInfo.getExecuteDuration();
+    boolean success = executionInfo.isSuccess();
+    (success ? succeededQueryTimers : failedQueryTimers)
+      .computeIfAbsent(queryName, name -> queryTimer(name, success))
+      .record(duration);
+
+    queryRows.computeIfAbsent(queryName, name -> DistributionSummary.builder(QUERY_ROWS_NAME)
+        .tag(QUERY_TAG, name)
+        .register(meterRegistry))
+      .record(executionInfo.getCurrentResultCount());
+
+    if (duration.compareTo(slowQueryThreshold) >= 0) {
+      slowQueryCounters.computeIfAbsent(queryName, name -> Counter.builder(SLOW_QUERY_COUNTER_NAME)
+          .tag(QUERY_TAG, name)
+          .register(meterRegistry))
+        .increment();
+
+      if (ThreadLocalRandom.current().nextDouble() < slowQuerySampleRate) {
+        log.warn("Slow query {} took {} ms (threshold {} ms): {}", queryName, duration.toMillis(),
+          slowQueryThreshold.toMillis(), joinQueries(executionInfo.getQueries()));
+      }
+    }
+  }
+
+  private Timer queryTimer(String queryName, boolean success) {
+    return Timer.builder(QUERY_TIMER_NAME)
+      .tag(QUERY_TAG, queryName)
+      .tag(SUCCESS_TAG, String.valueOf(success))
+      .publishPercentileHistogram()
+      .register(meterRegistry);
+  }
+
+  private String resolveQueryName(List<QueryInfo> queries) {
+    if (queries.isEmpty()) {
+      return normalizer.normalize(null);
+    }
+    return normalizer.normalize(queries.get(0).getQuery());
+  }
+
+  private String joinQueries(List<QueryInfo> queries) {
+    return queries.stream()
+      .map(QueryInfo::getQuery)
+      .collect(Collectors.joining("; "));
+  }
+}
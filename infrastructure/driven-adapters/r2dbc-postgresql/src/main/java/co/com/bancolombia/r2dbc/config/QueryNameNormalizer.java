@@ -0,0 +1,45 @@
+package co.com.bancolombia.r2dbc.config;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class QueryNameNormalizer {
+  private static final String UNKNOWN_QUERY_NAME = "unknown";
+  private static final int MAX_CACHED_QUERIES = 512;
+  private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+  private static final Pattern QUERY_NAME_PATTERN =
+    Pattern.compile("^(select|insert|update|delete)\\b(?:.*?\\b(?:from|into))?\\s+([\\w.\"]+)");
+
+  private final Map<String, String> cache = new ConcurrentHashMap<>();
+
+  public String normalize(String sql) {
+    if (sql == null || sql.isBlank()) {
+      return UNKNOWN_QUERY_NAME;
+    }
+
+    String cached = cache.get(sql);
+    if (cached != null) {
+      return cached;
+    }
+
+    String name = resolve(sql);
+    if (cache.size() < MAX_CACHED_QUERIES) {
+      cache.put(sql, name);
+    }
+    return name;
+  }
+
+  private String resolve(String sql) {
+    String compact = WHITESPACE_PATTERN.matcher(sql.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    Matcher matcher = QUERY_NAME_PATTERN.matcher(compact);
+    if (matcher.find()) {
+      return matcher.group(1) + " " + matcher.group(2).replace("\"", "");
+    }
+
+    int firstSpace = compact.indexOf(' ');
+    return firstSpace > 0 ? compact.substring(0, firstSpace) : compact;
+  }
+}
@@ -0,0 +1,41 @@
+package co.com.bancolombia.r2dbc.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.proxy.ProxyConnectionFactory;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+
+@Configuration
+@Profile("!jdbc")
+public class R2dbcProxyConfig {
+
+  @Bean
+  QueryMetricsListener queryMetricsListener(
+    MeterRegistry meterRegistry,
+    @Value("${technology.r2dbc.slow-query.threshold:500ms}") Duration slowQueryThreshold,
+    @Value("${technology.r2dbc.slow-query.sample-rate:1.0}") double slowQuerySampleRate) {
+    return new QueryMetricsListener(meterRegistry, slowQueryThreshold, slowQuerySampleRate);
+  }
+
+  @Bean
+  static BeanPostProcessor queryMetricsConnectionFactoryPostProcessor(ObjectProvider<QueryMetricsListener> listener) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof ConnectionFactory connectionFactory) {
+          return ProxyConnectionFactory.builder(connectionFactory)
+            .listener(listener.getObject())
+            .build();
+        }
+        return bean;
+      }
+    };
+  }
+}
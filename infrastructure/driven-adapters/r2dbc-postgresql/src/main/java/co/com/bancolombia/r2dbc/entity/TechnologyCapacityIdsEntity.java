@@ -0,0 +1,16 @@
+package co.com.bancolombia.r2dbc.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.relational.core.mapping.Column;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TechnologyCapacityIdsEntity {
+  @Column("technology_id")
+  private Long technologyId;
+  @Column("capacity_ids")
+  private Long[] capacityIds;
+}
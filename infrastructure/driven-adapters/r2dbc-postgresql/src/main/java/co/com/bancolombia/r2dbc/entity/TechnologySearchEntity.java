@@ -0,0 +1,17 @@
+package co.com.bancolombia.r2dbc.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.relational.core.mapping.Column;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TechnologySearchEntity {
+  @Column("technology_id")
+  private Long technologyId;
+  private String name;
+  private String description;
+  private Double rank;
+}
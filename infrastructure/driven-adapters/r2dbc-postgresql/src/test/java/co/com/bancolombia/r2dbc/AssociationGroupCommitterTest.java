@@ -0,0 +1,139 @@
+package co.com.bancolombia.r2dbc;
+
+import co.com.bancolombia.model.technology.TechnologyCapacity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssociationGroupCommitterTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final List<List<AssociationGroupCommitter.Association>> batches = new CopyOnWriteArrayList<>();
+  private AssociationGroupCommitter committer;
+
+  @AfterEach
+  void tearDown() {
+    committer.destroy();
+  }
+
+  @Test
+  void shouldWriteConcurrentAssociationsInOneBatch() {
+    // Given
+    committer = committer(associations -> Flux.fromIterable(associations).map(this::toRow), 10, Duration.ofMillis(50));
+
+    // When
+    List<TechnologyCapacity> rows = Flux.range(1, 3)
+      .flatMap(capacityId -> committer.associate(1L, (long) capacityId))
+      .collectList()
+      .block(Duration.ofSeconds(5));
+
+    // Then
+    assertEquals(3, rows.size());
+    assertEquals(1, batches.size());
+    assertEquals(3, batches.get(0).size());
+    assertEquals(1, meterRegistry.get("technology.associate.group-commit.batch.size").summary().count());
+    assertEquals(3, meterRegistry.get("technology.associate.group-commit.wait").timer().count());
+  }
+
+  @Test
+  void shouldFlushWhenBatchIsFull() {
+    // Given
+    committer = committer(associations -> Flux.fromIterable(associations).map(this::toRow), 2, Duration.ofSeconds(30));
+
+    // When & Then
+    StepVerifier.create(Flux.merge(committer.associate(1L, 1L), committer.associate(1L, 2L)))
+      .expectNextCount(2)
+      .expectComplete()
+      .verify(Duration.ofSeconds(5));
+  }
+
+  @Test
+  void shouldCompleteEmptyForExistingAndDuplicatedLinks() {
+    // Given
+    committer = committer(associations -> Flux.fromIterable(associations)
+      .filter(association -> association.capacityId() != 2L)
+      .map(this::toRow), 10, Duration.ofMillis(50));
+
+    // When
+    Mono<List<Boolean>> outcomes = Flux.mergeSequential(
+        committer.associate(1L, 1L).hasElement(),
+        committer.associate(1L, 1L).hasElement(),
+        committer.associate(1L, 2L).hasElement())
+      .collectList();
+
+    // Then
+    StepVerifier.create(outcomes)
+      .assertNext(values -> {
+        assertEquals(2, values.stream().filter(Boolean.FALSE::equals).count());
+        assertEquals(1, values.stream().filter(Boolean.TRUE::equals).count());
+      })
+      .expectComplete()
+      .verify(Duration.ofSeconds(5));
+    assertEquals(2, batches.get(0).size());
+  }
+
+  @Test
+  void shouldRetryRowsOneByOneWhenBatchFails() {
+    // Given
+    committer = committer(associations -> associations.size() > 1 || associations.get(0).technologyId() == 9L
+      ? Flux.error(new IllegalStateException("violates foreign key constraint"))
+      : Flux.fromIterable(associations).map(this::toRow), 10, Duration.ofMillis(50));
+
+    // When
+    Mono<TechnologyCapacity> valid = committer.associate(1L, 1L);
+    Mono<TechnologyCapacity> invalid = committer.associate(9L, 1L);
+
+    // Then
+    StepVerifier.create(Flux.mergeDelayError(2, valid, invalid))
+      .assertNext(row -> assertEquals(1L, row.getTechnologyId().getValue()))
+      .expectErrorMessage("violates foreign key constraint")
+      .verify(Duration.ofSeconds(5));
+  }
+
+  @Test
+  void shouldFailFastOnceThePipelineHasStopped() {
+    // Given
+    committer = committer(associations -> Flux.fromIterable(associations).map(this::toRow), 10, Duration.ofMillis(50));
+    committer.destroy();
+
+    // When & Then
+    StepVerifier.create(committer.associate(1L, 1L))
+      .expectErrorMessage("Association group commit is not running")
+      .verify(Duration.ofSeconds(5));
+    assertTrue(batches.isEmpty());
+  }
+
+  @Test
+  void shouldTimeOutCallersWhoseBatchNeverCompletes() {
+    // Given
+    committer = committer(associations -> Flux.never(), 10, Duration.ofMillis(50));
+
+    // When & Then
+    StepVerifier.create(committer.associate(1L, 1L))
+      .expectError(TimeoutException.class)
+      .verify(Duration.ofSeconds(5));
+  }
+
+  private AssociationGroupCommitter committer(Function<List<AssociationGroupCommitter.Association>, Flux<TechnologyCapacity>> writer,
+                                              int maxBatchSize, Duration maxDelay) {
+    return new AssociationGroupCommitter(associations -> {
+      batches.add(associations);
+      return writer.apply(associations);
+    }, meterRegistry, true, maxBatchSize, maxDelay, 2, Duration.ofSeconds(1));
+  }
+
+  private TechnologyCapacity toRow(AssociationGroupCommitter.Association association) {
+    return new TechnologyCapacity(association.technologyId(), association.capacityId());
+  }
+}
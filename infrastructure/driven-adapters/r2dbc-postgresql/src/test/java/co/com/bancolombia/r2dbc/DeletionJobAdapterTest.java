@@ -0,0 +1,135 @@
+package co.com.bancolombia.r2dbc;
+
+import co.com.bancolombia.model.job.DeletionJob;
+import co.com.bancolombia.model.job.DeletionJobChunk;
+import co.com.bancolombia.model.job.DeletionJobStatus;
+import io.r2dbc.spi.Row;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeletionJobAdapterTest {
+
+  private static final UUID JOB_ID = UUID.fromString("8f0b7c3e-3f4a-4d6b-9a57-1f6f5b2c9d10");
+
+  @Mock
+  private DatabaseClient databaseClient;
+
+  @Mock
+  private DatabaseClient.GenericExecuteSpec executeSpec;
+
+  @Mock
+  private RowsFetchSpec<DeletionJob> rowsFetchSpec;
+
+  private DeletionJobAdapter adapter;
+
+  @BeforeEach
+  void setUp() {
+    adapter = new DeletionJobAdapter(databaseClient);
+  }
+
+  @Test
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  void shouldClaimJobsWithLeaseAndLimit() {
+    // Given
+    when(databaseClient.sql(DeletionJobAdapter.CLAIM_JOBS)).thenReturn(executeSpec);
+    when(executeSpec.bind(anyString(), any())).thenReturn(executeSpec);
+    when(executeSpec.map(any(BiFunction.class))).thenReturn((RowsFetchSpec) rowsFetchSpec);
+    when(rowsFetchSpec.all()).thenReturn(Flux.empty());
+
+    // When
+    StepVerifier.create(adapter.claim(3, Duration.ofMinutes(2))).verifyComplete();
+
+    // Then
+    verify(executeSpec).bind("leaseSeconds", 120.0);
+    verify(executeSpec).bind("limit", 3);
+  }
+
+  @Test
+  void shouldTruncateFailureMessageToColumnSize() {
+    // Given
+    when(databaseClient.sql(DeletionJobAdapter.FINISH_JOB)).thenReturn(executeSpec);
+    when(executeSpec.bind(anyString(), any())).thenReturn(executeSpec);
+    when(executeSpec.then()).thenReturn(Mono.empty());
+
+    // When
+    StepVerifier.create(adapter.fail(JOB_ID, "x".repeat(300))).verifyComplete();
+
+    // Then
+    verify(executeSpec).bind("status", "FAILED");
+    verify(executeSpec).bind("error", "x".repeat(255));
+  }
+
+  @Test
+  void shouldReleaseJobsById() {
+    // Given
+    UUID otherJobId = UUID.randomUUID();
+    when(databaseClient.sql(DeletionJobAdapter.RELEASE_JOBS)).thenReturn(executeSpec);
+    when(executeSpec.bind(anyString(), any())).thenReturn(executeSpec);
+    when(executeSpec.then()).thenReturn(Mono.empty());
+
+    // When
+    StepVerifier.create(adapter.release(List.of(JOB_ID, otherJobId))).verifyComplete();
+
+    // Then
+    verify(executeSpec).bind("jobIds", new UUID[]{JOB_ID, otherJobId});
+  }
+
+  @Test
+  void shouldSplitChunkIntoDeletedAndDetachedTechnologies() {
+    // When
+    DeletionJobChunk chunk = DeletionJobAdapter.toChunk(List.of(
+      new DeletionJobAdapter.ChunkRow(1L, true),
+      new DeletionJobAdapter.ChunkRow(2L, false),
+      new DeletionJobAdapter.ChunkRow(3L, true)));
+
+    // Then
+    assertEquals(List.of(1L, 3L), chunk.getDeletedTechnologyIds());
+    assertEquals(List.of(2L), chunk.getDetachedTechnologyIds());
+    assertFalse(chunk.isEmpty());
+  }
+
+  @Test
+  void shouldMapRowToJob() {
+    // Given
+    OffsetDateTime createdAt = OffsetDateTime.of(2026, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    Row row = mock(Row.class);
+    when(row.get("job_id", UUID.class)).thenReturn(JOB_ID);
+    when(row.get("capacity_id", Long.class)).thenReturn(5L);
+    when(row.get("status", String.class)).thenReturn("RUNNING");
+    when(row.get("total", Long.class)).thenReturn(3L);
+    when(row.get("technology_ids", Long[].class)).thenReturn(new Long[]{1L, 2L});
+    when(row.get("created_at", OffsetDateTime.class)).thenReturn(createdAt);
+    when(row.get("updated_at", OffsetDateTime.class)).thenReturn(createdAt.plusSeconds(5));
+
+    // When
+    DeletionJob job = DeletionJobAdapter.toJob(row);
+
+    // Then
+    assertEquals(JOB_ID, job.getId());
+    assertEquals(DeletionJobStatus.RUNNING, job.getStatus());
+    assertEquals(List.of(1L, 2L), job.getTechnologyIds());
+    assertEquals(2L, job.getProcessed());
+    assertNull(job.getError());
+  }
+}
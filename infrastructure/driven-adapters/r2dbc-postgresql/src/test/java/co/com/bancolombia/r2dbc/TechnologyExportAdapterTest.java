@@ -0,0 +1,101 @@
+package co.com.bancolombia.r2dbc;
+
+import co.com.bancolombia.model.technology.TechnologyExport;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import io.r2dbc.spi.Statement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TechnologyExportAdapterTest {
+
+  private static final int FETCH_SIZE = 250;
+
+  @Mock
+  private DatabaseClient databaseClient;
+
+  @Mock
+  private DatabaseClient.GenericExecuteSpec executeSpec;
+
+  @Mock
+  private RowsFetchSpec<TechnologyExport> rowsFetchSpec;
+
+  private TechnologyExportAdapter adapter;
+
+  @BeforeEach
+  void setUp() {
+    adapter = new TechnologyExportAdapter(databaseClient, FETCH_SIZE);
+  }
+
+  @Test
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  void shouldStreamCatalogWithBoundedFetchSize() {
+    // Given
+    ArgumentCaptor<Function> filterCaptor = ArgumentCaptor.forClass(Function.class);
+    ArgumentCaptor<BiFunction> mapperCaptor = ArgumentCaptor.forClass(BiFunction.class);
+    when(databaseClient.sql(anyString())).thenReturn(executeSpec);
+    when(executeSpec.filter(filterCaptor.capture())).thenReturn(executeSpec);
+    when(executeSpec.map(mapperCaptor.capture())).thenReturn((RowsFetchSpec) rowsFetchSpec);
+    when(rowsFetchSpec.all()).thenReturn(Flux.just(new TechnologyExport(1L, "Java", "Language", List.of(10L))));
+
+    // When
+    StepVerifier.create(adapter.exportCatalog())
+      .assertNext(technology -> assertEquals(1L, technology.getTechnologyId()))
+      .verifyComplete();
+
+    // Then
+    Statement statement = mock(Statement.class);
+    when(statement.fetchSize(FETCH_SIZE)).thenReturn(statement);
+    filterCaptor.getValue().apply(statement);
+    verify(statement).fetchSize(FETCH_SIZE);
+
+    Row row = mock(Row.class);
+    when(row.get("technology_id", Long.class)).thenReturn(2L);
+    when(row.get("name", String.class)).thenReturn("Kotlin");
+    when(row.get("description", String.class)).thenReturn("Language");
+    when(row.get("capacity_ids", Long[].class)).thenReturn(new Long[]{10L, 20L});
+    TechnologyExport mapped = (TechnologyExport) mapperCaptor.getValue().apply(row, mock(RowMetadata.class));
+    assertEquals(2L, mapped.getTechnologyId());
+    assertEquals("Kotlin", mapped.getName());
+    assertEquals(List.of(10L, 20L), mapped.getCapacityIds());
+  }
+
+  @Test
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  void shouldMapMissingCapacitiesToEmptyList() {
+    // Given
+    ArgumentCaptor<BiFunction> mapperCaptor = ArgumentCaptor.forClass(BiFunction.class);
+    when(databaseClient.sql(anyString())).thenReturn(executeSpec);
+    when(executeSpec.filter(any(Function.class))).thenReturn(executeSpec);
+    when(executeSpec.map(mapperCaptor.capture())).thenReturn((RowsFetchSpec) rowsFetchSpec);
+    when(rowsFetchSpec.all()).thenReturn(Flux.empty());
+    adapter.exportCatalog().blockLast();
+
+    Row row = mock(Row.class);
+    when(row.get("capacity_ids", Long[].class)).thenReturn(null);
+
+    // When
+    TechnologyExport mapped = (TechnologyExport) mapperCaptor.getValue().apply(row, mock(RowMetadata.class));
+
+    // Then
+    assertTrue(mapped.getCapacityIds().isEmpty());
+  }
+}
@@ -0,0 +1,51 @@
+package co.com.bancolombia.r2dbc;
+
+import co.com.bancolombia.model.technology.TechnologyImportRow;
+import io.netty.buffer.ByteBuf;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TechnologyImportAdapterTest {
+
+  @Test
+  void shouldEncodeRowsInCopyTextFormat() {
+    // Given
+    List<TechnologyImportRow> rows = List.of(
+      new TechnologyImportRow(2L, "Java", "Programming language", List.of(10L, 20L)),
+      new TechnologyImportRow(3L, "Kotlin", "Language\tfor the JVM", List.of()));
+
+    // When
+    ByteBuf encoded = TechnologyImportAdapter.encode(rows);
+
+    // Then
+    try {
+      assertEquals(
+        "2\tJava\tProgramming language\t{10,20}\n" +
+          "3\tKotlin\tLanguage\\tfor the JVM\t{}\n",
+        encoded.toString(StandardCharsets.UTF_8));
+    } finally {
+      encoded.release();
+    }
+  }
+
+  @Test
+  void shouldEscapeBackslashesAndLineBreaks() {
+    // Given
+    List<TechnologyImportRow> rows = List.of(
+      new TechnologyImportRow(1L, "C\\C++", "Systems\r\nlanguage", List.of(1L)));
+
+    // When
+    ByteBuf encoded = TechnologyImportAdapter.encode(rows);
+
+    // Then
+    try {
+      assertEquals("1\tC\\\\C++\tSystems\\r\\nlanguage\t{1}\n", encoded.toString(StandardCharsets.UTF_8));
+    } finally {
+      encoded.release();
+    }
+  }
+}
@@ -1,21 +1,29 @@
 package co.com.bancolombia.r2dbc;
 
+import co.com.bancolombia.model.technology.CapacityLinkChanges;
 import co.com.bancolombia.model.technology.Technology;
+import co.com.bancolombia.model.technology.TechnologyCapacity;
 import co.com.bancolombia.r2dbc.entity.TechnologyEntity;
 import co.com.bancolombia.r2dbc.entity.TechnologyCapacityEntity;
+import co.com.bancolombia.r2dbc.entity.TechnologyCapacityLinkEntity;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.ReactiveTransaction;
+import org.springframework.transaction.ReactiveTransactionManager;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +35,12 @@ class TechnologyRepositoryAdapterTest {
   @Mock
   private TechnologyCapacityRepository capacityRepository;
 
+  @Mock
+  private AssociationGroupCommitter groupCommitter;
+
+  @Mock
+  private ReactiveTransactionManager transactionManager;
+
   private TechnologyRepositoryAdapter adapter;
 
   private Technology technology;
@@ -38,7 +52,11 @@ class TechnologyRepositoryAdapterTest {
 
   @BeforeEach
   void setUp() {
-    adapter = new TechnologyRepositoryAdapter(repository, capacityRepository);
+    adapter = new TechnologyRepositoryAdapter(repository, capacityRepository, groupCommitter, transactionManager);
+    lenient().when(transactionManager.getReactiveTransaction(any()))
+      .thenReturn(Mono.just(mock(ReactiveTransaction.class)));
+    lenient().when(transactionManager.commit(any())).thenReturn(Mono.empty());
+    lenient().when(transactionManager.rollback(any())).thenReturn(Mono.empty());
 
     technology = new Technology(TECHNOLOGY_ID, TECHNOLOGY_NAME, TECHNOLOGY_DESCRIPTION);
 
@@ -53,7 +71,7 @@ class TechnologyRepositoryAdapterTest {
   @Test
   void shouldCreateAdapterWithRepository() {
     // When
-    TechnologyRepositoryAdapter newAdapter = new TechnologyRepositoryAdapter(repository, capacityRepository);
+    TechnologyRepositoryAdapter newAdapter = new TechnologyRepositoryAdapter(repository, capacityRepository, groupCommitter);
 
     // Then
     assertNotNull(newAdapter);
@@ -449,4 +467,130 @@ class TechnologyRepositoryAdapterTest {
 
     verify(capacityRepository).deleteByTechnologyIdAndCapacityId(technologyId, capacityId);
   }
-}
\ No newline at end of file
+
+  @Test
+  void shouldReturnAllTechnologiesAsJson() {
+    // Given
+    String json = "[{\"technologyId\":1,\"name\":\"Java\",\"description\":\"Programming language\"}]";
+    when(repository.findAllAsJson()).thenReturn(Mono.just(json));
+
+    // When
+    Mono<String> result = adapter.findAllAsJson();
+
+    // Then
+    StepVerifier.create(result)
+      .expectNext(json)
+      .verifyComplete();
+
+    verify(repository).findAllAsJson();
+  }
+
+  @Test
+  void shouldReturnTechnologiesByCapacityAsJson() {
+    // Given
+    Long capacityId = 2L;
+    when(repository.findByCapacityAsJson(capacityId)).thenReturn(Mono.just("[]"));
+
+    // When
+    Mono<String> result = adapter.findByCapacityAsJson(capacityId);
+
+    // Then
+    StepVerifier.create(result)
+      .expectNext("[]")
+      .verifyComplete();
+
+    verify(repository).findByCapacityAsJson(capacityId);
+  }
+
+  @Test
+  void shouldAssociateThroughGroupCommitWhenEnabled() {
+    // Given
+    when(groupCommitter.isEnabled()).thenReturn(true);
+    when(groupCommitter.associate(TECHNOLOGY_ID, 2L)).thenReturn(Mono.just(new TechnologyCapacity(TECHNOLOGY_ID, 2L)));
+
+    // When & Then
+    StepVerifier.create(adapter.associateTechnologyWithCapacity(new TechnologyCapacity(TECHNOLOGY_ID, 2L)))
+      .assertNext(relation -> assertEquals(2L, relation.getCapacityId().getValue()))
+      .verifyComplete();
+
+    verify(capacityRepository, never()).save(any(TechnologyCapacityEntity.class));
+  }
+
+  @Test
+  void shouldSaveAssociationDirectlyWhenGroupCommitIsDisabled() {
+    // Given
+    when(groupCommitter.isEnabled()).thenReturn(false);
+    when(capacityRepository.save(any(TechnologyCapacityEntity.class)))
+      .thenReturn(Mono.just(TechnologyCapacityEntity.builder().technologyId(TECHNOLOGY_ID).capacityId(2L).build()));
+
+    // When & Then
+    StepVerifier.create(adapter.associateTechnologyWithCapacity(new TechnologyCapacity(TECHNOLOGY_ID, 2L)))
+      .assertNext(relation -> assertEquals(2L, relation.getCapacityId().getValue()))
+      .verifyComplete();
+
+    verify(groupCommitter, never()).associate(any(), any());
+  }
+
+  @Test
+  void shouldLockTheCapacityAndDiffAgainBeforeWriting() {
+    // Given
+    AtomicBoolean locked = new AtomicBoolean();
+    AtomicInteger reads = new AtomicInteger();
+    when(capacityRepository.lockCapacity(10L)).thenReturn(Mono.fromCallable(() -> {
+      locked.set(true);
+      return 1;
+    }));
+    when(repository.findCapacityLinks(eq(10L), any(Long[].class), any(String[].class))).thenReturn(Flux.defer(() -> {
+      assertEquals(reads.getAndIncrement() > 0, locked.get());
+      return Flux.just(new TechnologyCapacityLinkEntity(1L, "Java", true));
+    }));
+    when(capacityRepository.deleteLinks(eq(10L), any(Long[].class))).thenReturn(Mono.just(1));
+    when(capacityRepository.insertLinks(eq(10L), any(Long[].class))).thenReturn(Mono.just(1));
+
+    // When & Then
+    StepVerifier.create(adapter.replaceCapacityTechnologies(10L, List.of(2L), List.of(),
+        links -> new CapacityLinkChanges(List.of(2L), List.of(links.get(0).getTechnologyId()), List.of())))
+      .assertNext(changes -> assertEquals(List.of(1L), changes.getRemovedTechnologyIds()))
+      .verifyComplete();
+
+    assertEquals(2, reads.get());
+    verify(capacityRepository).deleteLinks(10L, new Long[]{1L});
+    verify(capacityRepository).insertLinks(10L, new Long[]{2L});
+    verify(transactionManager).commit(any());
+  }
+
+  @Test
+  void shouldNeitherLockNorWriteWhenThePlanChangesNothing() {
+    // Given
+    when(repository.findCapacityLinks(eq(10L), any(Long[].class), any(String[].class)))
+      .thenReturn(Flux.just(new TechnologyCapacityLinkEntity(1L, "Java", true)));
+
+    // When & Then
+    StepVerifier.create(adapter.replaceCapacityTechnologies(10L, List.of(1L), List.of(),
+        links -> new CapacityLinkChanges(List.of(), List.of(), List.of())))
+      .expectNextCount(1)
+      .verifyComplete();
+
+    verify(capacityRepository, never()).lockCapacity(any());
+    verify(transactionManager, never()).getReactiveTransaction(any());
+    verify(capacityRepository, never()).deleteLinks(any(), any());
+    verify(capacityRepository, never()).insertLinks(any(), any());
+  }
+
+  @Test
+  void shouldNotWriteWhenTheCapacityAlreadyChangedOnceLocked() {
+    // Given
+    when(capacityRepository.lockCapacity(10L)).thenReturn(Mono.just(1));
+    when(repository.findCapacityLinks(eq(10L), any(Long[].class), any(String[].class)))
+      .thenReturn(Flux.just(new TechnologyCapacityLinkEntity(2L, "Go", false)))
+      .thenReturn(Flux.just(new TechnologyCapacityLinkEntity(2L, "Go", true)));
+
+    // When & Then
+    StepVerifier.create(adapter.replaceCapacityTechnologies(10L, List.of(2L), List.of(),
+        links -> new CapacityLinkChanges(links.get(0).isLinked() ? List.of() : List.of(2L), List.of(), List.of())))
+      .assertNext(changes -> assertFalse(changes.hasWrites()))
+      .verifyComplete();
+
+    verify(capacityRepository, never()).insertLinks(any(), any());
+  }
+}
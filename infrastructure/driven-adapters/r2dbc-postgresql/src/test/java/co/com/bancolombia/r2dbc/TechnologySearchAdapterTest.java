@@ -0,0 +1,44 @@
+package co.com.bancolombia.r2dbc;
+
+import co.com.bancolombia.r2dbc.entity.TechnologySearchEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TechnologySearchAdapterTest {
+
+  @Mock
+  private TechnologyRepository repository;
+
+  private TechnologySearchAdapter adapter;
+
+  @BeforeEach
+  void setUp() {
+    adapter = new TechnologySearchAdapter(repository, 1000);
+  }
+
+  @Test
+  void shouldMapRankedRowsToHitsFromBoundedCandidates() {
+    // Given
+    when(repository.search("reactive", 1000, 21, 40L)).thenReturn(Flux.just(
+      new TechnologySearchEntity(1L, "Spring WebFlux", "Reactive web framework", 0.8),
+      new TechnologySearchEntity(2L, "Reactor", "Reactive library", null)));
+
+    // When & Then
+    StepVerifier.create(adapter.search("reactive", 21, 40L))
+      .assertNext(hit -> {
+        assertEquals(1L, hit.getTechnologyId());
+        assertEquals(0.8, hit.getRank());
+      })
+      .assertNext(hit -> assertEquals(0.0, hit.getRank()))
+      .verifyComplete();
+  }
+}
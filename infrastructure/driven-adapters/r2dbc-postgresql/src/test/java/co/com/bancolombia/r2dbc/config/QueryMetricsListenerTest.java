@@ -0,0 +1,141 @@
+package co.com.bancolombia.r2dbc.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.proxy.core.MethodExecutionInfo;
+import io.r2dbc.proxy.core.QueryExecutionInfo;
+import io.r2dbc.proxy.core.QueryInfo;
+import io.r2dbc.proxy.core.ValueStore;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class QueryMetricsListenerTest {
+
+  private static final String FIND_BY_CAPACITY_QUERY = "SELECT t.* FROM tech_schema.technology t " +
+    "JOIN tech_schema.technology_capacity tc ON t.technology_id = tc.technology_id WHERE tc.capacity_id = $1";
+
+  private MeterRegistry meterRegistry;
+  private QueryMetricsListener listener;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    listener = new QueryMetricsListener(meterRegistry, Duration.ofMillis(100), 1.0);
+  }
+
+  @Test
+  void shouldNormalizeQueryNames() {
+    QueryNameNormalizer normalizer = new QueryNameNormalizer();
+
+    assertEquals("select tech_schema.technology", normalizer.normalize(FIND_BY_CAPACITY_QUERY));
+    assertEquals("insert tech_schema.technology_capacity",
+      normalizer.normalize("INSERT INTO tech_schema.technology_capacity (technology_id, capacity_id) VALUES ($1, $2)"));
+    assertEquals("update tech_schema.technology", normalizer.normalize("UPDATE tech_schema.technology SET name = $1"));
+    assertEquals("delete tech_schema.technology_capacity",
+      normalizer.normalize("DELETE FROM tech_schema.technology_capacity WHERE id = $1"));
+    assertEquals("unknown", normalizer.normalize(null));
+  }
+
+  @Test
+  void shouldRecordQueryTimerAndRows() {
+    // Given
+    QueryExecutionInfo executionInfo = queryExecutionInfo(Duration.ofMillis(10), 3);
+
+    // When
+    listener.beforeQuery(executionInfo);
+    listener.afterQuery(executionInfo);
+
+    // Then
+    assertEquals(1, meterRegistry.get("technology.r2dbc.query")
+      .tag("query", "select tech_schema.technology")
+      .tag("success", "true")
+      .timer()
+      .count());
+    assertEquals(3.0, meterRegistry.get("technology.r2dbc.query.rows")
+      .tag("query", "select tech_schema.technology")
+      .summary()
+      .totalAmount());
+    assertNull(meterRegistry.find("technology.r2dbc.query.slow").counter());
+  }
+
+  @Test
+  void shouldCountSlowQueries() {
+    // Given
+    QueryExecutionInfo executionInfo = queryExecutionInfo(Duration.ofMillis(250), 1);
+
+    // When
+    listener.beforeQuery(executionInfo);
+    listener.afterQuery(executionInfo);
+
+    // Then
+    assertEquals(1.0, meterRegistry.get("technology.r2dbc.query.slow")
+      .tag("query", "select tech_schema.technology")
+      .counter()
+      .count());
+  }
+
+  @Test
+  void shouldRecordConnectionAcquireTime() throws NoSuchMethodException {
+    // Given
+    MethodExecutionInfo executionInfo = mock(MethodExecutionInfo.class);
+    when(executionInfo.getTarget()).thenReturn(mock(ConnectionFactory.class));
+    when(executionInfo.getMethod()).thenReturn(ConnectionFactory.class.getMethod("create"));
+    when(executionInfo.getExecuteDuration()).thenReturn(Duration.ofMillis(5));
+
+    // When
+    listener.afterMethod(executionInfo);
+
+    // Then
+    assertEquals(1, meterRegistry.get("technology.r2dbc.connection.acquire").timer().count());
+  }
+
+  @Test
+  void shouldReuseMetersAcrossStatementsOfTheSameQuery() {
+    // Given
+    QueryExecutionInfo first = queryExecutionInfo(Duration.ofMillis(10), 2);
+    QueryExecutionInfo second = queryExecutionInfo(Duration.ofMillis(20), 4);
+    QueryExecutionInfo failed = queryExecutionInfo(Duration.ofMillis(5), 0, false);
+
+    // When
+    for (QueryExecutionInfo executionInfo : List.of(first, second, failed)) {
+      listener.beforeQuery(executionInfo);
+      listener.afterQuery(executionInfo);
+    }
+
+    // Then
+    assertEquals(2, meterRegistry.get("technology.r2dbc.query")
+      .tag("query", "select tech_schema.technology")
+      .tag("success", "true")
+      .timer()
+      .count());
+    assertEquals(1, meterRegistry.get("technology.r2dbc.query")
+      .tag("query", "select tech_schema.technology")
+      .tag("success", "false")
+      .timer()
+      .count());
+    assertEquals(1, meterRegistry.get("technology.r2dbc.query.rows").summaries().size());
+    assertEquals(6.0, meterRegistry.get("technology.r2dbc.query.rows").summary().totalAmount());
+  }
+
+  private QueryExecutionInfo queryExecutionInfo(Duration duration, int rows) {
+    return queryExecutionInfo(duration, rows, true);
+  }
+
+  private QueryExecutionInfo queryExecutionInfo(Duration duration, int rows, boolean success) {
+    QueryExecutionInfo executionInfo = mock(QueryExecutionInfo.class);
+    ValueStore valueStore = ValueStore.create();
+    when(executionInfo.getValueStore()).thenReturn(valueStore);
+    when(executionInfo.getQueries()).thenReturn(List.of(new QueryInfo(FIND_BY_CAPACITY_QUERY)));
+    when(executionInfo.getExecuteDuration()).thenReturn(duration);
+    when(executionInfo.isSuccess()).thenReturn(success);
+    when(executionInfo.getCurrentResultCount()).thenReturn(rows);
+    return executionInfo;
+  }
+}
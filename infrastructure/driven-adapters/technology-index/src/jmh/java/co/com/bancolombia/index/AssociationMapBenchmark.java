@@ -0,0 +1,136 @@
+package co.com.bancolombia.index;
+
+import co.com.bancolombia.index.collection.LongArrayMap;
+import co.com.bancolombia.index.collection.LongPostingList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Technology to capacity links held boxed versus in primitive posting lists, at one million links. The uniform
+ * distribution gives every technology five capacities; the skewed one draws technologies log-uniformly, so a
+ * handful of them hold thousands of capacities and most hold one or two. Probes are drawn from the links, so hot
+ * technologies are looked up as often as they are linked. Running {@link #main} prints the retained size of both
+ * layouts measured with JOL.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AssociationMapBenchmark {
+  private static final int LINKS = 1_000_000;
+  private static final int CAPACITIES_PER_TECHNOLOGY = 5;
+  private static final int TECHNOLOGIES = LINKS / CAPACITIES_PER_TECHNOLOGY;
+  private static final int CAPACITIES = 5_000;
+  private static final int PROBES = 4_096;
+
+  @Param({"uniform", "skewed"})
+  public String distribution;
+
+  private Map<Long, List<Long>> boxed;
+  private LongArrayMap primitive;
+  private long[] probes;
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Links links = links(distribution);
+    boxed = boxed(links);
+    primitive = primitive(links);
+    SplittableRandom random = new SplittableRandom(42);
+    probes = new long[PROBES];
+    for (int i = 0; i < PROBES; i++) {
+      probes[i] = links.technologyIds()[random.nextInt(LINKS)];
+    }
+  }
+
+  @Benchmark
+  public long boxedLookup() {
+    long sum = 0;
+    for (Long capacityId : boxed.get(nextProbe())) {
+      sum += capacityId;
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public long primitiveLookup() {
+    long sum = 0;
+    for (long capacityId : primitive.get(nextProbe())) {
+      sum += capacityId;
+    }
+    return sum;
+  }
+
+  public static void main(String[] args) {
+    for (String distribution : List.of("uniform", "skewed")) {
+      Links links = links(distribution);
+      System.out.printf("%s HashMap<Long, List<Long>>: %,d bytes%n", distribution,
+        GraphLayout.parseInstance(boxed(links)).totalSize());
+      System.out.printf("%s LongArrayMap:              %,d bytes%n", distribution,
+        GraphLayout.parseInstance(primitive(links)).totalSize());
+    }
+  }
+
+  private long nextProbe() {
+    return probes[next++ & (PROBES - 1)];
+  }
+
+  private static Map<Long, List<Long>> boxed(Links links) {
+    Map<Long, List<Long>> map = new HashMap<>();
+    for (int i = 0; i < LINKS; i++) {
+      map.computeIfAbsent(links.technologyIds()[i], id -> new ArrayList<>()).add(links.capacityIds()[i]);
+    }
+    return map;
+  }
+
+  private static LongArrayMap primitive(Links links) {
+    LongArrayMap raw = new LongArrayMap();
+    Map<Long, Integer> lengths = new HashMap<>();
+    for (int i = 0; i < LINKS; i++) {
+      long technologyId = links.technologyIds()[i];
+      long[] ids = raw.get(technologyId);
+      int length = lengths.getOrDefault(technologyId, 0);
+      if (ids == null || length == ids.length) {
+        ids = ids == null ? new long[4] : Arrays.copyOf(ids, length * 2);
+        raw.put(technologyId, ids);
+      }
+      ids[length] = links.capacityIds()[i];
+      lengths.put(technologyId, length + 1);
+    }
+    LongArrayMap map = new LongArrayMap(raw.size());
+    raw.forEach((technologyId, ids) ->
+      map.put(technologyId, LongPostingList.sortedDistinct(ids, lengths.get(technologyId))));
+    return map;
+  }
+
+  private static Links links(String distribution) {
+    SplittableRandom random = new SplittableRandom(7);
+    long[] technologyIds = new long[LINKS];
+    long[] capacityIds = new long[LINKS];
+    for (int i = 0; i < LINKS; i++) {
+      technologyIds[i] = "skewed".equals(distribution)
+        ? (long) Math.pow(TECHNOLOGIES, random.nextDouble())
+        : 1 + i / CAPACITIES_PER_TECHNOLOGY;
+      capacityIds[i] = 1 + random.nextInt(CAPACITIES);
+    }
+    return new Links(technologyIds, capacityIds);
+  }
+
+  private record Links(long[] technologyIds, long[] capacityIds) {
+  }
+}
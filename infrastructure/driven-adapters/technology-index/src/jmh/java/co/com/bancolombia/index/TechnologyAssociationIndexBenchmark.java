@@ -0,0 +1,56 @@
+package co.com.bancolombia.index;
+
+import co.com.bancolombia.model.technology.CapacitySetOperation;
+import co.com.bancolombia.model.technology.TechnologyCapacity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TechnologyAssociationIndexBenchmark {
+  private static final int CAPACITIES = 1_000;
+
+  @Param({"10000", "1000000"})
+  public int associations;
+
+  @Param({"2", "10"})
+  public int queriedCapacities;
+
+  @Param({"INTERSECTION", "UNION", "DIFFERENCE"})
+  public CapacitySetOperation operation;
+
+  private RoaringTechnologyAssociationIndex index;
+  private List<Long> capacityIds;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(42);
+    int technologies = Math.max(1, associations / 5);
+    index = new RoaringTechnologyAssociationIndex(new SimpleMeterRegistry());
+    // Capacities are skewed so that low ids are popular, as real catalogs tend to be.
+    index.rebuild(Flux.range(0, associations)
+      .map(i -> new TechnologyCapacity((long) random.nextInt(technologies),
+        (long) Math.min(CAPACITIES - 1, (int) Math.abs(random.nextGaussian() * CAPACITIES / 8))))).block();
+    capacityIds = Flux.range(0, queriedCapacities).map(Long::valueOf).collectList().block();
+  }
+
+  @Benchmark
+  public Roaring64Bitmap combine() {
+    return index.combine(operation, capacityIds);
+  }
+}
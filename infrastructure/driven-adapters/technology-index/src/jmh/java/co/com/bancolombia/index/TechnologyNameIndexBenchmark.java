@@ -0,0 +1,47 @@
+package co.com.bancolombia.index;
+
+import co.com.bancolombia.model.technology.Technology;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TechnologyNameIndexBenchmark {
+  private static final String[] STEMS = {"java", "kotlin", "spring", "react", "postgres", "kafka", "redis", "docker"};
+
+  @Param({"1000", "100000"})
+  public int technologies;
+
+  @Param({"10"})
+  public int limit;
+
+  private InMemoryTechnologyNameIndex index;
+  private String[] prefixes;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    index = new InMemoryTechnologyNameIndex();
+    index.rebuild(Flux.range(0, technologies)
+      .map(i -> new Technology((long) i, STEMS[i % STEMS.length] + " " + i, "Benchmark technology"))).block();
+    prefixes = new String[]{"j", "ja", "spr", "kafka 1", "postgres 99", "zzz"};
+  }
+
+  @Benchmark
+  public List<Technology> findByPrefix() {
+    String prefix = prefixes[ThreadLocalRandom.current().nextInt(prefixes.length)];
+    return index.findByPrefix(prefix, limit).collectList().block();
+  }
+}
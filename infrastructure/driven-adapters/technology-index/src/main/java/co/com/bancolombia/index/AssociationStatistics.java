@@ -0,0 +1,103 @@
+package co.com.bancolombia.index;
+
+import co.com.bancolombia.model.technology.TechnologyCatalogStats;
+import co.com.bancolombia.model.technology.TechnologyUsage;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Catalog aggregates adjusted as capacities and technologies gain or lose links, so reading them costs the same
+ * whatever the size of technology_capacity. Not thread-safe, the association index mutates and reads it under
+ * its writer lock.
+ */
+final class AssociationStatistics {
+  static final int[] BUCKET_UPPER_BOUNDS = {1, 5, 10, 25, 50};
+  static final String[] BUCKET_LABELS = {"1", "2-5", "6-10", "11-25", "26-50", "51+"};
+
+  private static final Comparator<Usage> MOST_USED_FIRST = Comparator.comparingInt(Usage::capacities).reversed()
+    .thenComparingLong(Usage::technologyId);
+
+  private final long[] capacitySizeBuckets = new long[BUCKET_LABELS.length];
+  private final TreeMap<Integer, Integer> capacitiesBySize = new TreeMap<>();
+  private final NavigableSet<Usage> usage = new TreeSet<>(MOST_USED_FIRST);
+  private final Instant reconciledAt;
+  private long associations;
+  private int capacities;
+
+  AssociationStatistics(Instant reconciledAt) {
+    this.reconciledAt = reconciledAt;
+  }
+
+  void capacityResized(int from, int to) {
+    associations += to - from;
+    if (from > 0) {
+      capacitySizeBuckets[bucket(from)]--;
+      capacitiesBySize.computeIfPresent(from, (size, count) -> count == 1 ? null : count - 1);
+    } else {
+      capacities++;
+    }
+    if (to > 0) {
+      capacitySizeBuckets[bucket(to)]++;
+      capacitiesBySize.merge(to, 1, Integer::sum);
+    } else {
+      capacities--;
+    }
+  }
+
+  void technologyUsageChanged(long technologyId, int from, int to) {
+    if (from > 0) {
+      usage.remove(new Usage(technologyId, from));
+    }
+    if (to > 0) {
+      usage.add(new Usage(technologyId, to));
+    }
+  }
+
+  Instant reconciledAt() {
+    return reconciledAt;
+  }
+
+  int technologies() {
+    return usage.size();
+  }
+
+  int maxTechnologiesPerCapacity() {
+    return capacitiesBySize.isEmpty() ? 0 : capacitiesBySize.lastKey();
+  }
+
+  TechnologyCatalogStats snapshot(int mostUsedLimit) {
+    Map<String, Long> distribution = new LinkedHashMap<>();
+    for (int bucket = 0; bucket < BUCKET_LABELS.length; bucket++) {
+      distribution.put(BUCKET_LABELS[bucket], capacitySizeBuckets[bucket]);
+    }
+    List<TechnologyUsage> mostUsed = new ArrayList<>(Math.min(mostUsedLimit, usage.size()));
+    Iterator<Usage> ranked = usage.iterator();
+    while (ranked.hasNext() && mostUsed.size() < mostUsedLimit) {
+      Usage next = ranked.next();
+      mostUsed.add(new TechnologyUsage(next.technologyId(), next.capacities()));
+    }
+    return new TechnologyCatalogStats(associations, capacities, technologies(), maxTechnologiesPerCapacity(),
+      distribution, mostUsed, reconciledAt);
+  }
+
+  private static int bucket(int size) {
+    for (int bucket = 0; bucket < BUCKET_UPPER_BOUNDS.length; bucket++) {
+      if (size <= BUCKET_UPPER_BOUNDS[bucket]) {
+        return bucket;
+      }
+    }
+    return BUCKET_UPPER_BOUNDS.length;
+  }
+
+  private record Usage(long technologyId, int capacities) {
+  }
+}
@@ -0,0 +1,71 @@
+package co.com.bancolombia.index;
+
+import co.com.bancolombia.index.collection.LongPostingList;
+import co.com.bancolombia.model.technology.gateway.TechnologyCapacityCacheGateway;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Capacity ids per technology kept as futures, so concurrent misses for the same id share a single load.
+ * Invalidating drops in-flight futures as well, a load racing a write is never stored. Loads that complete
+ * empty are not cached, unknown technologies keep hitting the database until they exist. Loaded lists are
+ * stored as sorted primitive posting lists instead of boxed ids.
+ */
+@Component
+public class CaffeineTechnologyCapacityCache implements TechnologyCapacityCacheGateway {
+  private final AsyncCache<Long, List<Long>> cache;
+
+  public CaffeineTechnologyCapacityCache(
+    @Value("${technology.capacity-cache.maximum-size:100000}") long maximumSize,
+    @Value("${technology.capacity-cache.expire-after-write:10m}") Duration expireAfterWrite) {
+    this.cache = Caffeine.newBuilder()
+      .maximumSize(maximumSize)
+      .expireAfterWrite(expireAfterWrite)
+      .buildAsync();
+  }
+
+  @Override
+  public Mono<List<Long>> get(Long technologyId, Function<Long, Mono<List<Long>>> loader) {
+    return Mono.defer(() -> Mono.fromFuture(
+      cache.get(technologyId, (id, executor) -> loader.apply(id).map(LongPostingList::copyOf).toFuture()), true));
+  }
+
+  @Override
+  public Mono<Map<Long, List<Long>>> getAll(Set<Long> technologyIds,
+                                            Function<Set<Long>, Mono<Map<Long, List<Long>>>> loader) {
+    return Mono.defer(() -> Mono.fromFuture(
+      cache.getAll(technologyIds, (missing, executor) -> loader.apply(Set.copyOf(missing))
+        .map(CaffeineTechnologyCapacityCache::compact)
+        .toFuture()), true));
+  }
+
+  @Override
+  public Mono<Void> invalidate(Long technologyId) {
+    return Mono.fromRunnable(() -> cache.synchronous().invalidate(technologyId));
+  }
+
+  @Override
+  public Mono<Void> invalidateAll() {
+    return Mono.fromRunnable(() -> cache.synchronous().invalidateAll());
+  }
+
+  private static Map<Long, List<Long>> compact(Map<Long, List<Long>> loaded) {
+    Map<Long, List<Long>> compacted = new HashMap<>(loaded.size());
+    loaded.forEach((technologyId, capacityIds) -> compacted.put(technologyId, LongPostingList.copyOf(capacityIds)));
+    return compacted;
+  }
+
+  long estimatedSize() {
+    return cache.synchronous().estimatedSize();
+  }
+}
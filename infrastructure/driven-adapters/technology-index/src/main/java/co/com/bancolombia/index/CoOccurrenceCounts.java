@@ -0,0 +1,141 @@
+package co.com.bancolombia.index;
+
+import co.com.bancolombia.index.collection.LongCountMap;
+import co.com.bancolombia.index.collection.LongObjectMap;
+import co.com.bancolombia.model.technology.TechnologyCoOccurrence;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared capacities per pair of technologies, mutated only under the index writer lock, with each technology's
+ * top ranking published as an immutable array for lock-free reads.
+ */
+final class CoOccurrenceCounts {
+  private static final Comparator<TechnologyCoOccurrence> RANKING =
+    Comparator.comparingInt(TechnologyCoOccurrence::getSharedCapacities).reversed()
+      .thenComparing(TechnologyCoOccurrence::getTechnologyId);
+  private static final TechnologyCoOccurrence[] NONE = new TechnologyCoOccurrence[0];
+
+  private final LongObjectMap<LongCountMap> counts = new LongObjectMap<>();
+  private final Map<Long, TechnologyCoOccurrence[]> rankings = new ConcurrentHashMap<>();
+  private final int depth;
+
+  CoOccurrenceCounts(int depth) {
+    this.depth = depth;
+  }
+
+  /**
+   * Counts every pair of technologies sharing one of the given capacities and ranks them once at the end.
+   */
+  static CoOccurrenceCounts of(Collection<Roaring64Bitmap> technologiesByCapacity, int depth) {
+    CoOccurrenceCounts coOccurrences = new CoOccurrenceCounts(depth);
+    for (Roaring64Bitmap technologies : technologiesByCapacity) {
+      long[] technologyIds = technologies.toArray();
+      for (int i = 0; i < technologyIds.length; i++) {
+        for (int j = i + 1; j < technologyIds.length; j++) {
+          coOccurrences.partners(technologyIds[i]).add(technologyIds[j], 1);
+          coOccurrences.partners(technologyIds[j]).add(technologyIds[i], 1);
+        }
+      }
+    }
+    coOccurrences.counts.forEach((technologyId, partners) ->
+      coOccurrences.rankings.put(technologyId, coOccurrences.top(partners)));
+    return coOccurrences;
+  }
+
+  List<TechnologyCoOccurrence> ranking(long technologyId, int limit) {
+    TechnologyCoOccurrence[] ranked = rankings.get(technologyId);
+    return ranked == null ? List.of() : List.of(Arrays.copyOf(ranked, Math.min(limit, ranked.length)));
+  }
+
+  void countPair(long technologyId, long partnerId, int delta) {
+    count(technologyId, partnerId, delta);
+    count(partnerId, technologyId, delta);
+  }
+
+  void remove(long technologyId) {
+    counts.remove(technologyId);
+    rankings.remove(technologyId);
+  }
+
+  private LongCountMap partners(long technologyId) {
+    return counts.computeIfAbsent(technologyId, id -> new LongCountMap());
+  }
+
+  private void count(long technologyId, long partnerId, int delta) {
+    LongCountMap partners = delta > 0 ? partners(technologyId) : counts.get(technologyId);
+    if (partners == null) {
+      return;
+    }
+    int sharedCapacities = partners.add(partnerId, delta);
+    if (partners.isEmpty()) {
+      remove(technologyId);
+    } else {
+      rerank(technologyId, partners, partnerId, sharedCapacities, delta);
+    }
+  }
+
+  private void rerank(long technologyId, LongCountMap partners, long partnerId, int sharedCapacities, int delta) {
+    TechnologyCoOccurrence[] ranked = rankings.getOrDefault(technologyId, NONE);
+    int position = indexOf(ranked, partnerId);
+    if (position < 0 && delta < 0) {
+      return;
+    }
+    if (position >= 0 && delta < 0 && ranked.length == depth && partners.size() >= depth) {
+      rankings.put(technologyId, top(partners));
+      return;
+    }
+    TechnologyCoOccurrence entry = new TechnologyCoOccurrence(partnerId, sharedCapacities);
+    if (position < 0 && ranked.length == depth && RANKING.compare(entry, ranked[depth - 1]) > 0) {
+      return;
+    }
+    List<TechnologyCoOccurrence> updated = new ArrayList<>(Arrays.asList(ranked));
+    if (position >= 0) {
+      updated.remove(position);
+    }
+    if (sharedCapacities > 0) {
+      updated.add(-Collections.binarySearch(updated, entry, RANKING) - 1, entry);
+      if (updated.size() > depth) {
+        updated.remove(depth);
+      }
+    }
+    rankings.put(technologyId, updated.toArray(NONE));
+  }
+
+  private TechnologyCoOccurrence[] top(LongCountMap partners) {
+    // Bounded min-heap: the weakest of the current top K sits at the head and is the only one compared against.
+    PriorityQueue<TechnologyCoOccurrence> best = new PriorityQueue<>(depth + 1, RANKING.reversed());
+    partners.forEach((partnerId, sharedCapacities) -> {
+      TechnologyCoOccurrence weakest = best.peek();
+      if (best.size() == depth && (sharedCapacities < weakest.getSharedCapacities()
+        || sharedCapacities == weakest.getSharedCapacities() && partnerId > weakest.getTechnologyId())) {
+        return;
+      }
+      best.offer(new TechnologyCoOccurrence(partnerId, sharedCapacities));
+      if (best.size() > depth) {
+        best.poll();
+      }
+    });
+    TechnologyCoOccurrence[] ranked = best.toArray(NONE);
+    Arrays.sort(ranked, RANKING);
+    return ranked;
+  }
+
+  private static int indexOf(TechnologyCoOccurrence[] ranked, long partnerId) {
+    for (int i = 0; i < ranked.length; i++) {
+      if (ranked[i].getTechnologyId() == partnerId) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,187 @@
+package co.com.bancolombia.index;
+
+import co.com.bancolombia.model.technology.Technology;
+import co.com.bancolombia.model.technology.gateway.TechnologyNameIndexGateway;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+/**
+ * Technology names kept as a sorted array of normalized keys. Lookups binary-search the first key that is not
+ * smaller than the prefix and walk forward, so the top-K matches are the K alphabetically first names sharing it.
+ * Writers copy the arrays and publish a new snapshot, readers never lock. While a rebuild scans the database,
+ * writes are also journaled and replayed on the rebuilt snapshot before it is published, so a write that raced
+ * the scan is not lost when the snapshot is swapped.
+ */
+@Component
+public class InMemoryTechnologyNameIndex implements TechnologyNameIndexGateway {
+  private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+  private final Set<List<UnaryOperator<Snapshot>>> journals = Collections.newSetFromMap(new IdentityHashMap<>());
+  private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+  @Override
+  public Mono<Void> rebuild(Flux<Technology> technologies) {
+    return Mono.defer(() -> {
+      List<UnaryOperator<Snapshot>> journal = new ArrayList<>();
+      synchronized (this) {
+        journals.add(journal);
+      }
+      return technologies.collectList()
+        .doOnNext(all -> {
+          Snapshot rebuilt = Snapshot.of(all);
+          synchronized (this) {
+            for (UnaryOperator<Snapshot> write : journal) {
+              rebuilt = write.apply(rebuilt);
+            }
+            snapshot = rebuilt;
+          }
+        })
+        .doFinally(signal -> {
+          synchronized (this) {
+            journals.remove(journal);
+          }
+        })
+        .then();
+    });
+  }
+
+  @Override
+  public Mono<Void> index(Technology technology) {
+    return Mono.fromRunnable(() -> write(current -> current.with(technology)));
+  }
+
+  @Override
+  public Mono<Void> remove(Long technologyId) {
+    return Mono.fromRunnable(() -> write(current -> current.without(technologyId)));
+  }
+
+  private synchronized void write(UnaryOperator<Snapshot> write) {
+    snapshot = write.apply(snapshot);
+    for (List<UnaryOperator<Snapshot>> journal : journals) {
+      journal.add(write);
+    }
+  }
+
+  @Override
+  public Flux<Technology> findByPrefix(String prefix, int limit) {
+    return Flux.defer(() -> Flux.fromIterable(snapshot.findByPrefix(normalize(prefix), limit)));
+  }
+
+  int size() {
+    return snapshot.technologies.length;
+  }
+
+  static String normalize(String value) {
+    String decomposed = Normalizer.normalize(value.strip(), Normalizer.Form.NFD);
+    return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+  }
+
+  private static final class Snapshot {
+    static final Snapshot EMPTY = new Snapshot(new String[0], new Technology[0]);
+
+    final String[] keys;
+    final Technology[] technologies;
+
+    private Snapshot(String[] keys, Technology[] technologies) {
+      this.keys = keys;
+      this.technologies = technologies;
+    }
+
+    static Snapshot of(List<Technology> all) {
+      Entry[] entries = new Entry[all.size()];
+      for (int i = 0; i < entries.length; i++) {
+        Technology technology = all.get(i);
+        entries[i] = new Entry(normalize(technology.getName().getValue()), technology);
+      }
+      Arrays.sort(entries, Entry.ORDER);
+
+      String[] keys = new String[entries.length];
+      Technology[] technologies = new Technology[entries.length];
+      for (int i = 0; i < entries.length; i++) {
+        keys[i] = entries[i].key;
+        technologies[i] = entries[i].technology;
+      }
+      return new Snapshot(keys, technologies);
+    }
+
+    List<Technology> findByPrefix(String prefix, int limit) {
+      List<Technology> matches = new ArrayList<>(Math.min(limit, technologies.length));
+      for (int i = lowerBound(prefix, Long.MIN_VALUE); i < keys.length && matches.size() < limit; i++) {
+        if (!keys[i].startsWith(prefix)) {
+          break;
+        }
+        matches.add(technologies[i]);
+      }
+      return matches;
+    }
+
+    Snapshot with(Technology technology) {
+      Snapshot base = without(technology.getId().getValue());
+      String key = normalize(technology.getName().getValue());
+      int position = base.lowerBound(key, technology.getId().getValue());
+
+      int size = base.keys.length;
+      String[] keys = new String[size + 1];
+      Technology[] technologies = new Technology[size + 1];
+      System.arraycopy(base.keys, 0, keys, 0, position);
+      System.arraycopy(base.technologies, 0, technologies, 0, position);
+      keys[position] = key;
+      technologies[position] = technology;
+      System.arraycopy(base.keys, position, keys, position + 1, size - position);
+      System.arraycopy(base.technologies, position, technologies, position + 1, size - position);
+      return new Snapshot(keys, technologies);
+    }
+
+    Snapshot without(Long technologyId) {
+      for (int i = 0; i < technologies.length; i++) {
+        if (technologyId.equals(technologies[i].getId().getValue())) {
+          int size = keys.length;
+          String[] keys = new String[size - 1];
+          Technology[] technologies = new Technology[size - 1];
+          System.arraycopy(this.keys, 0, keys, 0, i);
+          System.arraycopy(this.technologies, 0, technologies, 0, i);
+          System.arraycopy(this.keys, i + 1, keys, i, size - i - 1);
+          System.arraycopy(this.technologies, i + 1, technologies, i, size - i - 1);
+          return new Snapshot(keys, technologies);
+        }
+      }
+      return this;
+    }
+
+    private int lowerBound(String key, long technologyId) {
+      int low = 0;
+      int high = keys.length;
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        int comparison = keys[middle].compareTo(key);
+        if (comparison == 0) {
+          comparison = Long.compare(technologies[middle].getId().getValue(), technologyId);
+        }
+        if (comparison < 0) {
+          low = middle + 1;
+        } else {
+          high = middle;
+        }
+      }
+      return low;
+    }
+  }
+
+  private record Entry(String key, Technology technology) {
+    static final Comparator<Entry> ORDER = Comparator.comparing(Entry::key)
+      .thenComparing(entry -> entry.technology().getId().getValue());
+  }
+}
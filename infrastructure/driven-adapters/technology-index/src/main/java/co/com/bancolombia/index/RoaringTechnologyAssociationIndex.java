@@ -0,0 +1,335 @@
+package co.com.bancolombia.index;
+
+import co.com.bancolombia.index.collection.LongArrayMap;
+import co.com.bancolombia.index.collection.LongCountMap;
+import co.com.bancolombia.index.collection.LongPostingList;
+import co.com.bancolombia.model.technology.CapacitySetOperation;
+import co.com.bancolombia.model.technology.TechnologyCapacity;
+import co.com.bancolombia.model.technology.TechnologyCatalogStats;
+import co.com.bancolombia.model.technology.TechnologyCoOccurrence;
+import co.com.bancolombia.model.technology.TechnologyUsage;
+import co.com.bancolombia.model.technology.gateway.TechnologyAssociationIndexGateway;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Technology ids per capacity as bitmaps that are cloned on write and never mutated once published, so reads
+ * take no lock. Writes landing while a rebuild scans are journaled and replayed on the rebuilt links, counters
+ * included, before they are swapped in.
+ */
+@Component
+public class RoaringTechnologyAssociationIndex implements TechnologyAssociationIndexGateway {
+  private static final Roaring64Bitmap EMPTY = new Roaring64Bitmap();
+  // Deepest ranking the recommendation and stats endpoints accept.
+  private static final int RANKING_DEPTH = 50;
+
+  private volatile Links links = new Links(new ConcurrentHashMap<>(), new LongArrayMap(),
+    new CoOccurrenceCounts(RANKING_DEPTH), new AssociationStatistics(null));
+  private volatile TechnologyCatalogStats statsSnapshot = links.statistics().snapshot(RANKING_DEPTH);
+  private final Set<List<Consumer<Links>>> journals = Collections.newSetFromMap(new IdentityHashMap<>());
+  private volatile long reconciliationDrift;
+
+  public RoaringTechnologyAssociationIndex(MeterRegistry meterRegistry) {
+    gauge(meterRegistry, "technology.catalog.associations", Tags.empty(), TechnologyCatalogStats::getAssociations);
+    gauge(meterRegistry, "technology.catalog.capacities", Tags.empty(), TechnologyCatalogStats::getCapacities);
+    gauge(meterRegistry, "technology.catalog.technologies", Tags.empty(), TechnologyCatalogStats::getTechnologies);
+    gauge(meterRegistry, "technology.catalog.capacity.size.max", Tags.empty(),
+      TechnologyCatalogStats::getMaxTechnologiesPerCapacity);
+    for (String bucket : AssociationStatistics.BUCKET_LABELS) {
+      gauge(meterRegistry, "technology.catalog.capacity.size", Tags.of("bucket", bucket),
+        stats -> stats.getCapacitySizeDistribution().get(bucket));
+    }
+    Gauge.builder("technology.catalog.reconciliation.drift", this, index -> index.reconciliationDrift)
+      .description("Links found on only one side of memory and the database at the last rebuild")
+      .register(meterRegistry);
+  }
+
+  @Override
+  public Mono<Void> rebuild(Flux<TechnologyCapacity> associations) {
+    return Mono.defer(() -> {
+      List<Consumer<Links>> journal = new ArrayList<>();
+      synchronized (this) {
+        journals.add(journal);
+      }
+      return scan(associations, journal)
+        .doFinally(signal -> {
+          synchronized (this) {
+            journals.remove(journal);
+          }
+        });
+    });
+  }
+
+  private Mono<Void> scan(Flux<TechnologyCapacity> associations, List<Consumer<Links>> journal) {
+    return associations
+      .collect(Building::new, (building, association) ->
+        building.add(association.getTechnologyId().getValue(), association.getCapacityId().getValue()))
+      .doOnNext(building -> {
+        CoOccurrenceCounts coOccurrences = CoOccurrenceCounts.of(building.technologiesByCapacity.values(),
+          RANKING_DEPTH);
+        AssociationStatistics statistics = new AssociationStatistics(Instant.now());
+        building.technologiesByCapacity.values()
+          .forEach(technologies -> statistics.capacityResized(0, (int) technologies.getLongCardinality()));
+        LongArrayMap capacitiesByTechnology = building.capacitiesByTechnology();
+        capacitiesByTechnology
+          .forEach((technologyId, capacities) -> statistics.technologyUsageChanged(technologyId, 0, capacities.length));
+        Links rebuilt = new Links(optimized(building.technologiesByCapacity), capacitiesByTechnology, coOccurrences,
+          statistics);
+        synchronized (this) {
+          journal.forEach(write -> write.accept(rebuilt));
+          if (links.statistics().reconciledAt() != null) {
+            reconciliationDrift = drift(links.technologiesByCapacity(), rebuilt.technologiesByCapacity());
+          }
+          links = rebuilt;
+          statsSnapshot = statistics.snapshot(RANKING_DEPTH);
+        }
+      })
+      .then();
+  }
+
+  @Override
+  public Mono<Void> link(Long technologyId, Long capacityId) {
+    return Mono.fromRunnable(() -> write(current -> link(current, technologyId, capacityId)));
+  }
+
+  @Override
+  public Mono<Void> unlink(Long technologyId, Long capacityId) {
+    return Mono.fromRunnable(() -> write(current -> unlink(current, technologyId, capacityId)));
+  }
+
+  @Override
+  public Mono<Void> removeTechnology(Long technologyId) {
+    return Mono.fromRunnable(() -> write(current -> removeTechnology(current, technologyId)));
+  }
+
+  @Override
+  public Mono<List<TechnologyCoOccurrence>> findCoOccurring(Long technologyId, int limit) {
+    return Mono.fromSupplier(() -> links.coOccurrences().ranking(technologyId, limit));
+  }
+
+  @Override
+  public Mono<List<Long>> findTechnologyIds(CapacitySetOperation operation, List<Long> capacityIds) {
+    return Mono.fromSupplier(() -> Arrays.stream(combine(operation, capacityIds).toArray()).boxed().toList());
+  }
+
+  @Override
+  public Mono<TechnologyCatalogStats> findStats(int mostUsedLimit) {
+    return Mono.fromSupplier(() -> {
+      TechnologyCatalogStats stats = statsSnapshot;
+      List<TechnologyUsage> mostUsed = stats.getMostUsedTechnologies();
+      return new TechnologyCatalogStats(stats.getAssociations(), stats.getCapacities(), stats.getTechnologies(),
+        stats.getMaxTechnologiesPerCapacity(), stats.getCapacitySizeDistribution(),
+        mostUsed.subList(0, Math.min(mostUsedLimit, mostUsed.size())), stats.getReconciledAt());
+    });
+  }
+
+  Roaring64Bitmap combine(CapacitySetOperation operation, List<Long> capacityIds) {
+    Map<Long, Roaring64Bitmap> technologiesByCapacity = links.technologiesByCapacity();
+    Roaring64Bitmap[] sets = capacityIds.stream()
+      .map(capacityId -> technologiesByCapacity.getOrDefault(capacityId, EMPTY))
+      .toArray(Roaring64Bitmap[]::new);
+
+    return switch (operation) {
+      case INTERSECTION -> intersection(sets);
+      case UNION -> union(sets);
+      case DIFFERENCE -> difference(sets);
+    };
+  }
+
+  private static Roaring64Bitmap intersection(Roaring64Bitmap[] sets) {
+    // Starting from the smallest set keeps every intermediate result as small as it can be.
+    Arrays.sort(sets, Comparator.comparingLong(Roaring64Bitmap::getLongCardinality));
+    Roaring64Bitmap result = sets[0].clone();
+    for (int i = 1; i < sets.length && !result.isEmpty(); i++) {
+      result.and(sets[i]);
+    }
+    return result;
+  }
+
+  private static Roaring64Bitmap union(Roaring64Bitmap[] sets) {
+    Roaring64Bitmap result = new Roaring64Bitmap();
+    for (Roaring64Bitmap set : sets) {
+      result.or(set);
+    }
+    return result;
+  }
+
+  private static Roaring64Bitmap difference(Roaring64Bitmap[] sets) {
+    Roaring64Bitmap result = sets[0].clone();
+    for (int i = 1; i < sets.length && !result.isEmpty(); i++) {
+      result.andNot(sets[i]);
+    }
+    return result;
+  }
+
+  private synchronized void write(Consumer<Links> write) {
+    write.accept(links);
+    statsSnapshot = links.statistics().snapshot(RANKING_DEPTH);
+    for (List<Consumer<Links>> journal : journals) {
+      journal.add(write);
+    }
+  }
+
+  private static void link(Links current, long technologyId, long capacityId) {
+    Roaring64Bitmap technologies = current.technologiesByCapacity().get(capacityId);
+    if (technologies != null && technologies.contains(technologyId)) {
+      return;
+    }
+    int capacitySize = 0;
+    if (technologies != null) {
+      countPairs(current, technologyId, technologies, 1);
+      capacitySize = (int) technologies.getLongCardinality();
+    }
+    current.technologiesByCapacity().put(capacityId, with(technologies, technologyId));
+    current.statistics().capacityResized(capacitySize, capacitySize + 1);
+    LongArrayMap capacitiesByTechnology = current.capacitiesByTechnology();
+    long[] capacities = capacitiesByTechnology.get(technologyId);
+    long[] updated = LongPostingList.with(capacities, capacityId);
+    capacitiesByTechnology.put(technologyId, updated);
+    current.statistics().technologyUsageChanged(technologyId, capacities == null ? 0 : capacities.length, updated.length);
+  }
+
+  private static void unlink(Links current, long technologyId, long capacityId) {
+    detach(current, technologyId, capacityId);
+    LongArrayMap capacitiesByTechnology = current.capacitiesByTechnology();
+    long[] capacities = capacitiesByTechnology.get(technologyId);
+    if (capacities != null) {
+      long[] remaining = LongPostingList.without(capacities, capacityId);
+      current.statistics().technologyUsageChanged(technologyId, capacities.length, remaining.length);
+      if (remaining.length == 0) {
+        capacitiesByTechnology.remove(technologyId);
+      } else {
+        capacitiesByTechnology.put(technologyId, remaining);
+      }
+    }
+  }
+
+  private static void removeTechnology(Links current, long technologyId) {
+    long[] capacities = current.capacitiesByTechnology().remove(technologyId);
+    if (capacities != null) {
+      current.statistics().technologyUsageChanged(technologyId, capacities.length, 0);
+      for (long capacityId : capacities) {
+        detach(current, technologyId, capacityId);
+      }
+    }
+    current.coOccurrences().remove(technologyId);
+  }
+
+  private static void detach(Links current, long technologyId, long capacityId) {
+    Map<Long, Roaring64Bitmap> technologiesByCapacity = current.technologiesByCapacity();
+    Roaring64Bitmap technologies = technologiesByCapacity.get(capacityId);
+    if (technologies == null || !technologies.contains(technologyId)) {
+      return;
+    }
+    Roaring64Bitmap remaining = without(technologies, technologyId);
+    int capacitySize = (int) technologies.getLongCardinality();
+    current.statistics().capacityResized(capacitySize, capacitySize - 1);
+    if (remaining == null) {
+      technologiesByCapacity.remove(capacityId);
+    } else {
+      technologiesByCapacity.put(capacityId, remaining);
+      countPairs(current, technologyId, remaining, -1);
+    }
+  }
+
+  private static void countPairs(Links current, long technologyId, Roaring64Bitmap partners, int delta) {
+    CoOccurrenceCounts coOccurrences = current.coOccurrences();
+    partners.forEach(partnerId -> coOccurrences.countPair(technologyId, partnerId, delta));
+  }
+
+  private void gauge(MeterRegistry meterRegistry, String name, Tags tags, ToDoubleFunction<TechnologyCatalogStats> metric) {
+    Gauge.builder(name, this, index -> metric.applyAsDouble(index.statsSnapshot))
+      .tags(tags)
+      .register(meterRegistry);
+  }
+
+  private static Roaring64Bitmap with(Roaring64Bitmap bitmap, long value) {
+    Roaring64Bitmap copy = bitmap == null ? new Roaring64Bitmap() : bitmap.clone();
+    copy.addLong(value);
+    return copy;
+  }
+
+  private static Roaring64Bitmap without(Roaring64Bitmap bitmap, long value) {
+    Roaring64Bitmap copy = bitmap.clone();
+    copy.removeLong(value);
+    return copy.isEmpty() ? null : copy;
+  }
+
+  /**
+   * Counts the links present on only one side, capacity by capacity, so a missing link is never offset by an
+   * extra one. Both maps are stable while the writer lock is held.
+   */
+  private static long drift(Map<Long, Roaring64Bitmap> incremental, Map<Long, Roaring64Bitmap> rebuilt) {
+    long drift = 0;
+    for (Map.Entry<Long, Roaring64Bitmap> capacity : incremental.entrySet()) {
+      Roaring64Bitmap reconciled = rebuilt.getOrDefault(capacity.getKey(), EMPTY);
+      Roaring64Bitmap differing = capacity.getValue().clone();
+      differing.xor(reconciled);
+      drift += differing.getLongCardinality();
+    }
+    for (Map.Entry<Long, Roaring64Bitmap> capacity : rebuilt.entrySet()) {
+      if (!incremental.containsKey(capacity.getKey())) {
+        drift += capacity.getValue().getLongCardinality();
+      }
+    }
+    return drift;
+  }
+
+  private static Map<Long, Roaring64Bitmap> optimized(Map<Long, Roaring64Bitmap> built) {
+    Map<Long, Roaring64Bitmap> published = new ConcurrentHashMap<>(built);
+    published.values().forEach(Roaring64Bitmap::runOptimize);
+    return published;
+  }
+
+  /**
+   * Rebuild accumulator. Capacity ids are appended unsorted to a growable buffer per technology and sorted once
+   * at the end, so a technology with k capacities costs O(k log k) instead of a copy per row.
+   */
+  private static final class Building {
+    private final Map<Long, Roaring64Bitmap> technologiesByCapacity = new HashMap<>();
+    private final LongArrayMap capacityIds = new LongArrayMap();
+    private final LongCountMap capacityCounts = new LongCountMap();
+
+    void add(long technologyId, long capacityId) {
+      technologiesByCapacity.computeIfAbsent(capacityId, id -> new Roaring64Bitmap()).addLong(technologyId);
+      long[] ids = capacityIds.get(technologyId);
+      int length = capacityCounts.get(technologyId);
+      if (ids == null || length == ids.length) {
+        ids = ids == null ? new long[4] : Arrays.copyOf(ids, length * 2);
+        capacityIds.put(technologyId, ids);
+      }
+      ids[length] = capacityId;
+      capacityCounts.add(technologyId, 1);
+    }
+
+    LongArrayMap capacitiesByTechnology() {
+      LongArrayMap capacitiesByTechnology = new LongArrayMap(capacityIds.size());
+      capacityIds.forEach((technologyId, ids) -> capacitiesByTechnology.put(technologyId,
+        LongPostingList.sortedDistinct(ids, capacityCounts.get(technologyId))));
+      return capacitiesByTechnology;
+    }
+  }
+
+  private record Links(Map<Long, Roaring64Bitmap> technologiesByCapacity, LongArrayMap capacitiesByTechnology,
+                       CoOccurrenceCounts coOccurrences, AssociationStatistics statistics) {
+  }
+}
@@ -0,0 +1,145 @@
+package co.com.bancolombia.index;
+
+import co.com.bancolombia.model.technology.CachedRead;
+import co.com.bancolombia.model.technology.gateway.TechnologyReadCacheGateway;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Catalog reads served from memory and revalidated in the background. An entry younger than the soft TTL is
+ * served as is; an older one is still served at once while a single refresh per key runs against a deadline.
+ * A refresh that fails or times out leaves the old value in place until the hard TTL evicts it, and only then
+ * does a read wait on the database again. Invalidating drops in-flight loads and refreshes alike, so a load
+ * racing a write is never stored.
+ */
+@Component
+public class StaleWhileRevalidateReadCache implements TechnologyReadCacheGateway {
+  private static final String REQUESTS_NAME = "technology.read-cache.requests";
+  private static final String REFRESHES_NAME = "technology.read-cache.refreshes";
+  private static final String STALE_AGE_NAME = "technology.read-cache.stale.age";
+
+  private final AsyncCache<String, Entry> cache;
+  private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+  private final Ticker ticker;
+  private final long softTtlNanos;
+  private final Duration refreshTimeout;
+  private final Counter freshReads;
+  private final Counter staleReads;
+  private final Counter misses;
+  private final Counter refreshed;
+  private final Counter refreshFailures;
+  private final Counter refreshTimeouts;
+  private final Timer staleAge;
+
+  @Autowired
+  public StaleWhileRevalidateReadCache(MeterRegistry meterRegistry,
+                                       @Value("${technology.read-cache.maximum-size:10000}") long maximumSize,
+                                       @Value("${technology.read-cache.soft-ttl:30s}") Duration softTtl,
+                                       @Value("${technology.read-cache.hard-ttl:10m}") Duration hardTtl,
+                                       @Value("${technology.read-cache.refresh-timeout:2s}") Duration refreshTimeout) {
+    this(meterRegistry, maximumSize, softTtl, hardTtl, refreshTimeout, Ticker.systemTicker());
+  }
+
+  StaleWhileRevalidateReadCache(MeterRegistry meterRegistry, long maximumSize, Duration softTtl, Duration hardTtl,
+                                Duration refreshTimeout, Ticker ticker) {
+    this.cache = Caffeine.newBuilder()
+      .maximumSize(maximumSize)
+      .expireAfterWrite(hardTtl)
+      .ticker(ticker)
+      .buildAsync();
+    this.ticker = ticker;
+    this.softTtlNanos = softTtl.toNanos();
+    this.refreshTimeout = refreshTimeout;
+    this.freshReads = Counter.builder(REQUESTS_NAME).tag("result", "fresh").register(meterRegistry);
+    this.staleReads = Counter.builder(REQUESTS_NAME).tag("result", "stale").register(meterRegistry);
+    this.misses = Counter.builder(REQUESTS_NAME).tag("result", "miss").register(meterRegistry);
+    this.refreshed = Counter.builder(REFRESHES_NAME).tag("outcome", "success").register(meterRegistry);
+    this.refreshFailures = Counter.builder(REFRESHES_NAME).tag("outcome", "failure").register(meterRegistry);
+    this.refreshTimeouts = Counter.builder(REFRESHES_NAME).tag("outcome", "timeout").register(meterRegistry);
+    this.staleAge = Timer.builder(STALE_AGE_NAME)
+      .description("Age of the entries served past their soft TTL")
+      .publishPercentileHistogram()
+      .register(meterRegistry);
+  }
+
+  @Override
+  public <T> Mono<CachedRead<T>> get(String key, Supplier<Mono<T>> loader) {
+    return Mono.defer(() -> {
+      CompletableFuture<Entry> cached = cache.getIfPresent(key);
+      Entry entry = cached == null || cached.isCompletedExceptionally() ? null : cached.getNow(null);
+      if (entry != null) {
+        return Mono.just(serve(key, cached, entry, loader));
+      }
+      misses.increment();
+      return Mono.fromFuture(cache.get(key, (id, executor) -> load(loader).toFuture()), true)
+        .map(loaded -> this.<T>read(loaded, 0, false));
+    });
+  }
+
+  @Override
+  public Mono<Void> invalidate(Collection<String> keys) {
+    return Mono.fromRunnable(() -> cache.synchronous().invalidateAll(keys));
+  }
+
+  private <T> CachedRead<T> serve(String key, CompletableFuture<Entry> cached, Entry entry, Supplier<Mono<T>> loader) {
+    long age = ticker.read() - entry.loadedAt();
+    if (age < softTtlNanos) {
+      freshReads.increment();
+      return read(entry, age, false);
+    }
+    staleReads.increment();
+    staleAge.record(age, TimeUnit.NANOSECONDS);
+    revalidate(key, cached, loader);
+    return read(entry, age, true);
+  }
+
+  private <T> void revalidate(String key, CompletableFuture<Entry> cached, Supplier<Mono<T>> loader) {
+    if (!refreshing.add(key)) {
+      return;
+    }
+    // Replacing only the future that was read keeps a refresh from resurrecting an invalidated entry.
+    load(loader)
+      .timeout(refreshTimeout)
+      .doFinally(signal -> refreshing.remove(key))
+      .subscribe(
+        entry -> {
+          if (cache.asMap().replace(key, cached, CompletableFuture.completedFuture(entry))) {
+            refreshed.increment();
+          }
+        },
+        error -> (error instanceof TimeoutException ? refreshTimeouts : refreshFailures).increment());
+  }
+
+  private <T> Mono<Entry> load(Supplier<Mono<T>> loader) {
+    return Mono.defer(loader).map(value -> new Entry(value, ticker.read()));
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> CachedRead<T> read(Entry entry, long ageNanos, boolean stale) {
+    return new CachedRead<>((T) entry.value(), Duration.ofNanos(ageNanos), stale);
+  }
+
+  long estimatedSize() {
+    return cache.synchronous().estimatedSize();
+  }
+
+  private record Entry(Object value, long loadedAt) {
+  }
+}
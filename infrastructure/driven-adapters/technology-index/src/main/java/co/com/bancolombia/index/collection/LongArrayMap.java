@@ -0,0 +1,145 @@
+package co.com.bancolombia.index.collection;
+
+import java.util.Objects;
+
+/**
+ * Map from primitive long keys to long arrays using open addressing with linear probing. Keys sit in a flat
+ * long[] next to the value slots, so a lookup allocates nothing and touches no boxed objects. Removal shifts
+ * the following entries back instead of leaving tombstones. Not thread-safe, callers confine or guard it.
+ */
+public final class LongArrayMap {
+  private static final int MIN_CAPACITY = 16;
+  private static final double LOAD_FACTOR = 0.6;
+
+  private long[] keys;
+  private long[][] values;
+  private int mask;
+  private int resizeAt;
+  private int size;
+
+  public LongArrayMap() {
+    this(0);
+  }
+
+  public LongArrayMap(int expectedSize) {
+    int capacity = MIN_CAPACITY;
+    while (capacity * LOAD_FACTOR < expectedSize) {
+      capacity <<= 1;
+    }
+    allocate(capacity);
+  }
+
+  public long[] get(long key) {
+    for (int slot = slot(key); values[slot] != null; slot = (slot + 1) & mask) {
+      if (keys[slot] == key) {
+        return values[slot];
+      }
+    }
+    return null;
+  }
+
+  public boolean containsKey(long key) {
+    return get(key) != null;
+  }
+
+  public long[] put(long key, long[] value) {
+    Objects.requireNonNull(value, "value");
+    int slot = slot(key);
+    for (; values[slot] != null; slot = (slot + 1) & mask) {
+      if (keys[slot] == key) {
+        long[] previous = values[slot];
+        values[slot] = value;
+        return previous;
+      }
+    }
+    keys[slot] = key;
+    values[slot] = value;
+    if (++size > resizeAt) {
+      rehash(values.length << 1);
+    }
+    return null;
+  }
+
+  public long[] remove(long key) {
+    for (int slot = slot(key); values[slot] != null; slot = (slot + 1) & mask) {
+      if (keys[slot] == key) {
+        long[] previous = values[slot];
+        shiftBack(slot);
+        size--;
+        return previous;
+      }
+    }
+    return null;
+  }
+
+  public void forEach(Consumer consumer) {
+    for (int slot = 0; slot < values.length; slot++) {
+      if (values[slot] != null) {
+        consumer.accept(keys[slot], values[slot]);
+      }
+    }
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  private void shiftBack(int gap) {
+    for (int slot = (gap + 1) & mask; values[slot] != null; slot = (slot + 1) & mask) {
+      // An entry may fill the gap only if the gap lies between its home slot and where it sits now.
+      int home = slot(keys[slot]);
+      if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+        keys[gap] = keys[slot];
+        values[gap] = values[slot];
+        gap = slot;
+      }
+    }
+    values[gap] = null;
+  }
+
+  private void rehash(int capacity) {
+    long[] oldKeys = keys;
+    long[][] oldValues = values;
+    allocate(capacity);
+    for (int i = 0; i < oldValues.length; i++) {
+      if (oldValues[i] != null) {
+        int slot = slot(oldKeys[i]);
+        while (values[slot] != null) {
+          slot = (slot + 1) & mask;
+        }
+        keys[slot] = oldKeys[i];
+        values[slot] = oldValues[i];
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys = new long[capacity];
+    values = new long[capacity][];
+    mask = capacity - 1;
+    resizeAt = (int) (capacity * LOAD_FACTOR);
+  }
+
+  private int slot(long key) {
+    return mix(key) & mask;
+  }
+
+  static int mix(long key) {
+    // Murmur3 finalizer: sequential database ids would otherwise cluster into long probe runs.
+    key ^= key >>> 33;
+    key *= 0xff51afd7ed558ccdL;
+    key ^= key >>> 33;
+    key *= 0xc4ceb9fe1a85ec53L;
+    key ^= key >>> 33;
+    return (int) key;
+  }
+
+  @FunctionalInterface
+  public interface Consumer {
+    void accept(long key, long[] value);
+  }
+}
@@ -0,0 +1,118 @@
+package co.com.bancolombia.index.collection;
+
+/**
+ * Counters keyed by primitive longs, laid out like {@link LongArrayMap}. A counter that drops to zero is removed,
+ * so a zero value doubles as the empty-slot marker. Not thread-safe, callers confine or guard it.
+ */
+public final class LongCountMap {
+  private static final int MIN_CAPACITY = 8;
+  private static final double LOAD_FACTOR = 0.6;
+
+  private long[] keys;
+  private int[] counts;
+  private int mask;
+  private int resizeAt;
+  private int size;
+
+  public LongCountMap() {
+    allocate(MIN_CAPACITY);
+  }
+
+  public int get(long key) {
+    for (int slot = slot(key); counts[slot] != 0; slot = (slot + 1) & mask) {
+      if (keys[slot] == key) {
+        return counts[slot];
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Adds {@code delta} to the counter of {@code key} and returns the new value. Counters reaching zero or less
+   * are removed.
+   */
+  public int add(long key, int delta) {
+    int slot = slot(key);
+    for (; counts[slot] != 0; slot = (slot + 1) & mask) {
+      if (keys[slot] == key) {
+        int count = counts[slot] + delta;
+        if (count <= 0) {
+          shiftBack(slot);
+          size--;
+          return 0;
+        }
+        counts[slot] = count;
+        return count;
+      }
+    }
+    if (delta <= 0) {
+      return 0;
+    }
+    keys[slot] = key;
+    counts[slot] = delta;
+    if (++size > resizeAt) {
+      rehash(counts.length << 1);
+    }
+    return delta;
+  }
+
+  public void forEach(Consumer consumer) {
+    for (int slot = 0; slot < counts.length; slot++) {
+      if (counts[slot] != 0) {
+        consumer.accept(keys[slot], counts[slot]);
+      }
+    }
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  private void shiftBack(int gap) {
+    for (int slot = (gap + 1) & mask; counts[slot] != 0; slot = (slot + 1) & mask) {
+      int home = slot(keys[slot]);
+      if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+        keys[gap] = keys[slot];
+        counts[gap] = counts[slot];
+        gap = slot;
+      }
+    }
+    counts[gap] = 0;
+  }
+
+  private void rehash(int capacity) {
+    long[] oldKeys = keys;
+    int[] oldCounts = counts;
+    allocate(capacity);
+    for (int i = 0; i < oldCounts.length; i++) {
+      if (oldCounts[i] != 0) {
+        int slot = slot(oldKeys[i]);
+        while (counts[slot] != 0) {
+          slot = (slot + 1) & mask;
+        }
+        keys[slot] = oldKeys[i];
+        counts[slot] = oldCounts[i];
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys = new long[capacity];
+    counts = new int[capacity];
+    mask = capacity - 1;
+    resizeAt = (int) (capacity * LOAD_FACTOR);
+  }
+
+  private int slot(long key) {
+    return LongArrayMap.mix(key) & mask;
+  }
+
+  @FunctionalInterface
+  public interface Consumer {
+    void accept(long key, int count);
+  }
+}
@@ -0,0 +1,148 @@
+package co.com.bancolombia.index.collection;
+
+import java.util.Objects;
+import java.util.function.LongFunction;
+
+/**
+ * Map from primitive long keys to arbitrary values, laid out like {@link LongArrayMap}. Null values are not
+ * allowed, an empty value slot marks a free one. Not thread-safe, callers confine or guard it.
+ */
+public final class LongObjectMap<V> {
+  private static final int MIN_CAPACITY = 16;
+  private static final double LOAD_FACTOR = 0.6;
+
+  private long[] keys;
+  private Object[] values;
+  private int mask;
+  private int resizeAt;
+  private int size;
+
+  public LongObjectMap() {
+    this(0);
+  }
+
+  public LongObjectMap(int expectedSize) {
+    int capacity = MIN_CAPACITY;
+    while (capacity * LOAD_FACTOR < expectedSize) {
+      capacity <<= 1;
+    }
+    allocate(capacity);
+  }
+
+  @SuppressWarnings("unchecked")
+  public V get(long key) {
+    for (int slot = slot(key); values[slot] != null; slot = (slot + 1) & mask) {
+      if (keys[slot] == key) {
+        return (V) values[slot];
+      }
+    }
+    return null;
+  }
+
+  public V computeIfAbsent(long key, LongFunction<V> factory) {
+    V value = get(key);
+    if (value == null) {
+      value = factory.apply(key);
+      put(key, value);
+    }
+    return value;
+  }
+
+  public boolean containsKey(long key) {
+    return get(key) != null;
+  }
+
+  @SuppressWarnings("unchecked")
+  public V put(long key, V value) {
+    Objects.requireNonNull(value, "value");
+    int slot = slot(key);
+    for (; values[slot] != null; slot = (slot + 1) & mask) {
+      if (keys[slot] == key) {
+        V previous = (V) values[slot];
+        values[slot] = value;
+        return previous;
+      }
+    }
+    keys[slot] = key;
+    values[slot] = value;
+    if (++size > resizeAt) {
+      rehash(values.length << 1);
+    }
+    return null;
+  }
+
+  @SuppressWarnings("unchecked")
+  public V remove(long key) {
+    for (int slot = slot(key); values[slot] != null; slot = (slot + 1) & mask) {
+      if (keys[slot] == key) {
+        V previous = (V) values[slot];
+        shiftBack(slot);
+        size--;
+        return previous;
+      }
+    }
+    return null;
+  }
+
+  @SuppressWarnings("unchecked")
+  public void forEach(Consumer<? super V> consumer) {
+    for (int slot = 0; slot < values.length; slot++) {
+      if (values[slot] != null) {
+        consumer.accept(keys[slot], (V) values[slot]);
+      }
+    }
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  private void shiftBack(int gap) {
+    for (int slot = (gap + 1) & mask; values[slot] != null; slot = (slot + 1) & mask) {
+      // An entry may fill the gap only if the gap lies between its home slot and where it sits now.
+      int home = slot(keys[slot]);
+      if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+        keys[gap] = keys[slot];
+        values[gap] = values[slot];
+        gap = slot;
+      }
+    }
+    values[gap] = null;
+  }
+
+  private void rehash(int capacity) {
+    long[] oldKeys = keys;
+    Object[] oldValues = values;
+    allocate(capacity);
+    for (int i = 0; i < oldValues.length; i++) {
+      if (oldValues[i] != null) {
+        int slot = slot(oldKeys[i]);
+        while (values[slot] != null) {
+          slot = (slot + 1) & mask;
+        }
+        keys[slot] = oldKeys[i];
+        values[slot] = oldValues[i];
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys = new long[capacity];
+    values = new Object[capacity];
+    mask = capacity - 1;
+    resizeAt = (int) (capacity * LOAD_FACTOR);
+  }
+
+  private int slot(long key) {
+    return LongArrayMap.mix(key) & mask;
+  }
+
+  @FunctionalInterface
+  public interface Consumer<V> {
+    void accept(long key, V value);
+  }
+}
@@ -0,0 +1,126 @@
+package co.com.bancolombia.index.collection;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * Immutable sorted set of distinct ids over a plain long[], exposed as a {@code List<Long>} so it can stand in
+ * for the boxed lists the gateways exchange. Ids are boxed only when read through the List API. The static
+ * helpers work on bare sorted arrays for structures that store them directly.
+ */
+public final class LongPostingList extends AbstractList<Long> implements RandomAccess {
+  private static final long[] NO_IDS = new long[0];
+  private static final LongPostingList EMPTY = new LongPostingList(NO_IDS);
+
+  private final long[] ids;
+
+  private LongPostingList(long[] ids) {
+    this.ids = ids;
+  }
+
+  public static LongPostingList copyOf(Collection<Long> values) {
+    if (values instanceof LongPostingList postingList) {
+      return postingList;
+    }
+    if (values.isEmpty()) {
+      return EMPTY;
+    }
+    long[] ids = new long[values.size()];
+    int i = 0;
+    for (Long value : values) {
+      ids[i++] = value;
+    }
+    return new LongPostingList(sortedDistinct(ids, ids.length));
+  }
+
+  /**
+   * Sorts the first {@code length} values in place and returns them without duplicates, reusing the array when
+   * it already has the right size.
+   */
+  public static long[] sortedDistinct(long[] values, int length) {
+    Arrays.sort(values, 0, length);
+    int distinct = 0;
+    for (int i = 0; i < length; i++) {
+      if (distinct == 0 || values[distinct - 1] != values[i]) {
+        values[distinct++] = values[i];
+      }
+    }
+    return distinct == values.length ? values : Arrays.copyOf(values, distinct);
+  }
+
+  public static boolean contains(long[] sorted, long value) {
+    return sorted != null && Arrays.binarySearch(sorted, value) >= 0;
+  }
+
+  /**
+   * Returns a copy of {@code sorted} with {@code value} inserted in order, or the same array when it is already
+   * present. A null array is treated as empty.
+   */
+  public static long[] with(long[] sorted, long value) {
+    if (sorted == null) {
+      return new long[]{value};
+    }
+    int position = Arrays.binarySearch(sorted, value);
+    if (position >= 0) {
+      return sorted;
+    }
+    int insertAt = -position - 1;
+    long[] copy = new long[sorted.length + 1];
+    System.arraycopy(sorted, 0, copy, 0, insertAt);
+    copy[insertAt] = value;
+    System.arraycopy(sorted, insertAt, copy, insertAt + 1, sorted.length - insertAt);
+    return copy;
+  }
+
+  /**
+   * Returns a copy of {@code sorted} without {@code value}, or the same array when it is absent.
+   */
+  public static long[] without(long[] sorted, long value) {
+    int position = Arrays.binarySearch(sorted, value);
+    if (position < 0) {
+      return sorted;
+    }
+    if (sorted.length == 1) {
+      return NO_IDS;
+    }
+    long[] copy = new long[sorted.length - 1];
+    System.arraycopy(sorted, 0, copy, 0, position);
+    System.arraycopy(sorted, position + 1, copy, position, sorted.length - position - 1);
+    return copy;
+  }
+
+  @Override
+  public Long get(int index) {
+    return ids[index];
+  }
+
+  @Override
+  public int size() {
+    return ids.length;
+  }
+
+  @Override
+  public boolean contains(Object value) {
+    return indexOf(value) >= 0;
+  }
+
+  @Override
+  public int indexOf(Object value) {
+    if (!(value instanceof Long id)) {
+      return -1;
+    }
+    int position = Arrays.binarySearch(ids, id);
+    return position >= 0 ? position : -1;
+  }
+
+  @Override
+  public int lastIndexOf(Object value) {
+    return indexOf(value);
+  }
+
+  public long[] toLongArray() {
+    return ids.clone();
+  }
+}
@@ -0,0 +1,102 @@
+package co.com.bancolombia.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CaffeineTechnologyCapacityCacheTest {
+
+  private CaffeineTechnologyCapacityCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = new CaffeineTechnologyCapacityCache(100, Duration.ofMinutes(10));
+  }
+
+  @Test
+  void shouldLoadOnceAndServeFromCache() {
+    AtomicInteger loads = new AtomicInteger();
+
+    for (int i = 0; i < 3; i++) {
+      StepVerifier.create(cache.get(1L, id -> {
+          loads.incrementAndGet();
+          return Mono.just(List.of(10L, 20L));
+        }))
+        .expectNext(List.of(10L, 20L))
+        .verifyComplete();
+    }
+
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  void shouldNotCacheEmptyLoads() {
+    AtomicInteger loads = new AtomicInteger();
+
+    for (int i = 0; i < 2; i++) {
+      StepVerifier.create(cache.get(1L, id -> {
+          loads.incrementAndGet();
+          return Mono.<List<Long>>empty();
+        }))
+        .verifyComplete();
+    }
+
+    assertEquals(2, loads.get());
+    assertEquals(0, cache.estimatedSize());
+  }
+
+  @Test
+  void shouldReloadAfterInvalidation() {
+    cache.get(1L, id -> Mono.just(List.of(10L))).block();
+    cache.invalidate(1L).block();
+
+    StepVerifier.create(cache.get(1L, id -> Mono.just(List.of(10L, 20L))))
+      .expectNext(List.of(10L, 20L))
+      .verifyComplete();
+  }
+
+  @Test
+  void shouldNotStoreLoadThatRacedAnInvalidation() {
+    Sinks.One<List<Long>> staleLoad = Sinks.one();
+    Mono<List<Long>> pending = cache.get(1L, id -> staleLoad.asMono());
+    pending.subscribe();
+
+    cache.invalidate(1L).block();
+    staleLoad.tryEmitValue(List.of(10L));
+
+    StepVerifier.create(cache.get(1L, id -> Mono.just(List.of(10L, 20L))))
+      .expectNext(List.of(10L, 20L))
+      .verifyComplete();
+  }
+
+  @Test
+  void shouldLoadOnlyMissingIdsInBulk() {
+    cache.get(1L, id -> Mono.just(List.of(10L))).block();
+
+    StepVerifier.create(cache.getAll(Set.of(1L, 2L), missing -> {
+        assertEquals(Set.of(2L), missing);
+        return Mono.just(Map.of(2L, List.of(20L)));
+      }))
+      .expectNext(Map.of(1L, List.of(10L), 2L, List.of(20L)))
+      .verifyComplete();
+  }
+
+  @Test
+  void shouldDropEverythingOnInvalidateAll() {
+    cache.getAll(Set.of(1L, 2L), missing -> Mono.just(Map.of(1L, List.of(10L), 2L, List.of()))).block();
+
+    cache.invalidateAll().block();
+
+    assertEquals(0, cache.estimatedSize());
+  }
+}
@@ -0,0 +1,57 @@
+package co.com.bancolombia.index;
+
+import co.com.bancolombia.model.technology.TechnologyCoOccurrence;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class CoOccurrenceCountsTest {
+
+  @Test
+  void shouldRankPairsCountedFromCapacities() {
+    CoOccurrenceCounts counts = CoOccurrenceCounts.of(List.of(
+      Roaring64Bitmap.bitmapOf(1L, 2L, 3L),
+      Roaring64Bitmap.bitmapOf(1L, 2L),
+      Roaring64Bitmap.bitmapOf(1L, 4L)), 2);
+
+    assertThat(counts.ranking(1L, 10))
+      .extracting(TechnologyCoOccurrence::getTechnologyId, TechnologyCoOccurrence::getSharedCapacities)
+      .containsExactly(tuple(2L, 2), tuple(3L, 1));
+    assertThat(counts.ranking(1L, 1))
+      .extracting(TechnologyCoOccurrence::getTechnologyId)
+      .containsExactly(2L);
+  }
+
+  @Test
+  void shouldPromotePartnersLeftOutOfAFullRanking() {
+    CoOccurrenceCounts counts = new CoOccurrenceCounts(2);
+    counts.countPair(1L, 2L, 3);
+    counts.countPair(1L, 3L, 2);
+    counts.countPair(1L, 4L, 1);
+
+    counts.countPair(1L, 2L, -2);
+    assertThat(counts.ranking(1L, 10))
+      .extracting(TechnologyCoOccurrence::getTechnologyId, TechnologyCoOccurrence::getSharedCapacities)
+      .containsExactly(tuple(3L, 2), tuple(2L, 1));
+
+    counts.countPair(1L, 3L, -2);
+    assertThat(counts.ranking(1L, 10))
+      .extracting(TechnologyCoOccurrence::getTechnologyId, TechnologyCoOccurrence::getSharedCapacities)
+      .containsExactly(tuple(2L, 1), tuple(4L, 1));
+  }
+
+  @Test
+  void shouldDropTechnologiesThatShareNothingAnymore() {
+    CoOccurrenceCounts counts = new CoOccurrenceCounts(2);
+    counts.countPair(1L, 2L, 1);
+
+    counts.countPair(1L, 2L, -1);
+
+    assertThat(counts.ranking(1L, 10)).isEmpty();
+    assertThat(counts.ranking(2L, 10)).isEmpty();
+  }
+}
@@ -0,0 +1,96 @@
+package co.com.bancolombia.index;
+
+import co.com.bancolombia.model.technology.Technology;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryTechnologyNameIndexTest {
+
+  private InMemoryTechnologyNameIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index = new InMemoryTechnologyNameIndex();
+    index.rebuild(Flux.just(
+      new Technology(1L, "JavaScript", "Language"),
+      new Technology(2L, "Java", "Language"),
+      new Technology(3L, "Jakarta EE", "Platform"),
+      new Technology(4L, "Kotlin", "Language"),
+      new Technology(5L, "Éter", "Protocol"))).block();
+  }
+
+  @Test
+  void shouldReturnTopMatchesInAlphabeticalOrder() {
+    StepVerifier.create(index.findByPrefix("ja", 2).map(technology -> technology.getName().getValue()))
+      .expectNext("Jakarta EE", "Java")
+      .verifyComplete();
+  }
+
+  @Test
+  void shouldMatchIgnoringCaseAndAccents() {
+    StepVerifier.create(index.findByPrefix(" ETE", 10).map(technology -> technology.getId().getValue()))
+      .expectNext(5L)
+      .verifyComplete();
+  }
+
+  @Test
+  void shouldReturnNothingWhenNoNameSharesThePrefix() {
+    StepVerifier.create(index.findByPrefix("rust", 10)).verifyComplete();
+  }
+
+  @Test
+  void shouldReflectSavesAndDeletes() {
+    // When
+    index.index(new Technology(6L, "Jasmine", "Testing")).block();
+    index.remove(2L).block();
+
+    // Then
+    StepVerifier.create(index.findByPrefix("ja", 10).map(technology -> technology.getName().getValue()))
+      .expectNext("Jakarta EE", "Jasmine", "JavaScript")
+      .verifyComplete();
+    assertEquals(5, index.size());
+  }
+
+  @Test
+  void shouldReplaceEntryWhenTechnologyIsIndexedAgain() {
+    // When
+    index.index(new Technology(4L, "Kotlin Multiplatform", "Language")).block();
+
+    // Then
+    StepVerifier.create(index.findByPrefix("kotlin ", 10).map(technology -> technology.getId().getValue()))
+      .expectNext(4L)
+      .verifyComplete();
+    assertEquals(5, index.size());
+  }
+
+  @Test
+  void shouldIgnoreRemovalOfUnknownTechnology() {
+    index.remove(99L).block();
+
+    assertEquals(5, index.size());
+  }
+
+  @Test
+  void shouldKeepWritesMadeWhileARebuildIsScanning() {
+    // Given
+    Sinks.Many<Technology> scan = Sinks.many().unicast().onBackpressureBuffer();
+    index.rebuild(scan.asFlux()).subscribe();
+    scan.tryEmitNext(new Technology(1L, "JavaScript", "Language"));
+    scan.tryEmitNext(new Technology(2L, "Java", "Language"));
+
+    // When
+    index.index(new Technology(7L, "Jaspr", "Framework")).block();
+    index.remove(2L).block();
+    scan.tryEmitComplete();
+
+    // Then
+    StepVerifier.create(index.findByPrefix("ja", 10).map(technology -> technology.getId().getValue()))
+      .expectNext(7L, 1L)
+      .verifyComplete();
+  }
+}
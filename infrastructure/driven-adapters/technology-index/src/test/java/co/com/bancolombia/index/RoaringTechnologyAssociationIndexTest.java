@@ -0,0 +1,239 @@
+package co.com.bancolombia.index;
+
+import co.com.bancolombia.model.technology.CapacitySetOperation;
+import co.com.bancolombia.model.technology.TechnologyCapacity;
+import co.com.bancolombia.model.technology.TechnologyCoOccurrence;
+import co.com.bancolombia.model.technology.TechnologyUsage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class RoaringTechnologyAssociationIndexTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private RoaringTechnologyAssociationIndex index;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    index = new RoaringTechnologyAssociationIndex(meterRegistry);
+    index.rebuild(Flux.just(
+      new TechnologyCapacity(1L, 10L),
+      new TechnologyCapacity(2L, 10L),
+      new TechnologyCapacity(3L, 10L),
+      new TechnologyCapacity(2L, 20L),
+      new TechnologyCapacity(3L, 20L),
+      new TechnologyCapacity(4L, 20L),
+      new TechnologyCapacity(3L, 30L))).block();
+  }
+
+  @Test
+  void shouldIntersectCapacities() {
+    StepVerifier.create(index.findTechnologyIds(CapacitySetOperation.INTERSECTION, List.of(10L, 20L, 30L)))
+      .expectNext(List.of(3L))
+      .verifyComplete();
+  }
+
+  @Test
+  void shouldUniteCapacities() {
+    StepVerifier.create(index.findTechnologyIds(CapacitySetOperation.UNION, List.of(10L, 20L)))
+      .expectNext(List.of(1L, 2L, 3L, 4L))
+      .verifyComplete();
+  }
+
+  @Test
+  void shouldSubtractTheOtherCapacitiesFromTheFirst() {
+    StepVerifier.create(index.findTechnologyIds(CapacitySetOperation.DIFFERENCE, List.of(10L, 20L)))
+      .expectNext(List.of(1L))
+      .verifyComplete();
+  }
+
+  @Test
+  void shouldTreatUnknownCapacitiesAsEmpty() {
+    StepVerifier.create(index.findTechnologyIds(CapacitySetOperation.INTERSECTION, List.of(10L, 99L)))
+      .expectNext(List.of())
+      .verifyComplete();
+  }
+
+  @Test
+  void shouldReflectLinksAndUnlinks() {
+    index.link(1L, 20L).block();
+    index.unlink(2L, 20L).block();
+
+    StepVerifier.create(index.findTechnologyIds(CapacitySetOperation.INTERSECTION, List.of(10L, 20L)))
+      .expectNext(List.of(1L, 3L))
+      .verifyComplete();
+  }
+
+  @Test
+  void shouldRemoveTechnologyFromEveryCapacity() {
+    index.removeTechnology(3L).block();
+
+    StepVerifier.create(index.findTechnologyIds(CapacitySetOperation.UNION, List.of(10L, 20L, 30L)))
+      .expectNext(List.of(1L, 2L, 4L))
+      .verifyComplete();
+  }
+
+  @Test
+  void shouldRankTechnologiesBySharedCapacities() {
+    StepVerifier.create(index.findCoOccurring(3L, 10))
+      .assertNext(coOccurring -> assertThat(coOccurring)
+        .extracting(TechnologyCoOccurrence::getTechnologyId, TechnologyCoOccurrence::getSharedCapacities)
+        .containsExactly(tuple(2L, 2), tuple(1L, 1), tuple(4L, 1)))
+      .verifyComplete();
+  }
+
+  @Test
+  void shouldKeepOnlyTheTopRankedTechnologies() {
+    StepVerifier.create(index.findCoOccurring(3L, 2))
+      .assertNext(coOccurring -> assertThat(coOccurring)
+        .extracting(TechnologyCoOccurrence::getTechnologyId)
+        .containsExactly(2L, 1L))
+      .verifyComplete();
+  }
+
+  @Test
+  void shouldMaintainCoOccurrencesOnWrites() {
+    index.link(4L, 10L).block();
+    index.link(4L, 10L).block();
+    index.unlink(2L, 20L).block();
+    index.removeTechnology(1L).block();
+
+    StepVerifier.create(index.findCoOccurring(3L, 10))
+      .assertNext(coOccurring -> assertThat(coOccurring)
+        .extracting(TechnologyCoOccurrence::getTechnologyId, TechnologyCoOccurrence::getSharedCapacities)
+        .containsExactly(tuple(4L, 2), tuple(2L, 1)))
+      .verifyComplete();
+    StepVerifier.create(index.findCoOccurring(1L, 10))
+      .expectNext(List.of())
+      .verifyComplete();
+  }
+
+  @Test
+  void shouldReportCatalogStatistics() {
+    StepVerifier.create(index.findStats(2))
+      .assertNext(stats -> {
+        assertThat(stats.getAssociations()).isEqualTo(7);
+        assertThat(stats.getCapacities()).isEqualTo(3);
+        assertThat(stats.getTechnologies()).isEqualTo(4);
+        assertThat(stats.getMaxTechnologiesPerCapacity()).isEqualTo(3);
+        assertThat(stats.getCapacitySizeDistribution())
+          .containsEntry("1", 1L)
+          .containsEntry("2-5", 2L)
+          .containsEntry("51+", 0L);
+        assertThat(stats.getMostUsedTechnologies())
+          .extracting(TechnologyUsage::getTechnologyId, TechnologyUsage::getCapacities)
+          .containsExactly(tuple(3L, 3), tuple(2L, 2));
+        assertThat(stats.getReconciledAt()).isNotNull();
+      })
+      .verifyComplete();
+  }
+
+  @Test
+  void shouldKeepStatisticsAndGaugesCurrentOnWrites() {
+    index.link(5L, 40L).block();
+    index.unlink(3L, 30L).block();
+    index.removeTechnology(2L).block();
+
+    StepVerifier.create(index.findStats(10))
+      .assertNext(stats -> {
+        assertThat(stats.getAssociations()).isEqualTo(5);
+        assertThat(stats.getCapacities()).isEqualTo(3);
+        assertThat(stats.getTechnologies()).isEqualTo(4);
+        assertThat(stats.getMostUsedTechnologies())
+          .extracting(TechnologyUsage::getTechnologyId)
+          .containsExactly(3L, 1L, 4L, 5L);
+      })
+      .verifyComplete();
+    assertThat(meterRegistry.get("technology.catalog.associations").gauge().value()).isEqualTo(5);
+    assertThat(meterRegistry.get("technology.catalog.capacity.size").tag("bucket", "2-5").gauge().value()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldKeepWritesMadeWhileARebuildIsScanning() {
+    // Given
+    index = new RoaringTechnologyAssociationIndex(new SimpleMeterRegistry());
+    Sinks.Many<TechnologyCapacity> scan = Sinks.many().unicast().onBackpressureBuffer();
+    index.rebuild(scan.asFlux()).subscribe();
+    scan.tryEmitNext(new TechnologyCapacity(1L, 10L));
+    scan.tryEmitNext(new TechnologyCapacity(2L, 10L));
+
+    // When
+    index.link(5L, 10L).block();
+    index.unlink(2L, 10L).block();
+    scan.tryEmitComplete();
+
+    // Then
+    StepVerifier.create(index.findTechnologyIds(CapacitySetOperation.UNION, List.of(10L)))
+      .expectNext(List.of(1L, 5L))
+      .verifyComplete();
+    StepVerifier.create(index.findCoOccurring(1L, 10))
+      .assertNext(coOccurring -> assertThat(coOccurring)
+        .extracting(TechnologyCoOccurrence::getTechnologyId)
+        .containsExactly(5L))
+      .verifyComplete();
+  }
+
+  @Test
+  void shouldRecountCoOccurrencesOnEveryRebuild() {
+    index.rebuild(Flux.just(
+      new TechnologyCapacity(1L, 10L),
+      new TechnologyCapacity(2L, 10L),
+      new TechnologyCapacity(1L, 40L),
+      new TechnologyCapacity(5L, 40L))).block();
+
+    StepVerifier.create(index.findCoOccurring(3L, 10))
+      .expectNext(List.of())
+      .verifyComplete();
+    StepVerifier.create(index.findCoOccurring(1L, 10))
+      .assertNext(coOccurring -> assertThat(coOccurring)
+        .extracting(TechnologyCoOccurrence::getTechnologyId, TechnologyCoOccurrence::getSharedCapacities)
+        .containsExactly(tuple(2L, 1), tuple(5L, 1)))
+      .verifyComplete();
+  }
+
+  @Test
+  void shouldRecordDriftFoundByReconciliation() {
+    index.link(9L, 10L).block();
+
+    index.rebuild(Flux.just(new TechnologyCapacity(1L, 10L))).block();
+
+    assertThat(meterRegistry.get("technology.catalog.reconciliation.drift").gauge().value()).isEqualTo(7);
+  }
+
+  @Test
+  void shouldNotLetDriftInOneCapacityCancelDriftInAnother() {
+    index.rebuild(Flux.just(
+      new TechnologyCapacity(1L, 10L),
+      new TechnologyCapacity(2L, 10L),
+      new TechnologyCapacity(3L, 10L),
+      new TechnologyCapacity(4L, 10L),
+      new TechnologyCapacity(2L, 20L),
+      new TechnologyCapacity(3L, 20L),
+      new TechnologyCapacity(4L, 20L))).block();
+
+    assertThat(meterRegistry.get("technology.catalog.reconciliation.drift").gauge().value()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldCountASwappedLinkAsDrift() {
+    index.rebuild(Flux.just(
+      new TechnologyCapacity(1L, 10L),
+      new TechnologyCapacity(2L, 10L),
+      new TechnologyCapacity(5L, 10L),
+      new TechnologyCapacity(2L, 20L),
+      new TechnologyCapacity(3L, 20L),
+      new TechnologyCapacity(4L, 20L),
+      new TechnologyCapacity(3L, 30L))).block();
+
+    assertThat(meterRegistry.get("technology.catalog.reconciliation.drift").gauge().value()).isEqualTo(2);
+  }
+}
@@ -0,0 +1,195 @@
+package co.com.bancolombia.index;
+
+import co.com.bancolombia.model.technology.CachedRead;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StaleWhileRevalidateReadCacheTest {
+  private static final Duration SOFT_TTL = Duration.ofSeconds(30);
+  private static final Duration HARD_TTL = Duration.ofMinutes(10);
+
+  private final AtomicLong nanos = new AtomicLong();
+  private SimpleMeterRegistry meterRegistry;
+  private StaleWhileRevalidateReadCache cache;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    cache = new StaleWhileRevalidateReadCache(meterRegistry, 100, SOFT_TTL, HARD_TTL, Duration.ofMillis(50), nanos::get);
+  }
+
+  @Test
+  void shouldLoadOnceAndServeFreshValues() {
+    AtomicInteger loads = new AtomicInteger();
+
+    for (int i = 0; i < 3; i++) {
+      StepVerifier.create(cache.get("technologies", () -> {
+          loads.incrementAndGet();
+          return Mono.just(List.of("Java"));
+        }))
+        .assertNext(read -> {
+          assertEquals(List.of("Java"), read.getValue());
+          assertFalse(read.isStale());
+        })
+        .verifyComplete();
+    }
+
+    assertEquals(1, loads.get());
+    assertEquals(2, requests("fresh"));
+    assertEquals(1, requests("miss"));
+  }
+
+  @Test
+  void shouldServeStaleValueAndRefreshInBackground() {
+    cache.get("technologies", () -> Mono.just("v1")).block();
+    advance(SOFT_TTL.plusSeconds(5));
+
+    StepVerifier.create(cache.get("technologies", () -> Mono.just("v2")))
+      .assertNext(read -> {
+        assertEquals("v1", read.getValue());
+        assertTrue(read.isStale());
+        assertEquals(SOFT_TTL.plusSeconds(5), read.getAge());
+      })
+      .verifyComplete();
+
+    StepVerifier.create(cache.<String>get("technologies", () -> Mono.error(new IllegalStateException("not expected"))))
+      .assertNext(read -> {
+        assertEquals("v2", read.getValue());
+        assertFalse(read.isStale());
+      })
+      .verifyComplete();
+    assertEquals(1, refreshes("success"));
+  }
+
+  @Test
+  void shouldRefreshOnceWhileARefreshIsInFlight() {
+    AtomicInteger refreshes = new AtomicInteger();
+    Sinks.One<String> refresh = Sinks.one();
+    cache.get("technologies", () -> Mono.just("v1")).block();
+    advance(SOFT_TTL);
+
+    for (int i = 0; i < 3; i++) {
+      cache.get("technologies", () -> {
+        refreshes.incrementAndGet();
+        return refresh.asMono();
+      }).block();
+    }
+
+    assertEquals(1, refreshes.get());
+    assertEquals(3, requests("stale"));
+  }
+
+  @Test
+  void shouldKeepServingStaleValueWhenRefreshFails() {
+    cache.get("technologies", () -> Mono.just("v1")).block();
+    advance(SOFT_TTL);
+
+    for (int i = 0; i < 2; i++) {
+      StepVerifier.create(cache.<String>get("technologies", () -> Mono.error(new IllegalStateException("database down"))))
+        .assertNext(read -> {
+          assertEquals("v1", read.getValue());
+          assertTrue(read.isStale());
+        })
+        .verifyComplete();
+    }
+
+    assertEquals(2, refreshes("failure"));
+  }
+
+  @Test
+  void shouldKeepServingStaleValueWhenRefreshExceedsDeadline() throws InterruptedException {
+    cache.get("technologies", () -> Mono.just("v1")).block();
+    advance(SOFT_TTL);
+
+    StepVerifier.create(cache.get("technologies", Mono::<String>never))
+      .assertNext(read -> assertEquals("v1", read.getValue()))
+      .verifyComplete();
+
+    for (int attempt = 0; attempt < 100 && refreshes("timeout") == 0; attempt++) {
+      Thread.sleep(10);
+    }
+    assertEquals(1, refreshes("timeout"));
+    assertEquals("v1", cache.get("technologies", () -> Mono.just("v2")).map(CachedRead::getValue).block());
+  }
+
+  @Test
+  void shouldWaitForTheDatabaseOnceTheHardTtlHasPassed() {
+    cache.get("technologies", () -> Mono.just("v1")).block();
+    advance(HARD_TTL.plusSeconds(1));
+
+    StepVerifier.create(cache.get("technologies", () -> Mono.just("v2")))
+      .assertNext(read -> {
+        assertEquals("v2", read.getValue());
+        assertFalse(read.isStale());
+      })
+      .verifyComplete();
+    assertEquals(2, requests("miss"));
+  }
+
+  @Test
+  void shouldNotStoreRefreshThatRacedAnInvalidation() {
+    Sinks.One<String> refresh = Sinks.one();
+    cache.get("technologies", () -> Mono.just("v1")).block();
+    advance(SOFT_TTL);
+    cache.get("technologies", refresh::asMono).block();
+
+    cache.invalidate(List.of("technologies")).block();
+    refresh.tryEmitValue("v2");
+
+    StepVerifier.create(cache.get("technologies", () -> Mono.just("v3")))
+      .assertNext(read -> assertEquals("v3", read.getValue()))
+      .verifyComplete();
+  }
+
+  @Test
+  void shouldInvalidateOnlyTheGivenKeys() {
+    cache.get("technologies", () -> Mono.just("v1")).block();
+    cache.get("technologies.by-capacity:1", () -> Mono.just("c1")).block();
+    cache.get("technologies.by-capacity:2", () -> Mono.just("c2")).block();
+
+    cache.invalidate(List.of("technologies", "technologies.by-capacity:1")).block();
+
+    assertEquals("v2", cache.get("technologies", () -> Mono.just("v2")).map(CachedRead::getValue).block());
+    assertEquals("c1'", cache.get("technologies.by-capacity:1", () -> Mono.just("c1'")).map(CachedRead::getValue).block());
+    assertEquals("c2", cache.get("technologies.by-capacity:2", () -> Mono.just("c2'")).map(CachedRead::getValue).block());
+  }
+
+  @Test
+  void shouldNotCacheEmptyLoads() {
+    AtomicInteger loads = new AtomicInteger();
+
+    for (int i = 0; i < 2; i++) {
+      StepVerifier.create(cache.get("technologies", () -> {
+          loads.incrementAndGet();
+          return Mono.<String>empty();
+        }))
+        .verifyComplete();
+    }
+
+    assertEquals(2, loads.get());
+    assertEquals(0, cache.estimatedSize());
+  }
+
+  private void advance(Duration duration) {
+    nanos.addAndGet(duration.toNanos());
+  }
+
+  private double requests(String result) {
+    return meterRegistry.get("technology.read-cache.requests").tag("result", result).counter().count();
+  }
+
+  private double refreshes(String outcome) {
+    return meterRegistry.get("technology.read-cache.refreshes").tag("outcome", outcome).counter().count();
+  }
+}
@@ -0,0 +1,56 @@
+package co.com.bancolombia.index.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongArrayMapTest {
+
+  @Test
+  void shouldPutGetAndReplaceValues() {
+    LongArrayMap map = new LongArrayMap();
+
+    assertThat(map.put(7L, new long[]{1L})).isNull();
+    assertThat(map.put(7L, new long[]{1L, 2L})).containsExactly(1L);
+
+    assertThat(map.get(7L)).containsExactly(1L, 2L);
+    assertThat(map.get(8L)).isNull();
+    assertThat(map.size()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldKeepZeroAndNegativeKeys() {
+    LongArrayMap map = new LongArrayMap();
+    map.put(0L, new long[]{1L});
+    map.put(-1L, new long[]{2L});
+
+    assertThat(map.get(0L)).containsExactly(1L);
+    assertThat(map.get(-1L)).containsExactly(2L);
+  }
+
+  @Test
+  void shouldMatchHashMapUnderRandomWritesAndRemovals() {
+    LongArrayMap map = new LongArrayMap();
+    Map<Long, long[]> expected = new HashMap<>();
+    SplittableRandom random = new SplittableRandom(7);
+
+    for (int i = 0; i < 50_000; i++) {
+      long key = random.nextLong(2_000);
+      if (random.nextInt(3) == 0) {
+        assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+      } else {
+        long[] value = {i};
+        assertThat(map.put(key, value)).isEqualTo(expected.put(key, value));
+      }
+    }
+
+    assertThat(map.size()).isEqualTo(expected.size());
+    for (long key = 0; key < 2_000; key++) {
+      assertThat(map.get(key)).isEqualTo(expected.get(key));
+    }
+  }
+}
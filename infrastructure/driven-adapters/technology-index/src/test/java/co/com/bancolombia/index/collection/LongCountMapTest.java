@@ -0,0 +1,56 @@
+package co.com.bancolombia.index.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongCountMapTest {
+
+  @Test
+  void shouldIncrementAndDropCountersReachingZero() {
+    LongCountMap counts = new LongCountMap();
+
+    assertThat(counts.add(5L, 1)).isEqualTo(1);
+    assertThat(counts.add(5L, 2)).isEqualTo(3);
+    assertThat(counts.add(5L, -3)).isZero();
+
+    assertThat(counts.get(5L)).isZero();
+    assertThat(counts.isEmpty()).isTrue();
+  }
+
+  @Test
+  void shouldIgnoreDecrementsOfAbsentKeys() {
+    LongCountMap counts = new LongCountMap();
+
+    assertThat(counts.add(5L, -1)).isZero();
+    assertThat(counts.size()).isZero();
+  }
+
+  @Test
+  void shouldMatchHashMapUnderRandomUpdates() {
+    LongCountMap counts = new LongCountMap();
+    Map<Long, Integer> expected = new HashMap<>();
+    SplittableRandom random = new SplittableRandom(11);
+
+    for (int i = 0; i < 50_000; i++) {
+      long key = random.nextLong(1_000);
+      int delta = random.nextBoolean() ? 1 : -1;
+      int count = expected.getOrDefault(key, 0) + delta;
+      if (count <= 0) {
+        expected.remove(key);
+      } else {
+        expected.put(key, count);
+      }
+      counts.add(key, delta);
+    }
+
+    Map<Long, Integer> actual = new HashMap<>();
+    counts.forEach(actual::put);
+    assertThat(actual).isEqualTo(expected);
+    assertThat(counts.size()).isEqualTo(expected.size());
+  }
+}
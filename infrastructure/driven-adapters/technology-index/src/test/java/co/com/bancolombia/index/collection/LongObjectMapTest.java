@@ -0,0 +1,45 @@
+package co.com.bancolombia.index.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongObjectMapTest {
+
+  @Test
+  void shouldCreateMissingValuesOnce() {
+    LongObjectMap<StringBuilder> map = new LongObjectMap<>();
+
+    map.computeIfAbsent(7L, key -> new StringBuilder()).append('a');
+    map.computeIfAbsent(7L, key -> new StringBuilder()).append('b');
+
+    assertThat(map.get(7L)).hasToString("ab");
+    assertThat(map.size()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldMatchHashMapUnderRandomWritesAndRemovals() {
+    LongObjectMap<String> map = new LongObjectMap<>();
+    Map<Long, String> expected = new HashMap<>();
+    SplittableRandom random = new SplittableRandom(7);
+
+    for (int i = 0; i < 50_000; i++) {
+      long key = random.nextLong(2_000) - 1_000;
+      if (random.nextInt(3) == 0) {
+        assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+      } else {
+        String value = Integer.toString(i);
+        assertThat(map.put(key, value)).isEqualTo(expected.put(key, value));
+      }
+    }
+
+    assertThat(map.size()).isEqualTo(expected.size());
+    for (long key = -1_000; key < 1_000; key++) {
+      assertThat(map.get(key)).isEqualTo(expected.get(key));
+    }
+  }
+}
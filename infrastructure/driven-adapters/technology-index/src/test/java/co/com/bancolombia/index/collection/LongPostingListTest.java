@@ -0,0 +1,40 @@
+package co.com.bancolombia.index.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongPostingListTest {
+
+  @Test
+  void shouldSortAndDeduplicateCopiedValues() {
+    LongPostingList postingList = LongPostingList.copyOf(List.of(30L, 10L, 20L, 10L));
+
+    assertThat(postingList).containsExactly(10L, 20L, 30L);
+    assertThat(postingList).isEqualTo(List.of(10L, 20L, 30L));
+    assertThat(postingList.contains(20L)).isTrue();
+    assertThat(postingList.contains(25L)).isFalse();
+    assertThat(postingList.indexOf(30L)).isEqualTo(2);
+  }
+
+  @Test
+  void shouldInsertInOrderAndIgnoreDuplicates() {
+    long[] ids = LongPostingList.with(null, 20L);
+    ids = LongPostingList.with(ids, 10L);
+    ids = LongPostingList.with(ids, 30L);
+
+    assertThat(ids).containsExactly(10L, 20L, 30L);
+    assertThat(LongPostingList.with(ids, 20L)).isSameAs(ids);
+  }
+
+  @Test
+  void shouldRemoveValuesAndKeepAbsentOnesUntouched() {
+    long[] ids = {10L, 20L, 30L};
+
+    assertThat(LongPostingList.without(ids, 20L)).containsExactly(10L, 30L);
+    assertThat(LongPostingList.without(ids, 25L)).isSameAs(ids);
+    assertThat(LongPostingList.without(new long[]{10L}, 10L)).isEmpty();
+  }
+}
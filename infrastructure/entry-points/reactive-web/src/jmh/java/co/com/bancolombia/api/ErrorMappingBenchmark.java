@@ -0,0 +1,69 @@
+package co.com.bancolombia.api;
+
+import co.com.bancolombia.api.response.ErrorResponse;
+import co.com.bancolombia.model.technology.exceptions.DomainException;
+import co.com.bancolombia.usecase.exception.BussinessException;
+import jakarta.validation.ConstraintViolationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ErrorMappingBenchmark {
+  private static final String MESSAGE = "The technology name cannot be duplicated.";
+
+  private ServerRequest request;
+  private ErrorHandlingFilter filter;
+
+  @Setup
+  public void setUp() {
+    request = MockServerRequest.builder().build();
+    filter = new ErrorHandlingFilter(new ErrorResponseFactory());
+  }
+
+  @Benchmark
+  public Object legacyOnErrorResumeChainWithStackTrace() {
+    return Mono.<ServerResponse>error(new LegacyBusinessException(MESSAGE))
+      .onErrorResume(ConstraintViolationException.class, ex -> badRequest("VALIDATION_ERROR", ex.getMessage()))
+      .onErrorResume(DomainException.class, ex -> badRequest("DOMAIN_ERROR", ex.getMessage()))
+      .onErrorResume(LegacyBusinessException.class, ex -> badRequest("BUSINESS_ERROR", ex.getMessage()))
+      .onErrorResume(Exception.class, ex -> ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR)
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(new ErrorResponse("INTERNAL_ERROR", "An unexpected error occurred")))
+      .doOnError(error -> { })
+      .block();
+  }
+
+  @Benchmark
+  public Object centralizedFilterWithStacklessException() {
+    HandlerFunction<ServerResponse> failingHandler = serverRequest -> Mono.error(new BussinessException(MESSAGE));
+    return filter.filter(request, failingHandler).block();
+  }
+
+  private Mono<ServerResponse> badRequest(String error, String message) {
+    return ServerResponse.badRequest()
+      .contentType(MediaType.APPLICATION_JSON)
+      .bodyValue(new ErrorResponse(error, message));
+  }
+
+  private static final class LegacyBusinessException extends RuntimeException {
+    private LegacyBusinessException(String message) {
+      super(message);
+    }
+  }
+}
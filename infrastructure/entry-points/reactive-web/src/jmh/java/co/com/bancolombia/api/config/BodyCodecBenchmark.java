@@ -0,0 +1,70 @@
+package co.com.bancolombia.api.config;
+
+import co.com.bancolombia.usecase.response.TechnologyResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BodyCodecBenchmark {
+  @Param({"json", "cbor", "smile"})
+  public String format;
+
+  @Param({"500"})
+  public int size;
+
+  private ObjectMapper mapper;
+  private List<TechnologyResponse> technologies;
+  private byte[] encoded;
+
+  @Setup
+  public void setUp() throws IOException {
+    mapper = switch (format) {
+      case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+      case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+      default -> Jackson2ObjectMapperBuilder.json().build();
+    };
+    technologies = LongStream.rangeClosed(1, size)
+      .mapToObj(id -> new TechnologyResponse(id, "Technology " + id, "Description for technology " + id))
+      .toList();
+    encoded = mapper.writeValueAsBytes(technologies);
+  }
+
+  @Benchmark
+  public byte[] encode(PayloadCounters counters) throws IOException {
+    byte[] body = mapper.writeValueAsBytes(technologies);
+    counters.payloadBytes = body.length;
+    return body;
+  }
+
+  @Benchmark
+  public JsonNode decode(PayloadCounters counters) throws IOException {
+    counters.payloadBytes = encoded.length;
+    return mapper.readTree(encoded);
+  }
+
+  /**
+   * Encoded size of the payload, reported next to the timings so each format's size is read from the same run.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class PayloadCounters {
+    public long payloadBytes;
+  }
+}
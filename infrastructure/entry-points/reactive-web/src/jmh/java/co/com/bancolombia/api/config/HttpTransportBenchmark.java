@@ -0,0 +1,94 @@
+package co.com.bancolombia.api.config;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Besides throughput, the serverConnections counter reports how many connections the server holds open
+ * to serve the concurrent requests: one per in-flight request over HTTP/1.1, a single one over H2C.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HttpTransportBenchmark {
+  private static final String BODY = "[{\"technologyId\":1,\"name\":\"Java\",\"description\":\"Programming language\"}]";
+
+  @Param({"HTTP11", "H2C"})
+  public String protocol;
+
+  @Param({"true", "false"})
+  public boolean nativeTransport;
+
+  @Param({"256"})
+  public int concurrency;
+
+  private final AtomicInteger openConnections = new AtomicInteger();
+  private LoopResources serverLoops;
+  private DisposableServer server;
+  private ConnectionProvider connectionProvider;
+  private HttpClient client;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    HttpProtocol httpProtocol = HttpProtocol.valueOf(protocol);
+    serverLoops = LoopResources.create("bench-http", 1, 4, true);
+    server = ServerTransportConfig.customize(HttpServer.create(), serverLoops, nativeTransport, true)
+      .host("127.0.0.1")
+      .port(0)
+      .protocol(HttpProtocol.HTTP11, HttpProtocol.H2C)
+      .doOnConnection(connection -> {
+        openConnections.incrementAndGet();
+        connection.onDispose(openConnections::decrementAndGet);
+      })
+      .route(routes -> routes.get("/v1/api/technology", (request, response) -> response.sendString(Mono.just(BODY))))
+      .bindNow();
+
+    connectionProvider = ConnectionProvider.builder("bench-client").maxConnections(concurrency).build();
+    client = HttpClient.create(connectionProvider)
+      .protocol(httpProtocol)
+      .baseUrl("http://127.0.0.1:" + server.port());
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    connectionProvider.disposeLater().block();
+    server.disposeNow();
+    serverLoops.disposeLater().block();
+  }
+
+  @Benchmark
+  public Long concurrentRequests(ConnectionCounters counters) {
+    Long responses = Flux.range(0, concurrency)
+      .flatMap(i -> client.get().uri("/v1/api/technology").responseContent().aggregate().asString(), concurrency)
+      .count()
+      .block();
+    counters.serverConnections = openConnections.get();
+    return responses;
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class ConnectionCounters {
+    public long serverConnections;
+  }
+}
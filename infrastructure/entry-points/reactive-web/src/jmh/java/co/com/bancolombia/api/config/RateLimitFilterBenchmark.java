@@ -0,0 +1,80 @@
+package co.com.bancolombia.api.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class RateLimitFilterBenchmark {
+  private static final WebFilterChain NO_OP_CHAIN = exchange -> Mono.empty();
+
+  @Param({"1", "1000"})
+  public int clients;
+
+  private RateLimitFilter filter;
+  private TokenBucket sharedBucket;
+
+  @Setup
+  public void setUp() {
+    RateLimitProperties properties = new RateLimitProperties(true, "X-Client-Id", 10_000, Duration.ofMinutes(10),
+      List.of(new RateLimitProperties.Route("POST", "/v1/api/technology/associate", Long.MAX_VALUE / 2, Duration.ofSeconds(1))));
+    filter = new RateLimitFilter(properties, new SimpleMeterRegistry());
+    sharedBucket = new TokenBucket(Long.MAX_VALUE / 2, TimeUnit.SECONDS.toNanos(1), System.nanoTime());
+  }
+
+  @State(Scope.Thread)
+  public static class RequestState {
+    private static final int EXCHANGES_PER_THREAD = 1024;
+
+    private final MockServerWebExchange[] exchanges = new MockServerWebExchange[EXCHANGES_PER_THREAD];
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp(RateLimitFilterBenchmark benchmark) {
+      for (int i = 0; i < EXCHANGES_PER_THREAD; i++) {
+        exchanges[i] = MockServerWebExchange.from(MockServerHttpRequest.post("/v1/api/technology/associate")
+          .header("X-Client-Id", "client-" + ThreadLocalRandom.current().nextInt(benchmark.clients)));
+      }
+    }
+
+    private MockServerWebExchange nextExchange() {
+      next = (next + 1) & (EXCHANGES_PER_THREAD - 1);
+      return exchanges[next];
+    }
+  }
+
+  @Benchmark
+  public Object baselineChain(RequestState state) {
+    return NO_OP_CHAIN.filter(state.nextExchange()).block();
+  }
+
+  @Benchmark
+  public Object rateLimitedChain(RequestState state) {
+    return filter.filter(state.nextExchange(), NO_OP_CHAIN).block();
+  }
+
+  @Benchmark
+  public long contendedBucketConsume() {
+    return sharedBucket.tryConsume(System.nanoTime());
+  }
+}
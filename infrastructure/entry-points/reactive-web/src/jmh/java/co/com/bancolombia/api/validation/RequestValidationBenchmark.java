@@ -0,0 +1,42 @@
+package co.com.bancolombia.api.validation;
+
+import co.com.bancolombia.api.request.CreateTechnologyRequest;
+import co.com.bancolombia.usecase.command.CreateTechnologyCommand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RequestValidationBenchmark {
+
+  private CreateTechnologyRequest validRequest;
+  private CreateTechnologyRequest invalidRequest;
+
+  @Setup
+  public void setUp() {
+    validRequest = new CreateTechnologyRequest("Spring Boot", "Framework de Java para desarrollo de aplicaciones empresariales");
+    invalidRequest = new CreateTechnologyRequest("", "d".repeat(91));
+  }
+
+  @Benchmark
+  public CreateTechnologyCommand validRequest() {
+    return RequestValidators.createTechnology(validRequest);
+  }
+
+  @Benchmark
+  public Object invalidRequest() {
+    try {
+      return RequestValidators.createTechnology(invalidRequest);
+    } catch (RequestValidationException e) {
+      return e.getMessage();
+    }
+  }
+}
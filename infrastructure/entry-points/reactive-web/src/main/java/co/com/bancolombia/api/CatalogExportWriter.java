@@ -0,0 +1,155 @@
+package co.com.bancolombia.api;
+
+import co.com.bancolombia.api.validation.RequestValidationException;
+import co.com.bancolombia.usecase.response.TechnologyExportResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+final class CatalogExportWriter {
+  static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+  static final int ROWS_PER_BUFFER = 128;
+
+  private static final String FORMAT_PARAM = "format";
+  private static final String UNKNOWN_FORMAT_MESSAGE = "Format must be one of ndjson or csv";
+  private static final List<MediaType> EXPORT_TYPES = List.of(MediaType.APPLICATION_NDJSON, TEXT_CSV);
+  private static final String CSV_HEADER = "technologyId,name,description,capacityIds\n";
+  private static final char CAPACITY_SEPARATOR = ';';
+  private static final int ESTIMATED_ROW_BYTES = 192;
+  private static final JsonFactory JSON_FACTORY = JsonFactory.builder().build();
+
+  private CatalogExportWriter() {
+  }
+
+  static MediaType exportType(ServerRequest request) {
+    String format = request.queryParam(FORMAT_PARAM).orElse(null);
+    if (format != null) {
+      return switch (format.toLowerCase(Locale.ROOT)) {
+        case "ndjson" -> MediaType.APPLICATION_NDJSON;
+        case "csv" -> TEXT_CSV;
+        default -> throw new RequestValidationException(UNKNOWN_FORMAT_MESSAGE);
+      };
+    }
+    List<MediaType> accepted = request.headers().accept();
+    return accepted.isEmpty()
+      ? MediaType.APPLICATION_NDJSON
+      : ContentNegotiation.negotiate(accepted, EXPORT_TYPES);
+  }
+
+  static Flux<DataBuffer> encode(Flux<TechnologyExportResponse> rows, MediaType exportType, DataBufferFactory bufferFactory) {
+    boolean csv = TEXT_CSV.isCompatibleWith(exportType);
+    Flux<DataBuffer> body = rows
+      .buffer(ROWS_PER_BUFFER)
+      .map(batch -> write(batch, csv, bufferFactory));
+    return csv
+      ? Flux.concat(Mono.fromCallable(() -> header(bufferFactory)), body)
+      : body;
+  }
+
+  private static DataBuffer header(DataBufferFactory bufferFactory) {
+    byte[] header = CSV_HEADER.getBytes(StandardCharsets.UTF_8);
+    return bufferFactory.allocateBuffer(header.length).write(header);
+  }
+
+  private static DataBuffer write(List<TechnologyExportResponse> batch, boolean csv, DataBufferFactory bufferFactory) {
+    DataBuffer buffer = bufferFactory.allocateBuffer(batch.size() * ESTIMATED_ROW_BYTES);
+    try (OutputStream out = buffer.asOutputStream()) {
+      if (csv) {
+        writeCsv(batch, out);
+      } else {
+        writeNdjson(batch, out);
+      }
+      return buffer;
+    } catch (IOException e) {
+      DataBufferUtils.release(buffer);
+      throw new UncheckedIOException(e);
+    } catch (RuntimeException e) {
+      DataBufferUtils.release(buffer);
+      throw e;
+    }
+  }
+
+  private static void writeNdjson(List<TechnologyExportResponse> batch, OutputStream out) throws IOException {
+    try (JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+      generator.setRootValueSeparator(null);
+      for (TechnologyExportResponse technology : batch) {
+        generator.writeStartObject();
+        generator.writeNumberField("technologyId", technology.getTechnologyId());
+        generator.writeStringField("name", technology.getName());
+        generator.writeStringField("description", technology.getDescription());
+        generator.writeArrayFieldStart("capacityIds");
+        for (Long capacityId : technology.getCapacityIds()) {
+          generator.writeNumber(capacityId);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+      }
+    }
+  }
+
+  private static void writeCsv(List<TechnologyExportResponse> batch, OutputStream out) throws IOException {
+    Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+    for (TechnologyExportResponse technology : batch) {
+      writer.write(Long.toString(technology.getTechnologyId()));
+      writer.write(',');
+      writeCsvField(writer, technology.getName());
+      writer.write(',');
+      writeCsvField(writer, technology.getDescription());
+      writer.write(',');
+      List<Long> capacityIds = technology.getCapacityIds();
+      for (int i = 0; i < capacityIds.size(); i++) {
+        if (i > 0) {
+          writer.write(CAPACITY_SEPARATOR);
+        }
+        writer.write(Long.toString(capacityIds.get(i)));
+      }
+      writer.write('\n');
+    }
+    writer.flush();
+  }
+
+  private static void writeCsvField(Writer writer, String value) throws IOException {
+    if (value == null) {
+      return;
+    }
+    if (!needsQuoting(value)) {
+      writer.write(value);
+      return;
+    }
+    writer.write('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"') {
+        writer.write('"');
+      }
+      writer.write(c);
+    }
+    writer.write('"');
+  }
+
+  private static boolean needsQuoting(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,189 @@
+package co.com.bancolombia.api;
+
+import co.com.bancolombia.usecase.command.ImportTechnologyCommand;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.StringDecoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+final class CatalogImportReader {
+  static final String CSV_HEADER = "technologyId,name,description,capacityIds";
+
+  private static final int CSV_COLUMNS = 4;
+  private static final char CAPACITY_SEPARATOR = ';';
+  private static final StringDecoder LINE_DECODER = StringDecoder.textPlainOnly(List.of("\n"), false);
+  private static final ResolvableType STRING_TYPE = ResolvableType.forClass(String.class);
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private CatalogImportReader() {
+  }
+
+  static Flux<ImportTechnologyCommand> read(Flux<DataBuffer> body, MediaType contentType) {
+    Flux<String> lines = LINE_DECODER.decode(body, STRING_TYPE, MimeTypeUtils.TEXT_PLAIN, null);
+    if (CatalogExportWriter.TEXT_CSV.isCompatibleWith(contentType)) {
+      return Flux.defer(() -> {
+        CsvRecordReader records = new CsvRecordReader();
+        return lines.<ImportTechnologyCommand>handle((line, sink) -> records.feed(line, sink::next))
+          .concatWith(Flux.defer(() -> Flux.fromIterable(records.finish())));
+      });
+    }
+    return lines
+      .index()
+      .handle((indexed, sink) -> {
+        String text = indexed.getT2();
+        if (!text.isBlank()) {
+          sink.next(parseNdjson(indexed.getT1() + 1, text));
+        }
+      });
+  }
+
+  private static ImportTechnologyCommand parseNdjson(long line, String text) {
+    JsonNode node;
+    try {
+      node = MAPPER.readTree(text);
+    } catch (JsonProcessingException e) {
+      return ImportTechnologyCommand.malformed(line, "Malformed JSON row");
+    }
+    if (!node.isObject()) {
+      return ImportTechnologyCommand.malformed(line, "Malformed JSON row");
+    }
+
+    List<Long> capacityIds = new ArrayList<>();
+    for (JsonNode capacityId : node.path("capacityIds")) {
+      if (!capacityId.canConvertToLong() || !capacityId.isIntegralNumber()) {
+        return ImportTechnologyCommand.malformed(line, "Invalid capacity id: " + capacityId);
+      }
+      capacityIds.add(capacityId.longValue());
+    }
+    return new ImportTechnologyCommand(line, node.path("name").textValue(), node.path("description").textValue(),
+      capacityIds);
+  }
+
+  private static ImportTechnologyCommand parseCsv(long line, List<String> fields) {
+    if (fields.size() != CSV_COLUMNS) {
+      return ImportTechnologyCommand.malformed(line, "Expected " + CSV_COLUMNS + " CSV columns");
+    }
+
+    List<Long> capacityIds = new ArrayList<>();
+    String capacities = fields.get(3);
+    int start = 0;
+    while (start < capacities.length()) {
+      int end = capacities.indexOf(CAPACITY_SEPARATOR, start);
+      if (end < 0) {
+        end = capacities.length();
+      }
+      String capacityId = capacities.substring(start, end).strip();
+      try {
+        capacityIds.add(Long.parseLong(capacityId));
+      } catch (NumberFormatException e) {
+        return ImportTechnologyCommand.malformed(line, "Invalid capacity id: " + capacityId);
+      }
+      start = end + 1;
+    }
+    return new ImportTechnologyCommand(line, fields.get(1), fields.get(2), capacityIds);
+  }
+
+  /**
+   * RFC 4180 tokenizer fed one decoded line at a time. Quoting state survives between lines, so a quoted field
+   * holding a line break (as the export writes it) is read back as a single record reported at the line it
+   * started on. Only an unquoted line break ends a record; CRLF and LF are both accepted there.
+   */
+  private static final class CsvRecordReader {
+    private final List<String> fields = new ArrayList<>(CSV_COLUMNS);
+    private final StringBuilder field = new StringBuilder();
+    private long line = 1;
+    private long recordLine = 1;
+    private boolean headerRead;
+    private boolean quoted;
+    private boolean closedQuote;
+    private boolean pendingCarriageReturn;
+    private boolean recordStarted;
+
+    void feed(String text, Consumer<ImportTechnologyCommand> records) {
+      for (int i = 0; i < text.length(); i++) {
+        char c = text.charAt(i);
+        if (quoted) {
+          if (c == '"') {
+            quoted = false;
+            closedQuote = true;
+          } else {
+            field.append(c);
+            if (c == '\n') {
+              line++;
+            }
+          }
+          continue;
+        }
+
+        if (pendingCarriageReturn) {
+          pendingCarriageReturn = false;
+          if (c != '\n') {
+            field.append('\r');
+          }
+        }
+        boolean escapedQuote = closedQuote && c == '"';
+        closedQuote = false;
+        if (escapedQuote) {
+          field.append('"');
+          quoted = true;
+        } else if (c == '"' && field.isEmpty()) {
+          quoted = true;
+          recordStarted = true;
+        } else if (c == ',') {
+          fields.add(field.toString());
+          field.setLength(0);
+          recordStarted = true;
+        } else if (c == '\r') {
+          pendingCarriageReturn = true;
+        } else if (c == '\n') {
+          endRecord(records);
+          line++;
+          recordLine = line;
+        } else {
+          field.append(c);
+          recordStarted = true;
+        }
+      }
+    }
+
+    List<ImportTechnologyCommand> finish() {
+      if (quoted) {
+        return List.of(ImportTechnologyCommand.malformed(recordLine, "Unterminated quoted field"));
+      }
+      List<ImportTechnologyCommand> last = new ArrayList<>(1);
+      endRecord(last::add);
+      return last;
+    }
+
+    private void endRecord(Consumer<ImportTechnologyCommand> records) {
+      pendingCarriageReturn = false;
+      closedQuote = false;
+      if (!recordStarted && field.isEmpty()) {
+        return;
+      }
+      fields.add(field.toString());
+      field.setLength(0);
+      recordStarted = false;
+      List<String> record = List.copyOf(fields);
+      fields.clear();
+
+      if (!headerRead) {
+        headerRead = true;
+        if (!CSV_HEADER.equals(String.join(",", record).strip())) {
+          records.accept(ImportTechnologyCommand.malformed(recordLine, "Expected CSV header: " + CSV_HEADER));
+        }
+        return;
+      }
+      records.accept(parseCsv(recordLine, record));
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package co.com.bancolombia.api;
+
+import co.com.bancolombia.api.config.BinaryCodecConfig;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.server.NotAcceptableStatusException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+final class ContentNegotiation {
+  private static final List<MediaType> PRODUCIBLE_TYPES = List.of(
+    MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, BinaryCodecConfig.APPLICATION_SMILE);
+
+  private ContentNegotiation() {
+  }
+
+  static MediaType responseType(ServerRequest request) {
+    List<MediaType> accepted = request.headers().accept();
+    if (accepted.isEmpty()) {
+      return MediaType.APPLICATION_JSON;
+    }
+    return negotiate(accepted, PRODUCIBLE_TYPES);
+  }
+
+  /**
+   * The negotiated type for an error body, falling back to JSON when the client accepts nothing producible.
+   */
+  static MediaType errorType(ServerRequest request) {
+    try {
+      return responseType(request);
+    } catch (NotAcceptableStatusException e) {
+      return MediaType.APPLICATION_JSON;
+    }
+  }
+
+  /**
+   * Picks the first producible type compatible with the highest-quality, most specific accepted type. Types sent
+   * with {@code q=0} are refused outright; when nothing is left the request fails with 406 instead of being
+   * answered in a representation the client did not ask for.
+   */
+  static MediaType negotiate(List<MediaType> accepted, List<MediaType> producible) {
+    List<MediaType> ordered = new ArrayList<>(accepted);
+    MimeTypeUtils.sortBySpecificity(ordered);
+    ordered.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+    for (MediaType acceptedType : ordered) {
+      if (acceptedType.getQualityValue() == 0) {
+        break;
+      }
+      for (MediaType candidate : producible) {
+        if (acceptedType.isCompatibleWith(candidate) && !refused(candidate, ordered)) {
+          return candidate;
+        }
+      }
+    }
+    throw new NotAcceptableStatusException(producible);
+  }
+
+  private static boolean refused(MediaType candidate, List<MediaType> accepted) {
+    return accepted.stream()
+      .anyMatch(type -> type.getQualityValue() == 0 && type.includes(candidate));
+  }
+}
@@ -0,0 +1,56 @@
+package co.com.bancolombia.api;
+
+import co.com.bancolombia.api.validation.RequestValidationException;
+import co.com.bancolombia.model.technology.exceptions.DomainException;
+import co.com.bancolombia.usecase.exception.BussinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.NotAcceptableStatusException;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ErrorHandlingFilter implements HandlerFilterFunction<ServerResponse, ServerResponse> {
+  private final ErrorResponseFactory errorResponseFactory;
+
+  @Override
+  public Mono<ServerResponse> filter(ServerRequest request, HandlerFunction<ServerResponse> next) {
+    return Mono.defer(() -> next.handle(request))
+      .onErrorResume(error -> toErrorResponse(request, error));
+  }
+
+  private Mono<ServerResponse> toErrorResponse(ServerRequest request, Throwable error) {
+    if (error instanceof RequestValidationException ex) {
+      log.debug("Validation error: {}", ex.getMessage());
+      return errorResponseFactory.validationError(ContentNegotiation.errorType(request), ex.getMessage());
+    }
+
+    if (error instanceof DomainException ex) {
+      log.debug("Domain error: {}", ex.getMessage());
+      return errorResponseFactory.domainError(ContentNegotiation.errorType(request), ex.getMessage());
+    }
+
+    if (error instanceof BussinessException ex) {
+      log.debug("Business error: {}", ex.getMessage());
+      return errorResponseFactory.businessError(ContentNegotiation.errorType(request), HttpStatus.BAD_REQUEST,
+        ex.getMessage());
+    }
+
+    if (error instanceof NotAcceptableStatusException ex) {
+      log.debug("Not acceptable: {}", ex.getMessage());
+      return errorResponseFactory.notAcceptable("Supported media types: "
+        + MediaType.toString(ex.getSupportedMediaTypes()));
+    }
+
+    log.error("Unexpected error", error);
+    return errorResponseFactory.internalError(ContentNegotiation.errorType(request));
+  }
+}
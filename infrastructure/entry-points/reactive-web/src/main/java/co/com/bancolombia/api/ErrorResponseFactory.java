@@ -0,0 +1,91 @@
+package co.com.bancolombia.api;
+
+import co.com.bancolombia.api.response.ErrorResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class ErrorResponseFactory {
+  private static final String VALIDATION_ERROR_TEXT = "VALIDATION_ERROR";
+  private static final String DOMAIN_ERROR_TEXT = "DOMAIN_ERROR";
+  private static final String BUSINESS_ERROR_TEXT = "BUSINESS_ERROR";
+  private static final String NOT_ACCEPTABLE_TEXT = "NOT_ACCEPTABLE";
+  private static final String INTERNAL_ERROR_TEXT = "INTERNAL_ERROR";
+  private static final String GENERIC_ERROR_MESSAGE = "An unexpected error occurred";
+  private static final int MAX_CACHED_BODIES = 256;
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final byte[] INTERNAL_ERROR_BODY = serialize(INTERNAL_ERROR_TEXT, GENERIC_ERROR_MESSAGE);
+
+  private final Map<String, byte[]> validationErrorBodies = new ConcurrentHashMap<>();
+  private final Map<String, byte[]> domainErrorBodies = new ConcurrentHashMap<>();
+  private final Map<String, byte[]> businessErrorBodies = new ConcurrentHashMap<>();
+  private final Map<String, byte[]> notAcceptableBodies = new ConcurrentHashMap<>();
+
+  public Mono<ServerResponse> validationError(MediaType responseType, String message) {
+    return build(HttpStatus.BAD_REQUEST, responseType, validationErrorBodies, VALIDATION_ERROR_TEXT, message);
+  }
+
+  public Mono<ServerResponse> domainError(MediaType responseType, String message) {
+    return build(HttpStatus.BAD_REQUEST, responseType, domainErrorBodies, DOMAIN_ERROR_TEXT, message);
+  }
+
+  public Mono<ServerResponse> businessError(MediaType responseType, HttpStatus status, String message) {
+    return build(status, responseType, businessErrorBodies, BUSINESS_ERROR_TEXT, message);
+  }
+
+  /**
+   * The client accepts none of the producible types, so this one error is always JSON.
+   */
+  public Mono<ServerResponse> notAcceptable(String message) {
+    return build(HttpStatus.NOT_ACCEPTABLE, MediaType.APPLICATION_JSON, notAcceptableBodies, NOT_ACCEPTABLE_TEXT,
+      message);
+  }
+
+  public Mono<ServerResponse> internalError(MediaType responseType) {
+    ServerResponse.BodyBuilder response = ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR)
+      .contentType(responseType);
+    return MediaType.APPLICATION_JSON.equals(responseType)
+      ? response.bodyValue(INTERNAL_ERROR_BODY)
+      : response.bodyValue(new ErrorResponse(INTERNAL_ERROR_TEXT, GENERIC_ERROR_MESSAGE));
+  }
+
+  private Mono<ServerResponse> build(HttpStatus status, MediaType responseType, Map<String, byte[]> cache,
+                                     String error, String message) {
+    // JSON bodies are serialized once per message; CBOR and Smile go through the negotiated codec.
+    ServerResponse.BodyBuilder response = ServerResponse.status(status).contentType(responseType);
+    return MediaType.APPLICATION_JSON.equals(responseType)
+      ? response.bodyValue(cachedBody(cache, error, message))
+      : response.bodyValue(new ErrorResponse(error, message));
+  }
+
+  private byte[] cachedBody(Map<String, byte[]> cache, String error, String message) {
+    if (message == null) {
+      return serialize(error, null);
+    }
+
+    byte[] body = cache.get(message);
+    if (body == null) {
+      body = serialize(error, message);
+      if (cache.size() < MAX_CACHED_BODIES) {
+        cache.put(message, body);
+      }
+    }
+    return body;
+  }
+
+  private static byte[] serialize(String error, String message) {
+    try {
+      return OBJECT_MAPPER.writeValueAsBytes(new ErrorResponse(error, message));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -2,171 +2,287 @@ package co.com.bancolombia.api;
 
 import co.com.bancolombia.api.request.AssociateTechnologyWithCapacityRequest;
 import co.com.bancolombia.api.request.CreateTechnologyRequest;
-import co.com.bancolombia.api.response.ErrorResponse;
-import co.com.bancolombia.model.technology.exceptions.DomainException;
+import co.com.bancolombia.api.request.ReplaceCapacityTechnologiesRequest;
+import co.com.bancolombia.api.response.ImportEventResponse;
+import co.com.bancolombia.api.validation.RequestValidationException;
+import co.com.bancolombia.api.validation.RequestValidators;
+import co.com.bancolombia.model.technology.CachedRead;
+import co.com.bancolombia.model.technology.CapacitySetOperation;
 import co.com.bancolombia.usecase.AssociateTechnologyWithCapacityUseCase;
+import co.com.bancolombia.usecase.CapacityDeletionJobUseCase;
 import co.com.bancolombia.usecase.CreateTechnologyUseCase;
 import co.com.bancolombia.usecase.FindAllTechnologiesUseCase;
+import co.com.bancolombia.usecase.FindCapacitiesByTechnologyUseCase;
+import co.com.bancolombia.usecase.FindTechnologiesByCapacitySetUseCase;
 import co.com.bancolombia.usecase.FindTechnologiesByCapacityUseCase;
+import co.com.bancolombia.usecase.FindTechnologyCatalogStatsUseCase;
 import co.com.bancolombia.usecase.DeleteTechnologyUseCase;
-import co.com.bancolombia.usecase.command.AssociateTechnologyWithCapacityCommand;
-import co.com.bancolombia.usecase.command.CreateTechnologyCommand;
-import co.com.bancolombia.usecase.exception.BussinessException;
+import co.com.bancolombia.usecase.ExportTechnologyCatalogUseCase;
+import co.com.bancolombia.usecase.ImportTechnologyCatalogUseCase;
+import co.com.bancolombia.usecase.RecommendTechnologiesUseCase;
+import co.com.bancolombia.usecase.ReplaceCapacityTechnologiesUseCase;
+import co.com.bancolombia.usecase.SearchTechnologiesByPrefixUseCase;
+import co.com.bancolombia.usecase.SearchTechnologiesByTextUseCase;
+import co.com.bancolombia.usecase.command.ReplaceCapacityTechnologiesCommand;
+import co.com.bancolombia.usecase.response.DeletionJobResponse;
+import co.com.bancolombia.usecase.result.Result;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpOutputMessage;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserter;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import jakarta.validation.ConstraintViolation;
-import jakarta.validation.ConstraintViolationException;
-import jakarta.validation.Validator;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
 
-@Slf4j
 @Component
 @RequiredArgsConstructor
 public class Handler {
-  private static final String VALIDATION_ERROR_TEXT = "VALIDATION_ERROR";
-  private static final String DOMAIN_ERROR_TEXT = "DOMAIN_ERROR";
-  private static final String BUSINESS_ERROR_TEXT = "BUSINESS_ERROR";
-  private static final String INTERNAL_ERROR_TEXT = "INTERNAL_ERROR";
-  private static final String GENERIC_ERROR_MESSAGE = "An unexpected error occurred";
+  private static final String PREFER_HEADER = "Prefer";
+  private static final String RESPOND_ASYNC = "respond-async";
+  private static final String JOBS_PATH = "/v1/api/jobs/";
+  private static final String STALE_HEADER = "X-Cache-Stale";
+  private static final String TECHNOLOGY_IDS_MUST_BE_NUMERIC_MESSAGE = "Technology IDs must be numeric";
+  private static final String CAPACITY_IDS_MUST_BE_NUMERIC_MESSAGE = "Capacity IDs must be numeric";
+  private static final String UNKNOWN_SET_OPERATION_MESSAGE = "Operation must be one of intersection, union or difference";
 
   private final CreateTechnologyUseCase createTechnologyUseCase;
   private final FindAllTechnologiesUseCase findAllTechnologiesUseCase;
   private final FindTechnologiesByCapacityUseCase findTechnologiesByCapacityUseCase;
+  private final FindCapacitiesByTechnologyUseCase findCapacitiesByTechnologyUseCase;
+  private final FindTechnologiesByCapacitySetUseCase findTechnologiesByCapacitySetUseCase;
+  private final RecommendTechnologiesUseCase recommendTechnologiesUseCase;
+  private final FindTechnologyCatalogStatsUseCase findTechnologyCatalogStatsUseCase;
   private final AssociateTechnologyWithCapacityUseCase associateTechnologyWithCapacityUseCase;
   private final DeleteTechnologyUseCase deleteTechnologyUseCase;
-  private final Validator validator;
+  private final ReplaceCapacityTechnologiesUseCase replaceCapacityTechnologiesUseCase;
+  private final ExportTechnologyCatalogUseCase exportTechnologyCatalogUseCase;
+  private final ImportTechnologyCatalogUseCase importTechnologyCatalogUseCase;
+  private final CapacityDeletionJobUseCase capacityDeletionJobUseCase;
+  private final SearchTechnologiesByPrefixUseCase searchTechnologiesByPrefixUseCase;
+  private final SearchTechnologiesByTextUseCase searchTechnologiesByTextUseCase;
+  private final ErrorResponseFactory errorResponseFactory;
+
+  @Value("${technology.json-passthrough.enabled:false}")
+  private boolean jsonPassthrough;
 
   public Mono<ServerResponse> createTechnology(ServerRequest serverRequest) {
+    MediaType responseType = ContentNegotiation.responseType(serverRequest);
     return serverRequest.bodyToMono(CreateTechnologyRequest.class)
-      .doOnNext(this::validateRequest)
-      .map(this::mapToCommand)
+      .map(RequestValidators::createTechnology)
       .flatMap(createTechnologyUseCase::execute)
-      .flatMap(this::buildSuccessResponse)
-      .onErrorResume(ConstraintViolationException.class, this::handleValidationException)
-      .onErrorResume(DomainException.class, this::handleDomainException)
-      .onErrorResume(BussinessException.class, this::handleBusinessException)
-      .onErrorResume(Exception.class, this::handleGenericException)
-      .doOnError(error -> log.error(GENERIC_ERROR_MESSAGE, error));
+      .flatMap(result -> buildResultResponse(result, responseType));
   }
 
   public Mono<ServerResponse> findAllTechnologies(ServerRequest serverRequest) {
-    return findAllTechnologiesUseCase.execute()
-      .collectList()
-      .flatMap(this::buildSuccessResponse)
-      .onErrorResume(DomainException.class, this::handleDomainException)
-      .onErrorResume(BussinessException.class, this::handleBusinessException)
-      .onErrorResume(Exception.class, this::handleGenericException)
-      .doOnError(error -> log.error(GENERIC_ERROR_MESSAGE, error));
+    MediaType responseType = ContentNegotiation.responseType(serverRequest);
+    return usePassthrough(responseType)
+      ? findAllTechnologiesUseCase.executeAsJson().flatMap(read -> buildCachedResponse(read, MediaType.APPLICATION_JSON))
+      : findAllTechnologiesUseCase.executeCached().flatMap(read -> buildCachedResponse(read, responseType));
   }
 
   public Mono<ServerResponse> findTechnologiesByCapacity(ServerRequest serverRequest) {
     Long capacityId = Long.valueOf(serverRequest.pathVariable("capacityId"));
-    return findTechnologiesByCapacityUseCase.execute(capacityId)
-      .collectList()
-      .flatMap(this::buildSuccessResponse)
-      .onErrorResume(DomainException.class, this::handleDomainException)
-      .onErrorResume(BussinessException.class, this::handleBusinessException)
-      .onErrorResume(Exception.class, this::handleGenericException)
-      .doOnError(error -> log.error(GENERIC_ERROR_MESSAGE, error));
+    MediaType responseType = ContentNegotiation.responseType(serverRequest);
+    return usePassthrough(responseType)
+      ? findTechnologiesByCapacityUseCase.executeAsJson(capacityId).flatMap(read -> buildCachedResponse(read, MediaType.APPLICATION_JSON))
+      : findTechnologiesByCapacityUseCase.executeCached(capacityId).flatMap(read -> buildCachedResponse(read, responseType));
+  }
+
+  public Mono<ServerResponse> findCapacitiesByTechnology(ServerRequest serverRequest) {
+    MediaType responseType = ContentNegotiation.responseType(serverRequest);
+    Long technologyId = Long.valueOf(serverRequest.pathVariable("technologyId"));
+    return findCapacitiesByTechnologyUseCase.execute(technologyId)
+      .flatMap(result -> buildResultResponse(result, responseType));
+  }
+
+  public Mono<ServerResponse> findCapacitiesByTechnologies(ServerRequest serverRequest) {
+    MediaType responseType = ContentNegotiation.responseType(serverRequest);
+    return Mono.fromCallable(() -> parseIds(serverRequest.queryParams().getOrDefault("technologyIds", List.of()),
+        TECHNOLOGY_IDS_MUST_BE_NUMERIC_MESSAGE))
+      .flatMap(findCapacitiesByTechnologyUseCase::executeBatch)
+      .flatMap(result -> buildResultResponse(result, responseType));
+  }
+
+  public Mono<ServerResponse> findTechnologiesByCapacitySet(ServerRequest serverRequest) {
+    MediaType responseType = ContentNegotiation.responseType(serverRequest);
+    return Mono.fromCallable(() -> parseSetOperation(serverRequest.pathVariable("operation")))
+      .flatMap(operation -> findTechnologiesByCapacitySetUseCase.execute(operation,
+        parseIds(serverRequest.queryParams().getOrDefault("capacityIds", List.of()), CAPACITY_IDS_MUST_BE_NUMERIC_MESSAGE)))
+      .flatMap(result -> buildResultResponse(result, responseType));
+  }
+
+  public Mono<ServerResponse> recommendTechnologies(ServerRequest serverRequest) {
+    MediaType responseType = ContentNegotiation.responseType(serverRequest);
+    Long technologyId = Long.valueOf(serverRequest.pathVariable("technologyId"));
+    Integer limit = serverRequest.queryParam("limit").map(Handler::parseInteger).orElse(null);
+    return recommendTechnologiesUseCase.execute(technologyId, limit)
+      .flatMap(result -> buildResultResponse(result, responseType));
+  }
+
+  public Mono<ServerResponse> findCatalogStats(ServerRequest serverRequest) {
+    MediaType responseType = ContentNegotiation.responseType(serverRequest);
+    Integer top = serverRequest.queryParam("top").map(Handler::parseInteger).orElse(null);
+    return findTechnologyCatalogStatsUseCase.execute(top)
+      .flatMap(result -> buildResultResponse(result, responseType));
+  }
+
+  public Mono<ServerResponse> searchTechnologies(ServerRequest serverRequest) {
+    MediaType responseType = ContentNegotiation.responseType(serverRequest);
+    String prefix = serverRequest.queryParam("prefix").orElse(null);
+    Integer limit = serverRequest.queryParam("limit").map(Handler::parseInteger).orElse(null);
+    return searchTechnologiesByPrefixUseCase.execute(prefix, limit)
+      .flatMap(result -> buildResultResponse(result, responseType));
+  }
+
+  public Mono<ServerResponse> searchTechnologiesByText(ServerRequest serverRequest) {
+    MediaType responseType = ContentNegotiation.responseType(serverRequest);
+    String query = serverRequest.queryParam("q").orElse(null);
+    Integer page = serverRequest.queryParam("page").map(Handler::parseInteger).orElse(null);
+    Integer size = serverRequest.queryParam("size").map(Handler::parseInteger).orElse(null);
+    return searchTechnologiesByTextUseCase.execute(query, page, size)
+      .flatMap(result -> buildResultResponse(result, responseType));
   }
 
   public Mono<ServerResponse> associateTechnologyWithCapacity(ServerRequest serverRequest) {
+    MediaType responseType = ContentNegotiation.responseType(serverRequest);
     return serverRequest.bodyToMono(AssociateTechnologyWithCapacityRequest.class)
-      .doOnNext(this::validateAssociateRequest)
-      .map(this::mapToAssociateCommand)
+      .map(RequestValidators::associateTechnology)
       .flatMap(associateTechnologyWithCapacityUseCase::execute)
-      .flatMap(this::buildSuccessResponse)
-      .onErrorResume(ConstraintViolationException.class, this::handleValidationException)
-      .onErrorResume(DomainException.class, this::handleDomainException)
-      .onErrorResume(BussinessException.class, this::handleBusinessException)
-      .onErrorResume(Exception.class, this::handleGenericException)
-      .doOnError(error -> log.error(GENERIC_ERROR_MESSAGE, error));
+      .flatMap(result -> buildResultResponse(result, responseType));
   }
 
   public Mono<ServerResponse> deleteTechnologies(ServerRequest serverRequest) {
     Long capacityId = Long.valueOf(serverRequest.pathVariable("capacityId"));
-    return deleteTechnologyUseCase.execute(capacityId)
-      .flatMap(this::buildSuccessResponse)
-      .onErrorResume(DomainException.class, this::handleDomainException)
-      .onErrorResume(BussinessException.class, this::handleBusinessException)
-      .onErrorResume(Exception.class, this::handleGenericException)
-      .doOnError(error -> log.error(GENERIC_ERROR_MESSAGE, error));
-  }
-
-  private void validateRequest(CreateTechnologyRequest request) {
-    Set<ConstraintViolation<CreateTechnologyRequest>> violations = validator.validate(request);
-    if (!violations.isEmpty()) {
-      throw new ConstraintViolationException(violations);
+    MediaType responseType = ContentNegotiation.responseType(serverRequest);
+    if (isAsync(serverRequest)) {
+      return capacityDeletionJobUseCase.submit(capacityId)
+        .flatMap(result -> result instanceof Result.Success<DeletionJobResponse> success
+          ? buildAcceptedResponse(success.value(), responseType)
+          : buildResultResponse(result, responseType));
     }
+    return deleteTechnologyUseCase.execute(capacityId)
+      .flatMap(result -> buildResultResponse(result, responseType));
   }
 
-  private void validateAssociateRequest(AssociateTechnologyWithCapacityRequest request) {
-    Set<ConstraintViolation<AssociateTechnologyWithCapacityRequest>> violations = validator.validate(request);
-    if (!violations.isEmpty()) {
-      throw new ConstraintViolationException(violations);
-    }
+  public Mono<ServerResponse> replaceCapacityTechnologies(ServerRequest serverRequest) {
+    MediaType responseType = ContentNegotiation.responseType(serverRequest);
+    Long capacityId = Long.valueOf(serverRequest.pathVariable("capacityId"));
+    return serverRequest.bodyToMono(ReplaceCapacityTechnologiesRequest.class)
+      .defaultIfEmpty(new ReplaceCapacityTechnologiesRequest())
+      .map(request -> new ReplaceCapacityTechnologiesCommand(capacityId, request.getTechnologyIds(), request.getTechnologies()))
+      .flatMap(replaceCapacityTechnologiesUseCase::execute)
+      .flatMap(result -> buildResultResponse(result, responseType));
   }
 
-
-  private CreateTechnologyCommand mapToCommand(CreateTechnologyRequest request) {
-    return new CreateTechnologyCommand(request.getName(), request.getDescription());
+  public Mono<ServerResponse> findDeletionJob(ServerRequest serverRequest) {
+    MediaType responseType = ContentNegotiation.responseType(serverRequest);
+    return capacityDeletionJobUseCase.find(serverRequest.pathVariable("jobId"))
+      .flatMap(result -> buildResultResponse(result, responseType));
   }
 
-  private AssociateTechnologyWithCapacityCommand mapToAssociateCommand(AssociateTechnologyWithCapacityRequest request) {
-    return new AssociateTechnologyWithCapacityCommand(request.getCapacityId(), request.getTechnology());
+  public Mono<ServerResponse> exportTechnologies(ServerRequest serverRequest) {
+    MediaType exportType = CatalogExportWriter.exportType(serverRequest);
+    BodyInserter<Void, ReactiveHttpOutputMessage> export = (outputMessage, context) -> outputMessage.writeWith(
+      CatalogExportWriter.encode(exportTechnologyCatalogUseCase.execute(), exportType, outputMessage.bufferFactory()));
+    return ServerResponse.ok()
+      .contentType(exportType)
+      .body(export);
   }
 
-  private Mono<ServerResponse> buildSuccessResponse(Object response) {
+  public Mono<ServerResponse> importTechnologies(ServerRequest serverRequest) {
+    MediaType contentType = serverRequest.headers().contentType().orElse(MediaType.APPLICATION_NDJSON);
+    Flux<ImportEventResponse> events = importTechnologyCatalogUseCase
+      .execute(CatalogImportReader.read(serverRequest.bodyToFlux(DataBuffer.class), contentType))
+      .map(ImportEventResponse::from);
     return ServerResponse.ok()
-      .contentType(MediaType.APPLICATION_JSON)
-      .bodyValue(response);
+      .contentType(MediaType.APPLICATION_NDJSON)
+      .body(events, ImportEventResponse.class);
   }
 
-  private Mono<ServerResponse> handleValidationException(ConstraintViolationException ex) {
-    String errorMessage = ex.getConstraintViolations().stream()
-      .map(ConstraintViolation::getMessage)
-      .collect(Collectors.joining(", "));
-
-    log.warn("Validation error: {}", errorMessage);
+  private static CapacitySetOperation parseSetOperation(String value) {
+    for (CapacitySetOperation operation : CapacitySetOperation.values()) {
+      if (operation.name().equalsIgnoreCase(value)) {
+        return operation;
+      }
+    }
+    throw new RequestValidationException(UNKNOWN_SET_OPERATION_MESSAGE);
+  }
 
-    return ServerResponse.badRequest()
-      .contentType(MediaType.APPLICATION_JSON)
-      .bodyValue(createErrorResponse(VALIDATION_ERROR_TEXT, errorMessage));
+  private static List<Long> parseIds(List<String> values, String nonNumericMessage) {
+    List<Long> ids = new ArrayList<>();
+    for (String value : values) {
+      for (String id : value.split(",")) {
+        if (id.isBlank()) {
+          continue;
+        }
+        try {
+          ids.add(Long.valueOf(id.strip()));
+        } catch (NumberFormatException e) {
+          throw new RequestValidationException(nonNumericMessage);
+        }
+      }
+    }
+    return ids;
   }
 
-  private Mono<ServerResponse> handleDomainException(DomainException ex) {
-    log.warn("Domain error: {}", ex.getMessage());
+  private static Integer parseInteger(String value) {
+    try {
+      return Integer.valueOf(value);
+    } catch (NumberFormatException e) {
+      // Out of every accepted range, so the use case reports it like any other invalid value.
+      return Integer.MIN_VALUE;
+    }
+  }
 
-    return ServerResponse.badRequest()
-      .contentType(MediaType.APPLICATION_JSON)
-      .bodyValue(createErrorResponse(DOMAIN_ERROR_TEXT, ex.getMessage()));
+  private boolean isAsync(ServerRequest serverRequest) {
+    return serverRequest.queryParam("async").map(Boolean::parseBoolean).orElse(false)
+      || serverRequest.headers().header(PREFER_HEADER).stream().anyMatch(value -> value.contains(RESPOND_ASYNC));
   }
 
-  private Mono<ServerResponse> handleBusinessException(BussinessException ex) {
-    log.warn("Business error: {}", ex.getMessage());
+  private boolean usePassthrough(MediaType responseType) {
+    return jsonPassthrough && MediaType.APPLICATION_JSON.equals(responseType);
+  }
 
-    return ServerResponse.badRequest()
-      .contentType(MediaType.APPLICATION_JSON)
-      .bodyValue(createErrorResponse(BUSINESS_ERROR_TEXT, ex.getMessage()));
+  private Mono<ServerResponse> buildResultResponse(Result<?> result, MediaType responseType) {
+    return switch (result) {
+      case Result.Success<?> success -> buildSuccessResponse(success.value(), responseType);
+      case Result.Invalid<?> invalid -> errorResponseFactory.businessError(responseType, HttpStatus.BAD_REQUEST, invalid.message());
+      case Result.NotFound<?> notFound -> errorResponseFactory.businessError(responseType, HttpStatus.NOT_FOUND, notFound.message());
+      case Result.Duplicate<?> duplicate -> errorResponseFactory.businessError(responseType, HttpStatus.CONFLICT, duplicate.message());
+      case Result.AlreadyAssociated<?> alreadyAssociated ->
+        errorResponseFactory.businessError(responseType, HttpStatus.CONFLICT, alreadyAssociated.message());
+    };
   }
 
-  private Mono<ServerResponse> handleGenericException(Exception ex) {
-    log.error("Unexpected error", ex);
+  private Mono<ServerResponse> buildSuccessResponse(Object response, MediaType responseType) {
+    return ServerResponse.ok()
+      .contentType(responseType)
+      .bodyValue(response);
+  }
 
-    return ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR)
-      .contentType(MediaType.APPLICATION_JSON)
-      .bodyValue(createErrorResponse(INTERNAL_ERROR_TEXT, GENERIC_ERROR_MESSAGE));
+  private Mono<ServerResponse> buildAcceptedResponse(DeletionJobResponse job, MediaType responseType) {
+    return ServerResponse.accepted()
+      .location(URI.create(JOBS_PATH + job.getJobId()))
+      .contentType(responseType)
+      .bodyValue(job);
   }
 
-  private ErrorResponse createErrorResponse(String error, String message) {
-    return new ErrorResponse(error, message);
+  private Mono<ServerResponse> buildCachedResponse(CachedRead<?> read, MediaType responseType) {
+    // Age follows RFC 9111; the stale flag tells clients the value is past its soft TTL and being refreshed.
+    return ServerResponse.ok()
+      .header(HttpHeaders.AGE, String.valueOf(read.getAge().toSeconds()))
+      .header(STALE_HEADER, String.valueOf(read.isStale()))
+      .contentType(responseType)
+      .bodyValue(read.getValue());
   }
-}
\ No newline at end of file
+}
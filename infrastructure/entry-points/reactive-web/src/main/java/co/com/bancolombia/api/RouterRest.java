@@ -2,439 +2,1123 @@ package co.com.bancolombia.api;
 
 import co.com.bancolombia.api.request.AssociateTechnologyWithCapacityRequest;
 import co.com.bancolombia.api.request.CreateTechnologyRequest;
+import co.com.bancolombia.api.request.ReplaceCapacityTechnologiesRequest;
 import co.com.bancolombia.api.response.ErrorResponse;
+import co.com.bancolombia.api.response.ImportEventResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import org.springdoc.core.annotations.RouterOperation;
+import org.springdoc.core.annotations.RouterOperations;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.ServerResponse;
 
-import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
-import static org.springframework.web.reactive.function.server.RequestPredicates.POST;
-import static org.springframework.web.reactive.function.server.RequestPredicates.DELETE;
 import static org.springframework.web.reactive.function.server.RouterFunctions.route;
 
 @Configuration
 public class RouterRest {
-  private final String BASE_URL = "/v1/api";
+  private static final String BASE_URL = "/v1/api";
+  private static final String TAG = "Technology Management";
+  private static final String JSON = MediaType.APPLICATION_JSON_VALUE;
+  // Error examples are written as KIND_EXAMPLE + "message" + EXAMPLE_END.
+  private static final String BUSINESS_ERROR_EXAMPLE = "{\"error\": \"BUSINESS_ERROR\", \"message\": \"";
+  private static final String DOMAIN_ERROR_EXAMPLE = "{\"error\": \"DOMAIN_ERROR\", \"message\": \"";
+  private static final String VALIDATION_ERROR_EXAMPLE = "{\"error\": \"VALIDATION_ERROR\", \"message\": \"";
+  private static final String EXAMPLE_END = "\"}";
 
   @Bean
-  @RouterOperation(
-    path = "/v1/api/technology",
-    method = RequestMethod.POST,
-    operation = @Operation(
-      operationId = "createTechnology",
-      summary = "Crear nueva tecnología",
-      description = "Endpoint para registrar una nueva tecnología en el sistema. " +
-        "Valida los datos de entrada y maneja diferentes tipos de errores " +
-        "como validaciones, errores de dominio, errores de negocio e errores internos.",
-      tags = {"Technology Management"},
-      requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
-        description = "Datos de la tecnología a crear. Requiere nombre (máx 50 caracteres) y descripción (máx 90 caracteres).",
-        required = true,
-        content = @Content(
-          mediaType = "application/json",
-          schema = @Schema(implementation = CreateTechnologyRequest.class),
-          examples = @ExampleObject(
-            name = "Ejemplo de tecnología",
-            summary = "Ejemplo de request para crear una tecnología",
-            value = "{\n" +
-              "  \"name\": \"Spring Boot\",\n" +
-              "  \"description\": \"Framework de Java para desarrollo de aplicaciones empresariales\"\n" +
-              "}"
-          )
-        )
-      ),
-      responses = {
-        @ApiResponse(
-          responseCode = "200",
-          description = "Tecnología creada exitosamente",
+  @RouterOperations({
+    @RouterOperation(
+      path = BASE_URL + "/technology",
+      method = RequestMethod.POST,
+      operation = @Operation(
+        operationId = "createTechnology",
+        summary = "Crear nueva tecnología",
+        description = "Endpoint para registrar una nueva tecnología en el sistema. " +
+          "Valida los datos de entrada y maneja diferentes tipos de errores " +
+          "como validaciones, errores de dominio, errores de negocio e errores internos.",
+        tags = TAG,
+        requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+          description = "Datos de la tecnología a crear. Requiere nombre (máx 50 caracteres) y descripción (máx 90 caracteres).",
+          required = true,
           content = @Content(
-            mediaType = "application/json",
-            schema = @Schema(
-              description = "Respuesta exitosa al crear una nueva tecnología"
-            ),
+            mediaType = JSON,
+            schema = @Schema(implementation = CreateTechnologyRequest.class),
             examples = @ExampleObject(
-              name = "Success Response",
-              summary = "Tecnología creada correctamente",
+              name = "Ejemplo de tecnología",
+              summary = "Ejemplo de request para crear una tecnología",
               value = "{\n" +
-                "  \"technologyId\": 123,\n" +
                 "  \"name\": \"Spring Boot\",\n" +
-                "  \"description\": \"Framework de Java para desarrollo de aplicaciones empresariales\",\n" +
-                "  \"message\": \"Technology created successfully\"\n" +
+                "  \"description\": \"Framework de Java para desarrollo de aplicaciones empresariales\"\n" +
                 "}"
             )
           )
         ),
-        @ApiResponse(
-          responseCode = "400",
-          description = "Error de validación, dominio o negocio",
-          content = @Content(
-            mediaType = "application/json",
-            schema = @Schema(implementation = ErrorResponse.class),
-            examples = {
-              @ExampleObject(
-                name = "Validation Error",
-                summary = "Error de validación de campos",
-                value = "{\n" +
-                  "  \"error\": \"VALIDATION_ERROR\",\n" +
-                  "  \"message\": \"Technology name is required, Technology description cannot be empty\"\n" +
-                  "}"
+        responses = {
+          @ApiResponse(
+            responseCode = "200",
+            description = "Tecnología creada exitosamente",
+            content = @Content(
+              mediaType = JSON,
+              schema = @Schema(
+                description = "Respuesta exitosa al crear una nueva tecnología"
               ),
-              @ExampleObject(
-                name = "Domain Error",
-                summary = "Error de reglas de dominio",
+              examples = @ExampleObject(
+                name = "Success Response",
+                summary = "Tecnología creada correctamente",
                 value = "{\n" +
-                  "  \"error\": \"DOMAIN_ERROR\",\n" +
-                  "  \"message\": \"Technology already exists in the system\"\n" +
+                  "  \"technologyId\": 123,\n" +
+                  "  \"name\": \"Spring Boot\",\n" +
+                  "  \"description\": \"Framework de Java para desarrollo de aplicaciones empresariales\",\n" +
+                  "  \"message\": \"Technology created successfully\"\n" +
                   "}"
+              )
+            )
+          ),
+          @ApiResponse(
+            responseCode = "400",
+            description = "Error de validación, dominio o negocio",
+            content = @Content(
+              mediaType = JSON,
+              schema = @Schema(implementation = ErrorResponse.class),
+              examples = {
+                @ExampleObject(
+                  name = "Validation Error",
+                  summary = "Error de validación de campos",
+                  value = VALIDATION_ERROR_EXAMPLE + "Technology name is required, Technology description cannot be empty" + EXAMPLE_END
+                ),
+                @ExampleObject(
+                  name = "Domain Error",
+                  summary = "Error de reglas de dominio",
+                  value = DOMAIN_ERROR_EXAMPLE + "Technology already exists in the system" + EXAMPLE_END
+                ),
+                @ExampleObject(
+                  name = "Business Error",
+                  summary = "Error de reglas de negocio",
+                  value = BUSINESS_ERROR_EXAMPLE + "Cannot create technology at this time" + EXAMPLE_END
+                )
+              }
+            )
+          ),
+          @ApiResponse(
+            responseCode = "409",
+            description = "La tecnología ya existe",
+            content = @Content(
+              mediaType = JSON,
+              schema = @Schema(implementation = ErrorResponse.class),
+              examples = @ExampleObject(
+                name = "Business Error",
+                summary = "Nombre de tecnología duplicado",
+                value = BUSINESS_ERROR_EXAMPLE + "The technology name cannot be duplicated." + EXAMPLE_END
+              )
+            )
+          )
+        }
+      )
+    ),
+    @RouterOperation(
+      path = BASE_URL + "/technology",
+      method = RequestMethod.GET,
+      operation = @Operation(
+        operationId = "findAllTechnologies",
+        summary = "Obtener todas las tecnologías",
+        description = "Endpoint para obtener la lista completa de tecnologías disponibles en el sistema. " +
+          "No requiere parámetros de entrada y retorna todas las tecnologías registradas.",
+        tags = TAG,
+        responses = {
+          @ApiResponse(
+            responseCode = "200",
+            description = "Lista de tecnologías obtenida exitosamente",
+            headers = {
+              @Header(name = "Age", description = "Segundos desde que el dato se leyó de la base de datos",
+                schema = @Schema(type = "integer")),
+              @Header(name = "X-Cache-Stale", description = "true cuando el dato superó su TTL suave y se está " +
+                "refrescando en segundo plano", schema = @Schema(type = "boolean"))
+            },
+            content = @Content(
+              mediaType = JSON,
+              schema = @Schema(
+                description = "Lista de tecnologías disponibles"
+              ),
+              examples = @ExampleObject(
+                name = "Success Response",
+                summary = "Lista de tecnologías",
+                value = "[\n" +
+                  "  {\n" +
+                  "    \"technologyId\": 1,\n" +
+                  "    \"name\": \"Spring Boot\",\n" +
+                  "    \"description\": \"Framework de Java para desarrollo de aplicaciones empresariales\"\n" +
+                  "  },\n" +
+                  "  {\n" +
+                  "    \"technologyId\": 2,\n" +
+                  "    \"name\": \"React\",\n" +
+                  "    \"description\": \"Biblioteca de JavaScript para construir interfaces de usuario\"\n" +
+                  "  }\n" +
+                  "]"
+              )
+            )
+          )
+        }
+      )
+    ),
+    @RouterOperation(
+      path = BASE_URL + "/technology/export",
+      method = RequestMethod.GET,
+      operation = @Operation(
+        operationId = "exportTechnologies",
+        summary = "Exportar el catálogo de tecnologías",
+        description = "Transmite todas las tecnologías con los IDs de sus capacidades asociadas, leídas desde un cursor " +
+          "de base de datos. El formato se elige con el parámetro format (ndjson o csv) o con el header Accept; " +
+          "por defecto se usa NDJSON. Un formato desconocido retorna 400 y un Accept sin tipos exportables retorna 406.",
+        tags = TAG,
+        parameters = {
+          @io.swagger.v3.oas.annotations.Parameter(
+            name = "format",
+            description = "Formato de exportación: ndjson o csv",
+            in = io.swagger.v3.oas.annotations.enums.ParameterIn.QUERY,
+            schema = @Schema(type = "string", allowableValues = {"ndjson", "csv"}),
+            example = "csv"
+          )
+        },
+        responses = {
+          @ApiResponse(
+            responseCode = "200",
+            description = "Catálogo exportado exitosamente",
+            content = {
+              @Content(
+                mediaType = "application/x-ndjson",
+                examples = @ExampleObject(
+                  name = "NDJSON",
+                  summary = "Una tecnología por línea",
+                  value = "{\"technologyId\":1,\"name\":\"Spring Boot\",\"description\":\"Framework de Java\",\"capacityIds\":[1,4]}\n" +
+                    "{\"technologyId\":2,\"name\":\"React\",\"description\":\"Biblioteca de JavaScript\",\"capacityIds\":[]}\n"
+                )
               ),
-              @ExampleObject(
+              @Content(
+                mediaType = "text/csv",
+                examples = @ExampleObject(
+                  name = "CSV",
+                  summary = "Capacidades separadas por punto y coma",
+                  value = "technologyId,name,description,capacityIds\n" +
+                    "1,Spring Boot,Framework de Java,1;4\n" +
+                    "2,React,Biblioteca de JavaScript,\n"
+                )
+              )
+            }
+          ),
+          @ApiResponse(
+            responseCode = "400",
+            description = "Formato de exportación desconocido",
+            content = @Content(
+              mediaType = JSON,
+              schema = @Schema(implementation = ErrorResponse.class),
+              examples = @ExampleObject(
+                name = "Unknown Format",
+                summary = "El parámetro format no es ndjson ni csv",
+                value = VALIDATION_ERROR_EXAMPLE + "Format must be one of ndjson or csv" + EXAMPLE_END
+              )
+            )
+          ),
+          @ApiResponse(
+            responseCode = "406",
+            description = "El header Accept no admite NDJSON ni CSV",
+            content = @Content(
+              mediaType = JSON,
+              schema = @Schema(implementation = ErrorResponse.class)
+            )
+          )
+        }
+      )
+    ),
+    @RouterOperation(
+      path = BASE_URL + "/technology/search",
+      method = RequestMethod.GET,
+      operation = @Operation(
+        operationId = "searchTechnologiesByPrefix",
+        summary = "Autocompletar tecnologías por prefijo",
+        description = "Devuelve las primeras tecnologías, en orden alfabético, cuyo nombre empieza por el prefijo. " +
+          "La búsqueda ignora mayúsculas y tildes y se resuelve desde un índice en memoria, sin consultar la base de datos.",
+        tags = TAG,
+        parameters = {
+          @io.swagger.v3.oas.annotations.Parameter(
+            name = "prefix",
+            description = "Inicio del nombre de la tecnología",
+            required = true,
+            in = io.swagger.v3.oas.annotations.enums.ParameterIn.QUERY,
+            schema = @Schema(type = "string"),
+            example = "ja"
+          ),
+          @io.swagger.v3.oas.annotations.Parameter(
+            name = "limit",
+            description = "Número máximo de resultados (1 a 50)",
+            in = io.swagger.v3.oas.annotations.enums.ParameterIn.QUERY,
+            schema = @Schema(type = "integer", defaultValue = "10")
+          )
+        },
+        responses = {
+          @ApiResponse(
+            responseCode = "200",
+            description = "Tecnologías que coinciden con el prefijo",
+            content = @Content(
+              mediaType = JSON,
+              examples = @ExampleObject(
+                name = "Success Response",
+                summary = "Coincidencias encontradas",
+                value = "[\n" +
+                  "  {\"technologyId\": 2, \"name\": \"Java\", \"description\": \"Lenguaje de programación\"},\n" +
+                  "  {\"technologyId\": 1, \"name\": \"JavaScript\", \"description\": \"Lenguaje de programación\"}\n" +
+                  "]"
+              )
+            )
+          ),
+          @ApiResponse(
+            responseCode = "400",
+            description = "Prefijo vacío o límite fuera de rango",
+            content = @Content(
+              mediaType = JSON,
+              schema = @Schema(implementation = ErrorResponse.class),
+              examples = @ExampleObject(
                 name = "Business Error",
-                summary = "Error de reglas de negocio",
+                summary = "Prefijo vacío",
+                value = BUSINESS_ERROR_EXAMPLE + "Prefix cannot be empty" + EXAMPLE_END
+              )
+            )
+          )
+        }
+      )
+    ),
+    @RouterOperation(
+      path = BASE_URL + "/technology/search/text",
+      method = RequestMethod.GET,
+      operation = @Operation(
+        operationId = "searchTechnologiesByText",
+        summary = "Buscar tecnologías por texto",
+        description = "Búsqueda de texto completo sobre nombre y descripción, tolerante a errores de escritura en el nombre. " +
+          "Los resultados se ordenan por relevancia y se paginan; solo se pueden recorrer los primeros 1000 resultados.",
+        tags = TAG,
+        parameters = {
+          @io.swagger.v3.oas.annotations.Parameter(
+            name = "q",
+            description = "Texto a buscar. Admite comillas para frases y - para excluir términos",
+            required = true,
+            in = io.swagger.v3.oas.annotations.enums.ParameterIn.QUERY,
+            schema = @Schema(type = "string"),
+            example = "framework for reactive apps"
+          ),
+          @io.swagger.v3.oas.annotations.Parameter(
+            name = "page",
+            description = "Página, empezando en 0",
+            in = io.swagger.v3.oas.annotations.enums.ParameterIn.QUERY,
+            schema = @Schema(type = "integer", defaultValue = "0")
+          ),
+          @io.swagger.v3.oas.annotations.Parameter(
+            name = "size",
+            description = "Tamaño de página (1 a 50)",
+            in = io.swagger.v3.oas.annotations.enums.ParameterIn.QUERY,
+            schema = @Schema(type = "integer", defaultValue = "20")
+          )
+        },
+        responses = {
+          @ApiResponse(
+            responseCode = "200",
+            description = "Página de resultados ordenados por relevancia",
+            content = @Content(
+              mediaType = JSON,
+              examples = @ExampleObject(
+                name = "Success Response",
+                summary = "Resultados encontrados",
                 value = "{\n" +
-                  "  \"error\": \"BUSINESS_ERROR\",\n" +
-                  "  \"message\": \"Cannot create technology at this time\"\n" +
+                  "  \"items\": [\n" +
+                  "    {\"technologyId\": 1, \"name\": \"Spring WebFlux\", \"description\": \"Framework for reactive apps\", \"rank\": 0.87}\n" +
+                  "  ],\n" +
+                  "  \"page\": 0,\n" +
+                  "  \"size\": 20,\n" +
+                  "  \"hasNext\": false\n" +
                   "}"
               )
-            }
+            )
+          ),
+          @ApiResponse(
+            responseCode = "400",
+            description = "Consulta vacía o paginación fuera de rango",
+            content = @Content(
+              mediaType = JSON,
+              schema = @Schema(implementation = ErrorResponse.class),
+              examples = @ExampleObject(
+                name = "Business Error",
+                summary = "Consulta vacía",
+                value = BUSINESS_ERROR_EXAMPLE + "Query cannot be empty" + EXAMPLE_END
+              )
+            )
           )
-        ),
-        @ApiResponse(
-          responseCode = "500",
-          description = "Error interno del servidor",
-          content = @Content(
-            mediaType = "application/json",
-            schema = @Schema(implementation = ErrorResponse.class),
-            examples = @ExampleObject(
-              name = "Internal Error",
-              summary = "Error interno del sistema",
-              value = "{\n" +
-                "  \"error\": \"INTERNAL_ERROR\",\n" +
-                "  \"message\": \"An unexpected error occurred\"\n" +
-                "}"
+        }
+      )
+    ),
+    @RouterOperation(
+      path = BASE_URL + "/technology/{technologyId}/capacities",
+      method = RequestMethod.GET,
+      operation = @Operation(
+        operationId = "findCapacitiesByTechnology",
+        summary = "Obtener capacidades de una tecnología",
+        description = "Retorna los IDs de las capacidades asociadas a una tecnología. Las respuestas se sirven desde caché " +
+          "y se invalidan al asociar, desasociar, eliminar o importar.",
+        tags = TAG,
+        parameters = {
+          @io.swagger.v3.oas.annotations.Parameter(
+            name = "technologyId",
+            description = "ID de la tecnología",
+            required = true,
+            in = io.swagger.v3.oas.annotations.enums.ParameterIn.PATH,
+            schema = @Schema(type = "integer", format = "int64"),
+            example = "1"
+          )
+        },
+        responses = {
+          @ApiResponse(
+            responseCode = "200",
+            description = "Capacidades encontradas",
+            content = @Content(
+              mediaType = JSON,
+              examples = @ExampleObject(
+                name = "Success Response",
+                summary = "Capacidades de la tecnología",
+                value = "{\n" +
+                  "  \"technologyId\": 1,\n" +
+                  "  \"capacityIds\": [1, 4]\n" +
+                  "}"
+              )
+            )
+          ),
+          @ApiResponse(
+            responseCode = "404",
+            description = "Tecnología no encontrada",
+            content = @Content(
+              mediaType = JSON,
+              schema = @Schema(implementation = ErrorResponse.class),
+              examples = @ExampleObject(
+                name = "Not Found",
+                summary = "La tecnología no existe",
+                value = BUSINESS_ERROR_EXAMPLE + "Technology has not been found. Technology id: 1" + EXAMPLE_END
+              )
             )
           )
-        )
-      }
-    )
-  )
-  public RouterFunction<ServerResponse> createTechnologyRouter(Handler handler) {
-    return route(POST(BASE_URL + "/technology"), handler::createTechnology);
-  }
-
-  @Bean
-  @RouterOperation(
-    path = "/v1/api/technology",
-    method = RequestMethod.GET,
-    operation = @Operation(
-      operationId = "findAllTechnologies",
-      summary = "Obtener todas las tecnologías",
-      description = "Endpoint para obtener la lista completa de tecnologías disponibles en el sistema. " +
-        "No requiere parámetros de entrada y retorna todas las tecnologías registradas.",
-      tags = {"Technology Management"},
-      responses = {
-        @ApiResponse(
-          responseCode = "200",
-          description = "Lista de tecnologías obtenida exitosamente",
-          content = @Content(
-            mediaType = "application/json",
-            schema = @Schema(
-              description = "Lista de tecnologías disponibles"
-            ),
-            examples = @ExampleObject(
-              name = "Success Response",
-              summary = "Lista de tecnologías",
-              value = "[\n" +
-                "  {\n" +
-                "    \"technologyId\": 1,\n" +
-                "    \"name\": \"Spring Boot\",\n" +
-                "    \"description\": \"Framework de Java para desarrollo de aplicaciones empresariales\"\n" +
-                "  },\n" +
-                "  {\n" +
-                "    \"technologyId\": 2,\n" +
-                "    \"name\": \"React\",\n" +
-                "    \"description\": \"Biblioteca de JavaScript para construir interfaces de usuario\"\n" +
-                "  }\n" +
-                "]"
+        }
+      )
+    ),
+    @RouterOperation(
+      path = BASE_URL + "/technology/{technologyId}/recommendations",
+      method = RequestMethod.GET,
+      operation = @Operation(
+        operationId = "recommendTechnologies",
+        summary = "Recomendar tecnologías relacionadas",
+        description = "Retorna las tecnologías que más capacidades comparten con la indicada (\"las capacidades que usan X " +
+          "también usan Y\"), ordenadas de mayor a menor. Los conteos se mantienen en memoria con cada asociación y " +
+          "desasociación, y se reconstruyen desde las asociaciones al iniciar.",
+        tags = TAG,
+        parameters = {
+          @io.swagger.v3.oas.annotations.Parameter(
+            name = "technologyId",
+            description = "ID de la tecnología",
+            required = true,
+            in = io.swagger.v3.oas.annotations.enums.ParameterIn.PATH,
+            schema = @Schema(type = "integer", format = "int64"),
+            example = "1"
+          ),
+          @io.swagger.v3.oas.annotations.Parameter(
+            name = "limit",
+            description = "Número máximo de recomendaciones (1 a 50)",
+            in = io.swagger.v3.oas.annotations.enums.ParameterIn.QUERY,
+            schema = @Schema(type = "integer", defaultValue = "10")
+          )
+        },
+        responses = {
+          @ApiResponse(
+            responseCode = "200",
+            description = "Tecnologías recomendadas",
+            content = @Content(
+              mediaType = JSON,
+              examples = @ExampleObject(
+                name = "Success Response",
+                summary = "Tecnologías que suelen acompañar a la tecnología 1",
+                value = "{\n" +
+                  "  \"technologyId\": 1,\n" +
+                  "  \"recommendations\": [\n" +
+                  "    {\"technologyId\": 3, \"name\": \"Spring Boot\", \"sharedCapacities\": 5},\n" +
+                  "    {\"technologyId\": 7, \"name\": \"Kotlin\", \"sharedCapacities\": 2}\n" +
+                  "  ]\n" +
+                  "}"
+              )
+            )
+          ),
+          @ApiResponse(
+            responseCode = "400",
+            description = "Límite fuera de rango",
+            content = @Content(
+              mediaType = JSON,
+              schema = @Schema(implementation = ErrorResponse.class),
+              examples = @ExampleObject(
+                name = "Business Error",
+                summary = "Límite inválido",
+                value = BUSINESS_ERROR_EXAMPLE + "Limit must be between 1 and 50" + EXAMPLE_END
+              )
+            )
+          ),
+          @ApiResponse(
+            responseCode = "404",
+            description = "Tecnología no encontrada",
+            content = @Content(
+              mediaType = JSON,
+              schema = @Schema(implementation = ErrorResponse.class),
+              examples = @ExampleObject(
+                name = "Not Found",
+                summary = "La tecnología no existe",
+                value = BUSINESS_ERROR_EXAMPLE + "Technology has not been found. Technology id: 1" + EXAMPLE_END
+              )
             )
           )
-        ),
-        @ApiResponse(
-          responseCode = "500",
-          description = "Error interno del servidor",
-          content = @Content(
-            mediaType = "application/json",
-            schema = @Schema(implementation = ErrorResponse.class),
-            examples = @ExampleObject(
-              name = "Internal Error",
-              summary = "Error interno del sistema",
-              value = "{\n" +
-                "  \"error\": \"INTERNAL_ERROR\",\n" +
-                "  \"message\": \"An unexpected error occurred\"\n" +
-                "}"
+        }
+      )
+    ),
+    @RouterOperation(
+      path = BASE_URL + "/technology/stats",
+      method = RequestMethod.GET,
+      operation = @Operation(
+        operationId = "findCatalogStats",
+        summary = "Estadísticas del catálogo de tecnologías",
+        description = "Retorna el número de asociaciones, capacidades y tecnologías asociadas, el promedio y máximo de " +
+          "tecnologías por capacidad, la distribución de capacidades por tamaño y las tecnologías más usadas. Los " +
+          "agregados se actualizan con cada escritura de asociaciones y se reconcilian periódicamente con la base de " +
+          "datos; reconciledAt indica la última reconciliación. Los mismos valores se exponen como métricas en " +
+          "/actuator/prometheus.",
+        tags = TAG,
+        parameters = {
+          @io.swagger.v3.oas.annotations.Parameter(
+            name = "top",
+            description = "Número de tecnologías más usadas a retornar (1 a 50)",
+            in = io.swagger.v3.oas.annotations.enums.ParameterIn.QUERY,
+            schema = @Schema(type = "integer", defaultValue = "10")
+          )
+        },
+        responses = {
+          @ApiResponse(
+            responseCode = "200",
+            description = "Estadísticas del catálogo",
+            content = @Content(
+              mediaType = JSON,
+              examples = @ExampleObject(
+                name = "Success Response",
+                summary = "Estadísticas actuales",
+                value = "{\n" +
+                  "  \"associations\": 7,\n" +
+                  "  \"capacities\": 3,\n" +
+                  "  \"technologies\": 4,\n" +
+                  "  \"averageTechnologiesPerCapacity\": 2.33,\n" +
+                  "  \"maxTechnologiesPerCapacity\": 4,\n" +
+                  "  \"capacitySizeDistribution\": {\"1\": 1, \"2-5\": 2, \"6-10\": 0, \"11-25\": 0, \"26-50\": 0, \"51+\": 0},\n" +
+                  "  \"mostUsedTechnologies\": [\n" +
+                  "    {\"technologyId\": 3, \"capacities\": 3},\n" +
+                  "    {\"technologyId\": 1, \"capacities\": 2}\n" +
+                  "  ],\n" +
+                  "  \"reconciledAt\": \"2024-01-01T00:00:00Z\"\n" +
+                  "}"
+              )
+            )
+          ),
+          @ApiResponse(
+            responseCode = "400",
+            description = "Parámetro top fuera de rango",
+            content = @Content(
+              mediaType = JSON,
+              schema = @Schema(implementation = ErrorResponse.class),
+              examples = @ExampleObject(
+                name = "Business Error",
+                summary = "Top inválido",
+                value = BUSINESS_ERROR_EXAMPLE + "Top must be between 1 and 50" + EXAMPLE_END
+              )
             )
           )
-        )
-      }
-    )
-  )
-  public RouterFunction<ServerResponse> findAllTechnologiesRouter(Handler handler) {
-    return route(GET(BASE_URL + "/technology"), handler::findAllTechnologies);
-  }
-
-  @Bean
-  @RouterOperation(
-    path = "/v1/api/technology/capacity/{capacityId}",
-    method = RequestMethod.GET,
-    operation = @Operation(
-      operationId = "findTechnologiesByCapacity",
-      summary = "Obtener tecnologías por capacidad",
-      description = "Endpoint para obtener las tecnologías asociadas a una capacidad específica. " +
-        "Requiere el ID de la capacidad como parámetro de ruta.",
-      tags = {"Technology Management"},
-      responses = {
-        @ApiResponse(
-          responseCode = "200",
-          description = "Lista de tecnologías por capacidad obtenida exitosamente",
-          content = @Content(
-            mediaType = "application/json",
-            schema = @Schema(
-              description = "Lista de tecnologías asociadas a la capacidad especificada"
-            ),
-            examples = @ExampleObject(
-              name = "Success Response",
-              summary = "Tecnologías por capacidad",
-              value = "[\n" +
-                "  {\n" +
-                "    \"technologyId\": 1,\n" +
-                "    \"name\": \"Spring Boot\",\n" +
-                "    \"description\": \"Framework de Java para desarrollo de aplicaciones empresariales\"\n" +
-                "  },\n" +
-                "  {\n" +
-                "    \"technologyId\": 3,\n" +
-                "    \"name\": \"Docker\",\n" +
-                "    \"description\": \"Plataforma de contenedores para desarrollo y despliegue\"\n" +
-                "  }\n" +
-                "]"
+        }
+      )
+    ),
+    @RouterOperation(
+      path = BASE_URL + "/technology/capacities",
+      method = RequestMethod.GET,
+      operation = @Operation(
+        operationId = "findCapacitiesByTechnologies",
+        summary = "Obtener capacidades de varias tecnologías",
+        description = "Retorna los IDs de las capacidades de hasta 100 tecnologías en el orden solicitado. Las tecnologías " +
+          "que no están en caché se resuelven con una sola consulta; las inexistentes se devuelven sin capacidades.",
+        tags = TAG,
+        parameters = {
+          @io.swagger.v3.oas.annotations.Parameter(
+            name = "technologyIds",
+            description = "IDs de las tecnologías separados por coma o repitiendo el parámetro",
+            required = true,
+            in = io.swagger.v3.oas.annotations.enums.ParameterIn.QUERY,
+            schema = @Schema(type = "string"),
+            example = "1,2,3"
+          )
+        },
+        responses = {
+          @ApiResponse(
+            responseCode = "200",
+            description = "Capacidades por tecnología",
+            content = @Content(
+              mediaType = JSON,
+              examples = @ExampleObject(
+                name = "Success Response",
+                summary = "Capacidades de cada tecnología",
+                value = "[\n" +
+                  "  {\"technologyId\": 1, \"capacityIds\": [1, 4]},\n" +
+                  "  {\"technologyId\": 2, \"capacityIds\": []}\n" +
+                  "]"
+              )
+            )
+          ),
+          @ApiResponse(
+            responseCode = "400",
+            description = "Lista vacía, demasiados IDs o IDs no numéricos",
+            content = @Content(
+              mediaType = JSON,
+              schema = @Schema(implementation = ErrorResponse.class),
+              examples = @ExampleObject(
+                name = "Business Error",
+                summary = "Lista vacía",
+                value = BUSINESS_ERROR_EXAMPLE + "Technology IDs cannot be empty" + EXAMPLE_END
+              )
             )
           )
-        ),
-        @ApiResponse(
-          responseCode = "400",
-          description = "Error de validación o negocio",
-          content = @Content(
-            mediaType = "application/json",
-            schema = @Schema(implementation = ErrorResponse.class),
-            examples = @ExampleObject(
-              name = "Business Error",
-              summary = "Error de reglas de negocio",
-              value = "{\n" +
-                "  \"error\": \"BUSINESS_ERROR\",\n" +
-                "  \"message\": \"Capacity not found\"\n" +
-                "}"
+        }
+      )
+    ),
+    @RouterOperation(
+      path = BASE_URL + "/technology/capacities/{operation}",
+      method = RequestMethod.GET,
+      operation = @Operation(
+        operationId = "findTechnologiesByCapacitySet",
+        summary = "Combinar las tecnologías de varias capacidades",
+        description = "Retorna los IDs de las tecnologías que resultan de intersectar, unir o restar las tecnologías de " +
+          "hasta 100 capacidades. La diferencia resta de la primera capacidad todas las demás. Se resuelve en memoria " +
+          "con bitmaps comprimidos que se actualizan en cada escritura y se reconstruyen periódicamente.",
+        tags = TAG,
+        parameters = {
+          @io.swagger.v3.oas.annotations.Parameter(
+            name = "operation",
+            description = "Operación de conjuntos",
+            required = true,
+            in = io.swagger.v3.oas.annotations.enums.ParameterIn.PATH,
+            schema = @Schema(type = "string", allowableValues = {"intersection", "union", "difference"}),
+            example = "intersection"
+          ),
+          @io.swagger.v3.oas.annotations.Parameter(
+            name = "capacityIds",
+            description = "IDs de las capacidades separados por coma o repitiendo el parámetro",
+            required = true,
+            in = io.swagger.v3.oas.annotations.enums.ParameterIn.QUERY,
+            schema = @Schema(type = "string"),
+            example = "1,2"
+          )
+        },
+        responses = {
+          @ApiResponse(
+            responseCode = "200",
+            description = "Tecnologías resultantes, ordenadas por ID",
+            content = @Content(
+              mediaType = JSON,
+              examples = @ExampleObject(
+                name = "Success Response",
+                summary = "Tecnologías comunes a las capacidades 1 y 2",
+                value = "{\n" +
+                  "  \"operation\": \"intersection\",\n" +
+                  "  \"capacityIds\": [1, 2],\n" +
+                  "  \"count\": 2,\n" +
+                  "  \"technologyIds\": [3, 7]\n" +
+                  "}"
+              )
+            )
+          ),
+          @ApiResponse(
+            responseCode = "400",
+            description = "Operación desconocida, lista vacía, demasiados IDs o IDs no numéricos",
+            content = @Content(
+              mediaType = JSON,
+              schema = @Schema(implementation = ErrorResponse.class),
+              examples = @ExampleObject(
+                name = "Business Error",
+                summary = "Lista vacía",
+                value = BUSINESS_ERROR_EXAMPLE + "Capacity IDs cannot be empty" + EXAMPLE_END
+              )
             )
           )
+        }
+      )
+    ),
+    @RouterOperation(
+      path = BASE_URL + "/technology/import",
+      method = RequestMethod.POST,
+      operation = @Operation(
+        operationId = "importTechnologies",
+        summary = "Importar el catálogo de tecnologías",
+        description = "Recibe un archivo NDJSON o CSV en streaming (mismo formato que la exportación), valida cada fila " +
+          "con las reglas de dominio y carga las válidas con COPY en una tabla temporal que luego se fusiona con " +
+          "tecnologías y asociaciones en una sola transacción. Las tecnologías existentes no se modifican. " +
+          "La respuesta es un stream NDJSON con eventos de progreso, filas rechazadas y el resumen final.",
+        tags = TAG,
+        requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+          description = "Filas a importar, una por línea. El CSV requiere el encabezado technologyId,name,description,capacityIds.",
+          required = true,
+          content = {
+            @Content(
+              mediaType = "application/x-ndjson",
+              examples = @ExampleObject(
+                name = "NDJSON",
+                value = "{\"name\":\"Spring Boot\",\"description\":\"Framework de Java\",\"capacityIds\":[1,4]}\n"
+              )
+            ),
+            @Content(
+              mediaType = "text/csv",
+              examples = @ExampleObject(
+                name = "CSV",
+                value = "technologyId,name,description,capacityIds\n,Spring Boot,Framework de Java,1;4\n"
+              )
+            )
+          }
         ),
-        @ApiResponse(
-          responseCode = "500",
-          description = "Error interno del servidor",
-          content = @Content(
-            mediaType = "application/json",
-            schema = @Schema(implementation = ErrorResponse.class),
-            examples = @ExampleObject(
-              name = "Internal Error",
-              summary = "Error interno del sistema",
-              value = "{\n" +
-                "  \"error\": \"INTERNAL_ERROR\",\n" +
-                "  \"message\": \"An unexpected error occurred\"\n" +
-                "}"
+        responses = {
+          @ApiResponse(
+            responseCode = "200",
+            description = "Stream de eventos de la importación",
+            content = @Content(
+              mediaType = "application/x-ndjson",
+              schema = @Schema(implementation = ImportEventResponse.class),
+              examples = @ExampleObject(
+                name = "Eventos",
+                value = "{\"event\":\"REJECTED\",\"line\":3,\"message\":\"Technology name cannot be empty\"}\n" +
+                  "{\"event\":\"PROGRESS\",\"processed\":10000,\"rejected\":1}\n" +
+                  "{\"event\":\"COMPLETED\",\"processed\":12500,\"rejected\":1,\"technologiesCreated\":12400," +
+                  "\"associationsCreated\":30100}\n"
+              )
             )
           )
-        )
-      }
-    )
-  )
-  public RouterFunction<ServerResponse> findTechnologiesByCapacityRouter(Handler handler) {
-    return route(GET(BASE_URL + "/technology/capacity/{capacityId}"), handler::findTechnologiesByCapacity);
-  }
-
-  @Bean
-  @RouterOperation(
-    path = "/v1/api/technology/associate",
-    method = RequestMethod.POST,
-    operation = @Operation(
-      operationId = "associateTechnologyWithCapacity",
-      summary = "Asociar tecnología con capacidad",
-      description = "Endpoint para asociar una tecnología existente con una capacidad específica. " +
-        "Requiere el ID de la capacidad y el nombre de la tecnología en el cuerpo de la petición.",
-      tags = {"Technology Management"},
-      requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
-        description = "Datos para asociar tecnología con capacidad. Requiere capacityId (positivo) y technology (máx 50 caracteres).",
-        required = true,
-        content = @Content(
-          mediaType = "application/json",
-          schema = @Schema(implementation = AssociateTechnologyWithCapacityRequest.class),
-          examples = @ExampleObject(
-            name = "Ejemplo de asociación",
-            summary = "Ejemplo de request para asociar tecnología con capacidad",
-            value = "{\n" +
-              "  \"capacityId\": 1,\n" +
-              "  \"technology\": \"Spring Boot\"\n" +
-              "}"
+        }
+      )
+    ),
+    @RouterOperation(
+      path = BASE_URL + "/technology/capacity/{capacityId}",
+      method = RequestMethod.GET,
+      operation = @Operation(
+        operationId = "findTechnologiesByCapacity",
+        summary = "Obtener tecnologías por capacidad",
+        description = "Endpoint para obtener las tecnologías asociadas a una capacidad específica. " +
+          "Requiere el ID de la capacidad como parámetro de ruta.",
+        tags = TAG,
+        responses = {
+          @ApiResponse(
+            responseCode = "200",
+            description = "Lista de tecnologías por capacidad obtenida exitosamente",
+            headers = {
+              @Header(name = "Age", description = "Segundos desde que el dato se leyó de la base de datos",
+                schema = @Schema(type = "integer")),
+              @Header(name = "X-Cache-Stale", description = "true cuando el dato superó su TTL suave y se está " +
+                "refrescando en segundo plano", schema = @Schema(type = "boolean"))
+            },
+            content = @Content(
+              mediaType = JSON,
+              schema = @Schema(
+                description = "Lista de tecnologías asociadas a la capacidad especificada"
+              ),
+              examples = @ExampleObject(
+                name = "Success Response",
+                summary = "Tecnologías por capacidad",
+                value = "[\n" +
+                  "  {\n" +
+                  "    \"technologyId\": 1,\n" +
+                  "    \"name\": \"Spring Boot\",\n" +
+                  "    \"description\": \"Framework de Java para desarrollo de aplicaciones empresariales\"\n" +
+                  "  },\n" +
+                  "  {\n" +
+                  "    \"technologyId\": 3,\n" +
+                  "    \"name\": \"Docker\",\n" +
+                  "    \"description\": \"Plataforma de contenedores para desarrollo y despliegue\"\n" +
+                  "  }\n" +
+                  "]"
+              )
+            )
+          ),
+          @ApiResponse(
+            responseCode = "400",
+            description = "Error de validación o negocio",
+            content = @Content(
+              mediaType = JSON,
+              schema = @Schema(implementation = ErrorResponse.class),
+              examples = @ExampleObject(
+                name = "Business Error",
+                summary = "Error de reglas de negocio",
+                value = BUSINESS_ERROR_EXAMPLE + "Capacity not found" + EXAMPLE_END
+              )
+            )
           )
-        )
-      ),
-      responses = {
-        @ApiResponse(
-          responseCode = "200",
-          description = "Tecnología asociada exitosamente",
+        }
+      )
+    ),
+    @RouterOperation(
+      path = BASE_URL + "/technology/associate",
+      method = RequestMethod.POST,
+      operation = @Operation(
+        operationId = "associateTechnologyWithCapacity",
+        summary = "Asociar tecnología con capacidad",
+        description = "Endpoint para asociar una tecnología existente con una capacidad específica. " +
+          "Requiere el ID de la capacidad y el nombre de la tecnología en el cuerpo de la petición.",
+        tags = TAG,
+        requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+          description = "Datos para asociar tecnología con capacidad. Requiere capacityId (positivo) y technology (máx 50 caracteres).",
+          required = true,
           content = @Content(
-            mediaType = "application/json",
-            schema = @Schema(
-              description = "Respuesta exitosa al asociar tecnología con capacidad"
-            ),
+            mediaType = JSON,
+            schema = @Schema(implementation = AssociateTechnologyWithCapacityRequest.class),
             examples = @ExampleObject(
-              name = "Success Response",
-              summary = "Tecnología asociada correctamente",
+              name = "Ejemplo de asociación",
+              summary = "Ejemplo de request para asociar tecnología con capacidad",
               value = "{\n" +
-                "  \"technologyId\": 1,\n" +
-                "  \"name\": \"Spring Boot\",\n" +
-                "  \"description\": \"Framework de Java para desarrollo de aplicaciones empresariales\",\n" +
-                "  \"capacityId\": 1\n" +
+                "  \"capacityId\": 1,\n" +
+                "  \"technology\": \"Spring Boot\"\n" +
                 "}"
             )
           )
         ),
-        @ApiResponse(
-          responseCode = "400",
-          description = "Error de validación, dominio o negocio",
-          content = @Content(
-            mediaType = "application/json",
-            schema = @Schema(implementation = ErrorResponse.class),
-            examples = {
-              @ExampleObject(
-                name = "Validation Error",
-                summary = "Error de validación de campos",
+        responses = {
+          @ApiResponse(
+            responseCode = "200",
+            description = "Tecnología asociada exitosamente",
+            content = @Content(
+              mediaType = JSON,
+              schema = @Schema(
+                description = "Respuesta exitosa al asociar tecnología con capacidad"
+              ),
+              examples = @ExampleObject(
+                name = "Success Response",
+                summary = "Tecnología asociada correctamente",
                 value = "{\n" +
-                  "  \"error\": \"VALIDATION_ERROR\",\n" +
-                  "  \"message\": \"Capacity id is required, Technology name cannot be empty\"\n" +
+                  "  \"technologyId\": 1,\n" +
+                  "  \"name\": \"Spring Boot\",\n" +
+                  "  \"description\": \"Framework de Java para desarrollo de aplicaciones empresariales\",\n" +
+                  "  \"capacityId\": 1\n" +
                   "}"
-              ),
-              @ExampleObject(
+              )
+            )
+          ),
+          @ApiResponse(
+            responseCode = "400",
+            description = "Error de validación, dominio o negocio",
+            content = @Content(
+              mediaType = JSON,
+              schema = @Schema(implementation = ErrorResponse.class),
+              examples = {
+                @ExampleObject(
+                  name = "Validation Error",
+                  summary = "Error de validación de campos",
+                  value = VALIDATION_ERROR_EXAMPLE + "Capacity id is required, Technology name cannot be empty" + EXAMPLE_END
+                ),
+                @ExampleObject(
+                  name = "Business Error",
+                  summary = "Error de reglas de negocio",
+                  value = BUSINESS_ERROR_EXAMPLE + "The technology name has not been found." + EXAMPLE_END
+                )
+              }
+            )
+          ),
+          @ApiResponse(
+            responseCode = "404",
+            description = "Tecnología no encontrada",
+            content = @Content(
+              mediaType = JSON,
+              schema = @Schema(implementation = ErrorResponse.class),
+              examples = @ExampleObject(
                 name = "Business Error",
-                summary = "Error de reglas de negocio",
+                summary = "La tecnología no existe",
+                value = BUSINESS_ERROR_EXAMPLE + "The technology name has not been found." + EXAMPLE_END
+              )
+            )
+          ),
+          @ApiResponse(
+            responseCode = "409",
+            description = "La tecnología ya está asociada a la capacidad",
+            content = @Content(
+              mediaType = JSON,
+              schema = @Schema(implementation = ErrorResponse.class),
+              examples = @ExampleObject(
+                name = "Business Error",
+                summary = "Asociación existente",
+                value = BUSINESS_ERROR_EXAMPLE + "The technology is already associated with this capacity." + EXAMPLE_END
+              )
+            )
+          )
+        }
+      )
+    ),
+    @RouterOperation(
+      path = BASE_URL + "/technology/capacity/{capacityId}",
+      method = RequestMethod.DELETE,
+      operation = @Operation(
+        operationId = "deleteTechnologiesByCapacity",
+        summary = "Eliminar tecnologías por capacidad",
+        description = "Elimina todas las tecnologías asociadas a una capacidad específica. " +
+          "Si una tecnología solo está asociada a esa capacidad, se elimina completamente. " +
+          "Si está asociada a otras capacidades, solo se elimina la relación.",
+        tags = TAG,
+        parameters = {
+          @io.swagger.v3.oas.annotations.Parameter(
+            name = "capacityId",
+            description = "ID de la capacidad para la cual eliminar las tecnologías asociadas",
+            required = true,
+            in = io.swagger.v3.oas.annotations.enums.ParameterIn.PATH,
+            schema = @Schema(type = "integer", format = "int64"),
+            example = "1"
+          ),
+          @io.swagger.v3.oas.annotations.Parameter(
+            name = "async",
+            description = "Si es true, la eliminación se ejecuta como un trabajo en segundo plano. " +
+              "Equivalente a enviar el header Prefer: respond-async",
+            in = io.swagger.v3.oas.annotations.enums.ParameterIn.QUERY,
+            schema = @Schema(type = "boolean", defaultValue = "false")
+          )
+        },
+        responses = {
+          @ApiResponse(
+            responseCode = "202",
+            description = "Trabajo de eliminación aceptado. El header Location apunta a /v1/api/jobs/{jobId}",
+            content = @Content(
+              mediaType = JSON,
+              examples = @ExampleObject(
+                name = "Accepted",
+                summary = "Trabajo creado",
                 value = "{\n" +
-                  "  \"error\": \"BUSINESS_ERROR\",\n" +
-                  "  \"message\": \"The technology name has not been found.\"\n" +
+                  "  \"jobId\": \"8f0b7c3e-3f4a-4d6b-9a57-1f6f5b2c9d10\",\n" +
+                  "  \"capacityId\": 1,\n" +
+                  "  \"status\": \"PENDING\",\n" +
+                  "  \"total\": 3,\n" +
+                  "  \"processed\": 0,\n" +
+                  "  \"technologyIds\": []\n" +
                   "}"
               )
-            }
-          )
-        ),
-        @ApiResponse(
-          responseCode = "500",
-          description = "Error interno del servidor",
-          content = @Content(
-            mediaType = "application/json",
-            schema = @Schema(implementation = ErrorResponse.class),
-            examples = @ExampleObject(
-              name = "Internal Error",
-              summary = "Error interno del sistema",
-              value = "{\n" +
-                "  \"error\": \"INTERNAL_ERROR\",\n" +
-                "  \"message\": \"An unexpected error occurred\"\n" +
-                "}"
             )
-          )
-        )
-      }
-    )
-  )
-  public RouterFunction<ServerResponse> associateTechnologyWithCapacityRouter(Handler handler) {
-    return route(POST(BASE_URL + "/technology/associate"), handler::associateTechnologyWithCapacity);
-  }
-
-
-  @Bean
-  @RouterOperation(
-    path = "/v1/api/technology/capacity/{capacityId}",
-    method = RequestMethod.DELETE,
-    operation = @Operation(
-      operationId = "deleteTechnologiesByCapacity",
-      summary = "Eliminar tecnologías por capacidad",
-      description = "Elimina todas las tecnologías asociadas a una capacidad específica. " +
-        "Si una tecnología solo está asociada a esa capacidad, se elimina completamente. " +
-        "Si está asociada a otras capacidades, solo se elimina la relación.",
-      tags = {"Technology Management"},
-      parameters = {
-        @io.swagger.v3.oas.annotations.Parameter(
-          name = "capacityId",
-          description = "ID de la capacidad para la cual eliminar las tecnologías asociadas",
-          required = true,
-          in = io.swagger.v3.oas.annotations.enums.ParameterIn.PATH,
-          schema = @Schema(type = "integer", format = "int64"),
-          example = "1"
-        )
-      },
-      responses = {
-        @ApiResponse(
-          responseCode = "200",
-          description = "Tecnologías procesadas exitosamente",
-          content = @Content(
-            mediaType = "application/json",
-            schema = @Schema(
-              description = "Lista de IDs de tecnologías procesadas"
-            ),
-            examples = @ExampleObject(
-              name = "Success Response",
-              summary = "Tecnologías procesadas correctamente",
-              value = "[1, 2, 3]"
+          ),
+          @ApiResponse(
+            responseCode = "200",
+            description = "Tecnologías procesadas exitosamente",
+            content = @Content(
+              mediaType = JSON,
+              schema = @Schema(
+                description = "Lista de IDs de tecnologías procesadas"
+              ),
+              examples = @ExampleObject(
+                name = "Success Response",
+                summary = "Tecnologías procesadas correctamente",
+                value = "[1, 2, 3]"
+              )
+            )
+          ),
+          @ApiResponse(
+            responseCode = "400",
+            description = "Error en la solicitud",
+            content = @Content(
+              mediaType = JSON,
+              schema = @Schema(implementation = ErrorResponse.class),
+              examples = @ExampleObject(
+                name = "Business Error",
+                summary = "Error cuando el capacityId es nulo o no existe",
+                value = BUSINESS_ERROR_EXAMPLE + "Capacity ID cannot be null" + EXAMPLE_END
+              )
+            )
+          ),
+          @ApiResponse(
+            responseCode = "404",
+            description = "Capacidad no encontrada",
+            content = @Content(
+              mediaType = JSON,
+              schema = @Schema(implementation = ErrorResponse.class),
+              examples = @ExampleObject(
+                name = "Business Error",
+                summary = "La capacidad no tiene tecnologías asociadas",
+                value = BUSINESS_ERROR_EXAMPLE + "Capacity has not been found. Capacity id: 1" + EXAMPLE_END
+              )
+            )
+          ),
+          @ApiResponse(
+            responseCode = "409",
+            description = "La capacidad ya tiene un trabajo de eliminación pendiente o en ejecución (solo con async=true)",
+            content = @Content(
+              mediaType = JSON,
+              schema = @Schema(implementation = ErrorResponse.class),
+              examples = @ExampleObject(
+                name = "Job Already Active",
+                summary = "Ya existe un trabajo activo para la capacidad",
+                value = BUSINESS_ERROR_EXAMPLE + "A deletion job is already pending or running. Capacity id: 1" + EXAMPLE_END
+              )
             )
           )
-        ),
-        @ApiResponse(
-          responseCode = "400",
-          description = "Error en la solicitud",
+        }
+      )
+    ),
+    @RouterOperation(
+      path = BASE_URL + "/technology/capacity/{capacityId}",
+      method = RequestMethod.PUT,
+      operation = @Operation(
+        operationId = "replaceCapacityTechnologies",
+        summary = "Reemplazar las tecnologías de una capacidad",
+        description = "Recibe el conjunto deseado de tecnologías y aplica solo las asociaciones que cambian, en una única " +
+          "transacción. Si el conjunto no cambia no se realiza ninguna escritura. Quitar una asociación no elimina la " +
+          "tecnología.",
+        tags = TAG,
+        parameters = {
+          @io.swagger.v3.oas.annotations.Parameter(
+            name = "capacityId",
+            description = "ID de la capacidad",
+            required = true,
+            in = io.swagger.v3.oas.annotations.enums.ParameterIn.PATH,
+            schema = @Schema(type = "integer", format = "int64"),
+            example = "1"
+          )
+        },
+        requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+          description = "Tecnologías que debe tener la capacidad, por ID y/o por nombre. Una lista vacía quita todas.",
+          required = true,
           content = @Content(
-            mediaType = "application/json",
-            schema = @Schema(implementation = ErrorResponse.class),
+            mediaType = JSON,
+            schema = @Schema(implementation = ReplaceCapacityTechnologiesRequest.class),
             examples = @ExampleObject(
-              name = "Business Error",
-              summary = "Error cuando el capacityId es nulo o no existe",
+              name = "Ejemplo de reemplazo",
+              summary = "Conjunto deseado por ID y por nombre",
               value = "{\n" +
-                "  \"error\": \"BUSINESS_ERROR\",\n" +
-                "  \"message\": \"Capacity ID cannot be null\"\n" +
+                "  \"technologyIds\": [1, 2],\n" +
+                "  \"technologies\": [\"Spring Boot\"]\n" +
                 "}"
             )
           )
         ),
-        @ApiResponse(
-          responseCode = "500",
-          description = "Error interno del servidor",
-          content = @Content(
-            mediaType = "application/json",
-            schema = @Schema(implementation = ErrorResponse.class),
-            examples = @ExampleObject(
-              name = "Internal Error",
-              summary = "Error interno del sistema",
-              value = "{\n" +
-                "  \"error\": \"INTERNAL_ERROR\",\n" +
-                "  \"message\": \"An unexpected error occurred\"\n" +
-                "}"
+        responses = {
+          @ApiResponse(
+            responseCode = "200",
+            description = "Asociaciones agregadas y quitadas",
+            content = @Content(
+              mediaType = JSON,
+              examples = @ExampleObject(
+                name = "Success Response",
+                summary = "Diferencia aplicada",
+                value = "{\n" +
+                  "  \"capacityId\": 1,\n" +
+                  "  \"added\": [2],\n" +
+                  "  \"removed\": [7]\n" +
+                  "}"
+              )
+            )
+          ),
+          @ApiResponse(
+            responseCode = "400",
+            description = "Solicitud sin tecnologías o con demasiadas",
+            content = @Content(
+              mediaType = JSON,
+              schema = @Schema(implementation = ErrorResponse.class),
+              examples = @ExampleObject(
+                name = "Business Error",
+                summary = "Cuerpo vacío",
+                value = BUSINESS_ERROR_EXAMPLE + "Technology IDs or names are required" + EXAMPLE_END
+              )
+            )
+          ),
+          @ApiResponse(
+            responseCode = "404",
+            description = "Alguna tecnología no existe; no se aplica ningún cambio",
+            content = @Content(
+              mediaType = JSON,
+              schema = @Schema(implementation = ErrorResponse.class),
+              examples = @ExampleObject(
+                name = "Not Found",
+                summary = "Tecnologías inexistentes",
+                value = BUSINESS_ERROR_EXAMPLE + "Technologies have not been found: 9, Elixir" + EXAMPLE_END
+              )
+            )
+          )
+        }
+      )
+    ),
+    @RouterOperation(
+      path = BASE_URL + "/jobs/{jobId}",
+      method = RequestMethod.GET,
+      operation = @Operation(
+        operationId = "findDeletionJob",
+        summary = "Consultar trabajo de eliminación",
+        description = "Devuelve el estado, el progreso y los IDs de tecnologías procesadas por un trabajo de eliminación asíncrono.",
+        tags = TAG,
+        parameters = {
+          @io.swagger.v3.oas.annotations.Parameter(
+            name = "jobId",
+            description = "ID del trabajo devuelto al eliminar con async=true",
+            required = true,
+            in = io.swagger.v3.oas.annotations.enums.ParameterIn.PATH,
+            schema = @Schema(type = "string", format = "uuid")
+          )
+        },
+        responses = {
+          @ApiResponse(
+            responseCode = "200",
+            description = "Estado del trabajo",
+            content = @Content(
+              mediaType = JSON,
+              examples = @ExampleObject(
+                name = "Running Job",
+                summary = "Trabajo en ejecución",
+                value = "{\n" +
+                  "  \"jobId\": \"8f0b7c3e-3f4a-4d6b-9a57-1f6f5b2c9d10\",\n" +
+                  "  \"capacityId\": 1,\n" +
+                  "  \"status\": \"RUNNING\",\n" +
+                  "  \"total\": 3,\n" +
+                  "  \"processed\": 2,\n" +
+                  "  \"technologyIds\": [1, 2]\n" +
+                  "}"
+              )
             )
+          ),
+          @ApiResponse(
+            responseCode = "400",
+            description = "ID de trabajo inválido",
+            content = @Content(mediaType = JSON, schema = @Schema(implementation = ErrorResponse.class))
+          ),
+          @ApiResponse(
+            responseCode = "404",
+            description = "Trabajo no encontrado",
+            content = @Content(mediaType = JSON, schema = @Schema(implementation = ErrorResponse.class))
           )
-        )
-      }
+        }
+      )
     )
-  )
-  public RouterFunction<ServerResponse> deleteTechnologiesByCapacityRouter(Handler handler) {
-    return route(DELETE(BASE_URL + "/technology/capacity/{capacityId}"), handler::deleteTechnologies);
+  })
+  public RouterFunction<ServerResponse> routerFunction(Handler handler, ErrorHandlingFilter errorHandlingFilter) {
+    return route()
+      .POST(BASE_URL + "/technology", handler::createTechnology)
+      .GET(BASE_URL + "/technology", handler::findAllTechnologies)
+      .GET(BASE_URL + "/technology/export", handler::exportTechnologies)
+      .GET(BASE_URL + "/technology/search", handler::searchTechnologies)
+      .GET(BASE_URL + "/technology/search/text", handler::searchTechnologiesByText)
+      .GET(BASE_URL + "/technology/{technologyId}/capacities", handler::findCapacitiesByTechnology)
+      .GET(BASE_URL + "/technology/{technologyId}/recommendations", handler::recommendTechnologies)
+      .GET(BASE_URL + "/technology/stats", handler::findCatalogStats)
+      .GET(BASE_URL + "/technology/capacities", handler::findCapacitiesByTechnologies)
+      .GET(BASE_URL + "/technology/capacities/{operation}", handler::findTechnologiesByCapacitySet)
+      .POST(BASE_URL + "/technology/import", handler::importTechnologies)
+      .GET(BASE_URL + "/technology/capacity/{capacityId}", handler::findTechnologiesByCapacity)
+      .POST(BASE_URL + "/technology/associate", handler::associateTechnologyWithCapacity)
+      .DELETE(BASE_URL + "/technology/capacity/{capacityId}", handler::deleteTechnologies)
+      .PUT(BASE_URL + "/technology/capacity/{capacityId}", handler::replaceCapacityTechnologies)
+      .GET(BASE_URL + "/jobs/{jobId}", handler::findDeletionJob)
+      .filter(errorHandlingFilter)
+      .build();
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,75 @@
+package co.com.bancolombia.api.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+public class AdaptiveConcurrencyLimit {
+  private static final int BASELINE_DRIFT_SHIFT = 7;
+  private static final long NEVER = Long.MIN_VALUE;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final double latencyTolerance;
+  private final double backoffRatio;
+  private final AtomicInteger limit;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicLong baselineRttNanos = new AtomicLong();
+  private final AtomicLong lastDecreaseNanos = new AtomicLong(NEVER);
+  private final LongSupplier nanoClock;
+
+  public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double latencyTolerance, double backoffRatio) {
+    this(initialLimit, minLimit, maxLimit, latencyTolerance, backoffRatio, System::nanoTime);
+  }
+
+  AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double latencyTolerance, double backoffRatio,
+                           LongSupplier nanoClock) {
+    this.nanoClock = nanoClock;
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.latencyTolerance = latencyTolerance;
+    this.backoffRatio = backoffRatio;
+    this.limit = new AtomicInteger(Math.max(minLimit, Math.min(initialLimit, maxLimit)));
+  }
+
+  public boolean tryAcquire() {
+    while (true) {
+      int current = inFlight.get();
+      if (current >= limit.get()) {
+        return false;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  public void release() {
+    inFlight.decrementAndGet();
+  }
+
+  public void release(long rttNanos) {
+    int inFlightAtCompletion = inFlight.getAndDecrement();
+    long baseline = baselineRttNanos.accumulateAndGet(rttNanos, (previous, sample) ->
+      previous == 0 ? sample : Math.min(sample, previous + (previous >> BASELINE_DRIFT_SHIFT)));
+
+    if (rttNanos > baseline * latencyTolerance) {
+      // Slow responses that were in flight together are one congestion signal: back off once per baseline RTT.
+      long now = nanoClock.getAsLong();
+      long last = lastDecreaseNanos.get();
+      if ((last == NEVER || now - last >= baseline) && lastDecreaseNanos.compareAndSet(last, now)) {
+        limit.updateAndGet(current -> Math.max(minLimit, (int) (current * backoffRatio)));
+      }
+    } else if (inFlightAtCompletion * 2 >= limit.get()) {
+      limit.updateAndGet(current -> Math.min(maxLimit, current + 1));
+    }
+  }
+
+  public int getLimit() {
+    return limit.get();
+  }
+
+  public int getInFlight() {
+    return inFlight.get();
+  }
+}
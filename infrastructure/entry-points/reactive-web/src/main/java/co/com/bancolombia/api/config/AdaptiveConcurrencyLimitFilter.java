@@ -0,0 +1,101 @@
+package co.com.bancolombia.api.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.Set;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class AdaptiveConcurrencyLimitFilter implements WebFilter {
+  private static final String API_PATH_PREFIX = "/v1/api";
+  private static final Set<String> STREAMING_PATHS = Set.of(
+    API_PATH_PREFIX + "/technology/export", API_PATH_PREFIX + "/technology/import");
+  private static final String LIMIT_GAUGE_NAME = "technology.concurrency.limit";
+  private static final String IN_FLIGHT_GAUGE_NAME = "technology.concurrency.in-flight";
+  private static final String REJECTED_COUNTER_NAME = "technology.concurrency.rejected";
+  private static final String ROUTE_TAG = "route";
+  private static final String READ_ROUTE = "read";
+  private static final String WRITE_ROUTE = "write";
+  private static final byte[] LIMIT_EXCEEDED_BODY = RejectionResponseWriter.errorBody(
+    "SERVICE_UNAVAILABLE", "Too many concurrent requests, please retry later");
+
+  private final boolean enabled;
+  private final AdaptiveConcurrencyLimit readLimit;
+  private final AdaptiveConcurrencyLimit writeLimit;
+  private final Counter readRejectedCounter;
+  private final Counter writeRejectedCounter;
+
+  public AdaptiveConcurrencyLimitFilter(
+    MeterRegistry meterRegistry,
+    @Value("${technology.concurrency-limit.enabled:true}") boolean enabled,
+    @Value("${technology.concurrency-limit.read.initial:100}") int readInitialLimit,
+    @Value("${technology.concurrency-limit.read.max:400}") int readMaxLimit,
+    @Value("${technology.concurrency-limit.write.initial:20}") int writeInitialLimit,
+    @Value("${technology.concurrency-limit.write.max:80}") int writeMaxLimit,
+    @Value("${technology.concurrency-limit.min:4}") int minLimit,
+    @Value("${technology.concurrency-limit.latency-tolerance:2.0}") double latencyTolerance,
+    @Value("${technology.concurrency-limit.backoff-ratio:0.9}") double backoffRatio) {
+    this.enabled = enabled;
+    this.readLimit = new AdaptiveConcurrencyLimit(readInitialLimit, minLimit, readMaxLimit, latencyTolerance, backoffRatio);
+    this.writeLimit = new AdaptiveConcurrencyLimit(writeInitialLimit, minLimit, writeMaxLimit, latencyTolerance, backoffRatio);
+    this.readRejectedCounter = registerMeters(meterRegistry, READ_ROUTE, readLimit);
+    this.writeRejectedCounter = registerMeters(meterRegistry, WRITE_ROUTE, writeLimit);
+  }
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    String path = exchange.getRequest().getPath().value();
+    if (!enabled || !path.startsWith(API_PATH_PREFIX)) {
+      return chain.filter(exchange);
+    }
+
+    boolean read = isRead(exchange.getRequest().getMethod());
+    AdaptiveConcurrencyLimit limit = read ? readLimit : writeLimit;
+    if (!limit.tryAcquire()) {
+      (read ? readRejectedCounter : writeRejectedCounter).increment();
+      return RejectionResponseWriter.write(exchange, HttpStatus.SERVICE_UNAVAILABLE, LIMIT_EXCEEDED_BODY);
+    }
+
+    // Exports and imports stream for as long as the catalog takes to transfer, so their duration says
+    // nothing about backend latency and must not shrink the limit.
+    boolean sampled = !STREAMING_PATHS.contains(path);
+    long start = System.nanoTime();
+    return chain.filter(exchange)
+      .doFinally(signal -> {
+        if (signal == SignalType.CANCEL || !sampled) {
+          limit.release();
+        } else {
+          limit.release(System.nanoTime() - start);
+        }
+      });
+  }
+
+  private boolean isRead(HttpMethod method) {
+    return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method);
+  }
+
+  private Counter registerMeters(MeterRegistry meterRegistry, String route, AdaptiveConcurrencyLimit limit) {
+    Gauge.builder(LIMIT_GAUGE_NAME, limit, AdaptiveConcurrencyLimit::getLimit)
+      .tag(ROUTE_TAG, route)
+      .register(meterRegistry);
+    Gauge.builder(IN_FLIGHT_GAUGE_NAME, limit, AdaptiveConcurrencyLimit::getInFlight)
+      .tag(ROUTE_TAG, route)
+      .register(meterRegistry);
+    return Counter.builder(REJECTED_COUNTER_NAME)
+      .tag(ROUTE_TAG, route)
+      .register(meterRegistry);
+  }
+}
@@ -0,0 +1,33 @@
+package co.com.bancolombia.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.CodecConfigurer;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+@Configuration
+public class BinaryCodecConfig implements WebFluxConfigurer {
+  public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+  @Override
+  public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+    registerBinaryCodecs(configurer);
+  }
+
+  public static void registerBinaryCodecs(CodecConfigurer configurer) {
+    ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+    ObjectMapper smileMapper = Jackson2ObjectMapperBuilder.smile().build();
+    CodecConfigurer.CustomCodecs codecs = configurer.customCodecs();
+    codecs.register(new Jackson2CborEncoder(cborMapper, MediaType.APPLICATION_CBOR));
+    codecs.register(new Jackson2CborDecoder(cborMapper, MediaType.APPLICATION_CBOR));
+    codecs.register(new Jackson2SmileEncoder(smileMapper, APPLICATION_SMILE));
+    codecs.register(new Jackson2SmileDecoder(smileMapper, APPLICATION_SMILE));
+  }
+}
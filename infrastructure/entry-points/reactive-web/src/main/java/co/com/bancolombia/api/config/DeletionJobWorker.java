@@ -0,0 +1,82 @@
+package co.com.bancolombia.api.config;
+
+import co.com.bancolombia.usecase.CapacityDeletionJobUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+
+@Slf4j
+@Component
+public class DeletionJobWorker implements SmartLifecycle {
+  private static final Duration RELEASE_TIMEOUT = Duration.ofSeconds(5);
+
+  private final CapacityDeletionJobUseCase capacityDeletionJobUseCase;
+  private final boolean enabled;
+  private final Duration pollInterval;
+  private final int maxConcurrentJobs;
+  private final Duration lease;
+  private volatile Disposable polling;
+
+  public DeletionJobWorker(
+    CapacityDeletionJobUseCase capacityDeletionJobUseCase,
+    @Value("${technology.deletion-jobs.enabled:true}") boolean enabled,
+    @Value("${technology.deletion-jobs.poll-interval:2s}") Duration pollInterval,
+    @Value("${technology.deletion-jobs.max-concurrent-jobs:2}") int maxConcurrentJobs,
+    @Value("${technology.deletion-jobs.lease:2m}") Duration lease) {
+    this.capacityDeletionJobUseCase = capacityDeletionJobUseCase;
+    this.enabled = enabled;
+    this.pollInterval = pollInterval;
+    this.maxConcurrentJobs = maxConcurrentJobs;
+    this.lease = lease;
+  }
+
+  @Override
+  public void start() {
+    if (!enabled) {
+      return;
+    }
+
+    // Polls never wait for running jobs: the use case only claims jobs for free slots, so a tick
+    // while the budget is exhausted is a no-op rather than a queued claim.
+    polling = Flux.interval(pollInterval, Schedulers.parallel())
+      .onBackpressureDrop()
+      .flatMap(tick -> capacityDeletionJobUseCase.processAvailableJobs(maxConcurrentJobs, lease)
+        .onErrorResume(error -> {
+          log.error("Deletion job poll failed", error);
+          return Mono.empty();
+        }))
+      .subscribe();
+  }
+
+  @Override
+  public void stop() {
+    Disposable current = polling;
+    if (current != null) {
+      current.dispose();
+      polling = null;
+      releaseRunningJobs();
+    }
+  }
+
+  private void releaseRunningJobs() {
+    // Disposing cancels the jobs mid-chunk; handing them back lets another instance resume them at once.
+    try {
+      capacityDeletionJobUseCase.releaseRunningJobs().block(RELEASE_TIMEOUT);
+    } catch (RuntimeException e) {
+      log.warn("Could not release running deletion jobs, they resume once their lease expires", e);
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    Disposable current = polling;
+    return current != null && !current.isDisposed();
+  }
+}
@@ -0,0 +1,55 @@
+package co.com.bancolombia.api.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Rebuilds an in-memory index at startup and then on a fixed interval; ticks that arrive mid-rebuild are dropped.
+ */
+@Slf4j
+abstract class PeriodicIndexRebuild implements SmartLifecycle {
+  private final String indexName;
+  private final Duration refreshInterval;
+  private final Supplier<Mono<Void>> rebuild;
+  private volatile Disposable refreshing;
+
+  PeriodicIndexRebuild(String indexName, Duration refreshInterval, Supplier<Mono<Void>> rebuild) {
+    this.indexName = indexName;
+    this.refreshInterval = refreshInterval;
+    this.rebuild = rebuild;
+  }
+
+  @Override
+  public void start() {
+    refreshing = Flux.interval(Duration.ZERO, refreshInterval, Schedulers.parallel())
+      .onBackpressureDrop()
+      .concatMap(tick -> rebuild.get()
+        .onErrorResume(error -> {
+          log.error("{} rebuild failed", indexName, error);
+          return Mono.empty();
+        }), 0)
+      .subscribe();
+  }
+
+  @Override
+  public void stop() {
+    Disposable current = refreshing;
+    if (current != null) {
+      current.dispose();
+      refreshing = null;
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    Disposable current = refreshing;
+    return current != null && !current.isDisposed();
+  }
+}
@@ -0,0 +1,78 @@
+package co.com.bancolombia.api.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class PoolAdmissionControlFilter implements WebFilter {
+  private static final String API_PATH_PREFIX = "/v1/api";
+  private static final String REJECTED_COUNTER_NAME = "technology.admission.rejected";
+  private static final byte[] OVERLOADED_BODY = RejectionResponseWriter.errorBody(
+    "SERVICE_UNAVAILABLE", "The service is overloaded, please retry later");
+
+  private final MeterRegistry meterRegistry;
+  private final String pendingGaugeName;
+  private final boolean enabled;
+  private final double maxPendingAcquires;
+  private final String retryAfterSeconds;
+  private final Counter rejectedCounter;
+  private volatile Gauge pendingGauge;
+
+  public PoolAdmissionControlFilter(
+    MeterRegistry meterRegistry,
+    @Value("${technology.admission-control.enabled:true}") boolean enabled,
+    @Value("${technology.admission-control.max-pending-acquires:20}") int maxPendingAcquires,
+    @Value("${technology.admission-control.retry-after:1s}") Duration retryAfter,
+    @Value("${technology.admission-control.pending-gauge:r2dbc.pool.pending}") String pendingGaugeName) {
+    this.meterRegistry = meterRegistry;
+    this.pendingGaugeName = pendingGaugeName;
+    this.enabled = enabled;
+    this.maxPendingAcquires = maxPendingAcquires;
+    this.retryAfterSeconds = String.valueOf(Math.max(1, retryAfter.toSeconds()));
+    this.rejectedCounter = Counter.builder(REJECTED_COUNTER_NAME)
+      .tag("reason", "pool_saturated")
+      .register(meterRegistry);
+  }
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    if (!enabled || !exchange.getRequest().getPath().value().startsWith(API_PATH_PREFIX)) {
+      return chain.filter(exchange);
+    }
+
+    Gauge gauge = resolvePendingGauge();
+    if (gauge == null || gauge.value() <= maxPendingAcquires) {
+      return chain.filter(exchange);
+    }
+
+    rejectedCounter.increment();
+    log.warn("Rejecting request, connection pool has {} pending acquires", (long) gauge.value());
+    exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+    return RejectionResponseWriter.write(exchange, HttpStatus.SERVICE_UNAVAILABLE, OVERLOADED_BODY);
+  }
+
+  private Gauge resolvePendingGauge() {
+    Gauge gauge = pendingGauge;
+    if (gauge == null) {
+      gauge = meterRegistry.find(pendingGaugeName).gauge();
+      pendingGauge = gauge;
+    }
+    return gauge;
+  }
+}
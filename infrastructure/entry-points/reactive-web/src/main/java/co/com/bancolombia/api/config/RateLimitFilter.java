@@ -0,0 +1,136 @@
+package co.com.bancolombia.api.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class RateLimitFilter implements WebFilter {
+  private static final String RATE_LIMIT_LIMIT_HEADER = "RateLimit-Limit";
+  private static final String RATE_LIMIT_REMAINING_HEADER = "RateLimit-Remaining";
+  private static final String RATE_LIMIT_RESET_HEADER = "RateLimit-Reset";
+  private static final String REJECTED_COUNTER_NAME = "technology.rate-limit.rejected";
+  private static final String UNKNOWN_CLIENT = "unknown";
+  private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+  private static final byte[] RATE_LIMITED_BODY = RejectionResponseWriter.errorBody(
+    "TOO_MANY_REQUESTS", "Rate limit exceeded, please retry later");
+
+  private final boolean enabled;
+  private final String clientHeader;
+  private final List<RouteLimit> routeLimits;
+
+  public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+    this.enabled = properties.enabled();
+    this.clientHeader = properties.clientHeader();
+    this.routeLimits = properties.routes().stream()
+      .map(route -> new RouteLimit(route, properties, meterRegistry))
+      .toList();
+  }
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    if (!enabled || routeLimits.isEmpty()) {
+      return chain.filter(exchange);
+    }
+
+    ServerHttpRequest request = exchange.getRequest();
+    RouteLimit routeLimit = findRouteLimit(request.getMethod(), request.getPath().pathWithinApplication());
+    if (routeLimit == null) {
+      return chain.filter(exchange);
+    }
+
+    long now = System.nanoTime();
+    TokenBucket bucket = routeLimit.bucketFor(resolveClientKey(request), now);
+    long remaining = bucket.tryConsume(now);
+
+    HttpHeaders headers = exchange.getResponse().getHeaders();
+    headers.set(RATE_LIMIT_LIMIT_HEADER, routeLimit.capacityHeader);
+    headers.set(RATE_LIMIT_REMAINING_HEADER, String.valueOf(Math.max(0, remaining)));
+    headers.set(RATE_LIMIT_RESET_HEADER, String.valueOf(toSeconds(bucket.nanosUntilFull(now))));
+
+    if (remaining < 0) {
+      routeLimit.rejectedCounter.increment();
+      headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(toSeconds(bucket.nanosUntilNextToken(now))));
+      return RejectionResponseWriter.write(exchange, HttpStatus.TOO_MANY_REQUESTS, RATE_LIMITED_BODY);
+    }
+
+    return chain.filter(exchange);
+  }
+
+  private RouteLimit findRouteLimit(HttpMethod method, PathContainer path) {
+    for (RouteLimit routeLimit : routeLimits) {
+      if (routeLimit.method.equals(method) && routeLimit.pattern.matches(path)) {
+        return routeLimit;
+      }
+    }
+    return null;
+  }
+
+  private String resolveClientKey(ServerHttpRequest request) {
+    String clientId = request.getHeaders().getFirst(clientHeader);
+    if (clientId != null && !clientId.isBlank()) {
+      return clientId;
+    }
+
+    InetSocketAddress remoteAddress = request.getRemoteAddress();
+    return remoteAddress != null ? remoteAddress.getHostString() : UNKNOWN_CLIENT;
+  }
+
+  private long toSeconds(long nanos) {
+    return (nanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND;
+  }
+
+  private static final class RouteLimit {
+    private final HttpMethod method;
+    private final PathPattern pattern;
+    private final long capacity;
+    private final long periodNanos;
+    private final String capacityHeader;
+    private final Cache<String, TokenBucket> buckets;
+    private final Counter rejectedCounter;
+
+    private RouteLimit(RateLimitProperties.Route route, RateLimitProperties properties, MeterRegistry meterRegistry) {
+      this.method = HttpMethod.valueOf(route.method());
+      this.pattern = PathPatternParser.defaultInstance.parse(route.path());
+      this.capacity = route.capacity();
+      this.periodNanos = route.period().toNanos();
+      this.capacityHeader = String.valueOf(route.capacity());
+      this.buckets = Caffeine.newBuilder()
+        .maximumSize(properties.maxClients())
+        .expireAfterAccess(properties.idleTimeout())
+        .build();
+      this.rejectedCounter = Counter.builder(REJECTED_COUNTER_NAME)
+        .tag("method", route.method())
+        .tag("route", route.path())
+        .register(meterRegistry);
+    }
+
+    private TokenBucket bucketFor(String clientKey, long now) {
+      TokenBucket bucket = buckets.getIfPresent(clientKey);
+      if (bucket == null) {
+        bucket = buckets.get(clientKey, key -> new TokenBucket(capacity, periodNanos, now));
+      }
+      return bucket;
+    }
+  }
+}
@@ -0,0 +1,19 @@
+package co.com.bancolombia.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "technology.rate-limit")
+public record RateLimitProperties(
+  @DefaultValue("true") boolean enabled,
+  @DefaultValue("X-Client-Id") String clientHeader,
+  @DefaultValue("10000") long maxClients,
+  @DefaultValue("10m") Duration idleTimeout,
+  @DefaultValue List<Route> routes) {
+
+  public record Route(String method, String path, long capacity, Duration period) {
+  }
+}
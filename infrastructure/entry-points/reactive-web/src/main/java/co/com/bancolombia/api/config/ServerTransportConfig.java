@@ -0,0 +1,45 @@
+package co.com.bancolombia.api.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+import java.util.regex.Pattern;
+
+@Slf4j
+@Configuration
+public class ServerTransportConfig {
+  private static final String LOOP_PREFIX = "technology-http";
+  private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+  private static final String ID_SEGMENT = "/{id}";
+
+  @Bean(destroyMethod = "dispose")
+  LoopResources serverLoopResources(ServerTransportProperties properties) {
+    return LoopResources.create(LOOP_PREFIX, properties.selectorThreads(), properties.effectiveWorkerThreads(), true);
+  }
+
+  @Bean
+  WebServerFactoryCustomizer<NettyReactiveWebServerFactory> serverTransportCustomizer(
+    LoopResources serverLoopResources, ServerTransportProperties properties) {
+    boolean preferNative = properties.nativeTransport() && LoopResources.hasNativeSupport();
+    log.info("HTTP server transport: {}, selector threads: {}, worker threads: {}",
+      preferNative ? "native" : "nio", properties.selectorThreads(), properties.effectiveWorkerThreads());
+    return factory -> factory.addServerCustomizers(server ->
+      customize(server, serverLoopResources, preferNative, properties.metricsEnabled()));
+  }
+
+  static HttpServer customize(HttpServer server, LoopResources loopResources, boolean preferNative, boolean metricsEnabled) {
+    HttpServer customized = server.runOn(loopResources, preferNative);
+    return metricsEnabled ? customized.metrics(true, ServerTransportConfig::uriTag) : customized;
+  }
+
+  static String uriTag(String uri) {
+    int queryStart = uri.indexOf('?');
+    String path = queryStart < 0 ? uri : uri.substring(0, queryStart);
+    return NUMERIC_SEGMENT.matcher(path).replaceAll(ID_SEGMENT);
+  }
+}
@@ -0,0 +1,18 @@
+package co.com.bancolombia.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "technology.server")
+public record ServerTransportProperties(
+  @DefaultValue("true") boolean nativeTransport,
+  @DefaultValue("1") int selectorThreads,
+  @DefaultValue("0") int workerThreads,
+  @DefaultValue("true") boolean metricsEnabled) {
+
+  private static final int MIN_WORKER_THREADS = 4;
+
+  public int effectiveWorkerThreads() {
+    return workerThreads > 0 ? workerThreads : Math.max(Runtime.getRuntime().availableProcessors(), MIN_WORKER_THREADS);
+  }
+}
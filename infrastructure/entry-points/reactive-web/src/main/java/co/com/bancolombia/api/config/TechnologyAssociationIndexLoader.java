@@ -0,0 +1,21 @@
+package co.com.bancolombia.api.config;
+
+import co.com.bancolombia.usecase.FindTechnologiesByCapacitySetUseCase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Catalog imports and links written by other instances never reach the association index, each rebuild
+ * reconciles them.
+ */
+@Component
+public class TechnologyAssociationIndexLoader extends PeriodicIndexRebuild {
+
+  public TechnologyAssociationIndexLoader(
+    FindTechnologiesByCapacitySetUseCase findTechnologiesByCapacitySetUseCase,
+    @Value("${technology.association-index.refresh-interval:5m}") Duration refreshInterval) {
+    super("Technology association index", refreshInterval, findTechnologiesByCapacitySetUseCase::rebuildIndex);
+  }
+}
@@ -0,0 +1,21 @@
+package co.com.bancolombia.api.config;
+
+import co.com.bancolombia.usecase.SearchTechnologiesByPrefixUseCase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Writes and imports made through this instance update the name index directly; the periodic rebuild picks up
+ * writes served by other instances.
+ */
+@Component
+public class TechnologyNameIndexLoader extends PeriodicIndexRebuild {
+
+  public TechnologyNameIndexLoader(
+    SearchTechnologiesByPrefixUseCase searchTechnologiesByPrefixUseCase,
+    @Value("${technology.search.refresh-interval:5m}") Duration refreshInterval) {
+    super("Technology name index", refreshInterval, searchTechnologiesByPrefixUseCase::rebuildIndex);
+  }
+}
@@ -0,0 +1,48 @@
+package co.com.bancolombia.api.config;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TokenBucket {
+  private final long capacity;
+  private final long emissionIntervalNanos;
+  private final long burstNanos;
+  private final AtomicLong theoreticalArrivalNanos;
+
+  public TokenBucket(long capacity, long periodNanos, long nowNanos) {
+    this.capacity = capacity;
+    this.emissionIntervalNanos = Math.max(1, periodNanos / capacity);
+    this.burstNanos = emissionIntervalNanos * capacity;
+    this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+  }
+
+  /**
+   * Takes one token using the generic cell rate algorithm, so the whole bucket state is a single CAS'd long.
+   * Returns the remaining tokens when allowed, or -1 when the bucket is empty.
+   */
+  public long tryConsume(long nowNanos) {
+    while (true) {
+      long arrival = theoreticalArrivalNanos.get();
+      long next = Math.max(arrival, nowNanos) + emissionIntervalNanos;
+      long backlog = next - nowNanos;
+      if (backlog > burstNanos) {
+        return -1;
+      }
+      if (theoreticalArrivalNanos.compareAndSet(arrival, next)) {
+        return (burstNanos - backlog) / emissionIntervalNanos;
+      }
+    }
+  }
+
+  public long nanosUntilNextToken(long nowNanos) {
+    long wait = theoreticalArrivalNanos.get() + emissionIntervalNanos - burstNanos - nowNanos;
+    return Math.max(0, wait);
+  }
+
+  public long nanosUntilFull(long nowNanos) {
+    return Math.max(0, theoreticalArrivalNanos.get() - nowNanos);
+  }
+
+  public long getCapacity() {
+    return capacity;
+  }
+}
@@ -1,10 +1,7 @@
 package co.com.bancolombia.api.request;
 
+import co.com.bancolombia.model.technology.values.TextConstraint;
 import io.swagger.v3.oas.annotations.media.Schema;
-import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Positive;
-import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -15,8 +12,6 @@ import lombok.NoArgsConstructor;
 @Schema(description = "Request para asociar una tecnología existente con una capacidad específica")
 public class AssociateTechnologyWithCapacityRequest {
   
-  @NotNull(message = "Capacity id is required")
-  @Positive(message = "The capacity id should be positive")
   @Schema(
     description = "ID de la capacidad a la cual se asociará la tecnología",
     example = "1",
@@ -25,14 +20,11 @@ public class AssociateTechnologyWithCapacityRequest {
   )
   private Long capacityId;
 
-  @NotNull(message = "Technology name is required")
-  @NotBlank(message = "Technology name cannot be empty")
-  @Size(max = 50, message = "Technology name cannot be greater than 50 characters")
   @Schema(
     description = "Nombre de la tecnología a asociar con la capacidad",
     example = "Spring Boot",
     requiredMode = Schema.RequiredMode.REQUIRED,
-    maxLength = 50
+    maxLength = TextConstraint.NAME_MAX_LENGTH
   )
   private String technology;
 }
@@ -0,0 +1,27 @@
+package co.com.bancolombia.api.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Schema(description = "Conjunto deseado de tecnologías de una capacidad, por ID, por nombre o combinando ambos")
+public class ReplaceCapacityTechnologiesRequest {
+
+  @Schema(
+    description = "IDs de las tecnologías que debe tener la capacidad",
+    example = "[1, 2]"
+  )
+  private List<Long> technologyIds;
+
+  @Schema(
+    description = "Nombres de las tecnologías que debe tener la capacidad",
+    example = "[\"Spring Boot\"]"
+  )
+  private List<String> technologies;
+}
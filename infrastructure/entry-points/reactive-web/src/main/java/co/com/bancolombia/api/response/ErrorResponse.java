@@ -14,7 +14,7 @@ public class ErrorResponse {
   @Schema(
     description = "Tipo de error",
     example = "VALIDATION_ERROR",
-    allowableValues = {"VALIDATION_ERROR", "DOMAIN_ERROR", "BUSINESS_ERROR", "INTERNAL_ERROR"}
+    allowableValues = {"VALIDATION_ERROR", "DOMAIN_ERROR", "BUSINESS_ERROR", "INTERNAL_ERROR", "SERVICE_UNAVAILABLE", "TOO_MANY_REQUESTS"}
   )
   private String error;
 
@@ -0,0 +1,36 @@
+package co.com.bancolombia.api.response;
+
+import co.com.bancolombia.usecase.response.TechnologyImportEvent;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Evento emitido durante la importación del catálogo")
+public record ImportEventResponse(
+  @Schema(description = "Tipo de evento", allowableValues = {"PROGRESS", "REJECTED", "COMPLETED"})
+  String event,
+  @Schema(description = "Línea del archivo rechazada")
+  Long line,
+  @Schema(description = "Motivo del rechazo")
+  String message,
+  @Schema(description = "Filas procesadas hasta el momento")
+  Long processed,
+  @Schema(description = "Filas rechazadas hasta el momento")
+  Long rejected,
+  @Schema(description = "Tecnologías nuevas creadas")
+  Long technologiesCreated,
+  @Schema(description = "Asociaciones nuevas creadas")
+  Long associationsCreated) {
+
+  public static ImportEventResponse from(TechnologyImportEvent event) {
+    return switch (event) {
+      case TechnologyImportEvent.Progress progress ->
+        new ImportEventResponse("PROGRESS", null, null, progress.processed(), progress.rejected(), null, null);
+      case TechnologyImportEvent.Rejected rejected ->
+        new ImportEventResponse("REJECTED", rejected.line(), rejected.message(), null, null, null, null);
+      case TechnologyImportEvent.Completed completed ->
+        new ImportEventResponse("COMPLETED", null, null, completed.processed(), completed.rejected(),
+          completed.technologiesCreated(), completed.associationsCreated());
+    };
+  }
+}
@@ -0,0 +1,8 @@
+package co.com.bancolombia.api.validation;
+
+public class RequestValidationException extends RuntimeException {
+
+  public RequestValidationException(String message) {
+    super(message, null, false, false);
+  }
+}
@@ -0,0 +1,37 @@
+package co.com.bancolombia.api.validation;
+
+import co.com.bancolombia.api.request.AssociateTechnologyWithCapacityRequest;
+import co.com.bancolombia.api.request.CreateTechnologyRequest;
+import co.com.bancolombia.model.technology.values.Description;
+import co.com.bancolombia.model.technology.values.Name;
+import co.com.bancolombia.usecase.command.AssociateTechnologyWithCapacityCommand;
+import co.com.bancolombia.usecase.command.CreateTechnologyCommand;
+
+/**
+ * Text fields are checked by building the Name and Description value objects, the only place those rules
+ * live, and the command carries the built values so nothing downstream checks them again. Violations of
+ * every field are collected so one response reports them all.
+ */
+public final class RequestValidators {
+  private static final String CAPACITY_ID_REQUIRED_MESSAGE = "Capacity id is required";
+  private static final String CAPACITY_ID_POSITIVE_MESSAGE = "The capacity id should be positive";
+
+  private RequestValidators() {
+  }
+
+  public static CreateTechnologyCommand createTechnology(CreateTechnologyRequest request) {
+    RequestViolations violations = new RequestViolations();
+    Name name = violations.value(request.getName(), Name::new);
+    Description description = violations.value(request.getDescription(), Description::new);
+    violations.throwIfAny();
+    return new CreateTechnologyCommand(name, description);
+  }
+
+  public static AssociateTechnologyWithCapacityCommand associateTechnology(AssociateTechnologyWithCapacityRequest request) {
+    RequestViolations violations = new RequestViolations();
+    Long capacityId = violations.positive(request.getCapacityId(), CAPACITY_ID_REQUIRED_MESSAGE, CAPACITY_ID_POSITIVE_MESSAGE);
+    Name technology = violations.value(request.getTechnology(), Name::new);
+    violations.throwIfAny();
+    return new AssociateTechnologyWithCapacityCommand(capacityId, technology);
+  }
+}
@@ -0,0 +1,43 @@
+package co.com.bancolombia.api.validation;
+
+import co.com.bancolombia.model.technology.exceptions.DomainException;
+
+import java.util.function.Function;
+
+final class RequestViolations {
+  private static final String MESSAGE_SEPARATOR = ", ";
+
+  private StringBuilder violations;
+
+  <V> V value(String raw, Function<String, V> valueObject) {
+    try {
+      return valueObject.apply(raw);
+    } catch (DomainException e) {
+      add(e.getMessage());
+      return null;
+    }
+  }
+
+  Long positive(Long value, String requiredMessage, String positiveMessage) {
+    if (value == null) {
+      add(requiredMessage);
+    } else if (value <= 0) {
+      add(positiveMessage);
+    }
+    return value;
+  }
+
+  void throwIfAny() {
+    if (violations != null) {
+      throw new RequestValidationException(violations.toString());
+    }
+  }
+
+  private void add(String message) {
+    if (violations == null) {
+      violations = new StringBuilder(message);
+    } else {
+      violations.append(MESSAGE_SEPARATOR).append(message);
+    }
+  }
+}
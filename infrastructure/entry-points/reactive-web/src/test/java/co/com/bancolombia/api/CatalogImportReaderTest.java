@@ -0,0 +1,80 @@
+package co.com.bancolombia.api;
+
+import co.com.bancolombia.usecase.command.ImportTechnologyCommand;
+import co.com.bancolombia.usecase.response.TechnologyExportResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogImportReaderTest {
+  private static final DefaultDataBufferFactory BUFFER_FACTORY = DefaultDataBufferFactory.sharedInstance;
+
+  @Test
+  void shouldReadBackTheCsvExportWithEmbeddedLineBreaks() {
+    // Given
+    List<TechnologyExportResponse> exported = List.of(
+      new TechnologyExportResponse(1L, "Java", "Lenguaje\nde programación", List.of(10L, 20L)),
+      new TechnologyExportResponse(2L, "Kotlin", "Línea uno\r\n\"dos\", tres", List.of()),
+      new TechnologyExportResponse(3L, "Go", "Lenguaje", List.of(30L)));
+    byte[] csv = join(CatalogExportWriter.encode(Flux.fromIterable(exported), CatalogExportWriter.TEXT_CSV,
+      BUFFER_FACTORY));
+
+    // When
+    List<ImportTechnologyCommand> imported = CatalogImportReader.read(split(csv, 3), CatalogExportWriter.TEXT_CSV)
+      .collectList()
+      .block();
+
+    // Then
+    assertEquals(3, imported.size());
+    for (int i = 0; i < exported.size(); i++) {
+      assertNull(imported.get(i).getMalformedReason());
+      assertEquals(exported.get(i).getName(), imported.get(i).getName());
+      assertEquals(exported.get(i).getDescription(), imported.get(i).getDescription());
+      assertEquals(exported.get(i).getCapacityIds(), imported.get(i).getCapacityIds());
+    }
+    assertEquals(List.of(2L, 4L, 6L), imported.stream().map(ImportTechnologyCommand::getLine).toList());
+  }
+
+  @Test
+  void shouldRejectAnUnterminatedQuotedField() {
+    // Given
+    String csv = CatalogImportReader.CSV_HEADER + "\n1,Java,\"Lenguaje\n2,Go,Lenguaje,\n";
+
+    // When
+    List<ImportTechnologyCommand> imported = CatalogImportReader.read(
+        split(csv.getBytes(StandardCharsets.UTF_8), 64), CatalogExportWriter.TEXT_CSV)
+      .collectList()
+      .block();
+
+    // Then
+    assertEquals(1, imported.size());
+    assertEquals("Unterminated quoted field", imported.get(0).getMalformedReason());
+    assertEquals(2L, imported.get(0).getLine());
+  }
+
+  private static byte[] join(Flux<DataBuffer> buffers) {
+    DataBuffer joined = DataBufferUtils.join(buffers).block();
+    byte[] bytes = new byte[joined.readableByteCount()];
+    joined.read(bytes);
+    DataBufferUtils.release(joined);
+    return bytes;
+  }
+
+  private static Flux<DataBuffer> split(byte[] bytes, int chunkSize) {
+    List<DataBuffer> chunks = new ArrayList<>();
+    for (int start = 0; start < bytes.length; start += chunkSize) {
+      int length = Math.min(chunkSize, bytes.length - start);
+      chunks.add(BUFFER_FACTORY.wrap(Arrays.copyOfRange(bytes, start, start + length)));
+    }
+    return Flux.fromIterable(chunks);
+  }
+}
@@ -1,41 +1,76 @@
 package co.com.bancolombia.api;
 
+import co.com.bancolombia.api.config.BinaryCodecConfig;
 import co.com.bancolombia.api.request.AssociateTechnologyWithCapacityRequest;
 import co.com.bancolombia.api.request.CreateTechnologyRequest;
+import co.com.bancolombia.api.request.ReplaceCapacityTechnologiesRequest;
+import co.com.bancolombia.model.technology.CachedRead;
+import co.com.bancolombia.model.technology.CapacitySetOperation;
 import co.com.bancolombia.model.technology.exceptions.DomainException;
 import co.com.bancolombia.usecase.AssociateTechnologyWithCapacityUseCase;
+import co.com.bancolombia.usecase.CapacityDeletionJobUseCase;
 import co.com.bancolombia.usecase.CreateTechnologyUseCase;
 import co.com.bancolombia.usecase.DeleteTechnologyUseCase;
+import co.com.bancolombia.usecase.ExportTechnologyCatalogUseCase;
+import co.com.bancolombia.usecase.ImportTechnologyCatalogUseCase;
+import co.com.bancolombia.usecase.RecommendTechnologiesUseCase;
+import co.com.bancolombia.usecase.ReplaceCapacityTechnologiesUseCase;
+import co.com.bancolombia.usecase.SearchTechnologiesByPrefixUseCase;
+import co.com.bancolombia.usecase.SearchTechnologiesByTextUseCase;
 import co.com.bancolombia.usecase.FindAllTechnologiesUseCase;
+import co.com.bancolombia.usecase.FindCapacitiesByTechnologyUseCase;
+import co.com.bancolombia.usecase.FindTechnologiesByCapacitySetUseCase;
 import co.com.bancolombia.usecase.FindTechnologiesByCapacityUseCase;
+import co.com.bancolombia.usecase.FindTechnologyCatalogStatsUseCase;
 import co.com.bancolombia.usecase.command.AssociateTechnologyWithCapacityCommand;
 import co.com.bancolombia.usecase.command.CreateTechnologyCommand;
+import co.com.bancolombia.usecase.command.ImportTechnologyCommand;
+import co.com.bancolombia.usecase.command.ReplaceCapacityTechnologiesCommand;
 import co.com.bancolombia.usecase.exception.BussinessException;
 import co.com.bancolombia.usecase.response.AssociateTechnologyWithCapacityResponse;
+import co.com.bancolombia.usecase.response.CapacitySetResponse;
+import co.com.bancolombia.usecase.response.DeletionJobResponse;
+import co.com.bancolombia.usecase.response.ReplaceCapacityTechnologiesResponse;
+import co.com.bancolombia.usecase.response.TechnologyCapacitiesResponse;
+import co.com.bancolombia.usecase.response.TechnologyCatalogStatsResponse;
+import co.com.bancolombia.usecase.response.TechnologyExportResponse;
+import co.com.bancolombia.usecase.response.TechnologyImportEvent;
+import co.com.bancolombia.usecase.response.TechnologyRecommendationResponse;
+import co.com.bancolombia.usecase.response.TechnologyRecommendationsResponse;
 import co.com.bancolombia.usecase.response.TechnologyResponse;
-import jakarta.validation.ConstraintViolation;
-import jakarta.validation.Validator;
+import co.com.bancolombia.usecase.response.TechnologySearchHitResponse;
+import co.com.bancolombia.usecase.response.TechnologySearchPageResponse;
+import co.com.bancolombia.usecase.response.TechnologyUsageResponse;
+import co.com.bancolombia.usecase.result.Result;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
 import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.Collections;
-import java.util.HashSet;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 
-import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -58,7 +93,37 @@ class RouterRestTest {
   private DeleteTechnologyUseCase deleteTechnologyUseCase;
 
   @Mock
-  private Validator validator;
+  private ExportTechnologyCatalogUseCase exportTechnologyCatalogUseCase;
+
+  @Mock
+  private ImportTechnologyCatalogUseCase importTechnologyCatalogUseCase;
+
+  @Mock
+  private CapacityDeletionJobUseCase capacityDeletionJobUseCase;
+
+  @Mock
+  private SearchTechnologiesByPrefixUseCase searchTechnologiesByPrefixUseCase;
+
+  @Mock
+  private SearchTechnologiesByTextUseCase searchTechnologiesByTextUseCase;
+
+  @Mock
+  private FindCapacitiesByTechnologyUseCase findCapacitiesByTechnologyUseCase;
+
+  @Mock
+  private ReplaceCapacityTechnologiesUseCase replaceCapacityTechnologiesUseCase;
+
+  @Mock
+  private FindTechnologiesByCapacitySetUseCase findTechnologiesByCapacitySetUseCase;
+
+  @Mock
+  private RecommendTechnologiesUseCase recommendTechnologiesUseCase;
+
+  @Mock
+  private FindTechnologyCatalogStatsUseCase findTechnologyCatalogStatsUseCase;
+
+  @Spy
+  private ErrorResponseFactory errorResponseFactory = new ErrorResponseFactory();
 
   @InjectMocks
   private Handler handler;
@@ -69,14 +134,12 @@ class RouterRestTest {
   @BeforeEach
   void setUp() {
     RouterRest routerRest = new RouterRest();
-    routerFunction = (RouterFunction<ServerResponse>) routerRest.createTechnologyRouter(handler)
-      .andOther(routerRest.findAllTechnologiesRouter(handler))
-      .andOther(routerRest.findTechnologiesByCapacityRouter(handler))
-      .andOther(routerRest.associateTechnologyWithCapacityRouter(handler))
-      .andOther(routerRest.deleteTechnologiesByCapacityRouter(handler));
+    ErrorHandlingFilter errorHandlingFilter = new ErrorHandlingFilter(errorResponseFactory);
+    routerFunction = routerRest.routerFunction(handler, errorHandlingFilter);
 
     webTestClient = WebTestClient
       .bindToRouterFunction(routerFunction)
+      .handlerStrategies(HandlerStrategies.builder().codecs(BinaryCodecConfig::registerBinaryCodecs).build())
       .build();
   }
 
@@ -87,10 +150,8 @@ class RouterRestTest {
     CreateTechnologyRequest request = new CreateTechnologyRequest("Java", "Lenguaje de programación");
     TechnologyResponse expectedResponse = new TechnologyResponse(1L, "Java", "Lenguaje de programación");
 
-    when(validator.validate(any(CreateTechnologyRequest.class)))
-      .thenReturn(Collections.emptySet());
     when(createTechnologyUseCase.execute(any(CreateTechnologyCommand.class)))
-      .thenReturn(Mono.just(expectedResponse));
+      .thenReturn(Mono.just(Result.success(expectedResponse)));
 
     // When & Then
     webTestClient
@@ -105,7 +166,6 @@ class RouterRestTest {
       .jsonPath("$.name").isEqualTo("Java")
       .jsonPath("$.description").isEqualTo("Lenguaje de programación");
 
-    verify(validator).validate(any(CreateTechnologyRequest.class));
     verify(createTechnologyUseCase).execute(any(CreateTechnologyCommand.class));
   }
 
@@ -113,15 +173,7 @@ class RouterRestTest {
   @DisplayName("Debe manejar errores de validación")
   void shouldHandleValidationErrors() {
     // Given
-    CreateTechnologyRequest request = new CreateTechnologyRequest("", "");
-
-    Set<ConstraintViolation<CreateTechnologyRequest>> violations = new HashSet<>();
-    ConstraintViolation<CreateTechnologyRequest> violation = mock(ConstraintViolation.class);
-    when(violation.getMessage()).thenReturn("Name cannot be empty");
-    violations.add(violation);
-
-    when(validator.validate(any(CreateTechnologyRequest.class)))
-      .thenReturn(violations);
+    CreateTechnologyRequest request = new CreateTechnologyRequest("", "Lenguaje de programación");
 
     // When & Then
     webTestClient
@@ -133,9 +185,8 @@ class RouterRestTest {
       .expectHeader().contentType(MediaType.APPLICATION_JSON)
       .expectBody()
       .jsonPath("$.error").isEqualTo("VALIDATION_ERROR")
-      .jsonPath("$.message").isEqualTo("Name cannot be empty");
+      .jsonPath("$.message").isEqualTo("Technology name cannot be empty");
 
-    verify(validator).validate(any(CreateTechnologyRequest.class));
     verifyNoInteractions(createTechnologyUseCase);
   }
 
@@ -145,8 +196,6 @@ class RouterRestTest {
     // Given
     CreateTechnologyRequest request = new CreateTechnologyRequest("Java", "Lenguaje de programación");
 
-    when(validator.validate(any(CreateTechnologyRequest.class)))
-      .thenReturn(Collections.emptySet());
     when(createTechnologyUseCase.execute(any(CreateTechnologyCommand.class)))
       .thenReturn(Mono.error(new DomainException("Technology already exists")));
 
@@ -171,8 +220,6 @@ class RouterRestTest {
     // Given
     CreateTechnologyRequest request = new CreateTechnologyRequest("Java", "Lenguaje de programación");
 
-    when(validator.validate(any(CreateTechnologyRequest.class)))
-      .thenReturn(Collections.emptySet());
     when(createTechnologyUseCase.execute(any(CreateTechnologyCommand.class)))
       .thenReturn(Mono.error(new BussinessException("Business rule violated")));
 
@@ -189,14 +236,34 @@ class RouterRestTest {
       .jsonPath("$.message").isEqualTo("Business rule violated");
   }
 
+  @Test
+  @DisplayName("Debe retornar 409 cuando la tecnología ya existe")
+  void shouldReturnConflictWhenTechnologyIsDuplicated() {
+    // Given
+    CreateTechnologyRequest request = new CreateTechnologyRequest("Java", "Lenguaje de programación");
+
+    when(createTechnologyUseCase.execute(any(CreateTechnologyCommand.class)))
+      .thenReturn(Mono.just(Result.duplicate("The technology name cannot be duplicated.")));
+
+    // When & Then
+    webTestClient
+      .post()
+      .uri("/v1/api/technology")
+      .body(BodyInserters.fromValue(request))
+      .exchange()
+      .expectStatus().isEqualTo(409)
+      .expectHeader().contentType(MediaType.APPLICATION_JSON)
+      .expectBody()
+      .jsonPath("$.error").isEqualTo("BUSINESS_ERROR")
+      .jsonPath("$.message").isEqualTo("The technology name cannot be duplicated.");
+  }
+
   @Test
   @DisplayName("Debe manejar errores genéricos")
   void shouldHandleGenericErrors() {
     // Given
     CreateTechnologyRequest request = new CreateTechnologyRequest("Java", "Lenguaje de programación");
 
-    when(validator.validate(any(CreateTechnologyRequest.class)))
-      .thenReturn(Collections.emptySet());
     when(createTechnologyUseCase.execute(any(CreateTechnologyCommand.class)))
       .thenReturn(Mono.error(new RuntimeException("Unexpected error")));
 
@@ -232,20 +299,6 @@ class RouterRestTest {
     // Given
     CreateTechnologyRequest request = new CreateTechnologyRequest("", "");
 
-    Set<ConstraintViolation<CreateTechnologyRequest>> violations = new HashSet<>();
-
-    ConstraintViolation<CreateTechnologyRequest> violation1 = mock(ConstraintViolation.class);
-    when(violation1.getMessage()).thenReturn("Name cannot be empty");
-
-    ConstraintViolation<CreateTechnologyRequest> violation2 = mock(ConstraintViolation.class);
-    when(violation2.getMessage()).thenReturn("Description cannot be empty");
-
-    violations.add(violation1);
-    violations.add(violation2);
-
-    when(validator.validate(any(CreateTechnologyRequest.class)))
-      .thenReturn(violations);
-
     // When & Then
     webTestClient
       .post()
@@ -256,8 +309,9 @@ class RouterRestTest {
       .expectHeader().contentType(MediaType.APPLICATION_JSON)
       .expectBody()
       .jsonPath("$.error").isEqualTo("VALIDATION_ERROR")
-      .jsonPath("$.message").value(containsString("Name cannot be empty"))
-      .jsonPath("$.message").value(containsString("Description cannot be empty"));
+      .jsonPath("$.message").isEqualTo("Technology name cannot be empty, Technology description cannot be empty");
+
+    verifyNoInteractions(createTechnologyUseCase);
   }
 
   // ========== TESTS FOR FIND ALL TECHNOLOGIES ==========
@@ -270,8 +324,8 @@ class RouterRestTest {
     TechnologyResponse tech2 = new TechnologyResponse(2L, "Spring Boot", "Framework de Java");
     List<TechnologyResponse> expectedResponse = List.of(tech1, tech2);
 
-    when(findAllTechnologiesUseCase.execute())
-      .thenReturn(Flux.fromIterable(expectedResponse));
+    when(findAllTechnologiesUseCase.executeCached())
+      .thenReturn(Mono.just(CachedRead.fresh(expectedResponse)));
 
     // When & Then
     webTestClient
@@ -288,7 +342,44 @@ class RouterRestTest {
       .jsonPath("$[1].name").isEqualTo("Spring Boot")
       .jsonPath("$[1].description").isEqualTo("Framework de Java");
 
-    verify(findAllTechnologiesUseCase).execute();
+    verify(findAllTechnologiesUseCase).executeCached();
+  }
+
+  @Test
+  @DisplayName("Debe indicar la edad y obsolescencia del dato cuando se sirve desde caché")
+  void shouldReportStalenessWhenServingCachedTechnologies() {
+    // Given
+    when(findAllTechnologiesUseCase.executeCached())
+      .thenReturn(Mono.just(new CachedRead<>(List.of(new TechnologyResponse(1L, "Java", "Lenguaje de programación")),
+        Duration.ofSeconds(42), true)));
+
+    // When & Then
+    webTestClient
+      .get()
+      .uri("/v1/api/technology")
+      .exchange()
+      .expectStatus().isOk()
+      .expectHeader().valueEquals("Age", "42")
+      .expectHeader().valueEquals("X-Cache-Stale", "true")
+      .expectBody()
+      .jsonPath("$[0].name").isEqualTo("Java");
+  }
+
+  @Test
+  @DisplayName("Debe marcar como vigente el dato recién leído")
+  void shouldReportFreshTechnologiesByCapacity() {
+    // Given
+    when(findTechnologiesByCapacityUseCase.executeCached(1L))
+      .thenReturn(Mono.just(CachedRead.fresh(List.of(new TechnologyResponse(1L, "Java", "Lenguaje de programación")))));
+
+    // When & Then
+    webTestClient
+      .get()
+      .uri("/v1/api/technology/capacity/{capacityId}", 1L)
+      .exchange()
+      .expectStatus().isOk()
+      .expectHeader().valueEquals("Age", "0")
+      .expectHeader().valueEquals("X-Cache-Stale", "false");
   }
 
   // ========== TESTS FOR FIND TECHNOLOGIES BY CAPACITY ==========
@@ -302,8 +393,8 @@ class RouterRestTest {
     TechnologyResponse tech2 = new TechnologyResponse(2L, "Spring Boot", "Framework de Java");
     List<TechnologyResponse> expectedResponse = List.of(tech1, tech2);
 
-    when(findTechnologiesByCapacityUseCase.execute(capacityId))
-      .thenReturn(Flux.fromIterable(expectedResponse));
+    when(findTechnologiesByCapacityUseCase.executeCached(capacityId))
+      .thenReturn(Mono.just(CachedRead.fresh(expectedResponse)));
 
     // When & Then
     webTestClient
@@ -320,7 +411,7 @@ class RouterRestTest {
       .jsonPath("$[1].name").isEqualTo("Spring Boot")
       .jsonPath("$[1].description").isEqualTo("Framework de Java");
 
-    verify(findTechnologiesByCapacityUseCase).execute(capacityId);
+    verify(findTechnologiesByCapacityUseCase).executeCached(capacityId);
   }
 
   @Test
@@ -329,8 +420,8 @@ class RouterRestTest {
     // Given
     Long capacityId = 999L;
 
-    when(findTechnologiesByCapacityUseCase.execute(capacityId))
-      .thenReturn(Flux.error(new BussinessException("Capacity not found")));
+    when(findTechnologiesByCapacityUseCase.executeCached(capacityId))
+      .thenReturn(Mono.error(new BussinessException("Capacity not found")));
 
     // When & Then
     webTestClient
@@ -343,7 +434,7 @@ class RouterRestTest {
       .jsonPath("$.error").isEqualTo("BUSINESS_ERROR")
       .jsonPath("$.message").isEqualTo("Capacity not found");
 
-    verify(findTechnologiesByCapacityUseCase).execute(capacityId);
+    verify(findTechnologiesByCapacityUseCase).executeCached(capacityId);
   }
 
   @Test
@@ -352,8 +443,8 @@ class RouterRestTest {
     // Given
     Long capacityId = 1L;
 
-    when(findTechnologiesByCapacityUseCase.execute(capacityId))
-      .thenReturn(Flux.error(new RuntimeException("Database connection failed")));
+    when(findTechnologiesByCapacityUseCase.executeCached(capacityId))
+      .thenReturn(Mono.error(new RuntimeException("Database connection failed")));
 
     // When & Then
     webTestClient
@@ -366,7 +457,296 @@ class RouterRestTest {
       .jsonPath("$.error").isEqualTo("INTERNAL_ERROR")
       .jsonPath("$.message").isEqualTo("An unexpected error occurred");
 
-    verify(findTechnologiesByCapacityUseCase).execute(capacityId);
+    verify(findTechnologiesByCapacityUseCase).executeCached(capacityId);
+  }
+
+  // ========== TESTS FOR PREFIX SEARCH ==========
+
+  @Test
+  @DisplayName("Debe buscar tecnologías por prefijo con el límite indicado")
+  void shouldSearchTechnologiesByPrefix() {
+    // Given
+    when(searchTechnologiesByPrefixUseCase.execute("ja", 2))
+      .thenReturn(Mono.just(Result.success(List.of(
+        new TechnologyResponse(2L, "Java", "Lenguaje de programación"),
+        new TechnologyResponse(1L, "JavaScript", "Lenguaje de programación")))));
+
+    // When & Then
+    webTestClient
+      .get()
+      .uri("/v1/api/technology/search?prefix=ja&limit=2")
+      .exchange()
+      .expectStatus().isOk()
+      .expectBody()
+      .jsonPath("$.length()").isEqualTo(2)
+      .jsonPath("$[0].name").isEqualTo("Java")
+      .jsonPath("$[1].name").isEqualTo("JavaScript");
+  }
+
+  @Test
+  @DisplayName("Debe rechazar un límite no numérico en la búsqueda por prefijo")
+  void shouldRejectNonNumericSearchLimit() {
+    // Given
+    when(searchTechnologiesByPrefixUseCase.execute("ja", Integer.MIN_VALUE))
+      .thenReturn(Mono.just(Result.invalid("Limit must be between 1 and 50")));
+
+    // When & Then
+    webTestClient
+      .get()
+      .uri("/v1/api/technology/search?prefix=ja&limit=ten")
+      .exchange()
+      .expectStatus().isBadRequest()
+      .expectBody()
+      .jsonPath("$.message").isEqualTo("Limit must be between 1 and 50");
+  }
+
+  // ========== TESTS FOR FULL-TEXT SEARCH ==========
+
+  @Test
+  @DisplayName("Debe buscar tecnologías por texto con resultados paginados")
+  void shouldSearchTechnologiesByText() {
+    // Given
+    TechnologySearchPageResponse page = new TechnologySearchPageResponse(List.of(
+      new TechnologySearchHitResponse(1L, "Spring WebFlux", "Framework for reactive apps", 0.9)), 1, 1, true);
+    when(searchTechnologiesByTextUseCase.execute("reactive framework", 1, 1))
+      .thenReturn(Mono.just(Result.success(page)));
+
+    // When & Then
+    webTestClient
+      .get()
+      .uri(uriBuilder -> uriBuilder.path("/v1/api/technology/search/text")
+        .queryParam("q", "reactive framework")
+        .queryParam("page", 1)
+        .queryParam("size", 1)
+        .build())
+      .exchange()
+      .expectStatus().isOk()
+      .expectBody()
+      .jsonPath("$.items[0].name").isEqualTo("Spring WebFlux")
+      .jsonPath("$.items[0].rank").isEqualTo(0.9)
+      .jsonPath("$.page").isEqualTo(1)
+      .jsonPath("$.hasNext").isEqualTo(true);
+  }
+
+  @Test
+  @DisplayName("Debe rechazar la búsqueda por texto sin consulta")
+  void shouldRejectTextSearchWithoutQuery() {
+    // Given
+    when(searchTechnologiesByTextUseCase.execute(null, null, null))
+      .thenReturn(Mono.just(Result.invalid("Query cannot be empty")));
+
+    // When & Then
+    webTestClient
+      .get()
+      .uri("/v1/api/technology/search/text")
+      .exchange()
+      .expectStatus().isBadRequest()
+      .expectBody()
+      .jsonPath("$.message").isEqualTo("Query cannot be empty");
+  }
+
+  // ========== TESTS FOR CAPACITIES BY TECHNOLOGY ==========
+
+  @Test
+  @DisplayName("Debe retornar las capacidades de una tecnología")
+  void shouldFindCapacitiesByTechnology() {
+    // Given
+    when(findCapacitiesByTechnologyUseCase.execute(1L))
+      .thenReturn(Mono.just(Result.success(new TechnologyCapacitiesResponse(1L, List.of(1L, 4L)))));
+
+    // When & Then
+    webTestClient
+      .get()
+      .uri("/v1/api/technology/1/capacities")
+      .exchange()
+      .expectStatus().isOk()
+      .expectBody()
+      .jsonPath("$.technologyId").isEqualTo(1)
+      .jsonPath("$.capacityIds[1]").isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("Debe retornar 404 cuando la tecnología no existe")
+  void shouldReturnNotFoundWhenTechnologyDoesNotExist() {
+    // Given
+    when(findCapacitiesByTechnologyUseCase.execute(9L))
+      .thenReturn(Mono.just(Result.notFound("Technology has not been found. Technology id: 9")));
+
+    // When & Then
+    webTestClient
+      .get()
+      .uri("/v1/api/technology/9/capacities")
+      .exchange()
+      .expectStatus().isNotFound()
+      .expectBody()
+      .jsonPath("$.message").isEqualTo("Technology has not been found. Technology id: 9");
+  }
+
+  @Test
+  @DisplayName("Debe aceptar IDs separados por coma y repetidos en la consulta por lote")
+  void shouldFindCapacitiesByTechnologies() {
+    // Given
+    when(findCapacitiesByTechnologyUseCase.executeBatch(List.of(1L, 2L, 3L)))
+      .thenReturn(Mono.just(Result.success(List.of(
+        new TechnologyCapacitiesResponse(1L, List.of(1L)),
+        new TechnologyCapacitiesResponse(2L, List.of()),
+        new TechnologyCapacitiesResponse(3L, List.of(2L, 5L))))));
+
+    // When & Then
+    webTestClient
+      .get()
+      .uri("/v1/api/technology/capacities?technologyIds=1,2&technologyIds=3")
+      .exchange()
+      .expectStatus().isOk()
+      .expectBody()
+      .jsonPath("$.length()").isEqualTo(3)
+      .jsonPath("$[2].capacityIds[1]").isEqualTo(5);
+  }
+
+  @Test
+  @DisplayName("Debe rechazar IDs no numéricos en la consulta por lote")
+  void shouldRejectNonNumericTechnologyIds() {
+    // When & Then
+    webTestClient
+      .get()
+      .uri("/v1/api/technology/capacities?technologyIds=1,abc")
+      .exchange()
+      .expectStatus().isBadRequest()
+      .expectBody()
+      .jsonPath("$.message").isEqualTo("Technology IDs must be numeric");
+
+    verifyNoInteractions(findCapacitiesByTechnologyUseCase);
+  }
+
+  // ========== TESTS FOR CAPACITY SET OPERATIONS ==========
+
+  @Test
+  @DisplayName("Debe retornar la intersección de las tecnologías de varias capacidades")
+  void shouldIntersectCapacities() {
+    // Given
+    when(findTechnologiesByCapacitySetUseCase.execute(CapacitySetOperation.INTERSECTION, List.of(1L, 2L, 3L)))
+      .thenReturn(Mono.just(Result.success(new CapacitySetResponse("intersection", List.of(1L, 2L, 3L), List.of(3L, 7L)))));
+
+    // When & Then
+    webTestClient
+      .get()
+      .uri("/v1/api/technology/capacities/intersection?capacityIds=1,2&capacityIds=3")
+      .exchange()
+      .expectStatus().isOk()
+      .expectBody()
+      .jsonPath("$.operation").isEqualTo("intersection")
+      .jsonPath("$.count").isEqualTo(2)
+      .jsonPath("$.technologyIds[1]").isEqualTo(7);
+  }
+
+  @Test
+  @DisplayName("Debe rechazar operaciones de conjuntos desconocidas")
+  void shouldRejectUnknownSetOperation() {
+    // When & Then
+    webTestClient
+      .get()
+      .uri("/v1/api/technology/capacities/xor?capacityIds=1,2")
+      .exchange()
+      .expectStatus().isBadRequest()
+      .expectBody()
+      .jsonPath("$.message").isEqualTo("Operation must be one of intersection, union or difference");
+
+    verifyNoInteractions(findTechnologiesByCapacitySetUseCase);
+  }
+
+  @Test
+  @DisplayName("Debe rechazar IDs de capacidad no numéricos")
+  void shouldRejectNonNumericCapacityIds() {
+    // When & Then
+    webTestClient
+      .get()
+      .uri("/v1/api/technology/capacities/union?capacityIds=1,abc")
+      .exchange()
+      .expectStatus().isBadRequest()
+      .expectBody()
+      .jsonPath("$.message").isEqualTo("Capacity IDs must be numeric");
+
+    verifyNoInteractions(findTechnologiesByCapacitySetUseCase);
+  }
+
+  // ========== TESTS FOR RECOMMENDATIONS ==========
+
+  @Test
+  @DisplayName("Debe retornar las tecnologías que más capacidades comparten")
+  void shouldRecommendTechnologies() {
+    // Given
+    when(recommendTechnologiesUseCase.execute(1L, 2))
+      .thenReturn(Mono.just(Result.success(new TechnologyRecommendationsResponse(1L, List.of(
+        new TechnologyRecommendationResponse(3L, "Spring Boot", 5),
+        new TechnologyRecommendationResponse(7L, "Kotlin", 2))))));
+
+    // When & Then
+    webTestClient
+      .get()
+      .uri("/v1/api/technology/1/recommendations?limit=2")
+      .exchange()
+      .expectStatus().isOk()
+      .expectBody()
+      .jsonPath("$.technologyId").isEqualTo(1)
+      .jsonPath("$.recommendations[0].name").isEqualTo("Spring Boot")
+      .jsonPath("$.recommendations[1].sharedCapacities").isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Debe retornar 404 al recomendar para una tecnología inexistente")
+  void shouldReturnNotFoundWhenRecommendingForMissingTechnology() {
+    // Given
+    when(recommendTechnologiesUseCase.execute(9L, null))
+      .thenReturn(Mono.just(Result.notFound("Technology has not been found. Technology id: 9")));
+
+    // When & Then
+    webTestClient
+      .get()
+      .uri("/v1/api/technology/9/recommendations")
+      .exchange()
+      .expectStatus().isNotFound()
+      .expectBody()
+      .jsonPath("$.message").isEqualTo("Technology has not been found. Technology id: 9");
+  }
+
+  // ========== TESTS FOR CATALOG STATS ==========
+
+  @Test
+  @DisplayName("Debe retornar las estadísticas del catálogo")
+  void shouldFindCatalogStats() {
+    // Given
+    when(findTechnologyCatalogStatsUseCase.execute(1))
+      .thenReturn(Mono.just(Result.success(new TechnologyCatalogStatsResponse(7, 3, 4, 7 / 3.0, 4,
+        Map.of("1", 1L, "2-5", 2L), List.of(new TechnologyUsageResponse(3L, 3)), Instant.parse("2024-01-01T00:00:00Z")))));
+
+    // When & Then
+    webTestClient
+      .get()
+      .uri("/v1/api/technology/stats?top=1")
+      .exchange()
+      .expectStatus().isOk()
+      .expectBody()
+      .jsonPath("$.associations").isEqualTo(7)
+      .jsonPath("$.maxTechnologiesPerCapacity").isEqualTo(4)
+      .jsonPath("$.capacitySizeDistribution['2-5']").isEqualTo(2)
+      .jsonPath("$.mostUsedTechnologies[0].technologyId").isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("Debe retornar 400 cuando el parámetro top está fuera de rango")
+  void shouldReturnBadRequestWhenStatsTopIsOutOfRange() {
+    // Given
+    when(findTechnologyCatalogStatsUseCase.execute(0))
+      .thenReturn(Mono.just(Result.invalid("Top must be between 1 and 50")));
+
+    // When & Then
+    webTestClient
+      .get()
+      .uri("/v1/api/technology/stats?top=0")
+      .exchange()
+      .expectStatus().isBadRequest()
+      .expectBody()
+      .jsonPath("$.message").isEqualTo("Top must be between 1 and 50");
   }
 
   // ========== TESTS FOR ASSOCIATE TECHNOLOGY WITH CAPACITY ==========
@@ -378,10 +758,8 @@ class RouterRestTest {
     AssociateTechnologyWithCapacityRequest request = new AssociateTechnologyWithCapacityRequest(1L, "Java");
     AssociateTechnologyWithCapacityResponse expectedResponse = new AssociateTechnologyWithCapacityResponse(1L, "Java", "Lenguaje de programación", 1L);
 
-    when(validator.validate(any(AssociateTechnologyWithCapacityRequest.class)))
-      .thenReturn(Collections.emptySet());
     when(associateTechnologyWithCapacityUseCase.execute(any(AssociateTechnologyWithCapacityCommand.class)))
-      .thenReturn(Mono.just(expectedResponse));
+      .thenReturn(Mono.just(Result.success(expectedResponse)));
 
     // When & Then
     webTestClient
@@ -397,7 +775,6 @@ class RouterRestTest {
       .jsonPath("$.description").isEqualTo("Lenguaje de programación")
       .jsonPath("$.capacityId").isEqualTo("1");
 
-    verify(validator).validate(any(AssociateTechnologyWithCapacityRequest.class));
     verify(associateTechnologyWithCapacityUseCase).execute(any(AssociateTechnologyWithCapacityCommand.class));
   }
 
@@ -405,15 +782,7 @@ class RouterRestTest {
   @DisplayName("Debe manejar errores de validación al asociar tecnología con capacidad")
   void shouldHandleValidationErrorsWhenAssociatingTechnologyWithCapacity() {
     // Given
-    AssociateTechnologyWithCapacityRequest request = new AssociateTechnologyWithCapacityRequest(null, "");
-
-    Set<ConstraintViolation<AssociateTechnologyWithCapacityRequest>> violations = new HashSet<>();
-    ConstraintViolation<AssociateTechnologyWithCapacityRequest> violation = mock(ConstraintViolation.class);
-    when(violation.getMessage()).thenReturn("Capacity id is required");
-    violations.add(violation);
-
-    when(validator.validate(any(AssociateTechnologyWithCapacityRequest.class)))
-      .thenReturn(violations);
+    AssociateTechnologyWithCapacityRequest request = new AssociateTechnologyWithCapacityRequest(null, "Java");
 
     // When & Then
     webTestClient
@@ -427,20 +796,17 @@ class RouterRestTest {
       .jsonPath("$.error").isEqualTo("VALIDATION_ERROR")
       .jsonPath("$.message").isEqualTo("Capacity id is required");
 
-    verify(validator).validate(any(AssociateTechnologyWithCapacityRequest.class));
     verifyNoInteractions(associateTechnologyWithCapacityUseCase);
   }
 
   @Test
-  @DisplayName("Debe manejar errores de negocio al asociar tecnología con capacidad")
-  void shouldHandleBusinessErrorsWhenAssociatingTechnologyWithCapacity() {
+  @DisplayName("Debe retornar 404 al asociar una tecnología inexistente")
+  void shouldReturnNotFoundWhenAssociatingUnknownTechnology() {
     // Given
     AssociateTechnologyWithCapacityRequest request = new AssociateTechnologyWithCapacityRequest(1L, "NonExistentTech");
 
-    when(validator.validate(any(AssociateTechnologyWithCapacityRequest.class)))
-      .thenReturn(Collections.emptySet());
     when(associateTechnologyWithCapacityUseCase.execute(any(AssociateTechnologyWithCapacityCommand.class)))
-      .thenReturn(Mono.error(new BussinessException("The technology name has not been found.")));
+      .thenReturn(Mono.just(Result.notFound("The technology name has not been found.")));
 
     // When & Then
     webTestClient
@@ -448,7 +814,7 @@ class RouterRestTest {
       .uri("/v1/api/technology/associate")
       .body(BodyInserters.fromValue(request))
       .exchange()
-      .expectStatus().isBadRequest()
+      .expectStatus().isNotFound()
       .expectHeader().contentType(MediaType.APPLICATION_JSON)
       .expectBody()
       .jsonPath("$.error").isEqualTo("BUSINESS_ERROR")
@@ -457,14 +823,36 @@ class RouterRestTest {
     verify(associateTechnologyWithCapacityUseCase).execute(any(AssociateTechnologyWithCapacityCommand.class));
   }
 
+  @Test
+  @DisplayName("Debe retornar 409 cuando la tecnología ya está asociada a la capacidad")
+  void shouldReturnConflictWhenTechnologyAlreadyAssociated() {
+    // Given
+    AssociateTechnologyWithCapacityRequest request = new AssociateTechnologyWithCapacityRequest(1L, "Java");
+
+    when(associateTechnologyWithCapacityUseCase.execute(any(AssociateTechnologyWithCapacityCommand.class)))
+      .thenReturn(Mono.just(Result.alreadyAssociated("The technology is already associated with this capacity.")));
+
+    // When & Then
+    webTestClient
+      .post()
+      .uri("/v1/api/technology/associate")
+      .body(BodyInserters.fromValue(request))
+      .exchange()
+      .expectStatus().isEqualTo(409)
+      .expectHeader().contentType(MediaType.APPLICATION_JSON)
+      .expectBody()
+      .jsonPath("$.error").isEqualTo("BUSINESS_ERROR")
+      .jsonPath("$.message").isEqualTo("The technology is already associated with this capacity.");
+
+    verify(associateTechnologyWithCapacityUseCase).execute(any(AssociateTechnologyWithCapacityCommand.class));
+  }
+
   @Test
   @DisplayName("Debe manejar errores de dominio al asociar tecnología con capacidad")
   void shouldHandleDomainErrorsWhenAssociatingTechnologyWithCapacity() {
     // Given
     AssociateTechnologyWithCapacityRequest request = new AssociateTechnologyWithCapacityRequest(1L, "Java");
 
-    when(validator.validate(any(AssociateTechnologyWithCapacityRequest.class)))
-      .thenReturn(Collections.emptySet());
     when(associateTechnologyWithCapacityUseCase.execute(any(AssociateTechnologyWithCapacityCommand.class)))
       .thenReturn(Mono.error(new DomainException("Invalid technology state")));
 
@@ -489,8 +877,6 @@ class RouterRestTest {
     // Given
     AssociateTechnologyWithCapacityRequest request = new AssociateTechnologyWithCapacityRequest(1L, "Java");
 
-    when(validator.validate(any(AssociateTechnologyWithCapacityRequest.class)))
-      .thenReturn(Collections.emptySet());
     when(associateTechnologyWithCapacityUseCase.execute(any(AssociateTechnologyWithCapacityCommand.class)))
       .thenReturn(Mono.error(new RuntimeException("Database connection failed")));
 
@@ -515,20 +901,6 @@ class RouterRestTest {
     // Given
     AssociateTechnologyWithCapacityRequest request = new AssociateTechnologyWithCapacityRequest(null, "");
 
-    Set<ConstraintViolation<AssociateTechnologyWithCapacityRequest>> violations = new HashSet<>();
-
-    ConstraintViolation<AssociateTechnologyWithCapacityRequest> violation1 = mock(ConstraintViolation.class);
-    when(violation1.getMessage()).thenReturn("Capacity id is required");
-
-    ConstraintViolation<AssociateTechnologyWithCapacityRequest> violation2 = mock(ConstraintViolation.class);
-    when(violation2.getMessage()).thenReturn("Technology name cannot be empty");
-
-    violations.add(violation1);
-    violations.add(violation2);
-
-    when(validator.validate(any(AssociateTechnologyWithCapacityRequest.class)))
-      .thenReturn(violations);
-
     // When & Then
     webTestClient
       .post()
@@ -539,10 +911,8 @@ class RouterRestTest {
       .expectHeader().contentType(MediaType.APPLICATION_JSON)
       .expectBody()
       .jsonPath("$.error").isEqualTo("VALIDATION_ERROR")
-      .jsonPath("$.message").value(containsString("Capacity id is required"))
-      .jsonPath("$.message").value(containsString("Technology name cannot be empty"));
+      .jsonPath("$.message").isEqualTo("Capacity id is required, Technology name cannot be empty");
 
-    verify(validator).validate(any(AssociateTechnologyWithCapacityRequest.class));
     verifyNoInteractions(associateTechnologyWithCapacityUseCase);
   }
 
@@ -554,7 +924,7 @@ class RouterRestTest {
     List<Long> expectedResponse = List.of(1L, 2L, 3L);
 
     when(deleteTechnologyUseCase.execute(capacityId))
-      .thenReturn(Mono.just(expectedResponse));
+      .thenReturn(Mono.just(Result.success(expectedResponse)));
 
     // When & Then
     webTestClient
@@ -572,21 +942,21 @@ class RouterRestTest {
   }
 
   @Test
-  @DisplayName("Debe manejar error de negocio al eliminar tecnologías por capacidad")
-  void shouldHandleBusinessErrorWhenDeletingTechnologiesByCapacity() {
+  @DisplayName("Debe retornar 404 cuando la capacidad no existe al eliminar tecnologías")
+  void shouldReturnNotFoundWhenDeletingTechnologiesOfUnknownCapacity() {
     // Given
     Long capacityId = 1L;
-    String errorMessage = "Capacity ID cannot be null";
+    String errorMessage = "Capacity has not been found. Capacity id: 1";
 
     when(deleteTechnologyUseCase.execute(capacityId))
-      .thenReturn(Mono.error(new BussinessException(errorMessage)));
+      .thenReturn(Mono.just(Result.notFound(errorMessage)));
 
     // When & Then
     webTestClient
       .delete()
       .uri("/v1/api/technology/capacity/{capacityId}", capacityId)
       .exchange()
-      .expectStatus().isBadRequest()
+      .expectStatus().isNotFound()
       .expectHeader().contentType(MediaType.APPLICATION_JSON)
       .expectBody()
       .jsonPath("$.error").isEqualTo("BUSINESS_ERROR")
@@ -641,4 +1011,539 @@ class RouterRestTest {
 
     verify(deleteTechnologyUseCase).execute(capacityId);
   }
+
+  // ========== TESTS FOR REPLACE CAPACITY TECHNOLOGIES ==========
+
+  @Test
+  @DisplayName("Debe reemplazar las tecnologías de una capacidad aplicando solo la diferencia")
+  void shouldReplaceCapacityTechnologies() {
+    // Given
+    when(replaceCapacityTechnologiesUseCase.execute(any(ReplaceCapacityTechnologiesCommand.class)))
+      .thenReturn(Mono.just(Result.success(new ReplaceCapacityTechnologiesResponse(1L, List.of(2L), List.of(7L)))));
+
+    // When & Then
+    webTestClient
+      .put()
+      .uri("/v1/api/technology/capacity/1")
+      .contentType(MediaType.APPLICATION_JSON)
+      .bodyValue(new ReplaceCapacityTechnologiesRequest(List.of(1L, 2L), List.of("Spring Boot")))
+      .exchange()
+      .expectStatus().isOk()
+      .expectBody()
+      .jsonPath("$.capacityId").isEqualTo(1)
+      .jsonPath("$.added[0]").isEqualTo(2)
+      .jsonPath("$.removed[0]").isEqualTo(7);
+
+    verify(replaceCapacityTechnologiesUseCase).execute(argThat(command ->
+      command.getCapacityId().equals(1L)
+        && command.getTechnologyIds().equals(List.of(1L, 2L))
+        && command.getTechnologies().equals(List.of("Spring Boot"))));
+  }
+
+  @Test
+  @DisplayName("Debe retornar 404 cuando alguna tecnología del conjunto no existe")
+  void shouldReturnNotFoundWhenReplacingWithUnknownTechnologies() {
+    // Given
+    when(replaceCapacityTechnologiesUseCase.execute(any(ReplaceCapacityTechnologiesCommand.class)))
+      .thenReturn(Mono.just(Result.notFound("Technologies have not been found: 9")));
+
+    // When & Then
+    webTestClient
+      .put()
+      .uri("/v1/api/technology/capacity/1")
+      .contentType(MediaType.APPLICATION_JSON)
+      .bodyValue(new ReplaceCapacityTechnologiesRequest(List.of(9L), null))
+      .exchange()
+      .expectStatus().isNotFound()
+      .expectBody()
+      .jsonPath("$.message").isEqualTo("Technologies have not been found: 9");
+  }
+
+  // ========== TESTS FOR ASYNC CAPACITY DELETION ==========
+
+  @Test
+  @DisplayName("Debe aceptar la eliminación asíncrona y devolver la ubicación del trabajo")
+  void shouldAcceptAsyncDeletionWithJobLocation() {
+    // Given
+    String jobId = "8f0b7c3e-3f4a-4d6b-9a57-1f6f5b2c9d10";
+    when(capacityDeletionJobUseCase.submit(1L))
+      .thenReturn(Mono.just(Result.success(deletionJob(jobId, "PENDING", List.of()))));
+
+    // When & Then
+    webTestClient
+      .delete()
+      .uri("/v1/api/technology/capacity/{capacityId}?async=true", 1L)
+      .exchange()
+      .expectStatus().isAccepted()
+      .expectHeader().location("/v1/api/jobs/" + jobId)
+      .expectBody()
+      .jsonPath("$.jobId").isEqualTo(jobId)
+      .jsonPath("$.status").isEqualTo("PENDING")
+      .jsonPath("$.total").isEqualTo(3);
+
+    verifyNoInteractions(deleteTechnologyUseCase);
+  }
+
+  @Test
+  @DisplayName("Debe tratar el header Prefer respond-async como eliminación asíncrona")
+  void shouldAcceptAsyncDeletionWhenPreferHeaderIsSent() {
+    // Given
+    when(capacityDeletionJobUseCase.submit(1L))
+      .thenReturn(Mono.just(Result.notFound("Capacity has not been found. Capacity id: 1")));
+
+    // When & Then
+    webTestClient
+      .delete()
+      .uri("/v1/api/technology/capacity/{capacityId}", 1L)
+      .header("Prefer", "respond-async, wait=0")
+      .exchange()
+      .expectStatus().isNotFound()
+      .expectBody()
+      .jsonPath("$.message").isEqualTo("Capacity has not been found. Capacity id: 1");
+
+    verifyNoInteractions(deleteTechnologyUseCase);
+  }
+
+  @Test
+  @DisplayName("Debe consultar el progreso de un trabajo de eliminación")
+  void shouldFindDeletionJobProgress() {
+    // Given
+    String jobId = "8f0b7c3e-3f4a-4d6b-9a57-1f6f5b2c9d10";
+    when(capacityDeletionJobUseCase.find(jobId))
+      .thenReturn(Mono.just(Result.success(deletionJob(jobId, "RUNNING", List.of(1L, 2L)))));
+
+    // When & Then
+    webTestClient
+      .get()
+      .uri("/v1/api/jobs/{jobId}", jobId)
+      .exchange()
+      .expectStatus().isOk()
+      .expectBody()
+      .jsonPath("$.status").isEqualTo("RUNNING")
+      .jsonPath("$.processed").isEqualTo(2)
+      .jsonPath("$.technologyIds[1]").isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Debe retornar 400 cuando el id del trabajo no es válido")
+  void shouldReturnBadRequestForInvalidJobId() {
+    // Given
+    when(capacityDeletionJobUseCase.find("42"))
+      .thenReturn(Mono.just(Result.invalid("Invalid job id: 42")));
+
+    // When & Then
+    webTestClient
+      .get()
+      .uri("/v1/api/jobs/{jobId}", "42")
+      .exchange()
+      .expectStatus().isBadRequest()
+      .expectBody()
+      .jsonPath("$.message").isEqualTo("Invalid job id: 42");
+  }
+
+  // ========== TESTS FOR JSON PASSTHROUGH MODE ==========
+
+  @Test
+  @DisplayName("Debe retornar el JSON generado por la base de datos al obtener todas las tecnologías")
+  void shouldFindAllTechnologiesAsJsonWhenPassthroughEnabled() {
+    // Given
+    ReflectionTestUtils.setField(handler, "jsonPassthrough", true);
+    String json = "[{\"technologyId\":1,\"name\":\"Java\",\"description\":\"Lenguaje de programación\"}]";
+
+    when(findAllTechnologiesUseCase.executeAsJson())
+      .thenReturn(Mono.just(CachedRead.fresh(json)));
+
+    // When & Then
+    webTestClient
+      .get()
+      .uri("/v1/api/technology")
+      .exchange()
+      .expectStatus().isOk()
+      .expectHeader().contentType(MediaType.APPLICATION_JSON)
+      .expectBody()
+      .jsonPath("$[0].technologyId").isEqualTo("1")
+      .jsonPath("$[0].name").isEqualTo("Java")
+      .jsonPath("$[0].description").isEqualTo("Lenguaje de programación");
+
+    verify(findAllTechnologiesUseCase).executeAsJson();
+    verify(findAllTechnologiesUseCase, never()).executeCached();
+  }
+
+  @Test
+  @DisplayName("Debe retornar el JSON generado por la base de datos al obtener tecnologías por capacidad")
+  void shouldFindTechnologiesByCapacityAsJsonWhenPassthroughEnabled() {
+    // Given
+    ReflectionTestUtils.setField(handler, "jsonPassthrough", true);
+    Long capacityId = 1L;
+
+    when(findTechnologiesByCapacityUseCase.executeAsJson(capacityId))
+      .thenReturn(Mono.just(CachedRead.fresh("[]")));
+
+    // When & Then
+    webTestClient
+      .get()
+      .uri("/v1/api/technology/capacity/{capacityId}", capacityId)
+      .exchange()
+      .expectStatus().isOk()
+      .expectHeader().contentType(MediaType.APPLICATION_JSON)
+      .expectBody()
+      .json("[]");
+
+    verify(findTechnologiesByCapacityUseCase).executeAsJson(capacityId);
+    verify(findTechnologiesByCapacityUseCase, never()).executeCached(capacityId);
+  }
+
+  // ========== TESTS FOR BINARY CONTENT NEGOTIATION ==========
+
+  @Test
+  @DisplayName("Debe responder en CBOR cuando el cliente lo acepta")
+  void shouldFindAllTechnologiesAsCborWhenAccepted() throws Exception {
+    // Given
+    ReflectionTestUtils.setField(handler, "jsonPassthrough", true);
+    when(findAllTechnologiesUseCase.executeCached())
+      .thenReturn(Mono.just(CachedRead.fresh(List.of(new TechnologyResponse(1L, "Java", "Lenguaje de programación")))));
+
+    // When
+    byte[] body = webTestClient
+      .get()
+      .uri("/v1/api/technology")
+      .accept(MediaType.APPLICATION_CBOR)
+      .exchange()
+      .expectStatus().isOk()
+      .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+      .expectBody(byte[].class)
+      .returnResult()
+      .getResponseBody();
+
+    // Then
+    JsonNode technologies = new CBORMapper().readTree(body);
+    assertEquals(1L, technologies.get(0).get("technologyId").asLong());
+    assertEquals("Java", technologies.get(0).get("name").asText());
+    verify(findAllTechnologiesUseCase, never()).executeAsJson();
+  }
+
+  @Test
+  @DisplayName("Debe responder en Smile cuando el cliente lo prefiere")
+  void shouldFindTechnologiesByCapacityAsSmileWhenPreferred() throws Exception {
+    // Given
+    Long capacityId = 1L;
+    when(findTechnologiesByCapacityUseCase.executeCached(capacityId))
+      .thenReturn(Mono.just(CachedRead.fresh(List.of(new TechnologyResponse(1L, "Java", "Lenguaje de programación")))));
+
+    // When
+    byte[] body = webTestClient
+      .get()
+      .uri("/v1/api/technology/capacity/{capacityId}", capacityId)
+      .header("Accept", "application/json;q=0.5, application/x-jackson-smile")
+      .exchange()
+      .expectStatus().isOk()
+      .expectHeader().contentType(BinaryCodecConfig.APPLICATION_SMILE)
+      .expectBody(byte[].class)
+      .returnResult()
+      .getResponseBody();
+
+    // Then
+    JsonNode technologies = new SmileMapper().readTree(body);
+    assertEquals("Java", technologies.get(0).get("name").asText());
+  }
+
+  @Test
+  @DisplayName("Debe retornar 406 cuando el cliente no acepta ningún formato soportado")
+  void shouldRejectUnsupportedAcceptWithNotAcceptable() {
+    // When & Then
+    webTestClient
+      .post()
+      .uri("/v1/api/technology")
+      .contentType(MediaType.APPLICATION_JSON)
+      .accept(MediaType.APPLICATION_XML)
+      .bodyValue(new CreateTechnologyRequest("Java", "Lenguaje de programación"))
+      .exchange()
+      .expectStatus().isEqualTo(406)
+      .expectBody()
+      .jsonPath("$.error").isEqualTo("NOT_ACCEPTABLE");
+
+    verify(createTechnologyUseCase, never()).execute(any(CreateTechnologyCommand.class));
+  }
+
+  @Test
+  @DisplayName("Debe retornar 406 cuando el cliente rechaza explícitamente el formato")
+  void shouldRejectAcceptThatExcludesEveryProducibleType() {
+    // When & Then
+    webTestClient
+      .get()
+      .uri("/v1/api/technology")
+      .header("Accept", "*/*, application/json;q=0, application/cbor;q=0, application/x-jackson-smile;q=0")
+      .exchange()
+      .expectStatus().isEqualTo(406);
+
+    verify(findAllTechnologiesUseCase, never()).executeCached();
+  }
+
+  @Test
+  @DisplayName("Debe responder los errores en CBOR cuando el cliente solo acepta CBOR")
+  void shouldEncodeBusinessErrorsAsCborWhenOnlyCborIsAccepted() throws Exception {
+    // Given
+    when(findCapacitiesByTechnologyUseCase.execute(9L))
+      .thenReturn(Mono.just(Result.notFound("Technology has not been found. Technology id: 9")));
+
+    // When
+    byte[] body = webTestClient
+      .get()
+      .uri("/v1/api/technology/9/capacities")
+      .accept(MediaType.APPLICATION_CBOR)
+      .exchange()
+      .expectStatus().isNotFound()
+      .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+      .expectBody(byte[].class)
+      .returnResult()
+      .getResponseBody();
+
+    // Then
+    JsonNode error = new CBORMapper().readTree(body);
+    assertEquals("BUSINESS_ERROR", error.get("error").asText());
+    assertEquals("Technology has not been found. Technology id: 9", error.get("message").asText());
+  }
+
+  @Test
+  @DisplayName("Debe responder los errores internos en Smile cuando el cliente lo prefiere")
+  void shouldEncodeInternalErrorsAsSmileWhenPreferred() throws Exception {
+    // Given
+    when(findAllTechnologiesUseCase.executeCached()).thenReturn(Mono.error(new IllegalStateException("boom")));
+
+    // When
+    byte[] body = webTestClient
+      .get()
+      .uri("/v1/api/technology")
+      .accept(BinaryCodecConfig.APPLICATION_SMILE)
+      .exchange()
+      .expectStatus().is5xxServerError()
+      .expectHeader().contentType(BinaryCodecConfig.APPLICATION_SMILE)
+      .expectBody(byte[].class)
+      .returnResult()
+      .getResponseBody();
+
+    // Then
+    assertEquals("INTERNAL_ERROR", new SmileMapper().readTree(body).get("error").asText());
+  }
+
+  @Test
+  @DisplayName("Debe aceptar cuerpos CBOR al crear una tecnología")
+  void shouldCreateTechnologyFromCborBody() throws Exception {
+    // Given
+    ObjectMapper cborMapper = new CBORMapper();
+    byte[] request = cborMapper.writeValueAsBytes(new CreateTechnologyRequest("Java", "Lenguaje de programación"));
+    when(createTechnologyUseCase.execute(any(CreateTechnologyCommand.class)))
+      .thenReturn(Mono.just(Result.success(new TechnologyResponse(1L, "Java", "Lenguaje de programación"))));
+
+    // When
+    byte[] body = webTestClient
+      .post()
+      .uri("/v1/api/technology")
+      .contentType(MediaType.APPLICATION_CBOR)
+      .accept(MediaType.APPLICATION_CBOR)
+      .bodyValue(request)
+      .exchange()
+      .expectStatus().isOk()
+      .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+      .expectBody(byte[].class)
+      .returnResult()
+      .getResponseBody();
+
+    // Then
+    assertEquals(1L, cborMapper.readTree(body).get("technologyId").asLong());
+  }
+
+  // ========== TESTS FOR CATALOG EXPORT ==========
+
+  @Test
+  @DisplayName("Debe exportar el catálogo como NDJSON por defecto")
+  void shouldExportCatalogAsNdjsonByDefault() {
+    // Given
+    when(exportTechnologyCatalogUseCase.execute()).thenReturn(Flux.just(
+      new TechnologyExportResponse(1L, "Java", "Lenguaje de programación", List.of(10L, 20L)),
+      new TechnologyExportResponse(2L, "Kotlin", "Lenguaje \"moderno\"", List.of())));
+
+    // When
+    String body = webTestClient
+      .get()
+      .uri("/v1/api/technology/export")
+      .exchange()
+      .expectStatus().isOk()
+      .expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+      .expectBody(String.class)
+      .returnResult()
+      .getResponseBody();
+
+    // Then
+    assertEquals(
+      "{\"technologyId\":1,\"name\":\"Java\",\"description\":\"Lenguaje de programación\",\"capacityIds\":[10,20]}\n" +
+        "{\"technologyId\":2,\"name\":\"Kotlin\",\"description\":\"Lenguaje \\\"moderno\\\"\",\"capacityIds\":[]}\n",
+      body);
+  }
+
+  @Test
+  @DisplayName("Debe exportar el catálogo como CSV escapando los campos")
+  void shouldExportCatalogAsCsvEscapingFields() {
+    // Given
+    when(exportTechnologyCatalogUseCase.execute()).thenReturn(Flux.just(
+      new TechnologyExportResponse(1L, "Java", "Lenguaje, \"tipado\"", List.of(10L, 20L)),
+      new TechnologyExportResponse(2L, "Kotlin", "Lenguaje", List.of())));
+
+    // When
+    String body = webTestClient
+      .get()
+      .uri("/v1/api/technology/export?format=csv")
+      .exchange()
+      .expectStatus().isOk()
+      .expectHeader().contentTypeCompatibleWith(new MediaType("text", "csv"))
+      .expectBody(String.class)
+      .returnResult()
+      .getResponseBody();
+
+    // Then
+    assertEquals(
+      "technologyId,name,description,capacityIds\n" +
+        "1,Java,\"Lenguaje, \"\"tipado\"\"\",10;20\n" +
+        "2,Kotlin,Lenguaje,\n",
+      body);
+  }
+
+  @Test
+  @DisplayName("Debe exportar todas las filas cuando ocupan varios buffers")
+  void shouldExportEveryRowAcrossSeveralBuffers() {
+    // Given
+    int rows = CatalogExportWriter.ROWS_PER_BUFFER * 3 + 7;
+    when(exportTechnologyCatalogUseCase.execute()).thenReturn(Flux.range(1, rows)
+      .map(id -> new TechnologyExportResponse(id.longValue(), "Technology " + id, "Description", List.of(1L))));
+
+    // When
+    String body = webTestClient
+      .get()
+      .uri("/v1/api/technology/export")
+      .header("Accept", "text/csv")
+      .exchange()
+      .expectStatus().isOk()
+      .expectBody(String.class)
+      .returnResult()
+      .getResponseBody();
+
+    // Then
+    String[] lines = body.split("\n");
+    assertEquals(rows + 1, lines.length);
+    assertEquals(rows + ",Technology " + rows + ",Description,1", lines[rows]);
+  }
+
+  @Test
+  @DisplayName("Debe retornar 400 cuando el formato de exportación es desconocido")
+  void shouldRejectUnknownExportFormat() {
+    // When & Then
+    webTestClient
+      .get()
+      .uri("/v1/api/technology/export?format=xml")
+      .exchange()
+      .expectStatus().isBadRequest()
+      .expectBody()
+      .jsonPath("$.error").isEqualTo("VALIDATION_ERROR")
+      .jsonPath("$.message").isEqualTo("Format must be one of ndjson or csv");
+
+    verify(exportTechnologyCatalogUseCase, never()).execute();
+  }
+
+  @Test
+  @DisplayName("Debe respetar los valores q del header Accept al exportar")
+  void shouldExportUsingTheHighestQualityAcceptedType() {
+    // Given
+    when(exportTechnologyCatalogUseCase.execute()).thenReturn(Flux.just(
+      new TechnologyExportResponse(1L, "Java", "Lenguaje", List.of(10L))));
+
+    // When & Then
+    webTestClient
+      .get()
+      .uri("/v1/api/technology/export")
+      .header("Accept", "text/csv;q=0.2, application/x-ndjson")
+      .exchange()
+      .expectStatus().isOk()
+      .expectHeader().contentType(MediaType.APPLICATION_NDJSON);
+  }
+
+  // ========== TESTS FOR CATALOG IMPORT ==========
+
+  @Test
+  @DisplayName("Debe importar NDJSON y transmitir los eventos de la importación")
+  void shouldImportNdjsonAndStreamEvents() {
+    // Given
+    List<ImportTechnologyCommand> received = new ArrayList<>();
+    when(importTechnologyCatalogUseCase.execute(any())).thenAnswer(invocation -> {
+      Flux<ImportTechnologyCommand> commands = invocation.getArgument(0);
+      return commands.doOnNext(received::add).thenMany(Flux.just(
+        new TechnologyImportEvent.Rejected(2, "Malformed JSON row"),
+        new TechnologyImportEvent.Completed(3, 1, 2, 3)));
+    });
+    String body = "{\"name\":\"Java\",\"description\":\"Lenguaje\",\"capacityIds\":[1,2]}\n" +
+      "{not json\n" +
+      "\n" +
+      "{\"name\":\"Kotlin\",\"description\":\"Lenguaje\",\"capacityIds\":[3]}\n";
+
+    // When
+    String response = webTestClient
+      .post()
+      .uri("/v1/api/technology/import")
+      .contentType(MediaType.APPLICATION_NDJSON)
+      .bodyValue(body)
+      .exchange()
+      .expectStatus().isOk()
+      .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+      .expectBody(String.class)
+      .returnResult()
+      .getResponseBody();
+
+    // Then
+    assertEquals(
+      "{\"event\":\"REJECTED\",\"line\":2,\"message\":\"Malformed JSON row\"}\n" +
+        "{\"event\":\"COMPLETED\",\"processed\":3,\"rejected\":1,\"technologiesCreated\":2,\"associationsCreated\":3}\n",
+      response);
+    assertEquals(3, received.size());
+    assertEquals("Java", received.get(0).getName());
+    assertEquals(List.of(1L, 2L), received.get(0).getCapacityIds());
+    assertEquals("Malformed JSON row", received.get(1).getMalformedReason());
+    assertEquals(4L, received.get(2).getLine());
+  }
+
+  @Test
+  @DisplayName("Debe leer CSV con el mismo formato de la exportación")
+  void shouldImportCsvInExportFormat() {
+    // Given
+    List<ImportTechnologyCommand> received = new ArrayList<>();
+    when(importTechnologyCatalogUseCase.execute(any())).thenAnswer(invocation -> {
+      Flux<ImportTechnologyCommand> commands = invocation.getArgument(0);
+      return commands.doOnNext(received::add).thenMany(Flux.empty());
+    });
+    String body = "technologyId,name,description,capacityIds\r\n" +
+      "1,Java,\"Lenguaje, \"\"tipado\"\"\",10;20\r\n" +
+      ",Kotlin,Lenguaje,\r\n" +
+      "3,Scala,Lenguaje,x\r\n" +
+      "4,Go\r\n";
+
+    // When
+    webTestClient
+      .post()
+      .uri("/v1/api/technology/import")
+      .contentType(new MediaType("text", "csv"))
+      .bodyValue(body)
+      .exchange()
+      .expectStatus().isOk();
+
+    // Then
+    assertEquals(4, received.size());
+    assertEquals("Lenguaje, \"tipado\"", received.get(0).getDescription());
+    assertEquals(List.of(10L, 20L), received.get(0).getCapacityIds());
+    assertEquals(List.of(), received.get(1).getCapacityIds());
+    assertEquals("Invalid capacity id: x", received.get(2).getMalformedReason());
+    assertEquals("Expected 4 CSV columns", received.get(3).getMalformedReason());
+    assertEquals(5L, received.get(3).getLine());
+  }
+
+  private DeletionJobResponse deletionJob(String jobId, String status, List<Long> technologyIds) {
+    return new DeletionJobResponse(jobId, 1L, status, 3, technologyIds.size(), technologyIds, null, null, null);
+  }
 }
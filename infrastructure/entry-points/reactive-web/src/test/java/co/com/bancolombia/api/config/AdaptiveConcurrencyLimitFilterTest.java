@@ -0,0 +1,82 @@
+package co.com.bancolombia.api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimitFilterTest {
+
+  private MeterRegistry meterRegistry;
+  private AdaptiveConcurrencyLimitFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    filter = new AdaptiveConcurrencyLimitFilter(meterRegistry, true, 1, 1, 1, 1, 1, 2.0, 0.9);
+  }
+
+  @Test
+  void shouldRejectReadRequestWhenReadLimitIsReached() {
+    // Given
+    Sinks.Empty<Void> pending = Sinks.empty();
+    MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get("/v1/api/technology"));
+    MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get("/v1/api/technology"));
+    filter.filter(first, exchange -> pending.asMono()).subscribe();
+
+    // When
+    StepVerifier.create(filter.filter(second, exchange -> Mono.empty())).verifyComplete();
+
+    // Then
+    assertEquals(HttpStatus.SERVICE_UNAVAILABLE, second.getResponse().getStatusCode());
+    assertEquals(1.0, meterRegistry.get("technology.concurrency.rejected").tag("route", "read").counter().count());
+    assertEquals(1.0, meterRegistry.get("technology.concurrency.in-flight").tag("route", "read").gauge().value());
+    pending.tryEmitEmpty();
+    assertEquals(0.0, meterRegistry.get("technology.concurrency.in-flight").tag("route", "read").gauge().value());
+  }
+
+  @Test
+  void shouldApplySeparateLimitsToReadAndWriteRoutes() {
+    // Given
+    Sinks.Empty<Void> pending = Sinks.empty();
+    MockServerWebExchange read = MockServerWebExchange.from(MockServerHttpRequest.get("/v1/api/technology"));
+    MockServerWebExchange write = MockServerWebExchange.from(MockServerHttpRequest.post("/v1/api/technology"));
+    filter.filter(read, exchange -> pending.asMono()).subscribe();
+
+    // When
+    StepVerifier.create(filter.filter(write, exchange -> Mono.empty())).verifyComplete();
+
+    // Then
+    assertNull(write.getResponse().getStatusCode());
+    assertEquals(0.0, meterRegistry.get("technology.concurrency.rejected").tag("route", "write").counter().count());
+    pending.tryEmitEmpty();
+  }
+
+  @Test
+  void shouldNotSampleLatencyOfStreamingExports() {
+    // Given
+    MeterRegistry exportRegistry = new SimpleMeterRegistry();
+    AdaptiveConcurrencyLimitFilter exportFilter = new AdaptiveConcurrencyLimitFilter(exportRegistry, true, 2, 4, 2, 4, 1, 2.0, 0.5);
+    MockServerWebExchange read = MockServerWebExchange.from(MockServerHttpRequest.get("/v1/api/technology"));
+    MockServerWebExchange export = MockServerWebExchange.from(MockServerHttpRequest.get("/v1/api/technology/export"));
+    StepVerifier.create(exportFilter.filter(read, exchange -> Mono.empty())).verifyComplete();
+    double limitBeforeExport = exportRegistry.get("technology.concurrency.limit").tag("route", "read").gauge().value();
+
+    // When
+    StepVerifier.create(exportFilter.filter(export, exchange -> Mono.delay(Duration.ofMillis(50)).then())).verifyComplete();
+
+    // Then
+    assertEquals(limitBeforeExport, exportRegistry.get("technology.concurrency.limit").tag("route", "read").gauge().value());
+    assertEquals(0.0, exportRegistry.get("technology.concurrency.in-flight").tag("route", "read").gauge().value());
+  }
+}
@@ -0,0 +1,96 @@
+package co.com.bancolombia.api.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimitTest {
+
+  @Test
+  void shouldRejectWhenInFlightReachesLimit() {
+    // Given
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, 2.0, 0.5);
+
+    // When & Then
+    assertTrue(limit.tryAcquire());
+    assertTrue(limit.tryAcquire());
+    assertFalse(limit.tryAcquire());
+    assertEquals(2, limit.getInFlight());
+
+    limit.release();
+    assertTrue(limit.tryAcquire());
+  }
+
+  @Test
+  void shouldIncreaseLimitWhenLatencyIsStableAndLimitIsUsed() {
+    // Given
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, 2.0, 0.5);
+
+    // When
+    limit.tryAcquire();
+    limit.tryAcquire();
+    limit.release(1_000_000L);
+
+    // Then
+    assertEquals(3, limit.getLimit());
+    assertEquals(1, limit.getInFlight());
+  }
+
+  @Test
+  void shouldDecreaseLimitWhenLatencyExceedsBaseline() {
+    // Given
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(8, 2, 10, 2.0, 0.5);
+    limit.tryAcquire();
+    limit.release(1_000_000L);
+
+    // When
+    limit.tryAcquire();
+    limit.release(5_000_000L);
+
+    // Then
+    assertEquals(4, limit.getLimit());
+  }
+
+  @Test
+  void shouldKeepLimitWithinBounds() {
+    // Given
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(50, 2, 3, 2.0, 0.1);
+    assertEquals(3, limit.getLimit());
+    limit.tryAcquire();
+    limit.release(1_000_000L);
+
+    // When
+    limit.tryAcquire();
+    limit.release(100_000_000L);
+
+    // Then
+    assertEquals(2, limit.getLimit());
+  }
+
+  @Test
+  void shouldBackOffOncePerBaselineRttForABurstOfSlowResponses() {
+    // Given
+    AtomicLong nanos = new AtomicLong();
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(8, 1, 10, 2.0, 0.5, nanos::get);
+    limit.tryAcquire();
+    limit.release(1_000_000L);
+
+    // When
+    for (int i = 0; i < 5; i++) {
+      limit.tryAcquire();
+    }
+    for (int i = 0; i < 5; i++) {
+      limit.release(5_000_000L);
+    }
+
+    // Then
+    assertEquals(4, limit.getLimit());
+
+    nanos.addAndGet(2_000_000L);
+    limit.tryAcquire();
+    limit.release(5_000_000L);
+    assertEquals(2, limit.getLimit());
+  }
+}
@@ -0,0 +1,117 @@
+package co.com.bancolombia.api.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PoolAdmissionControlFilterTest {
+
+  private MeterRegistry meterRegistry;
+  private AtomicInteger pendingAcquires;
+  private PoolAdmissionControlFilter filter;
+  private boolean chainInvoked;
+  private final WebFilterChain chain = exchange -> {
+    chainInvoked = true;
+    return Mono.empty();
+  };
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    pendingAcquires = new AtomicInteger();
+    Gauge.builder("r2dbc.pool.pending", pendingAcquires, AtomicInteger::get).register(meterRegistry);
+    filter = new PoolAdmissionControlFilter(meterRegistry, true, 5, Duration.ofSeconds(2), "r2dbc.pool.pending");
+    chainInvoked = false;
+  }
+
+  @Test
+  void shouldAdmitRequestWhenPoolIsNotSaturated() {
+    // Given
+    pendingAcquires.set(5);
+    MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/v1/api/technology"));
+
+    // When
+    StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+    // Then
+    assertTrue(chainInvoked);
+    assertNull(exchange.getResponse().getStatusCode());
+  }
+
+  @Test
+  void shouldRejectRequestWhenPendingAcquiresExceedThreshold() {
+    // Given
+    pendingAcquires.set(6);
+    MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/v1/api/technology"));
+
+    // When
+    StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+    // Then
+    assertFalse(chainInvoked);
+    assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exchange.getResponse().getStatusCode());
+    assertEquals("2", exchange.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    StepVerifier.create(exchange.getResponse().getBodyAsString())
+      .assertNext(body -> assertTrue(body.contains("SERVICE_UNAVAILABLE")))
+      .verifyComplete();
+    assertEquals(1.0, meterRegistry.get("technology.admission.rejected").counter().count());
+  }
+
+  @Test
+  void shouldNotRejectRequestsOutsideTheApi() {
+    // Given
+    pendingAcquires.set(100);
+    MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/actuator/health"));
+
+    // When
+    StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+    // Then
+    assertTrue(chainInvoked);
+  }
+
+  @Test
+  void shouldAdmitRequestWhenPoolMetricsAreUnavailable() {
+    // Given
+    PoolAdmissionControlFilter filterWithoutPool =
+      new PoolAdmissionControlFilter(new SimpleMeterRegistry(), true, 5, Duration.ofSeconds(1), "r2dbc.pool.pending");
+    MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/v1/api/technology"));
+
+    // When
+    StepVerifier.create(filterWithoutPool.filter(exchange, chain)).verifyComplete();
+
+    // Then
+    assertTrue(chainInvoked);
+  }
+
+  @Test
+  void shouldReadConfiguredPendingGauge() {
+    // Given
+    AtomicInteger hikariPending = new AtomicInteger(10);
+    Gauge.builder("hikaricp.connections.pending", hikariPending, AtomicInteger::get).register(meterRegistry);
+    PoolAdmissionControlFilter jdbcFilter =
+      new PoolAdmissionControlFilter(meterRegistry, true, 5, Duration.ofSeconds(1), "hikaricp.connections.pending");
+    MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/v1/api/technology"));
+
+    // When
+    StepVerifier.create(jdbcFilter.filter(exchange, chain)).verifyComplete();
+
+    // Then
+    assertFalse(chainInvoked);
+    assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exchange.getResponse().getStatusCode());
+  }
+}
@@ -0,0 +1,95 @@
+package co.com.bancolombia.api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+  private static final WebFilterChain CHAIN = exchange -> Mono.empty();
+
+  private MeterRegistry meterRegistry;
+  private RateLimitFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    RateLimitProperties properties = new RateLimitProperties(true, "X-Client-Id", 100, Duration.ofMinutes(1), List.of(
+      new RateLimitProperties.Route("DELETE", "/v1/api/technology/capacity/{capacityId}", 1, Duration.ofMinutes(1))));
+    filter = new RateLimitFilter(properties, meterRegistry);
+  }
+
+  @Test
+  void shouldAddRateLimitHeadersWhenRequestIsAllowed() {
+    // Given
+    MockServerWebExchange exchange = deleteExchange("client-a");
+
+    // When
+    StepVerifier.create(filter.filter(exchange, CHAIN)).verifyComplete();
+
+    // Then
+    HttpHeaders headers = exchange.getResponse().getHeaders();
+    assertNull(exchange.getResponse().getStatusCode());
+    assertEquals("1", headers.getFirst("RateLimit-Limit"));
+    assertEquals("0", headers.getFirst("RateLimit-Remaining"));
+    assertEquals("60", headers.getFirst("RateLimit-Reset"));
+  }
+
+  @Test
+  void shouldRejectClientThatExceededItsBucket() {
+    // Given
+    StepVerifier.create(filter.filter(deleteExchange("client-a"), CHAIN)).verifyComplete();
+    MockServerWebExchange exchange = deleteExchange("client-a");
+
+    // When
+    StepVerifier.create(filter.filter(exchange, CHAIN)).verifyComplete();
+
+    // Then
+    assertEquals(HttpStatus.TOO_MANY_REQUESTS, exchange.getResponse().getStatusCode());
+    assertNotNull(exchange.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    assertEquals(1.0, meterRegistry.get("technology.rate-limit.rejected").counter().count());
+  }
+
+  @Test
+  void shouldKeepSeparateBucketsPerClient() {
+    // Given
+    StepVerifier.create(filter.filter(deleteExchange("client-a"), CHAIN)).verifyComplete();
+    MockServerWebExchange exchange = deleteExchange("client-b");
+
+    // When
+    StepVerifier.create(filter.filter(exchange, CHAIN)).verifyComplete();
+
+    // Then
+    assertNull(exchange.getResponse().getStatusCode());
+  }
+
+  @Test
+  void shouldIgnoreRoutesWithoutLimits() {
+    // Given
+    MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/v1/api/technology"));
+
+    // When
+    StepVerifier.create(filter.filter(exchange, CHAIN)).verifyComplete();
+
+    // Then
+    assertNull(exchange.getResponse().getHeaders().getFirst("RateLimit-Limit"));
+  }
+
+  private MockServerWebExchange deleteExchange(String clientId) {
+    return MockServerWebExchange.from(MockServerHttpRequest.delete("/v1/api/technology/capacity/1")
+      .header("X-Client-Id", clientId));
+  }
+}
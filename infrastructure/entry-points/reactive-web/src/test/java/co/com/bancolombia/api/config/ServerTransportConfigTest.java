@@ -0,0 +1,55 @@
+package co.com.bancolombia.api.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import reactor.netty.resources.LoopResources;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServerTransportConfigTest {
+
+  private final ServerTransportConfig config = new ServerTransportConfig();
+
+  @Test
+  void shouldReplaceNumericPathSegmentsInUriTag() {
+    assertEquals("/v1/api/technology/capacity/{id}", ServerTransportConfig.uriTag("/v1/api/technology/capacity/42"));
+    assertEquals("/v1/api/technology/{id}/capacities", ServerTransportConfig.uriTag("/v1/api/technology/7/capacities"));
+  }
+
+  @Test
+  void shouldDropQueryStringFromUriTag() {
+    assertEquals("/v1/api/technology/search", ServerTransportConfig.uriTag("/v1/api/technology/search?prefix=ja"));
+  }
+
+  @Test
+  void shouldKeepNonNumericPathsUnchanged() {
+    assertEquals("/v1/api/technology/associate", ServerTransportConfig.uriTag("/v1/api/technology/associate"));
+    assertEquals("/v1/api/technology/v2beta", ServerTransportConfig.uriTag("/v1/api/technology/v2beta"));
+  }
+
+  @Test
+  void shouldDefaultWorkerThreadsToAvailableProcessors() {
+    ServerTransportProperties properties = new ServerTransportProperties(true, 1, 0, true);
+
+    assertEquals(Math.max(Runtime.getRuntime().availableProcessors(), 4), properties.effectiveWorkerThreads());
+    assertEquals(8, new ServerTransportProperties(true, 1, 8, true).effectiveWorkerThreads());
+  }
+
+  @Test
+  void shouldRegisterServerCustomizer() {
+    // Given
+    ServerTransportProperties properties = new ServerTransportProperties(false, 1, 2, true);
+    LoopResources loopResources = config.serverLoopResources(properties);
+    NettyReactiveWebServerFactory factory = new NettyReactiveWebServerFactory();
+
+    try {
+      // When
+      config.serverTransportCustomizer(loopResources, properties).customize(factory);
+
+      // Then
+      assertEquals(1, factory.getServerCustomizers().size());
+    } finally {
+      loopResources.dispose();
+    }
+  }
+}
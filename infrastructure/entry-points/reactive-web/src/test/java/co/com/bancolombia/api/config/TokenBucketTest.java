@@ -0,0 +1,39 @@
+package co.com.bancolombia.api.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+  private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  @Test
+  void shouldAllowBurstUpToCapacity() {
+    // Given
+    TokenBucket bucket = new TokenBucket(3, ONE_SECOND, 0);
+
+    // When & Then
+    assertEquals(2, bucket.tryConsume(0));
+    assertEquals(1, bucket.tryConsume(0));
+    assertEquals(0, bucket.tryConsume(0));
+    assertEquals(-1, bucket.tryConsume(0));
+  }
+
+  @Test
+  void shouldRefillTokensOverTime() {
+    // Given
+    TokenBucket bucket = new TokenBucket(2, ONE_SECOND, 0);
+    bucket.tryConsume(0);
+    bucket.tryConsume(0);
+
+    // When & Then
+    assertEquals(-1, bucket.tryConsume(ONE_SECOND / 4));
+    assertEquals(ONE_SECOND / 4, bucket.nanosUntilNextToken(ONE_SECOND / 4));
+    assertEquals(0, bucket.tryConsume(ONE_SECOND / 2));
+    assertEquals(ONE_SECOND, bucket.nanosUntilFull(ONE_SECOND / 2));
+    assertEquals(1, bucket.tryConsume(2 * ONE_SECOND));
+  }
+}
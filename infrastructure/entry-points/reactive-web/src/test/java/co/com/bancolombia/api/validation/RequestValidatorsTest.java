@@ -0,0 +1,81 @@
+package co.com.bancolombia.api.validation;
+
+import co.com.bancolombia.api.request.AssociateTechnologyWithCapacityRequest;
+import co.com.bancolombia.api.request.CreateTechnologyRequest;
+import co.com.bancolombia.usecase.command.AssociateTechnologyWithCapacityCommand;
+import co.com.bancolombia.usecase.command.CreateTechnologyCommand;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestValidatorsTest {
+
+  @Test
+  void shouldBuildCreateCommandFromValidRequest() {
+    // Given
+    CreateTechnologyRequest request = new CreateTechnologyRequest("Java", "Lenguaje de programación");
+
+    // When
+    CreateTechnologyCommand command = RequestValidators.createTechnology(request);
+
+    // Then
+    assertEquals("Java", command.getName().getValue());
+    assertEquals("Lenguaje de programación", command.getDescription().getValue());
+  }
+
+  @Test
+  void shouldReportViolationsInDeclarationOrder() {
+    // Given
+    CreateTechnologyRequest request = new CreateTechnologyRequest(null, " ");
+
+    // When
+    RequestValidationException exception = assertThrows(RequestValidationException.class,
+      () -> RequestValidators.createTechnology(request));
+
+    // Then
+    assertEquals("Technology name is required, Technology description cannot be empty", exception.getMessage());
+  }
+
+  @Test
+  void shouldMeasureLengthAfterTrimmingLikeTheDomain() {
+    // Given
+    CreateTechnologyRequest padded = new CreateTechnologyRequest(" " + "a".repeat(50) + " ", "d".repeat(90));
+    CreateTechnologyRequest tooLong = new CreateTechnologyRequest("a".repeat(51), "d".repeat(91));
+
+    // When
+    CreateTechnologyCommand command = RequestValidators.createTechnology(padded);
+    RequestValidationException exception = assertThrows(RequestValidationException.class,
+      () -> RequestValidators.createTechnology(tooLong));
+
+    // Then
+    assertEquals("a".repeat(50), command.getName().getValue());
+    assertEquals("Technology name cannot be greater than 50 characters, " +
+      "Technology description cannot be greater than 90 characters", exception.getMessage());
+  }
+
+  @Test
+  void shouldBuildAssociateCommandFromValidRequest() {
+    // Given
+    AssociateTechnologyWithCapacityRequest request = new AssociateTechnologyWithCapacityRequest(1L, " Java ");
+
+    // When
+    AssociateTechnologyWithCapacityCommand command = RequestValidators.associateTechnology(request);
+
+    // Then
+    assertEquals(1L, command.getCapacityId());
+    assertEquals("Java", command.getTechnology().getValue());
+  }
+
+  @Test
+  void shouldReportAssociateViolations() {
+    assertEquals("Capacity id is required, Technology name is required",
+      assertThrows(RequestValidationException.class, () -> RequestValidators.associateTechnology(
+        new AssociateTechnologyWithCapacityRequest(null, null))).getMessage());
+    assertEquals("The capacity id should be positive, Technology name cannot be empty",
+      assertThrows(RequestValidationException.class, () -> RequestValidators.associateTechnology(
+        new AssociateTechnologyWithCapacityRequest(-5L, "   "))).getMessage());
+    assertEquals("Technology name cannot be greater than 50 characters",
+      assertThrows(RequestValidationException.class, () -> RequestValidators.associateTechnology(
+        new AssociateTechnologyWithCapacityRequest(Long.MAX_VALUE, "a".repeat(51)))).getMessage());
+  }
+}
@@ -0,0 +1,98 @@
+package co.com.bancolombia.rsocket;
+
+import co.com.bancolombia.model.technology.exceptions.DomainException;
+import co.com.bancolombia.rsocket.request.AssociateTechnologyPayload;
+import co.com.bancolombia.rsocket.request.CreateTechnologyPayload;
+import co.com.bancolombia.usecase.AssociateTechnologyWithCapacityUseCase;
+import co.com.bancolombia.usecase.CreateTechnologyUseCase;
+import co.com.bancolombia.usecase.DeleteTechnologyUseCase;
+import co.com.bancolombia.usecase.FindAllTechnologiesUseCase;
+import co.com.bancolombia.usecase.FindTechnologiesByCapacityUseCase;
+import co.com.bancolombia.usecase.command.AssociateTechnologyWithCapacityCommand;
+import co.com.bancolombia.usecase.command.CreateTechnologyCommand;
+import co.com.bancolombia.usecase.exception.BussinessException;
+import co.com.bancolombia.usecase.response.AssociateTechnologyWithCapacityResponse;
+import co.com.bancolombia.usecase.response.TechnologyResponse;
+import co.com.bancolombia.usecase.result.Result;
+import io.rsocket.RSocketErrorException;
+import io.rsocket.exceptions.ApplicationErrorException;
+import io.rsocket.exceptions.InvalidException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class TechnologyRSocketController {
+  private static final String GENERIC_ERROR_MESSAGE = "An unexpected error occurred";
+
+  private final CreateTechnologyUseCase createTechnologyUseCase;
+  private final FindAllTechnologiesUseCase findAllTechnologiesUseCase;
+  private final FindTechnologiesByCapacityUseCase findTechnologiesByCapacityUseCase;
+  private final AssociateTechnologyWithCapacityUseCase associateTechnologyWithCapacityUseCase;
+  private final DeleteTechnologyUseCase deleteTechnologyUseCase;
+
+  @MessageMapping("technologies")
+  public Flux<TechnologyResponse> findAllTechnologies() {
+    return findAllTechnologiesUseCase.execute();
+  }
+
+  @MessageMapping("technologies.by-capacity")
+  public Flux<TechnologyResponse> findTechnologiesByCapacity(@Payload Long capacityId) {
+    return findTechnologiesByCapacityUseCase.execute(capacityId);
+  }
+
+  @MessageMapping("technologies.create")
+  public Mono<TechnologyResponse> createTechnology(@Payload CreateTechnologyPayload payload) {
+    return createTechnologyUseCase.execute(new CreateTechnologyCommand(payload.name(), payload.description()))
+      .flatMap(this::unwrap);
+  }
+
+  @MessageMapping("technologies.associate")
+  public Mono<AssociateTechnologyWithCapacityResponse> associateTechnologyWithCapacity(@Payload AssociateTechnologyPayload payload) {
+    return associateTechnologyWithCapacityUseCase.execute(
+        new AssociateTechnologyWithCapacityCommand(payload.capacityId(), payload.technology()))
+      .flatMap(this::unwrap);
+  }
+
+  @MessageMapping("technologies.delete-by-capacity")
+  public Mono<List<Long>> deleteTechnologies(@Payload Long capacityId) {
+    return deleteTechnologyUseCase.execute(capacityId)
+      .flatMap(this::unwrap);
+  }
+
+  @MessageExceptionHandler({DomainException.class, BussinessException.class})
+  public Mono<Void> handleExpectedError(RuntimeException error) {
+    log.debug("Rejected RSocket request: {}", error.getMessage());
+    return Mono.error(new InvalidException(error.getMessage()));
+  }
+
+  @MessageExceptionHandler
+  public Mono<Void> handleRSocketError(RSocketErrorException error) {
+    return Mono.error(error);
+  }
+
+  @MessageExceptionHandler
+  public Mono<Void> handleUnexpectedError(Exception error) {
+    log.error("Unexpected error", error);
+    return Mono.error(new ApplicationErrorException(GENERIC_ERROR_MESSAGE));
+  }
+
+  private <T> Mono<T> unwrap(Result<T> result) {
+    return switch (result) {
+      case Result.Success<T> success -> Mono.just(success.value());
+      case Result.Invalid<T> invalid -> Mono.error(new InvalidException(invalid.message()));
+      case Result.NotFound<T> notFound -> Mono.error(new InvalidException(notFound.message()));
+      case Result.Duplicate<T> duplicate -> Mono.error(new InvalidException(duplicate.message()));
+      case Result.AlreadyAssociated<T> alreadyAssociated -> Mono.error(new InvalidException(alreadyAssociated.message()));
+    };
+  }
+}
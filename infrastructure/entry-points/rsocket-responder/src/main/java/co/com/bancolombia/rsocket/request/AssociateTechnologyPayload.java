@@ -0,0 +1,4 @@
+package co.com.bancolombia.rsocket.request;
+
+public record AssociateTechnologyPayload(Long capacityId, String technology) {
+}
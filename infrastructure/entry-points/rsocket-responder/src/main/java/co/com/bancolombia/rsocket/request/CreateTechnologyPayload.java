@@ -0,0 +1,4 @@
+package co.com.bancolombia.rsocket.request;
+
+public record CreateTechnologyPayload(String name, String description) {
+}
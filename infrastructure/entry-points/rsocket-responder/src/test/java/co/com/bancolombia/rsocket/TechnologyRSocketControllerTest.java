@@ -0,0 +1,173 @@
+package co.com.bancolombia.rsocket;
+
+import co.com.bancolombia.rsocket.request.AssociateTechnologyPayload;
+import co.com.bancolombia.rsocket.request.CreateTechnologyPayload;
+import co.com.bancolombia.usecase.AssociateTechnologyWithCapacityUseCase;
+import co.com.bancolombia.usecase.CreateTechnologyUseCase;
+import co.com.bancolombia.usecase.DeleteTechnologyUseCase;
+import co.com.bancolombia.usecase.FindAllTechnologiesUseCase;
+import co.com.bancolombia.usecase.FindTechnologiesByCapacityUseCase;
+import co.com.bancolombia.usecase.command.AssociateTechnologyWithCapacityCommand;
+import co.com.bancolombia.usecase.command.CreateTechnologyCommand;
+import co.com.bancolombia.usecase.response.AssociateTechnologyWithCapacityResponse;
+import co.com.bancolombia.usecase.response.TechnologyResponse;
+import co.com.bancolombia.usecase.result.Result;
+import io.rsocket.core.RSocketServer;
+import io.rsocket.exceptions.ApplicationErrorException;
+import io.rsocket.exceptions.InvalidException;
+import io.rsocket.transport.netty.server.CloseableChannel;
+import io.rsocket.transport.netty.server.TcpServerTransport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import org.springframework.messaging.rsocket.RSocketStrategies;
+import org.springframework.messaging.rsocket.annotation.support.RSocketMessageHandler;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TechnologyRSocketControllerTest {
+
+  @Mock
+  private CreateTechnologyUseCase createTechnologyUseCase;
+
+  @Mock
+  private FindAllTechnologiesUseCase findAllTechnologiesUseCase;
+
+  @Mock
+  private FindTechnologiesByCapacityUseCase findTechnologiesByCapacityUseCase;
+
+  @Mock
+  private AssociateTechnologyWithCapacityUseCase associateTechnologyWithCapacityUseCase;
+
+  @Mock
+  private DeleteTechnologyUseCase deleteTechnologyUseCase;
+
+  private CloseableChannel server;
+  private RSocketRequester requester;
+
+  @BeforeEach
+  void setUp() {
+    RSocketStrategies strategies = RSocketStrategies.builder()
+      .encoders(encoders -> encoders.add(new Jackson2CborEncoder()))
+      .decoders(decoders -> decoders.add(new Jackson2CborDecoder()))
+      .build();
+
+    RSocketMessageHandler messageHandler = new RSocketMessageHandler();
+    messageHandler.setRSocketStrategies(strategies);
+    messageHandler.setHandlers(List.of(new TechnologyRSocketController(createTechnologyUseCase, findAllTechnologiesUseCase,
+      findTechnologiesByCapacityUseCase, associateTechnologyWithCapacityUseCase, deleteTechnologyUseCase)));
+    messageHandler.afterPropertiesSet();
+
+    server = RSocketServer.create(messageHandler.responder())
+      .bind(TcpServerTransport.create("localhost", 0))
+      .block();
+
+    requester = RSocketRequester.builder()
+      .rsocketStrategies(strategies)
+      .dataMimeType(MediaType.APPLICATION_CBOR)
+      .tcp("localhost", server.address().getPort());
+  }
+
+  @AfterEach
+  void tearDown() {
+    requester.dispose();
+    server.dispose();
+  }
+
+  @Test
+  void shouldStreamTechnologiesByCapacityHonoringDemand() {
+    // Given
+    when(findTechnologiesByCapacityUseCase.execute(1L)).thenReturn(Flux.just(
+      new TechnologyResponse(1L, "Java", "Language"),
+      new TechnologyResponse(2L, "Kotlin", "Language"),
+      new TechnologyResponse(3L, "Scala", "Language")));
+
+    // When
+    Flux<TechnologyView> technologies = requester.route("technologies.by-capacity")
+      .data(1L)
+      .retrieveFlux(TechnologyView.class);
+
+    // Then
+    StepVerifier.create(technologies, 1)
+      .assertNext(technology -> assertEquals("Java", technology.name()))
+      .thenRequest(2)
+      .expectNextCount(2)
+      .verifyComplete();
+  }
+
+  @Test
+  void shouldAssociateTechnologyWithCapacity() {
+    // Given
+    when(associateTechnologyWithCapacityUseCase.execute(any(AssociateTechnologyWithCapacityCommand.class)))
+      .thenReturn(Mono.just(Result.success(new AssociateTechnologyWithCapacityResponse(1L, "Java", "Language", 5L))));
+
+    // When
+    Mono<AssociationView> association = requester.route("technologies.associate")
+      .data(new AssociateTechnologyPayload(5L, "Java"))
+      .retrieveMono(AssociationView.class);
+
+    // Then
+    StepVerifier.create(association)
+      .assertNext(view -> {
+        assertEquals(1L, view.technologyId());
+        assertEquals(5L, view.capacityId());
+      })
+      .verifyComplete();
+  }
+
+  @Test
+  void shouldRejectDuplicatedTechnologyAsInvalid() {
+    // Given
+    when(createTechnologyUseCase.execute(any(CreateTechnologyCommand.class)))
+      .thenReturn(Mono.just(Result.duplicate("The technology name cannot be duplicated.")));
+
+    // When
+    Mono<TechnologyView> created = requester.route("technologies.create")
+      .data(new CreateTechnologyPayload("Java", "Language"))
+      .retrieveMono(TechnologyView.class);
+
+    // Then
+    StepVerifier.create(created)
+      .expectErrorMatches(error -> error instanceof InvalidException
+        && "The technology name cannot be duplicated.".equals(error.getMessage()))
+      .verify();
+  }
+
+  @Test
+  void shouldHideUnexpectedErrorDetails() {
+    // Given
+    when(deleteTechnologyUseCase.execute(1L)).thenReturn(Mono.error(new IllegalStateException("Connection refused")));
+
+    // When
+    Mono<List> deleted = requester.route("technologies.delete-by-capacity")
+      .data(1L)
+      .retrieveMono(List.class);
+
+    // Then
+    StepVerifier.create(deleted)
+      .expectErrorMatches(error -> error instanceof ApplicationErrorException
+        && "An unexpected error occurred".equals(error.getMessage()))
+      .verify();
+  }
+
+  record TechnologyView(Long technologyId, String name, String description) {
+  }
+
+  record AssociationView(Long technologyId, String name, String description, Long capacityId) {
+  }
+}